@@ -0,0 +1,53 @@
+package com.softwaredesign.project.benchmarks;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import org.slf4j.LoggerFactory;
+
+import com.softwaredesign.project.model.kitchen.StationType;
+import com.softwaredesign.project.simulation.SimulationSettings;
+
+import ch.qos.logback.classic.Level;
+
+/**
+ * Shared setup for the JMH benchmarks.
+ */
+public final class BenchmarkSupport {
+    /** Every benchmark draws from the same seed so runs on different builds do the same work */
+    public static final long SEED = 42L;
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Limits logging to warnings and discards console output, as HeadlessRunner does,
+     * so the benchmarks measure the simulation rather than the log appenders.
+     */
+    public static void quiet() {
+        org.slf4j.Logger root = LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        if (root instanceof ch.qos.logback.classic.Logger) {
+            ((ch.qos.logback.classic.Logger) root).setLevel(Level.WARN);
+        }
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    /**
+     * Settings for a restaurant with the given number of stations spread over the station
+     * types, one chef per station and enough tables to keep them fed.
+     */
+    public static SimulationSettings settings(int stations) {
+        SimulationSettings settings = SimulationSettings.fromConfig();
+        StationType[] types = StationType.values();
+        for (int i = 0; i < types.length; i++) {
+            settings.setStationCount(types[i], stations / types.length + (i < stations % types.length ? 1 : 0));
+        }
+        int tables = Math.max(10, stations);
+        settings.setChefCount(stations);
+        settings.setTableCount(tables);
+        settings.setTotalSeats(tables * 4);
+        settings.setWaiterCount(Math.max(3, tables / 10));
+        settings.setSeed(SEED);
+        return settings;
+    }
+}
@@ -0,0 +1,70 @@
+package com.softwaredesign.project.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.softwaredesign.project.model.engine.GameEngine;
+import com.softwaredesign.project.simulation.HeadlessSimulation;
+
+/**
+ * Cost of one tick of the whole restaurant at different sizes.
+ *
+ * step() runs only GameEngine.step() on a restaurant that has been running for a while,
+ * so it measures the engine with the orders already in flight. tick() also seats arriving
+ * customers and places their orders, as a real run does, so the kitchen never runs dry.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameEngineBenchmark {
+    private static final int WARM_UP_TICKS = 200;
+
+    @Param({"10", "100", "1000"})
+    public int stations;
+
+    private HeadlessSimulation simulation;
+    private GameEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.quiet();
+        simulation = new HeadlessSimulation(BenchmarkSupport.settings(stations));
+        engine = simulation.getGameEngine();
+        engine.start();
+        for (int i = 0; i < WARM_UP_TICKS; i++) {
+            simulation.tick();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engine.stop();
+        GameEngine.reset();
+    }
+
+    @Benchmark
+    public void step() {
+        engine.step();
+    }
+
+    @Benchmark
+    public void tick() {
+        simulation.tick();
+    }
+}
@@ -0,0 +1,63 @@
+package com.softwaredesign.project.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.softwaredesign.project.model.inventory.InventoryStockTracker;
+
+/**
+ * Reserving the ingredients of one order while many other orders hold reservations.
+ * Each call reserves and then releases the same order, so the number of live
+ * reservations stays at the parameter value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryBenchmark {
+    private static final String[] INGREDIENTS = {"Bun", "Beef Patty", "Lettuce", "Tomato", "Cheese"};
+    private static final String ORDER_ID = "Order-0";
+
+    @Param({"100", "1000", "10000"})
+    public int liveReservations;
+
+    private InventoryStockTracker tracker;
+    private Map<String, Integer> order;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.quiet();
+        tracker = new InventoryStockTracker();
+        order = new LinkedHashMap<>();
+        for (String ingredient : INGREDIENTS) {
+            tracker.update(ingredient, 10 * liveReservations + 10);
+            order.put(ingredient, 1);
+        }
+        for (int i = 0; i < liveReservations; i++) {
+            tracker.reserveIngredientsForOrder("Order-" + (i + 1), order);
+        }
+    }
+
+    @Benchmark
+    public boolean reserveIngredientsForOrder() {
+        boolean reserved = tracker.reserveIngredientsForOrder(ORDER_ID, order);
+        tracker.releaseReservedIngredients(ORDER_ID);
+        return reserved;
+    }
+}
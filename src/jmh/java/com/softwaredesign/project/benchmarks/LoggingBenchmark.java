@@ -0,0 +1,123 @@
+package com.softwaredesign.project.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import com.softwaredesign.project.model.engine.GameEngine;
+import com.softwaredesign.project.simulation.HeadlessSimulation;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+
+/**
+ * What logging costs the tick loop. The restaurant runs with every INFO event written
+ * synchronously to a file, and again with the same file appender behind a bounded
+ * AsyncAppender.
+ *
+ * The async appender here blocks when its queue is full and never discards events, unlike
+ * the neverBlock one in logback.xml, so both figures pay for writing every event. Run it
+ * on two commits to compare changes to the logging calls themselves.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingBenchmark {
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n";
+    private static final int QUEUE_SIZE = 8192;
+    private static final int WARM_UP_TICKS = 200;
+
+    @Param({"sync", "async"})
+    public String appender;
+
+    @Param({"10"})
+    public int stations;
+
+    private LoggerContext context;
+    private HeadlessSimulation simulation;
+    private GameEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.quiet();
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        configureLogging("logs/logging-benchmark.log", "async".equals(appender));
+
+        simulation = new HeadlessSimulation(BenchmarkSupport.settings(stations));
+        engine = simulation.getGameEngine();
+        engine.start();
+        for (int i = 0; i < WARM_UP_TICKS; i++) {
+            simulation.tick();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        engine.stop();
+        GameEngine.reset();
+        context.stop(); // Drains the async queue
+    }
+
+    @Benchmark
+    public void tick() {
+        simulation.tick();
+    }
+
+    /**
+     * Replaces the logback configuration with a single INFO file appender, optionally
+     * wrapped in an AsyncAppender that blocks rather than drops.
+     */
+    private void configureLogging(String logPath, boolean async) {
+        context.reset();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setName("FILE");
+        file.setFile(logPath);
+        file.setAppend(false);
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> root = file;
+        if (async) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setName("ASYNC_FILE");
+            asyncAppender.setQueueSize(QUEUE_SIZE);
+            asyncAppender.setDiscardingThreshold(0);
+            asyncAppender.setNeverBlock(false);
+            asyncAppender.addAppender(file);
+            asyncAppender.start();
+            root = asyncAppender;
+        }
+
+        ch.qos.logback.classic.Logger rootLogger = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLogger.setLevel(ch.qos.logback.classic.Level.INFO);
+        rootLogger.addAppender(root);
+    }
+}
@@ -0,0 +1,82 @@
+package com.softwaredesign.project.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.softwaredesign.project.model.customer.DineInCustomer;
+import com.softwaredesign.project.model.inventory.Inventory;
+import com.softwaredesign.project.model.menu.Menu;
+import com.softwaredesign.project.model.orderfulfillment.SeatingPlan;
+import com.softwaredesign.project.model.orderfulfillment.Table;
+import com.softwaredesign.project.model.singletons.RandomSingleton;
+
+/**
+ * Seating a group in a large dining room where only the last suitable table is free.
+ * The group is sent away again after each call so the room stays in the same state.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeatingPlanBenchmark {
+    private static final int MAX_TABLE_CAPACITY = 8;
+    private static final int GROUP_SIZE = 4;
+
+    @Param({"1000", "5000"})
+    public int tables;
+
+    private SeatingPlan seatingPlan;
+    private List<DineInCustomer> group;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.quiet();
+        RandomSingleton.reset(BenchmarkSupport.SEED);
+        seatingPlan = new SeatingPlan(tables, tables * 4, MAX_TABLE_CAPACITY, new Menu(new Inventory()));
+
+        List<Table> allTables = seatingPlan.getAllTables();
+        Table free = null;
+        for (int i = allTables.size() - 1; i >= 0 && free == null; i--) {
+            if (allTables.get(i).getTableCapacity() >= GROUP_SIZE) {
+                free = allTables.get(i);
+            }
+        }
+        for (Table table : allTables) {
+            if (table != free) {
+                table.addCustomer(new DineInCustomer());
+            }
+        }
+
+        group = new ArrayList<>();
+        for (int i = 0; i < GROUP_SIZE; i++) {
+            group.add(new DineInCustomer());
+        }
+    }
+
+    @Benchmark
+    public Table findTableForGroup() {
+        Table table = seatingPlan.findTableForGroup(group);
+        if (table != null) {
+            for (DineInCustomer customer : group) {
+                table.removeCustomer(customer);
+            }
+        }
+        return table;
+    }
+}
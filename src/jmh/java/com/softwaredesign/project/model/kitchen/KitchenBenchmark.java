@@ -0,0 +1,103 @@
+package com.softwaredesign.project.model.kitchen;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.softwaredesign.project.benchmarks.BenchmarkSupport;
+import com.softwaredesign.project.model.engine.GameEngine;
+import com.softwaredesign.project.model.inventory.Inventory;
+import com.softwaredesign.project.model.menu.BurgerRecipe;
+import com.softwaredesign.project.model.menu.KebabRecipe;
+import com.softwaredesign.project.model.order.Order;
+import com.softwaredesign.project.model.order.OrderManager;
+import com.softwaredesign.project.model.orderfulfillment.CollectionPoint;
+import com.softwaredesign.project.model.staff.Chef;
+import com.softwaredesign.project.model.staff.chefstrategies.SimpleChefStrategy;
+import com.softwaredesign.project.model.staff.staffspeeds.BaseSpeed;
+
+/**
+ * Handing ready tasks to idle stations while many orders are pending. Every call fills
+ * all idle stations, so each call needs a kitchen of its own. A batch of kitchens is
+ * built before every iteration, outside the measured time, and each iteration times one
+ * call on each of them; the score is the time for the whole batch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = KitchenBenchmark.KITCHENS_PER_BATCH)
+@Measurement(iterations = 20, batchSize = KitchenBenchmark.KITCHENS_PER_BATCH)
+@Fork(1)
+public class KitchenBenchmark {
+    static final int KITCHENS_PER_BATCH = 20;
+
+    @Param({"100", "1000"})
+    public int pendingOrders;
+
+    @Param({"10"})
+    public int stationsPerType;
+
+    private Inventory inventory;
+    private final Kitchen[] kitchens = new Kitchen[KITCHENS_PER_BATCH];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUpInventory() {
+        BenchmarkSupport.quiet();
+        inventory = new Inventory();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpKitchens() {
+        GameEngine.reset();
+        for (int i = 0; i < kitchens.length; i++) {
+            kitchens[i] = buildKitchen();
+        }
+        next = 0;
+    }
+
+    private Kitchen buildKitchen() {
+        OrderManager.resetOrderIds();
+        CollectionPoint collectionPoint = new CollectionPoint();
+        StationManager stationManager = new StationManager(collectionPoint);
+        OrderManager orderManager = new OrderManager(collectionPoint, stationManager);
+        Kitchen kitchen = new Kitchen(orderManager, collectionPoint, stationManager);
+
+        int chefNumber = 0;
+        for (StationType type : StationType.values()) {
+            for (int i = 0; i < stationsPerType; i++) {
+                Station station = new Station(type, collectionPoint);
+                station.setKitchen(kitchen);
+                stationManager.addStation(station);
+                station.registerChef(new Chef("Chef " + (++chefNumber), 15.0, new BaseSpeed(),
+                        new SimpleChefStrategy(), stationManager));
+            }
+        }
+
+        for (int i = 0; i < pendingOrders; i++) {
+            Order order = new Order(orderManager.generateOrderId());
+            order.addRecipes(i % 2 == 0 ? new BurgerRecipe(inventory) : new KebabRecipe(inventory));
+            orderManager.addOrder(order);
+            kitchen.getRecipes();
+        }
+        return kitchen;
+    }
+
+    @Benchmark
+    public Kitchen checkAndAssignTasks() {
+        Kitchen kitchen = kitchens[next++];
+        kitchen.checkAndAssignTasks();
+        return kitchen;
+    }
+}
@@ -0,0 +1,75 @@
+package com.softwaredesign.project.model.kitchen;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.softwaredesign.project.benchmarks.BenchmarkSupport;
+import com.softwaredesign.project.model.engine.GameEngine;
+import com.softwaredesign.project.model.inventory.Inventory;
+import com.softwaredesign.project.model.menu.BurgerRecipe;
+import com.softwaredesign.project.model.order.Recipe;
+import com.softwaredesign.project.model.order.RecipeTask;
+import com.softwaredesign.project.model.orderfulfillment.CollectionPoint;
+
+/**
+ * Queueing a task at a station that already has a deep backlog. The task belongs to an
+ * order in the middle of the backlog and is taken out again after each call, so the
+ * backlog depth stays at the parameter value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StationBacklogBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int depth;
+
+    private Station station;
+    private RecipeTask incoming;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.quiet();
+        Recipe recipe = new BurgerRecipe(new Inventory());
+        recipe.setOrderId("Order-1");
+
+        station = new Station(StationType.GRILL, new CollectionPoint());
+        for (int i = 0; i < depth; i++) {
+            station.addTask(queuedTask("Queued " + i, recipe, 2L * i));
+        }
+        incoming = queuedTask("Incoming", recipe, depth);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        GameEngine.reset();
+    }
+
+    private static RecipeTask queuedTask(String name, Recipe recipe, long orderSequence) {
+        RecipeTask task = new RecipeTask(name, StationType.GRILL);
+        task.setRecipe(recipe);
+        task.setOrderSequence(orderSequence);
+        return task;
+    }
+
+    @Benchmark
+    public boolean addTask() {
+        station.addTask(incoming);
+        return station.removeQueuedTask(incoming);
+    }
+}
@@ -11,6 +11,7 @@ import com.softwaredesign.project.view.*;
 import com.softwaredesign.project.mediator.RestaurantViewMediator;
 import com.softwaredesign.project.model.engine.Entity;
 import com.softwaredesign.project.model.engine.GameEngine;
+import com.softwaredesign.project.model.engine.TickProfiler;
 import com.softwaredesign.project.model.inventory.Inventory;
 import com.softwaredesign.project.model.inventory.InventoryStockTracker;
 import com.softwaredesign.project.model.kitchen.Kitchen;
@@ -18,10 +19,13 @@ import com.softwaredesign.project.model.kitchen.Station;
 import com.softwaredesign.project.model.kitchen.StationManager;
 import com.softwaredesign.project.model.kitchen.StationType;
 import com.softwaredesign.project.model.menu.Menu;
+import com.softwaredesign.project.model.metrics.RestaurantGauges;
+import com.softwaredesign.project.model.metrics.TimeSeriesRecorder;
 import com.softwaredesign.project.model.order.OrderManager;
 import com.softwaredesign.project.model.orderfulfillment.CollectionPoint;
 import com.softwaredesign.project.model.orderfulfillment.FloorManager;
 import com.softwaredesign.project.model.orderfulfillment.SeatingPlan;
+import com.softwaredesign.project.model.singletons.StatisticsSingleton;
 import com.softwaredesign.project.model.staff.Chef;
 import com.softwaredesign.project.model.staff.ChefManager;
 import com.softwaredesign.project.model.staff.Waiter;
@@ -96,6 +100,9 @@ public class GameEntryPoint {
             
             // Get the GameEngine instance
             this.gameEngine = GameEngine.getInstance();
+            if (Boolean.getBoolean(TickProfiler.PROPERTY)) {
+                gameEngine.setProfiler(new TickProfiler());
+            }
             
             // Set this driver instance in the application for restart functionality
             this.app.setDriver(this);
@@ -154,6 +161,7 @@ public class GameEntryPoint {
 
                                 // Step the game engine to update all entities
                                 gameEngine.step();
+                                StatisticsSingleton.getInstance().getTimeSeries().sample(gameEngine.getCurrentTick());
                                 
                                 // Update views with proper synchronization
                                 synchronized(mediator) {
@@ -256,6 +264,12 @@ public class GameEntryPoint {
         // Register entities with GameEngine
         registerEntitiesWithGameEngine();
         
+        // A fresh recorder, since a restarted game brings new stations and tables to watch
+        TimeSeriesRecorder timeSeries = new TimeSeriesRecorder();
+        RestaurantGauges.register(timeSeries, kitchen.getStationManager(), orderManager, collectionPoint,
+                seatingPlan, inventory);
+        StatisticsSingleton.getInstance().setTimeSeries(timeSeries);
+
         // Create DemoHelper
         this.demoHelper = new DemoHelper(floorManager, kitchen, orderManager, seatingPlan, chefManager, inventory);        
         logger.info("[RestaurantDriver] Entity creation complete");
@@ -381,20 +395,13 @@ public class GameEntryPoint {
             }
         }
         
-        // Create InventoryStockTracker for waiters
-        InventoryStockTracker stockTracker = new InventoryStockTracker();
-        
-        // Register the stock tracker as an observer with the inventory
+        // Create InventoryStockTracker for waiters, reading stock straight from the inventory
+        InventoryStockTracker stockTracker;
         if (inventory != null) {
-            // Add the stock tracker as a global observer
-            inventory.attach(stockTracker);
-            
-            // Update with current stock for all ingredients
-            for (String ingredientName : inventory.getAllIngredients()) {
-                stockTracker.update(ingredientName, inventory.getStock(ingredientName));
-            }
-            
-            logger.info("[RestaurantDriver] Registered InventoryStockTracker with inventory");
+            stockTracker = new InventoryStockTracker(inventory);
+            logger.info("[RestaurantDriver] Created InventoryStockTracker for inventory");
+        } else {
+            stockTracker = new InventoryStockTracker();
         }
         
         
@@ -4,6 +4,7 @@ import java.util.*;
 import com.softwaredesign.project.mediator.RestaurantViewMediator;
 import com.softwaredesign.project.model.inventory.*;
 import com.softwaredesign.project.model.kitchen.*;
+import com.softwaredesign.project.model.ledger.LedgerCategory;
 import com.softwaredesign.project.model.menu.BurgerRecipe;
 import com.softwaredesign.project.model.menu.KebabRecipe;
 import com.softwaredesign.project.model.menu.Menu;
@@ -12,6 +13,8 @@ import com.softwaredesign.project.model.orderfulfillment.CollectionPoint;
 import com.softwaredesign.project.model.orderfulfillment.SeatingPlan;
 import com.softwaredesign.project.model.orderfulfillment.Table;
 import com.softwaredesign.project.model.singletons.BankBalanceSingleton;
+import com.softwaredesign.project.model.singletons.RandomSingleton;
+import com.softwaredesign.project.model.singletons.RandomStream;
 import com.softwaredesign.project.model.staff.Chef;
 import com.softwaredesign.project.model.staff.Waiter;
 import com.softwaredesign.project.model.staff.chefstrategies.ChefStrategy;
@@ -105,6 +108,9 @@ public class ConfigurationController extends BaseController {
 
                     try {
                         inventory.addIngredient(ingredientName, stock, price, stationType);
+                        // The opening stock is bought up front; updateBankBalance() below then
+                        // sets the configured balance as what is left afterwards
+                        BankBalanceSingleton.getInstance().post(LedgerCategory.INGREDIENT_COST, -stock * price, ingredientName);
                         logger.info("[ConfigurationController] Added ingredient: {} (Stock: {}, Price: ${}, Station: {})",
                             ingredientName, stock, price, stationType);
                     } catch (Exception e) {
@@ -141,9 +147,8 @@ public class ConfigurationController extends BaseController {
             this.kitchen = new Kitchen(orderManager, collectionPoint, stationManager);
             this.menu = new Menu(inventory);
 
-            // create an set up inventory stock tracker and attach it to the inventory
-            this.inventoryStockTracker = new InventoryStockTracker();
-            this.inventory.attach(inventoryStockTracker);
+            // create an inventory stock tracker that reads stock from the inventory
+            this.inventoryStockTracker = new InventoryStockTracker(inventory);
 
 
             possibleRecipes.add(new BurgerRecipe(inventory));
@@ -325,6 +330,7 @@ public class ConfigurationController extends BaseController {
         double chanceOfCaffieneAddict = chefRules.path("chanceOfCaffieneAddict").asDouble(0.3);
         double chanceOfLethargic = chefRules.path("chanceOfLethargic").asDouble(0.3);
         double chanceOfStimulantAddict = chefRules.path("chanceOfStimulantAddict").asDouble(0.25);
+        Random staffRandom = RandomSingleton.get(RandomStream.STAFF);
         
         for (ChefConfigurationView.ChefData data : chefData.values()) {
             try {
@@ -332,13 +338,13 @@ public class ConfigurationController extends BaseController {
                 ChefStrategy strategy = createChefStrategy(data.getStrategy());
                 ISpeedComponent speedComponent = new BaseSpeed(data.getSpeed());
                 // Apply speed modifiers in a consistent order to maintain SOLID principles
-                if (Math.random() < chanceOfLethargic) {
+                if (staffRandom.nextDouble() < chanceOfLethargic) {
                     speedComponent = new LethargicDecorator(speedComponent);
                 }
-                if (Math.random() < chanceOfCaffieneAddict) {
+                if (staffRandom.nextDouble() < chanceOfCaffieneAddict) {
                     speedComponent = new CaffeineAddictDecorator(speedComponent);
                 }
-                if (Math.random() < chanceOfStimulantAddict) {
+                if (staffRandom.nextDouble() < chanceOfStimulantAddict) {
                     speedComponent = new StimulantAddictDecorator(speedComponent);
                 }
 
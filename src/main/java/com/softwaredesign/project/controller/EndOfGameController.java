@@ -1,13 +1,30 @@
 package com.softwaredesign.project.controller;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.softwaredesign.project.mediator.RestaurantViewMediator;
+import com.softwaredesign.project.model.engine.GameEngine;
+import com.softwaredesign.project.model.engine.TickProfiler;
+import com.softwaredesign.project.model.metrics.LatencyStatistics;
+import com.softwaredesign.project.model.metrics.TimeSeriesRecorder;
 import com.softwaredesign.project.model.singletons.StatisticsSingleton;
 import com.softwaredesign.project.view.EndOfGameView;
 import com.softwaredesign.project.view.View;
 import com.softwaredesign.project.view.ViewType;
 
 public class EndOfGameController extends BaseController {
+    private static final Logger logger = LoggerFactory.getLogger(EndOfGameController.class);
+    private static final Path LATENCY_EXPORT_PATH = Paths.get("logs", "latency.csv");
+    private static final Path TIME_SERIES_EXPORT_PATH = Paths.get("logs", "timeseries.csv");
+    private static final int PROFILE_TOP_ENTITIES = 5;
+
     public EndOfGameController() {
         super("EndOfGame");
     }
@@ -20,8 +37,31 @@ public class EndOfGameController extends BaseController {
             return;
         }
         EndOfGameView endView = (EndOfGameView) view;
-        endView.updateStats(StatisticsSingleton.getInstance().getAllStatsFormatted());
-        System.out.println(StatisticsSingleton.getInstance().getAllStatsFormatted());
-        System.out.println(StatisticsSingleton.getInstance().getTotalRevenue());
+        LatencyStatistics latencies = StatisticsSingleton.getInstance().getLatencies();
+        Map<String, String> stats = new HashMap<>(StatisticsSingleton.getInstance().getAllStatsFormatted());
+        stats.putAll(latencies.getSummary());
+        TickProfiler profiler = GameEngine.getInstance().getProfiler();
+        if (profiler != null) {
+            for (Map.Entry<String, String> entry : profiler.getSummary(PROFILE_TOP_ENTITIES).entrySet()) {
+                stats.put("Tick time: " + entry.getKey(), entry.getValue());
+            }
+            for (String line : profiler.formatReport(PROFILE_TOP_ENTITIES)) {
+                logger.info(line);
+            }
+        }
+        endView.updateStats(stats);
+        try {
+            latencies.export(LATENCY_EXPORT_PATH);
+        } catch (IOException e) {
+            logger.warn("Could not export latencies to {}", LATENCY_EXPORT_PATH, e);
+        }
+        TimeSeriesRecorder timeSeries = StatisticsSingleton.getInstance().getTimeSeries();
+        try {
+            timeSeries.export(TIME_SERIES_EXPORT_PATH);
+        } catch (IOException e) {
+            logger.warn("Could not export the time series to {}", TIME_SERIES_EXPORT_PATH, e);
+        }
+        logger.info("Final statistics: {}", stats);
+        logger.info("Total revenue: {}", StatisticsSingleton.getInstance().getTotalRevenue());
     }
 }
\ No newline at end of file
@@ -2,7 +2,6 @@ package com.softwaredesign.project.demo;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.io.IOException;
@@ -11,6 +10,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.softwaredesign.project.model.customer.DineInCustomer;
 import com.softwaredesign.project.model.inventory.Inventory;
+import com.softwaredesign.project.model.journal.EventJournal;
+import com.softwaredesign.project.model.journal.EventType;
 import com.softwaredesign.project.model.kitchen.Kitchen;
 import com.softwaredesign.project.model.kitchen.Station;
 import com.softwaredesign.project.model.kitchen.StationManager;
@@ -18,6 +19,7 @@ import com.softwaredesign.project.model.menu.BurgerRecipe;
 import com.softwaredesign.project.model.menu.KebabRecipe;
 import com.softwaredesign.project.model.order.Order;
 import com.softwaredesign.project.model.order.OrderManager;
+import com.softwaredesign.project.model.order.Recipe;
 import com.softwaredesign.project.model.orderfulfillment.FloorManager;
 import com.softwaredesign.project.model.orderfulfillment.SeatingPlan;
 import com.softwaredesign.project.model.orderfulfillment.Table;
@@ -26,6 +28,8 @@ import com.softwaredesign.project.model.staff.ChefManager;
 import com.softwaredesign.project.model.staff.chefstrategies.ChefStrategy;
 import com.softwaredesign.project.model.staff.chefstrategies.DynamicChefStrategy;
 import com.softwaredesign.project.model.staff.chefstrategies.SimpleChefStrategy;
+import com.softwaredesign.project.model.singletons.RandomSingleton;
+import com.softwaredesign.project.model.singletons.RandomStream;
 
 /**
  * Utility class to help set up and progress through demo scenarios.
@@ -138,7 +142,7 @@ public class DemoHelper {
         
         // Generate a random group size between 1 and maxGroupSize (from config)
         int maxGroupSize = getMaxGroupSizeFromConfig();
-        int groupSize = new Random().nextInt(maxGroupSize) + 1; // +1 to ensure at least 1 customer
+        int groupSize = RandomSingleton.get(RandomStream.ARRIVALS).nextInt(maxGroupSize) + 1; // +1 to ensure at least 1 customer
         
         System.out.println("Attempting to seat a group of " + groupSize + " customers");
         
@@ -196,6 +200,7 @@ public class DemoHelper {
                     createBurgerOrder() : createKebabOrder();
                 // Add order to the OrderManager
                 orderManager.addOrder(order);
+                journalOrderPlaced(order, table);
                 System.out.println("Created " + 
                     (table.getTableNumber() % 2 == 0 ? "burger" : "kebab") + 
                     " order for table " + table.getTableNumber());
@@ -254,7 +259,7 @@ public class DemoHelper {
                 (station.getCurrentRecipe() != null ? station.getCurrentRecipe().getName() : "None"));
             System.out.println("  - Current task: " + 
                 (station.getCurrentTask() != null ? station.getCurrentTask().getName() : "None"));
-            System.out.println("  - Backlog size: " + station.getBacklog().size());
+            System.out.println("  - Backlog size: " + station.getBacklogSize());
         }
         
         // Move to ongoing monitoring
@@ -314,6 +319,7 @@ public class DemoHelper {
                 orderManager.addOrder(order);
                 // Mark the table as having an order placed
                 table.markOrderPlaced();
+                journalOrderPlaced(order, table);
                 System.out.println("Created " + 
                     (table.getTableNumber() % 2 == 0 ? "burger" : "kebab") + 
                     " order for table " + table.getTableNumber());
@@ -324,6 +330,11 @@ public class DemoHelper {
         return ordersCreated;
     }
     
+    private void journalOrderPlaced(Order order, Table table) {
+        EventJournal.record(EventType.ORDER_PLACED, Recipe.parseOrderSequence(order.getOrderId()),
+                table.getTableNumber(), order.getRecipes().size());
+    }
+    
     /**
      * Create a burger order
      */
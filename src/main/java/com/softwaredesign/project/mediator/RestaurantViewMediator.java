@@ -5,6 +5,7 @@ import com.softwaredesign.project.view.View;
 import com.softwaredesign.project.view.ViewType;
 import com.softwaredesign.project.view.ConfigurableView;
 import com.softwaredesign.project.controller.ConfigurationController;
+import com.softwaredesign.project.model.ledger.LedgerCategory;
 import com.softwaredesign.project.model.singletons.BankBalanceSingleton;
 
 import org.slf4j.Logger;
@@ -115,6 +116,16 @@ public class RestaurantViewMediator {
         }
     }
 
+    /**
+     * Records hiring or letting go of a chef or waiter on the setup screens as wages, so the
+     * later notifyBankBalanceChanged() finds the balance already matches.
+     * @param delta The cost in dollars; negative when hiring, positive for a refund
+     * @param staffName The name of the chef or waiter
+     */
+    public void notifyWagesChanged(double delta, String staffName) {
+        BankBalanceSingleton.getInstance().post(LedgerCategory.WAGES, delta, staffName);
+    }
+
     /**
      * Reset the mediator by clearing all registered controllers and views
      */
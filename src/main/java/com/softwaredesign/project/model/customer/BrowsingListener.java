@@ -0,0 +1,8 @@
+package com.softwaredesign.project.model.customer;
+
+/**
+ * Notified when a customer finishes browsing the menu and is ready to order.
+ */
+public interface BrowsingListener {
+    void onFinishedBrowsing(DineInCustomer customer);
+}
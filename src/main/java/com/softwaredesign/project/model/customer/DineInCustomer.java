@@ -9,6 +9,8 @@ import com.softwaredesign.project.model.inventory.Ingredient;
 import com.softwaredesign.project.model.menu.Menu;
 import com.softwaredesign.project.model.order.Meal;
 import com.softwaredesign.project.model.order.Recipe;
+import com.softwaredesign.project.model.singletons.RandomSingleton;
+import com.softwaredesign.project.model.singletons.RandomStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +22,7 @@ public class DineInCustomer extends Customer {
     private List<Ingredient> removedIngredients;
     private boolean hasEaten;
     private int satisfaction;
+    private BrowsingListener browsingListener;
     private static final Logger logger = LoggerFactory.getLogger(DineInCustomer.class);
 
     public DineInCustomer() {
@@ -48,7 +51,7 @@ public class DineInCustomer extends Customer {
             return;    
         }
         
-        Random random = new Random();
+        Random random = RandomSingleton.get(RandomStream.CUSTOMER);
         int numberOfModifications = random.nextInt(4); // 0-3 modifications
         
         
@@ -107,7 +110,7 @@ public class DineInCustomer extends Customer {
         // For simplicity, we'll just return a random positive value
         // In a real system, this would consider if the meal matches what they ordered,
         // if it was delivered promptly, quality, etc.
-        return new Random().nextInt(20) + 10; // Random satisfaction boost between 10-30
+        return RandomSingleton.get(RandomStream.CUSTOMER).nextInt(20) + 10; // Random satisfaction boost between 10-30
     }
     
     /**
@@ -139,7 +142,20 @@ public class DineInCustomer extends Customer {
     }
 
     public void finishBrowsing() {
-        this.isBrowsing = false;
+        if (isBrowsing) {
+            this.isBrowsing = false;
+            if (browsingListener != null) {
+                browsingListener.onFinishedBrowsing(this);
+            }
+        }
+    }
+
+    /**
+     * Sets who is told when this customer finishes browsing, normally the table they sit at.
+     * @param browsingListener The listener, or null for none
+     */
+    public void setBrowsingListener(BrowsingListener browsingListener) {
+        this.browsingListener = browsingListener;
     }
 
     public boolean isDoneBrowsing() {
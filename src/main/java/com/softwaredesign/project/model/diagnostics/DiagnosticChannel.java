@@ -0,0 +1,34 @@
+package com.softwaredesign.project.model.diagnostics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The model areas that can be switched on for diagnostics independently.
+ * Each channel writes to its own logger, so logback can route it separately.
+ */
+public enum DiagnosticChannel {
+    KITCHEN("kitchen"),
+    ORDER("order"),
+    STAFF("staff"),
+    ORDER_FULFILLMENT("orderfulfillment");
+
+    private final String key;
+    private final Logger logger;
+
+    DiagnosticChannel(String key) {
+        this.key = key;
+        this.logger = LoggerFactory.getLogger("com.softwaredesign.project.diagnostics." + key);
+    }
+
+    /**
+     * @return The short name used in the restaurant.diagnostics property, for example "kitchen"
+     */
+    public String getKey() {
+        return key;
+    }
+
+    Logger getLogger() {
+        return logger;
+    }
+}
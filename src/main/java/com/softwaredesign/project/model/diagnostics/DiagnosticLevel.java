@@ -0,0 +1,13 @@
+package com.softwaredesign.project.model.diagnostics;
+
+/**
+ * How much diagnostic output a channel produces. Each level includes the ones before it.
+ */
+public enum DiagnosticLevel {
+    /** Nothing is recorded */
+    OFF,
+    /** One line per state change, such as a meal being delivered or a group being seated */
+    BASIC,
+    /** Per-call dumps of collections and comparisons, only useful when chasing a specific bug */
+    DETAIL
+}
@@ -0,0 +1,113 @@
+package com.softwaredesign.project.model.diagnostics;
+
+/**
+ * Level-gated diagnostic records for the model packages.
+ *
+ * Every channel starts at the level given by the restaurant.diagnostics system property
+ * (for example "-Drestaurant.diagnostics=kitchen=detail,order=basic" or "all=basic") and is
+ * OFF otherwise. Callers check isEnabled() before building a record, so a disabled channel
+ * costs one array read and nothing is formatted or allocated:
+ *
+ *     if (Diagnostics.isEnabled(DiagnosticChannel.KITCHEN, DiagnosticLevel.DETAIL)) {
+ *         Diagnostics.record(DiagnosticChannel.KITCHEN, "backlog.add", "station", type, "size", size);
+ *     }
+ *
+ * Records are written as "event key=value key=value" lines to the channel's logger at INFO.
+ */
+public final class Diagnostics {
+    public static final String PROPERTY = "restaurant.diagnostics";
+
+    private static final int[] levels = new int[DiagnosticChannel.values().length];
+
+    static {
+        configure(System.getProperty(PROPERTY));
+    }
+
+    private Diagnostics() {
+    }
+
+    /**
+     * @param channel The model area
+     * @param level The level a record would be written at
+     * @return true if records at this level are written for the channel
+     */
+    public static boolean isEnabled(DiagnosticChannel channel, DiagnosticLevel level) {
+        return level.ordinal() <= levels[channel.ordinal()];
+    }
+
+    public static DiagnosticLevel getLevel(DiagnosticChannel channel) {
+        return DiagnosticLevel.values()[levels[channel.ordinal()]];
+    }
+
+    public static void setLevel(DiagnosticChannel channel, DiagnosticLevel level) {
+        levels[channel.ordinal()] = level.ordinal();
+    }
+
+    /**
+     * Sets channel levels from a comma-separated list of channel=level pairs.
+     * The channel "all" sets every channel. Channels that are not listed are turned off.
+     * @param spec The levels to apply, for example "kitchen=detail,order=basic"; null or empty turns everything off
+     * @throws IllegalArgumentException if a channel or level is not recognised
+     */
+    public static void configure(String spec) {
+        for (DiagnosticChannel channel : DiagnosticChannel.values()) {
+            setLevel(channel, DiagnosticLevel.OFF);
+        }
+        if (spec == null || spec.isBlank()) {
+            return;
+        }
+
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected channel=level but got: " + entry);
+            }
+            DiagnosticLevel level = DiagnosticLevel.valueOf(parts[1].trim().toUpperCase());
+            String key = parts[0].trim().toLowerCase();
+            if (key.equals("all")) {
+                for (DiagnosticChannel channel : DiagnosticChannel.values()) {
+                    setLevel(channel, level);
+                }
+            } else {
+                setLevel(channelForKey(key), level);
+            }
+        }
+    }
+
+    /**
+     * Writes a record to the channel's logger. Check isEnabled() first on hot paths,
+     * since the varargs array and the field values are built before this method runs.
+     * @param channel The model area the record belongs to
+     * @param event A short dotted name for what happened, for example "backlog.add"
+     * @param fields Alternating keys and values
+     */
+    public static void record(DiagnosticChannel channel, String event, Object... fields) {
+        if (levels[channel.ordinal()] == DiagnosticLevel.OFF.ordinal()) {
+            return;
+        }
+        channel.getLogger().info(format(event, fields));
+    }
+
+    /**
+     * @return The record as a single "event key=value key=value" line
+     */
+    public static String format(String event, Object... fields) {
+        if (fields.length % 2 != 0) {
+            throw new IllegalArgumentException("Diagnostic fields must be key/value pairs");
+        }
+        StringBuilder line = new StringBuilder(event);
+        for (int i = 0; i < fields.length; i += 2) {
+            line.append(' ').append(fields[i]).append('=').append(fields[i + 1]);
+        }
+        return line.toString();
+    }
+
+    private static DiagnosticChannel channelForKey(String key) {
+        for (DiagnosticChannel channel : DiagnosticChannel.values()) {
+            if (channel.getKey().equals(key)) {
+                return channel;
+            }
+        }
+        throw new IllegalArgumentException("Unknown diagnostics channel: " + key);
+    }
+}
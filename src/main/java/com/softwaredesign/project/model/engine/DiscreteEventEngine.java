@@ -0,0 +1,304 @@
+package com.softwaredesign.project.model.engine;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Alternative driver for the GameEngine that keeps a priority queue of the next tick each
+ * entity needs to be stepped at, instead of stepping every entity every tick.
+ * Entities report their next event through Entity.nextActiveTick() (for example a station
+ * reports the tick its current task finishes) and are woken early through Entity.wake()
+ * when something else changes them. The engine jumps straight to the earliest pending event.
+ *
+ * Entities that are stepped in the same tick still run their read phase before their write
+ * phase and are written in registration order, so a run matches the tick engine as long as
+ * every entity is registered once and honours the nextActiveTick() contract.
+ *
+ * With a profiler set on the GameEngine, each entity step and each phase is timed as under
+ * the tick engine, and every tick runUntil() covers is counted, stepped or not.
+ */
+public class DiscreteEventEngine {
+    private final GameEngine engine;
+    private final PriorityQueue<ScheduledEvent> queue = new PriorityQueue<>();
+    private final Map<Entity, int[]> slotsByEntity = new IdentityHashMap<>();
+    private Map<Entity, Long> accountedThrough = new IdentityHashMap<>();
+    private final BitSet due = new BitSet();
+
+    private Entity[] slots = new Entity[0];
+    private long[] scheduledTick = new long[0];
+    private int version = -1;
+    private boolean inReadPhase;
+    private boolean inWritePhase;
+    private int writeCursor = -1;
+    private long entitySteps;
+
+    /**
+     * Creates an event engine that drives the given engine's entities.
+     * While attached, the tick engine's step() should not be called.
+     * @param engine The engine whose entities are scheduled
+     */
+    public DiscreteEventEngine(GameEngine engine) {
+        this.engine = engine;
+        engine.setEventEngine(this);
+    }
+
+    /**
+     * Stops routing wake-ups to this event engine so the tick engine can be used again.
+     * Entities that were skipped are not caught up.
+     */
+    public void detach() {
+        engine.setEventEngine(null);
+    }
+
+    /**
+     * @return The tick of the earliest pending event, or Long.MAX_VALUE if every entity is asleep
+     */
+    public long peekNextEventTick() {
+        syncRegistrations();
+        discardStaleEvents();
+        return queue.isEmpty() ? Long.MAX_VALUE : queue.peek().tick;
+    }
+
+    /**
+     * Steps every entity due at the earliest pending event, if that event is no later than limitTick.
+     * @param limitTick The last tick that may be simulated
+     * @return true if a tick was simulated
+     */
+    public boolean advance(long limitTick) {
+        if (!engine.isRunning()) return false;
+
+        long tick = peekNextEventTick();
+        if (tick == Long.MAX_VALUE || tick > limitTick) {
+            return false;
+        }
+
+        due.clear();
+        while (!queue.isEmpty() && queue.peek().tick == tick) {
+            ScheduledEvent event = queue.poll();
+            if (scheduledTick[event.slot] == tick) {
+                scheduledTick[event.slot] = Long.MAX_VALUE;
+                due.set(event.slot);
+            }
+        }
+        engine.setCurrentTick(tick);
+        TickProfiler profiler = engine.getProfiler();
+        long phaseStart = profiler != null ? System.nanoTime() : 0;
+
+        // Read phase
+        inReadPhase = true;
+        try {
+            for (int slot = due.nextSetBit(0); slot >= 0; slot = due.nextSetBit(slot + 1)) {
+                catchUp(slots[slot], tick - 1);
+                read(slots[slot]);
+            }
+        } finally {
+            inReadPhase = false;
+        }
+
+        if (profiler != null) {
+            long readEnd = System.nanoTime();
+            profiler.recordPhase(TickProfiler.Phase.READ, readEnd - phaseStart);
+            phaseStart = readEnd;
+        }
+
+        // Write phase, in registration order; entities woken for this tick join the set
+        inWritePhase = true;
+        try {
+            for (int slot = due.nextSetBit(0); slot >= 0; slot = due.nextSetBit(slot + 1)) {
+                writeCursor = slot;
+                write(slots[slot]);
+                accountedThrough.put(slots[slot], tick);
+                entitySteps++;
+            }
+        } finally {
+            inWritePhase = false;
+            writeCursor = -1;
+        }
+
+        if (profiler != null) {
+            profiler.recordPhase(TickProfiler.Phase.WRITE, System.nanoTime() - phaseStart);
+        }
+
+        if (version == engine.getRegistrationVersion()) {
+            for (int slot = due.nextSetBit(0); slot >= 0; slot = due.nextSetBit(slot + 1)) {
+                schedule(slot, Math.max(tick + 1, slots[slot].nextActiveTick(tick)));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Simulates every event up to and including endTick, then moves the clock to endTick.
+     * @param endTick The tick to simulate up to
+     */
+    public void runUntil(long endTick) {
+        long startTick = engine.getCurrentTick();
+        while (advance(endTick)) {
+            // keep jumping to the next event
+        }
+        if (engine.isRunning() && engine.getCurrentTick() < endTick) {
+            engine.setCurrentTick(endTick);
+        }
+        TickProfiler profiler = engine.getProfiler();
+        if (profiler != null && engine.getCurrentTick() > startTick) {
+            profiler.recordTicks(engine.getCurrentTick() - startTick);
+        }
+    }
+
+    /**
+     * @return The number of individual entity steps performed, for comparison with
+     *         ticks times entities under the tick engine
+     */
+    public long getEntitySteps() {
+        return entitySteps;
+    }
+
+    /**
+     * Catches a sleeping entity up to the present and makes sure it is stepped again,
+     * in this tick if its turn in the write phase has not come yet.
+     */
+    void wake(Entity entity) {
+        syncRegistrations();
+        int[] entitySlots = slotsByEntity.get(entity);
+        if (entitySlots == null) return;
+
+        long now = engine.getCurrentTick();
+        for (int slot : entitySlots) {
+            if (!inWritePhase) {
+                catchUp(entity, now);
+                schedule(slot, now + 1);
+            } else if (slot == writeCursor) {
+                // Being written right now; it is rescheduled when the tick ends
+            } else if (slot > writeCursor) {
+                if (!due.get(slot)) {
+                    catchUp(entity, now - 1);
+                    read(entity);
+                    scheduledTick[slot] = Long.MAX_VALUE;
+                    due.set(slot);
+                }
+            } else {
+                // Its turn in this tick has passed, so a sleeping entity owes this tick too
+                catchUp(entity, now);
+                schedule(slot, now + 1);
+            }
+        }
+    }
+
+    /**
+     * Counts the quiet ticks a sleeping entity has been skipped for and not yet caught up
+     * on, up to where the tick engine would have stepped it at this point of the tick:
+     * the previous tick during the read phase, and during the write phase this tick only
+     * if its turn has passed.
+     */
+    long quietTicksOwed(Entity entity) {
+        Long accounted = accountedThrough.get(entity);
+        int[] entitySlots = slotsByEntity.get(entity);
+        if (accounted == null || entitySlots == null) return 0;
+
+        long now = engine.getCurrentTick();
+        long throughTick;
+        if (inReadPhase) {
+            throughTick = now - 1;
+        } else if (inWritePhase) {
+            throughTick = entitySlots[0] < writeCursor ? now : now - 1;
+        } else {
+            throughTick = now;
+        }
+        return Math.max(0, throughTick - accounted);
+    }
+
+    private void read(Entity entity) {
+        TickProfiler profiler = engine.getProfiler();
+        if (profiler == null) {
+            entity.readState();
+            return;
+        }
+        long bytes = profiler.allocatedBytes();
+        long start = System.nanoTime();
+        entity.readState();
+        profiler.recordEntity(entity, TickProfiler.Phase.READ, System.nanoTime() - start,
+                profiler.allocatedBytes() - bytes);
+    }
+
+    private void write(Entity entity) {
+        TickProfiler profiler = engine.getProfiler();
+        if (profiler == null) {
+            entity.writeState();
+            return;
+        }
+        long bytes = profiler.allocatedBytes();
+        long start = System.nanoTime();
+        entity.writeState();
+        profiler.recordEntity(entity, TickProfiler.Phase.WRITE, System.nanoTime() - start,
+                profiler.allocatedBytes() - bytes);
+    }
+
+    private void catchUp(Entity entity, long throughTick) {
+        Long accounted = accountedThrough.get(entity);
+        if (accounted != null && throughTick > accounted) {
+            entity.skipQuietTicks(throughTick - accounted);
+            accountedThrough.put(entity, throughTick);
+        }
+    }
+
+    private void schedule(int slot, long tick) {
+        if (tick == Long.MAX_VALUE || tick >= scheduledTick[slot]) return;
+        scheduledTick[slot] = tick;
+        queue.add(new ScheduledEvent(tick, slot));
+    }
+
+    private void discardStaleEvents() {
+        while (!queue.isEmpty() && scheduledTick[queue.peek().slot] != queue.peek().tick) {
+            queue.poll();
+        }
+    }
+
+    /**
+     * Rebuilds the slot table after entities were registered or deregistered. Every entity is
+     * stepped at the next tick, which is always safe, and then goes back to its own schedule.
+     */
+    private void syncRegistrations() {
+        if (version == engine.getRegistrationVersion() || inWritePhase) return;
+        version = engine.getRegistrationVersion();
+
+        slots = engine.entitySnapshot();
+        scheduledTick = new long[slots.length];
+        queue.clear();
+        slotsByEntity.clear();
+
+        long now = engine.getCurrentTick();
+        Map<Entity, Long> accounted = new IdentityHashMap<>();
+        for (int slot = 0; slot < slots.length; slot++) {
+            Entity entity = slots[slot];
+            int[] existing = slotsByEntity.get(entity);
+            int[] entitySlots = existing == null ? new int[1] : Arrays.copyOf(existing, existing.length + 1);
+            entitySlots[entitySlots.length - 1] = slot;
+            slotsByEntity.put(entity, entitySlots);
+
+            Long previous = accountedThrough.get(entity);
+            accounted.put(entity, previous != null ? previous : now);
+            scheduledTick[slot] = Long.MAX_VALUE;
+            schedule(slot, now + 1);
+        }
+        accountedThrough = accounted;
+    }
+
+    private static final class ScheduledEvent implements Comparable<ScheduledEvent> {
+        private final long tick;
+        private final int slot;
+
+        ScheduledEvent(long tick, int slot) {
+            this.tick = tick;
+            this.slot = slot;
+        }
+
+        @Override
+        public int compareTo(ScheduledEvent other) {
+            int byTick = Long.compare(tick, other.tick);
+            return byTick != 0 ? byTick : Integer.compare(slot, other.slot);
+        }
+    }
+}
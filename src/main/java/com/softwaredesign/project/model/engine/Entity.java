@@ -9,6 +9,8 @@ public abstract class Entity {
      * Read phase of the update cycle.
      * During this phase, entities should only read state and perform calculations.
      * No state modifications should occur here.
+     * When the engine runs a parallel read phase, this may be called concurrently
+     * with the readState() of other entities.
      */
     public abstract void readState();
     
@@ -19,6 +21,53 @@ public abstract class Entity {
      */
     public abstract void writeState();
 
+    /**
+     * Returns the next tick at which this entity needs to be stepped, given that it was
+     * just stepped at currentTick. The discrete event engine skips the entity until then.
+     * Ticks in between must be quiet: either writeState() would do nothing, or its only
+     * effect can be applied afterwards by skipQuietTicks(). The default asks to be
+     * stepped every tick, which is what the tick engine does.
+     * @param currentTick The tick the entity was just stepped at
+     * @return The next tick this entity must be stepped at, or Long.MAX_VALUE to sleep until woken
+     */
+    public long nextActiveTick(long currentTick) {
+        return currentTick + 1;
+    }
+
+    /**
+     * Applies the effect of ticks the discrete event engine skipped for this entity.
+     * Always called before the entity is stepped again or changed through wake().
+     * @param ticks The number of quiet ticks that were skipped
+     */
+    public void skipQuietTicks(long ticks) {
+    }
+
+    /**
+     * Tells the engine that this entity is about to be changed from outside its own
+     * writeState(), so a sleeping entity is caught up and stepped again.
+     * Must be called before the change is made. Does nothing under the tick engine.
+     */
+    protected void wake() {
+        GameEngine.getInstance().wake(this);
+    }
+
+    /**
+     * Lets a getter report state that skipQuietTicks() has not caught up on yet, so a
+     * sleeping entity looks the same from outside as it would under the tick engine.
+     * @return The quiet ticks skipped so far that skipQuietTicks() has not yet been given
+     */
+    protected long getQuietTicksOwed() {
+        return GameEngine.getInstance().getQuietTicksOwed(this);
+    }
+
+    /**
+     * @return A short name for this entity in TickProfiler reports; entities sharing a
+     *         name are numbered there
+     */
+    public String getProfileName() {
+        return getClass().getSimpleName();
+    }
+
     /**
      * Deregisters this entity from the game engine.
      * Call this method when the entity needs to be removed from the game.
@@ -2,6 +2,8 @@ package com.softwaredesign.project.model.engine;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Core engine class that manages entities and updates them in a two-phase approach.
@@ -11,6 +13,17 @@ public class GameEngine {
     private static GameEngine instance = null;
     private final List<Entity> entities;
     private boolean isRunning;
+    private ForkJoinPool readPhasePool;
+    private ReadPhaseChecker readPhaseChecker;
+    private DiscreteEventEngine eventEngine;
+    private TickProfiler profiler;
+    private long currentTick;
+    private int registrationVersion;
+
+    /**
+     * Number of entities below which a read phase task stops splitting.
+     */
+    private static final int READ_PHASE_BATCH_SIZE = 16;
 
     /**
      * Private constructor to prevent direct instantiation.
@@ -37,6 +50,7 @@ public class GameEngine {
      */
     public void registerEntity(Entity entity) {
         entities.add(entity);
+        registrationVersion++;
     }
 
     /**
@@ -45,6 +59,118 @@ public class GameEngine {
      */
     public void deregisterEntity(Entity entity) {
         entities.remove(entity);
+        registrationVersion++;
+    }
+
+    /**
+     * @return The number of ticks stepped so far
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Forwards a wake-up to the discrete event engine driving this engine, if any.
+     * @param entity The entity about to be changed
+     */
+    public void wake(Entity entity) {
+        DiscreteEventEngine events = eventEngine;
+        if (events != null) {
+            events.wake(entity);
+        }
+    }
+
+    /**
+     * @param entity The entity to ask about
+     * @return The quiet ticks the discrete event engine has skipped the entity for and not
+     *         yet applied through skipQuietTicks(), or 0 under the tick engine
+     */
+    public long getQuietTicksOwed(Entity entity) {
+        DiscreteEventEngine events = eventEngine;
+        return events != null ? events.quietTicksOwed(entity) : 0;
+    }
+
+    void setEventEngine(DiscreteEventEngine eventEngine) {
+        this.eventEngine = eventEngine;
+    }
+
+    void setCurrentTick(long tick) {
+        this.currentTick = tick;
+    }
+
+    Entity[] entitySnapshot() {
+        return entities.toArray(new Entity[0]);
+    }
+
+    int getRegistrationVersion() {
+        return registrationVersion;
+    }
+
+    /**
+     * Runs the read phase of every future step in parallel on the given pool.
+     * The write phase stays sequential and only starts once every entity has finished reading.
+     * @param pool The fork-join pool used for the read phase
+     */
+    public void enableParallelReadPhase(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Read phase pool cannot be null");
+        }
+        this.readPhasePool = pool;
+    }
+
+    /**
+     * Runs the read phase of every future step in parallel on a new pool.
+     * @param parallelism The number of worker threads for the read phase
+     */
+    public void enableParallelReadPhase(int parallelism) {
+        enableParallelReadPhase(new ForkJoinPool(parallelism));
+    }
+
+    /**
+     * Returns to running the read phase on the calling thread.
+     * The pool is not shut down, since it may be shared with other code.
+     */
+    public void disableParallelReadPhase() {
+        this.readPhasePool = null;
+    }
+
+    /**
+     * @return true if the read phase runs on a fork-join pool
+     */
+    public boolean isParallelReadPhase() {
+        return readPhasePool != null;
+    }
+
+    /**
+     * Sets a checker that flags entities writing their own state during readState().
+     * Pass null to turn checking off.
+     * @param checker The checker to use, or null
+     */
+    public void setReadPhaseChecker(ReadPhaseChecker checker) {
+        this.readPhaseChecker = checker;
+    }
+
+    /**
+     * @return The current read phase checker, or null if checking is off
+     */
+    public ReadPhaseChecker getReadPhaseChecker() {
+        return readPhaseChecker;
+    }
+
+    /**
+     * Sets a profiler that times each entity's phases in every future step.
+     * Pass null to turn profiling off.
+     * @param profiler The profiler to use, or null
+     */
+    public void setProfiler(TickProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * @return The current profiler, or null if profiling is off
+     */
+    public TickProfiler getProfiler() {
+        return profiler;
     }
 
     /**
@@ -65,18 +191,41 @@ public class GameEngine {
      * Performs a single step of the simulation in a two-phase approach:
      * 1. Read phase: All entities read state and perform calculations
      * 2. Write phase: All entities update their state
+     * When the parallel read phase is enabled, the write phase waits for every
+     * read task to finish before starting.
+     * With a profiler set, each phase and each entity's part in it is timed.
      */
     public void step() {
         if (!isRunning) return;
+        currentTick++;
+        TickProfiler tickProfiler = profiler;
+        long phaseStart = tickProfiler != null ? System.nanoTime() : 0;
 
         // Read phase
-        for (Entity entity : entities) {
-            entity.readState();
+        if (readPhasePool != null) {
+            Entity[] snapshot = entities.toArray(new Entity[0]);
+            readPhasePool.invoke(new ReadPhaseTask(snapshot, 0, snapshot.length));
+        } else {
+            for (Entity entity : entities) {
+                read(entity);
+            }
         }
 
-        // Write phase
+        if (tickProfiler != null) {
+            long readEnd = System.nanoTime();
+            tickProfiler.recordPhase(TickProfiler.Phase.READ, readEnd - phaseStart);
+            phaseStart = readEnd;
+        }
+
+        // Write phase. Stays serial in registration order: entities share the order
+        // manager, collection point, chefs and the statistics and bank singletons.
         for (Entity entity : entities) {
-            entity.writeState();
+            write(entity);
+        }
+
+        if (tickProfiler != null) {
+            tickProfiler.recordPhase(TickProfiler.Phase.WRITE, System.nanoTime() - phaseStart);
+            tickProfiler.recordTick();
         }
     }
 
@@ -86,4 +235,74 @@ public class GameEngine {
     public boolean isRunning() {
         return isRunning;
     }
+
+    // For testing and resetting purposes
+    public static void reset() {
+        instance = null;
+    }
+
+    private void read(Entity entity) {
+        TickProfiler tickProfiler = profiler;
+        if (tickProfiler == null) {
+            checkedRead(entity);
+            return;
+        }
+        long bytes = tickProfiler.allocatedBytes();
+        long start = System.nanoTime();
+        checkedRead(entity);
+        tickProfiler.recordEntity(entity, TickProfiler.Phase.READ, System.nanoTime() - start,
+                tickProfiler.allocatedBytes() - bytes);
+    }
+
+    private void write(Entity entity) {
+        TickProfiler tickProfiler = profiler;
+        if (tickProfiler == null) {
+            entity.writeState();
+            return;
+        }
+        long bytes = tickProfiler.allocatedBytes();
+        long start = System.nanoTime();
+        entity.writeState();
+        tickProfiler.recordEntity(entity, TickProfiler.Phase.WRITE, System.nanoTime() - start,
+                tickProfiler.allocatedBytes() - bytes);
+    }
+
+    private void checkedRead(Entity entity) {
+        ReadPhaseChecker checker = readPhaseChecker;
+        if (checker != null) {
+            checker.checkedRead(entity);
+        } else {
+            entity.readState();
+        }
+    }
+
+    /**
+     * Splits the read phase over a range of entities until the batches are small enough
+     * to run directly.
+     */
+    private class ReadPhaseTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Entity[] batch;
+        private final int from;
+        private final int to;
+
+        ReadPhaseTask(Entity[] batch, int from, int to) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= READ_PHASE_BATCH_SIZE) {
+                for (int i = from; i < to; i++) {
+                    read(batch[i]);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ReadPhaseTask(batch, from, mid), new ReadPhaseTask(batch, mid, to));
+        }
+    }
 }
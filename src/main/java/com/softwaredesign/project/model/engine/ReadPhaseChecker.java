@@ -0,0 +1,135 @@
+package com.softwaredesign.project.model.engine;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Debug helper that detects entities which change their own state during readState().
+ * Before the read phase the checker takes a shallow fingerprint of every instance field
+ * declared between the entity's class and Entity, and compares it afterwards.
+ * Primitives, boxed values, strings and enums are compared by value, collections and maps
+ * by size and element identity, and any other reference by identity.
+ * This is intended for tests and debugging only, since it relies on reflection.
+ */
+public class ReadPhaseChecker {
+    private static final Logger logger = LoggerFactory.getLogger(ReadPhaseChecker.class);
+
+    private final boolean failOnViolation;
+    private final List<String> violations = Collections.synchronizedList(new ArrayList<>());
+    private final Map<Class<?>, List<Field>> fieldCache = new ConcurrentHashMap<>();
+
+    /**
+     * @param failOnViolation if true, a violation throws an IllegalStateException
+     *                        instead of only being logged and recorded
+     */
+    public ReadPhaseChecker(boolean failOnViolation) {
+        this.failOnViolation = failOnViolation;
+    }
+
+    /**
+     * Runs the read phase of a single entity and reports any fields it changed.
+     * Safe to call concurrently for different entities.
+     * @param entity The entity whose readState() should be checked
+     */
+    public void checkedRead(Entity entity) {
+        List<Field> fields = fieldsOf(entity.getClass());
+        Object[] before = fingerprint(entity, fields);
+        entity.readState();
+        Object[] after = fingerprint(entity, fields);
+
+        for (int i = 0; i < fields.size(); i++) {
+            if (!Objects.equals(before[i], after[i])) {
+                String violation = entity.getClass().getSimpleName() + "." + fields.get(i).getName()
+                        + " changed during readState()";
+                violations.add(violation);
+                logger.warn("[ReadPhaseChecker] {}", violation);
+                if (failOnViolation) {
+                    throw new IllegalStateException(violation);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return A copy of every violation recorded so far
+     */
+    public List<String> getViolations() {
+        synchronized (violations) {
+            return new ArrayList<>(violations);
+        }
+    }
+
+    /**
+     * @return true if at least one entity has written state during readState()
+     */
+    public boolean hasViolations() {
+        return !violations.isEmpty();
+    }
+
+    /**
+     * Clears all recorded violations.
+     */
+    public void clearViolations() {
+        violations.clear();
+    }
+
+    private List<Field> fieldsOf(Class<?> type) {
+        return fieldCache.computeIfAbsent(type, t -> {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> c = t; c != null && c != Entity.class && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) continue;
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+            return fields;
+        });
+    }
+
+    private Object[] fingerprint(Entity entity, List<Field> fields) {
+        Object[] values = new Object[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            try {
+                values[i] = fingerprintValue(fields.get(i).get(entity));
+            } catch (IllegalAccessException e) {
+                values[i] = null;
+            }
+        }
+        return values;
+    }
+
+    private Object fingerprintValue(Object value) {
+        if (value == null || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof String || value instanceof Enum) {
+            return value;
+        }
+        if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            long identitySum = 0;
+            for (Object element : collection) {
+                identitySum += System.identityHashCode(element);
+            }
+            return List.of(System.identityHashCode(value), collection.size(), identitySum);
+        }
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            long identitySum = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                identitySum += System.identityHashCode(entry.getKey()) * 31L + System.identityHashCode(entry.getValue());
+            }
+            return List.of(System.identityHashCode(value), map.size(), identitySum);
+        }
+        return System.identityHashCode(value);
+    }
+}
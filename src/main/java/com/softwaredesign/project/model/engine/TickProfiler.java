@@ -0,0 +1,259 @@
+package com.softwaredesign.project.model.engine;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Times every entity's readState() and writeState() inside GameEngine.step(), or wherever
+ * the DiscreteEventEngine steps it, and counts the bytes each allocates through the JVM's
+ * per-thread allocation counter where the JVM supports it. Set on the engine with
+ * GameEngine.setProfiler(); when no profiler is set the engine only pays a null check per
+ * entity and phase.
+ *
+ * Totals are kept per entity and per phase with LongAdders, so the parallel read phase can
+ * record from its worker threads. Under the event engine every simulated tick is counted,
+ * including ticks where every entity slept, so per-tick figures compare with a tick engine
+ * run of the same length.
+ */
+public class TickProfiler {
+    /**
+     * System property that turns profiling on for the TUI, for example "-Drestaurant.profile=true".
+     */
+    public static final String PROPERTY = "restaurant.profile";
+
+    public enum Phase {
+        READ,
+        WRITE
+    }
+
+    private final Map<Entity, EntityProfile> profiles = new ConcurrentHashMap<>();
+    private final AtomicInteger nextOrder = new AtomicInteger();
+    private final LongAdder[] phaseNanos = { new LongAdder(), new LongAdder() };
+    private final LongAdder ticks = new LongAdder();
+    private final com.sun.management.ThreadMXBean threads;
+
+    /**
+     * Creates a profiler that also counts allocations if the JVM supports it.
+     */
+    public TickProfiler() {
+        this(true);
+    }
+
+    /**
+     * @param countAllocations false to only time entities, even where allocations could be counted
+     */
+    public TickProfiler(boolean countAllocations) {
+        this.threads = countAllocations ? allocationCounter() : null;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+
+    /**
+     * @return true if allocations are counted as well as time
+     */
+    public boolean isCountingAllocations() {
+        return threads != null;
+    }
+
+    /**
+     * @return The bytes allocated so far by the calling thread, or 0 if allocations are not counted
+     */
+    long allocatedBytes() {
+        return threads != null ? threads.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    void recordEntity(Entity entity, Phase phase, long nanos, long bytes) {
+        EntityProfile profile = profiles.get(entity);
+        if (profile == null) {
+            profile = profiles.computeIfAbsent(entity,
+                    e -> new EntityProfile(e.getProfileName(), nextOrder.getAndIncrement()));
+        }
+        profile.nanos[phase.ordinal()].add(nanos);
+        profile.allocatedBytes.add(bytes);
+        if (phase == Phase.WRITE) {
+            profile.steps.increment();
+        }
+    }
+
+    void recordPhase(Phase phase, long nanos) {
+        phaseNanos[phase.ordinal()].add(nanos);
+    }
+
+    void recordTick() {
+        ticks.increment();
+    }
+
+    void recordTicks(long count) {
+        ticks.add(count);
+    }
+
+    public long getTicksProfiled() {
+        return ticks.sum();
+    }
+
+    /**
+     * @return Wall-clock time spent in the phase over every profiled tick, in nanoseconds
+     */
+    public long getPhaseNanos(Phase phase) {
+        return phaseNanos[phase.ordinal()].sum();
+    }
+
+    /**
+     * @return The entities that took the most time over both phases, slowest first
+     */
+    public List<EntityProfile> getTopEntities(int count) {
+        List<EntityProfile> sorted = getProfiles();
+        sorted.sort(Comparator.comparingLong(EntityProfile::getTotalNanos).reversed());
+        return sorted.subList(0, Math.min(count, sorted.size()));
+    }
+
+    /**
+     * Formats the slowest entities for display, such as "Kitchen" -> "41.2% / 35.1 us per tick
+     * (read 2.0, write 33.1) / 1.2 KB per tick". Entities of the same kind are numbered in the
+     * order they were first stepped, such as "GRILL Station #2".
+     * @param count The number of entities to include
+     * @return Entity names mapped to their timings, slowest first
+     */
+    public Map<String, String> getSummary(int count) {
+        long ticksProfiled = Math.max(1, getTicksProfiled());
+        long allNanos = 0;
+        for (EntityProfile profile : profiles.values()) {
+            allNanos += profile.getTotalNanos();
+        }
+
+        Map<String, String> labels = labels();
+        Map<String, String> summary = new LinkedHashMap<>();
+        for (EntityProfile profile : getTopEntities(count)) {
+            String timing = String.format("%.1f%% / %.1f us per tick (read %.1f, write %.1f)",
+                    allNanos == 0 ? 0.0 : 100.0 * profile.getTotalNanos() / allNanos,
+                    profile.getTotalNanos() / 1000.0 / ticksProfiled,
+                    profile.getNanos(Phase.READ) / 1000.0 / ticksProfiled,
+                    profile.getNanos(Phase.WRITE) / 1000.0 / ticksProfiled);
+            if (isCountingAllocations()) {
+                timing += String.format(" / %.1f KB per tick", profile.getAllocatedBytes() / 1024.0 / ticksProfiled);
+            }
+            summary.put(labels.get(profile.key()), timing);
+        }
+        return summary;
+    }
+
+    /**
+     * @param count The number of entities to include
+     * @return A heading line with the phase times, then one line per entity from getSummary()
+     */
+    public List<String> formatReport(int count) {
+        long ticksProfiled = Math.max(1, getTicksProfiled());
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("Profiled %d ticks: read phase %.1f us, write phase %.1f us per tick%s",
+                getTicksProfiled(), getPhaseNanos(Phase.READ) / 1000.0 / ticksProfiled,
+                getPhaseNanos(Phase.WRITE) / 1000.0 / ticksProfiled,
+                isCountingAllocations() ? "" : " (allocations not counted)"));
+        for (Map.Entry<String, String> entry : getSummary(count).entrySet()) {
+            lines.add(String.format("  %-24s %s", entry.getKey(), entry.getValue()));
+        }
+        return lines;
+    }
+
+    /**
+     * Clears every total, for example to skip warm-up ticks.
+     */
+    public void reset() {
+        profiles.clear();
+        nextOrder.set(0);
+        for (LongAdder nanos : phaseNanos) {
+            nanos.reset();
+        }
+        ticks.reset();
+    }
+
+    private List<EntityProfile> getProfiles() {
+        List<EntityProfile> list = new ArrayList<>(profiles.values());
+        list.sort(Comparator.comparingInt(profile -> profile.order));
+        return list;
+    }
+
+    /**
+     * Numbers the names that more than one entity shares, in first-stepped order.
+     */
+    private Map<String, String> labels() {
+        Map<String, Integer> sharing = new HashMap<>();
+        List<EntityProfile> ordered = getProfiles();
+        for (EntityProfile profile : ordered) {
+            sharing.merge(profile.name, 1, Integer::sum);
+        }
+        Map<String, Integer> seen = new HashMap<>();
+        Map<String, String> labels = new HashMap<>();
+        for (EntityProfile profile : ordered) {
+            int number = seen.merge(profile.name, 1, Integer::sum);
+            labels.put(profile.key(), sharing.get(profile.name) > 1 ? profile.name + " #" + number : profile.name);
+        }
+        return labels;
+    }
+
+    /**
+     * Time and allocations of one entity over every profiled tick.
+     */
+    public static final class EntityProfile {
+        private final String name;
+        private final int order;
+        private final LongAdder[] nanos = { new LongAdder(), new LongAdder() };
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final LongAdder steps = new LongAdder();
+
+        private EntityProfile(String name, int order) {
+            this.name = name;
+            this.order = order;
+        }
+
+        private String key() {
+            return name + "@" + order;
+        }
+
+        /**
+         * @return The entity's getProfileName(), without the number added for shared names
+         */
+        public String getName() {
+            return name;
+        }
+
+        public long getNanos(Phase phase) {
+            return nanos[phase.ordinal()].sum();
+        }
+
+        public long getTotalNanos() {
+            return getNanos(Phase.READ) + getNanos(Phase.WRITE);
+        }
+
+        /**
+         * @return Bytes allocated in both phases, or 0 if allocations are not counted
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes.sum();
+        }
+
+        /**
+         * @return The number of times the entity's write phase ran
+         */
+        public long getSteps() {
+            return steps.sum();
+        }
+    }
+}
@@ -6,24 +6,33 @@ import com.softwaredesign.project.model.kitchen.StationType;
 
 public class Ingredient {
     private String name;
+    private final int id;
     private final InventoryService inventory ;
 
     public Ingredient(String name, InventoryService inventory) {
         this.name = name;
+        this.id = IngredientRegistry.idOf(name);
         this.inventory = inventory;
     }
     
     public String getName() {
         return name;
     }
+
+    /**
+     * @return The ingredient's IngredientRegistry ID
+     */
+    public int getId() {
+        return id;
+    }
     
     // Reduce the quantity in the IngredientStore by 1 when an Ingredient is created
     public void useIngredient() {
-        inventory.useIngredient(name, 1);
+        inventory.useIngredient(id, 1);
     }
 
     public Set<StationType> getStationTypes() {
-        return inventory.getIngredientStore(name).getStationTypes();
+        return inventory.getIngredientStore(id).getStationTypes();
     }
 
     @Override
@@ -32,6 +41,6 @@ public class Ingredient {
     }
 
     public double getPrice() {
-        return inventory.getIngredientStore(name).getPrice();
+        return inventory.getPrice(id);
     }
 }
@@ -0,0 +1,99 @@
+package com.softwaredesign.project.model.inventory;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gives every ingredient name a small int ID, numbered from 0 in the order the names are
+ * first seen (normally while the inventory is loaded from config.json). Stock, prices and
+ * reservations are kept in arrays indexed by these IDs, and an order's ingredients are an
+ * int array of counts per ID, so inventory checks do not hash names or box counts.
+ *
+ * IDs are shared by every Inventory and never reused, so count arrays built against one
+ * inventory can be checked against any other.
+ */
+public final class IngredientRegistry {
+    private static final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[0];
+
+    private IngredientRegistry() {
+    }
+
+    /**
+     * @param name The ingredient name
+     * @return The ingredient's ID, giving it the next free ID if it has none yet
+     */
+    public static int idOf(String name) {
+        Integer id = ids.get(name);
+        return id != null ? id : register(name);
+    }
+
+    /**
+     * @param name The ingredient name
+     * @return The ingredient's ID, or -1 if the name has never been seen
+     */
+    public static int find(String name) {
+        return ids.getOrDefault(name, -1);
+    }
+
+    /**
+     * Looks up an ingredient's ID without registering the name.
+     * @param name The ingredient name
+     * @return The ingredient's ID
+     * @throws IllegalArgumentException if the name has never been seen
+     */
+    public static int requireId(String name) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            throw new IllegalArgumentException("Unknown ingredient: " + name);
+        }
+        return id;
+    }
+
+    private static synchronized int register(String name) {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        String[] grown = Arrays.copyOf(names, names.length + 1);
+        grown[names.length] = name;
+        names = grown;
+        ids.put(name, names.length - 1);
+        return names.length - 1;
+    }
+
+    /**
+     * @param id An ingredient ID
+     * @return The ingredient's name
+     */
+    public static String nameOf(int id) {
+        return names[id];
+    }
+
+    /**
+     * @return The number of IDs handed out, which is the length a count array needs to hold every ingredient
+     */
+    public static int size() {
+        return names.length;
+    }
+
+    /**
+     * Turns a map of ingredient names to amounts into an array of amounts indexed by ID.
+     * Names are looked up, never registered, so a misspelt name cannot take up an ID.
+     * @param amounts Map of ingredient names to amounts
+     * @return The amounts indexed by ingredient ID
+     * @throws IllegalArgumentException if a name has never been seen
+     */
+    public static int[] toCounts(Map<String, Integer> amounts) {
+        int[] counts = new int[size()];
+        for (Map.Entry<String, Integer> entry : amounts.entrySet()) {
+            int id = requireId(entry.getKey());
+            if (id >= counts.length) {
+                counts = Arrays.copyOf(counts, size()); // registered by another thread since
+            }
+            counts[id] += entry.getValue();
+        }
+        return counts;
+    }
+}
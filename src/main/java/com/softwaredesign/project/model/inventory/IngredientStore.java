@@ -7,16 +7,20 @@ import java.util.Set;
 
 import com.softwaredesign.project.model.kitchen.StationType;
 
+/**
+ * One ingredient in an Inventory. The quantity and price are held in the inventory's
+ * arrays under the ingredient's IngredientRegistry ID; this object reads and writes them there.
+ */
 public class IngredientStore {
+    private final Inventory inventory;
+    private final int id;
     private String name;
-    private int quantity;
-    private double price;
     private Set<StationType> stationTypes;
 
-    public IngredientStore(String name, int quantity, double price, StationType... stationTypes) {
+    IngredientStore(Inventory inventory, int id, String name, StationType... stationTypes) {
+        this.inventory = inventory;
+        this.id = id;
         this.name = name;
-        this.quantity = quantity;
-        this.price = price;
         this.stationTypes = new HashSet<>(Arrays.asList(stationTypes));
     }
 
@@ -24,20 +28,44 @@ public class IngredientStore {
         return name;
     }
 
+    /**
+     * @return The ingredient's IngredientRegistry ID
+     */
+    public int getId() {
+        return id;
+    }
+
     public int getQuantity() {
-        return quantity;
+        return inventory.getStock(id);
     }
 
     public void setQuantity(int quantity) {
-        this.quantity = quantity;
+        inventory.setStock(id, quantity);
+    }
+
+    /**
+     * Takes some of this ingredient out of stock if there is enough, without locking.
+     * @param amount The amount to take
+     * @return true if the amount was taken, false if there was not enough in stock
+     */
+    public boolean tryTake(int amount) {
+        return inventory.tryTake(id, amount);
+    }
+
+    /**
+     * Puts back an amount taken with tryTake.
+     * @param amount The amount to put back
+     */
+    public void giveBack(int amount) {
+        inventory.giveBack(id, amount);
     }
 
     public double getPrice() {
-        return price;
+        return inventory.getPrice(id);
     }
 
     public void setPrice(double price) {
-        this.price = price;
+        inventory.setPrice(id, price);
     }
 
     public Set<StationType> getStationTypes() {
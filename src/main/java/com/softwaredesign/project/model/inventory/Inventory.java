@@ -1,21 +1,38 @@
 package com.softwaredesign.project.model.inventory;
 
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 import com.softwaredesign.project.model.kitchen.StationType;
 
+/**
+ * The restaurant's ingredient stock. Quantities are changed with compare-and-set rather
+ * than locks, so stations working in parallel can use ingredients at the same time
+ * without taking more than is in stock.
+ *
+ * Stock and prices are kept in arrays indexed by IngredientRegistry ID; the name-based
+ * methods look the ID up first. The arrays grow when an ingredient is added, so
+ * ingredients should be added while setting up, before stock is used in parallel.
+ */
 public class Inventory implements InventoryService, ISubject {
     private final Map<String, IngredientStore> ingredients;
     private final List<IObserver> observers;
+    private volatile IngredientStore[] stores;
+    private volatile AtomicIntegerArray stock;
+    private volatile double[] prices;
 
     public Inventory() {
-        this.ingredients = new HashMap<>();
-        this.observers = new ArrayList<>();
+        this.ingredients = new ConcurrentHashMap<>();
+        this.observers = new CopyOnWriteArrayList<>();
+        this.stores = new IngredientStore[0];
+        this.stock = new AtomicIntegerArray(0);
+        this.prices = new double[0];
     }
 
     @Override
@@ -36,29 +53,126 @@ public class Inventory implements InventoryService, ISubject {
     }
 
     public void addIngredient(String name, int quantity, double price, StationType... stations) {
-        ingredients.put(name, new IngredientStore(name, quantity, price, stations));
+        synchronized (this) {
+            int id = IngredientRegistry.idOf(name);
+            if (id >= stores.length) {
+                grow(IngredientRegistry.size());
+            }
+            IngredientStore store = new IngredientStore(this, id, name, stations);
+            stock.set(id, quantity);
+            prices[id] = price;
+            stores[id] = store;
+            ingredients.put(name, store);
+        }
         notifyObservers(name, quantity);
     }
 
+    private void grow(int length) {
+        AtomicIntegerArray grownStock = new AtomicIntegerArray(length);
+        for (int id = 0; id < stock.length(); id++) {
+            grownStock.set(id, stock.get(id));
+        }
+        prices = Arrays.copyOf(prices, length);
+        stock = grownStock;
+        stores = Arrays.copyOf(stores, length);
+    }
+
     public void useIngredient(String name, int amount) throws IllegalArgumentException {
         IngredientStore ingredient = ingredients.get(name);
         if (ingredient == null) {
             throw new IllegalArgumentException("Ingredient " + name + " not found in inventory");
         }
+        useIngredient(ingredient.getId(), amount);
+    }
+
+    @Override
+    public void useIngredient(int id, int amount) throws IllegalArgumentException {
+        if (getIngredientStore(id) == null) {
+            throw new IllegalArgumentException("Ingredient " + IngredientRegistry.nameOf(id) + " not found in inventory");
+        }
+        if (!tryTake(id, amount)) {
+            throw new IllegalArgumentException("Not enough " + IngredientRegistry.nameOf(id) + " in stock");
+        }
+        notifyObservers(IngredientRegistry.nameOf(id), stock.get(id));
+    }
+
+    /**
+     * Uses several ingredients at once, such as everything that goes into a meal. Either
+     * all of them are taken out of stock or, if any is short, none are.
+     * @param amounts Map of ingredient names to the amounts to use
+     * @throws IllegalArgumentException if an ingredient is unknown or there is not enough of it
+     */
+    @Override
+    public void useIngredients(Map<String, Integer> amounts) throws IllegalArgumentException {
+        useIngredients(IngredientRegistry.toCounts(amounts));
+    }
+
+    /**
+     * Uses several ingredients at once. Either all of them are taken out of stock or, if any
+     * is short, none are.
+     * @param counts The amount of each ingredient to use, indexed by IngredientRegistry ID
+     * @throws IllegalArgumentException if an ingredient is unknown or there is not enough of it
+     */
+    @Override
+    public void useIngredients(int[] counts) throws IllegalArgumentException {
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] != 0 && getIngredientStore(id) == null) {
+                throw new IllegalArgumentException("Ingredient " + IngredientRegistry.nameOf(id) + " not found in inventory");
+            }
+        }
+
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] != 0 && !tryTake(id, counts[id])) {
+                // Put back what was already taken so nothing is used
+                for (int taken = 0; taken < id; taken++) {
+                    if (counts[taken] != 0) {
+                        giveBack(taken, counts[taken]);
+                    }
+                }
+                throw new IllegalArgumentException("Not enough " + IngredientRegistry.nameOf(id) + " in stock");
+            }
+        }
 
-        if (ingredient.getQuantity() < amount) {
-            throw new IllegalArgumentException("Not enough " + name + " in stock");
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] != 0) {
+                notifyObservers(IngredientRegistry.nameOf(id), stock.get(id));
+            }
         }
+    }
+
+    /**
+     * Takes some of an ingredient out of stock if there is enough, without locking.
+     * @return true if the amount was taken, false if there was not enough in stock
+     */
+    boolean tryTake(int id, int amount) {
+        AtomicIntegerArray current = stock;
+        int quantity;
+        do {
+            quantity = current.get(id);
+            if (quantity < amount) {
+                return false;
+            }
+        } while (!current.compareAndSet(id, quantity, quantity - amount));
+        return true;
+    }
+
+    void giveBack(int id, int amount) {
+        stock.addAndGet(id, amount);
+    }
+
+    void setStock(int id, int quantity) {
+        stock.set(id, quantity);
+    }
 
-        ingredient.setQuantity(ingredient.getQuantity() - amount);
-        notifyObservers(name, ingredient.getQuantity());
+    void setPrice(int id, double price) {
+        prices[id] = price;
     }
 
     public void updateInventory(Map<String, Integer> ingredientUpdates) throws IllegalArgumentException {
         for (Map.Entry<String, Integer> entry : ingredientUpdates.entrySet()) {
             String name = entry.getKey();
             int amount = entry.getValue();
-            
+
             IngredientStore ingredient = ingredients.get(name);
             if (ingredient == null) {
                 throw new IllegalArgumentException("Ingredient " + name + " not found in inventory");
@@ -71,18 +185,34 @@ public class Inventory implements InventoryService, ISubject {
 
     public int getStock(String name) {
         IngredientStore ingredient = ingredients.get(name);
-        return ingredient != null ? ingredient.getQuantity() : 0;
+        return ingredient != null ? stock.get(ingredient.getId()) : 0;
+    }
+
+    @Override
+    public int getStock(int id) {
+        return getIngredientStore(id) != null ? stock.get(id) : 0;
     }
 
     public double getPrice(String name) {
         IngredientStore ingredient = ingredients.get(name);
-        return ingredient != null ? ingredient.getPrice() : 0.0;
+        return ingredient != null ? prices[ingredient.getId()] : 0.0;
+    }
+
+    @Override
+    public double getPrice(int id) {
+        return getIngredientStore(id) != null ? prices[id] : 0.0;
     }
 
     public IngredientStore getIngredientStore(String name) {
         return ingredients.get(name);
     }
 
+    @Override
+    public IngredientStore getIngredientStore(int id) {
+        IngredientStore[] current = stores;
+        return id >= 0 && id < current.length ? current[id] : null;
+    }
+
     public Set<String> getAllIngredients() {
         return ingredients.keySet();
     }
@@ -5,12 +5,22 @@ import java.util.Set;
 
 import com.softwaredesign.project.model.kitchen.StationType;
 
+/**
+ * Access to ingredient stock. The int overloads take IngredientRegistry IDs and are the
+ * ones to use on hot paths; the String overloads look the ID up by name first.
+ */
 public interface InventoryService {
     void addIngredient(String name, int quantity, double price, StationType... stationTypes);
     void useIngredient(String name, int amount) throws IllegalArgumentException;
+    void useIngredient(int id, int amount) throws IllegalArgumentException;
+    void useIngredients(Map<String, Integer> amounts) throws IllegalArgumentException;
+    void useIngredients(int[] counts) throws IllegalArgumentException;
     void updateInventory(Map<String, Integer> ingredientUpdates) throws IllegalArgumentException;
     int getStock(String name);
+    int getStock(int id);
     double getPrice(String name);
+    double getPrice(int id);
     IngredientStore getIngredientStore(String name);
+    IngredientStore getIngredientStore(int id);
     Set<IngredientStore> getIngredientStores();
 }
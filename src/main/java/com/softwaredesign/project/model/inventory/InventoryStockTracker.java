@@ -1,25 +1,54 @@
 package com.softwaredesign.project.model.inventory;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Observer that tracks current stock levels and provides functionality to check if orders are possible
+ * Observer that tracks current stock levels and provides functionality to check if orders are possible.
+ *
+ * A tracker built for an Inventory reads stock straight from it, so there is one set of
+ * quantities. A tracker built without one keeps its own stock, fed through update(), for
+ * use on its own or as an observer of an inventory.
  */
 public class InventoryStockTracker implements IObserver {
-    private final Map<String, Integer> stockLevels;
-    // Map to track reserved ingredients: orderId -> (ingredientName -> reservedQuantity)
-    private final Map<String, Map<String, Integer>> reservedIngredients;
+    private final Inventory stock;
+    private final boolean ownsStock;
+    // Map to track reserved ingredients: orderId -> reserved quantity per ingredient ID
+    private final Map<String, int[]> reservedIngredients;
+    // Running total reserved across all orders, indexed by ingredient ID
+    private int[] reservedTotals;
 
     public InventoryStockTracker() {
-        this.stockLevels = new HashMap<>();
+        this(new Inventory(), true);
+    }
+
+    /**
+     * @param inventory The inventory whose stock this tracker checks orders against
+     */
+    public InventoryStockTracker(Inventory inventory) {
+        this(inventory, false);
+    }
+
+    private InventoryStockTracker(Inventory stock, boolean ownsStock) {
+        this.stock = stock;
+        this.ownsStock = ownsStock;
         this.reservedIngredients = new ConcurrentHashMap<>();
+        this.reservedTotals = new int[0];
     }
 
     @Override
-    public void update(String ingredient, int quantity) {
-        stockLevels.put(ingredient, quantity);
+    public synchronized void update(String ingredient, int quantity) {
+        if (!ownsStock) {
+            // The inventory this tracker reads from already holds the new quantity
+            return;
+        }
+        if (stock.getIngredientStore(ingredient) == null) {
+            stock.addIngredient(ingredient, quantity, 0.0);
+        } else {
+            stock.updateQuantity(ingredient, quantity);
+        }
     }
 
     /**
@@ -28,13 +57,13 @@ public class InventoryStockTracker implements IObserver {
      * @return true if the order can be fulfilled, false otherwise
      */
     public boolean canFulfillOrder(Map<String, Integer> ingredients) {
-        for (Map.Entry<String, Integer> entry : ingredients.entrySet()) {
-            String ingredient = entry.getKey();
-            int requiredQuantity = entry.getValue();
-            
+        if (!allKnown(ingredients)) {
+            return false;
+        }
+        int[] counts = IngredientRegistry.toCounts(ingredients);
+        for (int id = 0; id < counts.length; id++) {
             // Check if we have the ingredient and enough stock
-            Integer currentStock = stockLevels.get(ingredient);
-            if (currentStock == null || currentStock < requiredQuantity) {
+            if (counts[id] != 0 && (stock.getIngredientStore(id) == null || stock.getStock(id) < counts[id])) {
                 return false;
             }
         }
@@ -47,30 +76,59 @@ public class InventoryStockTracker implements IObserver {
      * @param ingredients Map of ingredient names to required quantities
      * @return true if all ingredients could be reserved, false otherwise
      */
-    public synchronized boolean reserveIngredientsForOrder(String orderId, Map<String, Integer> ingredients) {
+    public boolean reserveIngredientsForOrder(String orderId, Map<String, Integer> ingredients) {
+        if (!allKnown(ingredients)) {
+            return false;
+        }
+        return reserveIngredientsForOrder(orderId, IngredientRegistry.toCounts(ingredients));
+    }
+
+    /**
+     * An ingredient that has never been seen cannot be in stock, so orders needing one fail
+     * here instead of making IngredientRegistry.toCounts() throw.
+     */
+    private static boolean allKnown(Map<String, Integer> ingredients) {
+        for (String name : ingredients.keySet()) {
+            if (IngredientRegistry.find(name) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Reserves ingredients for an order by marking them as unavailable for other orders
+     * @param orderId The ID of the order for which to reserve ingredients
+     * @param counts Required quantity of each ingredient, indexed by IngredientRegistry ID
+     * @return true if all ingredients could be reserved, false otherwise
+     */
+    public synchronized boolean reserveIngredientsForOrder(String orderId, int[] counts) {
+        // An order reserving again replaces its earlier reservation
+        int[] previous = reservedIngredients.get(orderId);
+        
         // Check if we can fulfill the order first
-        for (Map.Entry<String, Integer> entry : ingredients.entrySet()) {
-            String ingredient = entry.getKey();
-            int requiredQuantity = entry.getValue();
-            
+        for (int id = 0; id < counts.length; id++) {
+            if (counts[id] == 0) {
+                continue;
+            }
             // Get the available quantity (current stock minus what's already reserved)
-            int totalReserved = getTotalReservedQuantity(ingredient);
-            Integer currentStock = stockLevels.get(ingredient);
-            
-            if (currentStock == null || (currentStock - totalReserved) < requiredQuantity) {
+            int totalReserved = reservedQuantity(id);
+            if (previous != null && id < previous.length) {
+                totalReserved -= previous[id];
+            }
+            if (stock.getIngredientStore(id) == null || (stock.getStock(id) - totalReserved) < counts[id]) {
                 // Not enough available stock after accounting for reservations
                 return false;
             }
         }
         
-        // If we have enough of all ingredients, reserve them
-        Map<String, Integer> orderReservation = new HashMap<>();
-        for (Map.Entry<String, Integer> entry : ingredients.entrySet()) {
-            orderReservation.put(entry.getKey(), entry.getValue());
+        // Store a copy of the reservation and return success
+        int[] orderReservation = counts.clone();
+        if (previous != null) {
+            adjustReservedTotals(previous, -1);
         }
-        
-        // Store the reservation and return success
         reservedIngredients.put(orderId, orderReservation);
+        adjustReservedTotals(orderReservation, 1);
         return true;
     }
     
@@ -79,7 +137,26 @@ public class InventoryStockTracker implements IObserver {
      * @param orderId The ID of the order for which to release ingredients
      */
     public synchronized void releaseReservedIngredients(String orderId) {
-        reservedIngredients.remove(orderId);
+        int[] reservation = reservedIngredients.remove(orderId);
+        if (reservation != null) {
+            adjustReservedTotals(reservation, -1);
+        }
+    }
+    
+    /**
+     * Adds (sign 1) or removes (sign -1) one order's reservation from the running totals
+     */
+    private void adjustReservedTotals(int[] reservation, int sign) {
+        if (reservation.length > reservedTotals.length) {
+            reservedTotals = Arrays.copyOf(reservedTotals, reservation.length);
+        }
+        for (int id = 0; id < reservation.length; id++) {
+            reservedTotals[id] += sign * reservation[id];
+        }
+    }
+    
+    private int reservedQuantity(int id) {
+        return id >= 0 && id < reservedTotals.length ? reservedTotals[id] : 0;
     }
     
     /**
@@ -87,15 +164,8 @@ public class InventoryStockTracker implements IObserver {
      * @param ingredient The ingredient name
      * @return The total reserved quantity
      */
-    private int getTotalReservedQuantity(String ingredient) {
-        int total = 0;
-        for (Map<String, Integer> reservation : reservedIngredients.values()) {
-            Integer amount = reservation.get(ingredient);
-            if (amount != null) {
-                total += amount;
-            }
-        }
-        return total;
+    public synchronized int getTotalReservedQuantity(String ingredient) {
+        return reservedQuantity(IngredientRegistry.find(ingredient));
     }
 
     /**
@@ -104,7 +174,7 @@ public class InventoryStockTracker implements IObserver {
      * @return current stock level, or 0 if ingredient doesn't exist
      */
     public int getCurrentStock(String ingredient) {
-        return stockLevels.getOrDefault(ingredient, 0);
+        return stock.getStock(ingredient);
     }
 
     /**
@@ -112,7 +182,11 @@ public class InventoryStockTracker implements IObserver {
      * @return unmodifiable map of ingredient names to their current stock levels
      */
     public Map<String, Integer> getAllStockLevels() {
-        return Map.copyOf(stockLevels);
+        Map<String, Integer> levels = new HashMap<>();
+        for (IngredientStore store : stock.getIngredientStores()) {
+            levels.put(store.getName(), store.getQuantity());
+        }
+        return Map.copyOf(levels);
     }
     
     /**
@@ -120,9 +194,8 @@ public class InventoryStockTracker implements IObserver {
      * @param ingredient name of the ingredient
      * @return available stock (current stock minus reserved), or 0 if ingredient doesn't exist
      */
-    public int getAvailableStock(String ingredient) {
-        int currentStock = getCurrentStock(ingredient);
-        int reservedQuantity = getTotalReservedQuantity(ingredient);
-        return Math.max(0, currentStock - reservedQuantity);
+    public synchronized int getAvailableStock(String ingredient) {
+        int id = IngredientRegistry.find(ingredient);
+        return Math.max(0, stock.getStock(id) - reservedQuantity(id));
     }
 }
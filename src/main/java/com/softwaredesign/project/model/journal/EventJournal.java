@@ -0,0 +1,250 @@
+package com.softwaredesign.project.model.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.softwaredesign.project.model.engine.GameEngine;
+
+/**
+ * Writes simulation state transitions as fixed-size binary records to a memory-mapped file.
+ *
+ * The file starts with a HEADER_SIZE byte header (magic, version, record size and the number
+ * of records, which stays -1 until the journal is closed) followed by RECORD_SIZE byte
+ * records in little-endian order: tick (long), nanoseconds since the journal was opened
+ * (long), event code, order sequence, a and b (ints). See EventType for what a and b hold.
+ *
+ * The file is mapped in segments as it grows. Recording reserves a slot with one atomic
+ * increment and writes the record with absolute puts, so there is no allocation and no
+ * system call per event; the operating system writes the pages out in the background.
+ * Writers share a read lock that close() takes exclusively, so the file is only trimmed
+ * once no writer can still touch a mapped page past the new end of the file.
+ * While no journal is open, record() is a single volatile read.
+ *
+ * Use JournalReader to decode a journal to CSV.
+ */
+public final class EventJournal implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(EventJournal.class);
+
+    public static final int MAGIC = 0x4C4E4A52; // "RJNL" when read as little-endian bytes
+    public static final short VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+    public static final int RECORD_SIZE = 32;
+    public static final int NO_ORDER = -1;
+
+    static final int COUNT_OFFSET = 8;
+    private static final int RECORDS_PER_SEGMENT = 1 << 16; // 2 MB of records per mapping
+    private static final int MAX_SEGMENTS = 1 << 14;
+
+    private static volatile EventJournal active;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final AtomicReferenceArray<MappedByteBuffer> segments = new AtomicReferenceArray<>(MAX_SEGMENTS);
+    private final AtomicLong nextSlot = new AtomicLong();
+    private final long startNanos;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    private EventJournal(Path path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(0, MAGIC);
+        header.putShort(4, VERSION);
+        header.putShort(6, (short) RECORD_SIZE);
+        header.putLong(COUNT_OFFSET, -1L);
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Opens a journal at the given path, replacing any existing file, and makes it the one
+     * record() writes to. A journal that is already open is closed first.
+     */
+    public static synchronized EventJournal start(Path path) {
+        stop();
+        try {
+            active = new EventJournal(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open event journal " + path, e);
+        }
+        logger.info("Event journal started at {}", path);
+        return active;
+    }
+
+    /**
+     * Closes the active journal, if any. Call once the simulation has stopped ticking.
+     */
+    public static synchronized void stop() {
+        EventJournal journal = active;
+        active = null;
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    public static boolean isActive() {
+        return active != null;
+    }
+
+    /**
+     * Records an event in the active journal; does nothing if no journal is open.
+     * @param type The transition that happened
+     * @param orderSequence The order's sequence number, or NO_ORDER
+     * @param a First event field, see EventType
+     * @param b Second event field, see EventType
+     */
+    public static void record(EventType type, long orderSequence, int a, int b) {
+        EventJournal journal = active;
+        if (journal != null) {
+            journal.append(type, orderSequence, a, b);
+        }
+    }
+
+    /**
+     * Narrows an order sequence to the journal's int field; sequences that do not fit,
+     * including RecipeTask.NO_ORDER_SEQUENCE, become NO_ORDER.
+     */
+    static int toOrderField(long orderSequence) {
+        return orderSequence >= 0 && orderSequence <= Integer.MAX_VALUE ? (int) orderSequence : NO_ORDER;
+    }
+
+    void append(EventType type, long orderSequence, int a, int b) {
+        lock.readLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            long slot = nextSlot.getAndIncrement();
+            int segmentIndex = (int) (slot / RECORDS_PER_SEGMENT);
+            if (segmentIndex >= MAX_SEGMENTS) {
+                return; // journal is full; the count written on close stops at the last stored record
+            }
+            MappedByteBuffer segment = segments.get(segmentIndex);
+            if (segment == null) {
+                segment = mapSegment(segmentIndex);
+                if (segment == null) {
+                    return;
+                }
+            }
+
+            int offset = (int) (slot % RECORDS_PER_SEGMENT) * RECORD_SIZE;
+            segment.putLong(offset, GameEngine.getInstance().getCurrentTick());
+            segment.putLong(offset + 8, System.nanoTime() - startNanos);
+            segment.putInt(offset + 16, type.getCode());
+            segment.putInt(offset + 20, toOrderField(orderSequence));
+            segment.putInt(offset + 24, a);
+            segment.putInt(offset + 28, b);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private synchronized MappedByteBuffer mapSegment(int index) {
+        if (segments.get(index) == null) {
+            long position = HEADER_SIZE + (long) index * RECORDS_PER_SEGMENT * RECORD_SIZE;
+            try {
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, position,
+                        (long) RECORDS_PER_SEGMENT * RECORD_SIZE);
+                segment.order(ByteOrder.LITTLE_ENDIAN);
+                segments.set(index, segment);
+            } catch (IOException e) {
+                logger.warn("Could not extend event journal {}: {}", path, e.getMessage());
+            }
+        }
+        return segments.get(index);
+    }
+
+    /**
+     * Reads back a record written to this journal, for example to check a run while it is
+     * still going. Once the journal is closed, use JournalReader instead.
+     * @param index The record number, from 0 to getRecordCount() - 1
+     * @return The decoded record, or null if the slot was never written or the journal is closed
+     */
+    public JournalRecord getRecord(long index) {
+        if (index < 0 || index >= getRecordCount()) {
+            throw new IndexOutOfBoundsException("Record " + index + " of " + getRecordCount());
+        }
+        lock.readLock().lock();
+        try {
+            MappedByteBuffer segment = segments.get((int) (index / RECORDS_PER_SEGMENT));
+            if (closed || segment == null) {
+                return null;
+            }
+            int offset = (int) (index % RECORDS_PER_SEGMENT) * RECORD_SIZE;
+            EventType type = EventType.fromCode(segment.getInt(offset + 16));
+            if (type == null) {
+                return null;
+            }
+            return new JournalRecord(segment.getLong(offset), segment.getLong(offset + 8), type,
+                    segment.getInt(offset + 20), segment.getInt(offset + 24), segment.getInt(offset + 28));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The number of records written so far
+     */
+    public long getRecordCount() {
+        return Math.min(nextSlot.get(), (long) MAX_SEGMENTS * RECORDS_PER_SEGMENT);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Flushes the records, stores the record count in the header and trims the file to the
+     * records actually written. Waits for writers already inside append() to finish; later
+     * calls record nothing. The segments are dropped before the file is trimmed, so nothing
+     * reads or writes a mapped page that no longer has file behind it.
+     */
+    @Override
+    public void close() {
+        long count;
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (active == this) {
+                active = null;
+            }
+
+            count = getRecordCount();
+            try {
+                for (int i = 0; i < segments.length(); i++) {
+                    MappedByteBuffer segment = segments.getAndSet(i, null);
+                    if (segment != null) {
+                        segment.force();
+                    }
+                }
+                header.putLong(COUNT_OFFSET, count);
+                header.force();
+                channel.truncate(HEADER_SIZE + count * RECORD_SIZE);
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not close event journal " + path, e);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Event journal {} closed with {} records", path, count);
+    }
+}
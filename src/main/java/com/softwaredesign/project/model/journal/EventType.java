@@ -0,0 +1,56 @@
+package com.softwaredesign.project.model.journal;
+
+/**
+ * The state transitions written to the event journal. Every record carries the tick, the
+ * order sequence (or -1 when there is no order) and two integer fields whose meaning
+ * depends on the event type.
+ */
+public enum EventType {
+    /** A waiter placed a table's order. a = table number, b = number of recipes */
+    ORDER_PLACED(1),
+    /** A station took a task. a = station type ordinal, b = index of the task in its recipe */
+    TASK_ASSIGNED(2),
+    /** A station did the first tick of work on a task. a = station type ordinal, b = task index */
+    TASK_STARTED(3),
+    /** A station finished a task. a = station type ordinal, b = task index */
+    TASK_COMPLETED(4),
+    /** A finished order was taken from the collection point. a = number of meals, b = unused */
+    MEAL_COLLECTED(5),
+    /** A group was seated. a = table number, b = group size */
+    CUSTOMER_SEATED(6),
+    /** A customer left after eating. a = table number, b = customers still at the table */
+    CUSTOMER_LEFT(7),
+    /** A seeded run began. a = high 32 bits of the random seed, b = low 32 bits */
+    RUN_STARTED(8),
+    /** End of a tick in a journaled run. a = digest of the simulation state, b = customers seated */
+    TICK_STATE(9);
+
+    private static final EventType[] BY_CODE = new EventType[values().length + 1];
+
+    static {
+        for (EventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final int code;
+
+    EventType(int code) {
+        this.code = code;
+    }
+
+    /**
+     * @return The value stored in the journal; stays stable if constants are reordered
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * @param code A code read from a journal
+     * @return The event type, or null if the code is unknown
+     */
+    public static EventType fromCode(int code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
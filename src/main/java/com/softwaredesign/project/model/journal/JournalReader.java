@@ -0,0 +1,109 @@
+package com.softwaredesign.project.model.journal;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes journals written by EventJournal.
+ *
+ * Usage: JournalReader journal-file [output.csv]
+ *
+ * Writes one CSV row per record to the output file, or to standard output if none is given.
+ * Journals that were not closed (for example after a crash) are read up to the last
+ * complete record.
+ */
+public class JournalReader {
+    public static final String CSV_HEADER = "tick,elapsed_ns,event,order,a,b";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: JournalReader journal-file [output.csv]");
+            System.exit(1);
+        }
+
+        List<JournalRecord> records = read(Paths.get(args[0]));
+        Writer out = args.length == 2
+                ? Files.newBufferedWriter(Paths.get(args[1]), StandardCharsets.UTF_8)
+                : new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        try (PrintWriter writer = new PrintWriter(out)) {
+            writeCsv(records, writer);
+        }
+        if (args.length == 2) {
+            System.out.println("Wrote " + records.size() + " records to " + args[1]);
+        }
+    }
+
+    /**
+     * Reads every record of a journal.
+     * @param path The journal file
+     * @return The records in the order they were written
+     * @throws IOException if the file cannot be read or is not an event journal
+     */
+    public static List<JournalRecord> read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < EventJournal.HEADER_SIZE) {
+                throw new IOException(path + " is too short to be an event journal");
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (buffer.getInt(0) != EventJournal.MAGIC) {
+                throw new IOException(path + " is not an event journal");
+            }
+            if (buffer.getShort(4) != EventJournal.VERSION) {
+                throw new IOException("Unsupported event journal version " + buffer.getShort(4));
+            }
+            int recordSize = buffer.getShort(6);
+            long available = (size - EventJournal.HEADER_SIZE) / recordSize;
+            long count = buffer.getLong(EventJournal.COUNT_OFFSET);
+            boolean closed = count >= 0;
+            if (!closed || count > available) {
+                count = available;
+            }
+
+            List<JournalRecord> records = new ArrayList<>((int) Math.min(count, Integer.MAX_VALUE));
+            for (long i = 0; i < count; i++) {
+                int offset = (int) (EventJournal.HEADER_SIZE + i * recordSize);
+                EventType type = EventType.fromCode(buffer.getInt(offset + 16));
+                if (type == null) {
+                    if (!closed) {
+                        break; // an unclosed journal ends at the first slot that was never written
+                    }
+                    throw new IOException("Unknown event code " + buffer.getInt(offset + 16) + " in record " + i);
+                }
+                records.add(new JournalRecord(
+                        buffer.getLong(offset),
+                        buffer.getLong(offset + 8),
+                        type,
+                        buffer.getInt(offset + 20),
+                        buffer.getInt(offset + 24),
+                        buffer.getInt(offset + 28)));
+            }
+            return records;
+        }
+    }
+
+    /**
+     * Writes records as CSV, starting with CSV_HEADER.
+     */
+    public static void writeCsv(List<JournalRecord> records, PrintWriter writer) {
+        writer.println(CSV_HEADER);
+        for (JournalRecord record : records) {
+            writer.println(record.toCsv());
+        }
+    }
+}
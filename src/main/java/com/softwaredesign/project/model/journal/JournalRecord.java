@@ -0,0 +1,72 @@
+package com.softwaredesign.project.model.journal;
+
+/**
+ * One decoded event journal record. See EventType for the meaning of a and b.
+ */
+public final class JournalRecord {
+    private final long tick;
+    private final long elapsedNanos;
+    private final EventType type;
+    private final int orderSequence;
+    private final int a;
+    private final int b;
+
+    public JournalRecord(long tick, long elapsedNanos, EventType type, int orderSequence, int a, int b) {
+        this.tick = tick;
+        this.elapsedNanos = elapsedNanos;
+        this.type = type;
+        this.orderSequence = orderSequence;
+        this.a = a;
+        this.b = b;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public EventType getType() {
+        return type;
+    }
+
+    /**
+     * @return The order sequence, or EventJournal.NO_ORDER
+     */
+    public int getOrderSequence() {
+        return orderSequence;
+    }
+
+    public int getA() {
+        return a;
+    }
+
+    public int getB() {
+        return b;
+    }
+
+    /**
+     * Compares everything except the wall-clock time, which differs between runs of the
+     * same workload.
+     * @return true if both records describe the same event at the same tick
+     */
+    public boolean sameEventAs(JournalRecord other) {
+        return other != null && tick == other.tick && type == other.type && orderSequence == other.orderSequence
+                && a == other.a && b == other.b;
+    }
+
+    /**
+     * @return The record as a CSV row matching JournalReader.CSV_HEADER
+     */
+    public String toCsv() {
+        return tick + "," + elapsedNanos + "," + type + "," + (orderSequence == EventJournal.NO_ORDER ? "" : orderSequence)
+                + "," + a + "," + b;
+    }
+
+    @Override
+    public String toString() {
+        return "tick " + tick + " " + type + " order=" + orderSequence + " a=" + a + " b=" + b;
+    }
+}
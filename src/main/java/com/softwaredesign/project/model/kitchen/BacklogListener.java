@@ -0,0 +1,10 @@
+package com.softwaredesign.project.model.kitchen;
+
+import com.softwaredesign.project.model.order.RecipeTask;
+
+/**
+ * Notified just before a task is queued in a station's backlog.
+ */
+public interface BacklogListener {
+    void onTaskQueued(Station station, RecipeTask task);
+}
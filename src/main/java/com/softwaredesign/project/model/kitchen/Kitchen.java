@@ -5,9 +5,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 
+import com.softwaredesign.project.model.diagnostics.DiagnosticChannel;
+import com.softwaredesign.project.model.diagnostics.DiagnosticLevel;
+import com.softwaredesign.project.model.diagnostics.Diagnostics;
 import com.softwaredesign.project.model.engine.Entity;
 import com.softwaredesign.project.model.order.Order;
 import com.softwaredesign.project.model.order.OrderManager;
+import com.softwaredesign.project.model.order.OrderReceivedListener;
 import com.softwaredesign.project.model.order.Recipe;
 import com.softwaredesign.project.model.order.RecipeTask;
 import com.softwaredesign.project.model.orderfulfillment.CollectionPoint;
@@ -16,22 +20,43 @@ import com.softwaredesign.project.model.staff.Chef;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class Kitchen extends Entity {
+/**
+ * Turns orders into recipe tasks, queues them at the stations, supplies ingredients and
+ * hands ready tasks to idle stations with a chef.
+ *
+ * The kitchen only has work while orders are waiting, tasks are waiting to be queued or
+ * handed out, or a station waits for ingredients. Anything that can give it work again
+ * (an order arriving, a task becoming ready, a station going idle, getting a chef or
+ * starting a task) wakes it, so the discrete event engine lets it sleep in between.
+ */
+public class Kitchen extends Entity implements OrderReceivedListener {
     private static final Logger logger = LoggerFactory.getLogger(Kitchen.class);
     private OrderManager orderManager;
     private CollectionPoint collectionPoint;
     private StationManager stationManager;
     private List<Recipe> pendingRecipes = new ArrayList<>(); // recipes to be complete 
     private Map<Recipe, List<RecipeTask>> pendingTasks = new HashMap<>(); // tasks to be completed
+    private final ReadyTaskIndex readyTasks = new ReadyTaskIndex(); // tasks that can start now, by station type
+    private List<RecipeTask> newlyReadyTasks = new ArrayList<>(); // tasks whose last dependency just completed
     
     public Kitchen(OrderManager orderManager, CollectionPoint collectionPoint, StationManager stationManager) {
         this.orderManager = orderManager;
         this.collectionPoint = collectionPoint;
         this.stationManager = stationManager;
+        if (orderManager != null) {
+            orderManager.addOrderReceivedListener(this);
+        }
     }
     
     public void setOrderManager(OrderManager orderManager) {
+        wake();
+        if (this.orderManager != null) {
+            this.orderManager.removeOrderReceivedListener(this);
+        }
         this.orderManager = orderManager;
+        if (orderManager != null) {
+            orderManager.addOrderReceivedListener(this);
+        }
     }
     
     public StationManager getStationManager() {
@@ -56,63 +81,58 @@ public class Kitchen extends Entity {
         }
         
         List<Recipe> newRecipes = orderManager.processOrder(); // returns a registered order (list of recipes)
-        logger.info("[DEBUG-KITCHEN] Got " + (newRecipes != null ? newRecipes.size() : 0) + " new recipes from OrderManager");
         
         if (newRecipes != null && !newRecipes.isEmpty()) { // if there are new recipes
-            // Print details about each new recipe
-            for (Recipe recipe : newRecipes) {
-                logger.info("[DEBUG-KITCHEN] New recipe: " + recipe.getName() + 
-                                  ", orderId: " + recipe.getOrderId() + 
-                                  ", hashCode: " + recipe.hashCode());
-            }
-            
-            // Log the state of pendingRecipes before adding new ones
-            logger.info("[DEBUG-KITCHEN] pendingRecipes before adding new ones (size: " + 
-                              pendingRecipes.size() + "):");
-            for (Recipe recipe : pendingRecipes) {
-                logger.info("  - " + recipe.getName() + 
-                                  " (orderId: " + recipe.getOrderId() + 
-                                  ", hashCode: " + recipe.hashCode() + ")");
+            boolean dump = Diagnostics.isEnabled(DiagnosticChannel.KITCHEN, DiagnosticLevel.DETAIL);
+            if (dump) {
+                Diagnostics.record(DiagnosticChannel.KITCHEN, "kitchen.recipes.received",
+                        "new", describeRecipes(newRecipes), "pendingBefore", describeRecipes(pendingRecipes));
             }
             
             pendingRecipes.addAll(newRecipes); 
             
-            // Log the updated pendingRecipes
-            logger.info("[DEBUG-KITCHEN] pendingRecipes after adding new ones (size: " + 
-                              pendingRecipes.size() + "):");
-            for (Recipe recipe : pendingRecipes) {
-                logger.info("  - " + recipe.getName() + 
-                                  " (orderId: " + recipe.getOrderId() + 
-                                  ", hashCode: " + recipe.hashCode() + ")");
-            }
-            
             // Add all incomplete tasks from new recipes to pending tasks (unpack!)
             for (Recipe recipe : newRecipes) {
                 List<RecipeTask> incompleteTasks = recipe.getIncompleteTasks();
-                logger.info("[DEBUG-KITCHEN] Recipe " + recipe.getName() + 
-                                  " (orderId: " + recipe.getOrderId() + 
-                                  ") has " + incompleteTasks.size() + " incomplete tasks");
                 
                 // Check if we already have this recipe in pendingTasks
-                if (pendingTasks.containsKey(recipe)) {
-                    logger.info("[DEBUG-KITCHEN] WARNING: Recipe " + recipe.getName() + 
-                                      " with orderId " + recipe.getOrderId() + 
-                                      " already exists in pendingTasks map!");
-                    
-                    // Check which recipe in the map is equal to this one
-                    for (Recipe existingRecipe : pendingTasks.keySet()) {
-                        if (existingRecipe.equals(recipe)) {
-                            logger.info("[DEBUG-KITCHEN] Found equal recipe: " + existingRecipe.getName() + 
-                                              " with orderId " + existingRecipe.getOrderId());
-                        }
-                    }
+                if (dump && pendingTasks.containsKey(recipe)) {
+                    Diagnostics.record(DiagnosticChannel.KITCHEN, "kitchen.recipes.duplicate",
+                            "recipe", recipe.getName(), "order", recipe.getOrderId());
                 }
                 
                 pendingTasks.put(recipe, new ArrayList<>(incompleteTasks));
+                
+                // Index the tasks that can start straight away; the rest are indexed
+                // by the recipe's listener when their last dependency finishes
+                recipe.addTaskReadyListener(this::onTaskReady);
+                for (RecipeTask task : incompleteTasks) {
+                    if (task.areDependenciesMet()) {
+                        readyTasks.add(task);
+                    }
+                }
             }
             
-            logger.info("Kitchen received " + newRecipes.size() + " new recipes");
+            logger.debug("Kitchen received {} new recipes", newRecipes.size());
+            if (dump) {
+                Diagnostics.record(DiagnosticChannel.KITCHEN, "kitchen.recipes.pending",
+                        "pending", describeRecipes(pendingRecipes));
+            }
+        }
+    }
+    
+    /**
+     * Lists recipes by name and order ID without going through Recipe.hashCode()
+     */
+    private static String describeRecipes(List<Recipe> recipes) {
+        StringBuilder description = new StringBuilder("[");
+        for (Recipe recipe : recipes) {
+            if (description.length() > 1) {
+                description.append(", ");
+            }
+            description.append(recipe.getName()).append('@').append(recipe.getOrderId());
         }
+        return description.append(']').toString();
     }
     
     public void assignChefToStation(Chef chef, StationType stationType) {
@@ -126,7 +146,7 @@ public class Kitchen extends Entity {
             
             // Instead, just add the station to the chef's assigned stations list
             chef.assignToStation(stationType);
-            logger.info("Chef assigned to " + stationType + " station pool");
+            logger.info("Chef assigned to {} station pool", stationType);
         }
     }
     
@@ -134,7 +154,7 @@ public class Kitchen extends Entity {
         Station station = stationManager.getStation(stationType);
         if (station != null && station.getAssignedChef() == chef) {
             station.unregisterChef();
-            logger.info("Chef unassigned from " + stationType + " station");
+            logger.info("Chef unassigned from {} station", stationType);
         }
     }
     
@@ -171,7 +191,7 @@ public class Kitchen extends Entity {
                 if (station != null) {
                     station.addTask(task);
                     assignedTasks.add(task);
-                    logger.info("[DEBUG] Queued task " + task.getName() + " in " + task.getStationType() + " station backlog");
+                    logger.debug("[DEBUG] Queued task {} in {} station backlog", task.getName(), task.getStationType());
                 }
             }
             
@@ -208,10 +228,10 @@ public class Kitchen extends Entity {
                         station.addTask(task);
                         assignedTasks.add(task);
                         assignedAnyTask = true;
-                        logger.info("[DEBUG] Queued new task " + task.getName() + " in " + task.getStationType() + " station backlog (dependencies met)");
+                        logger.debug("[DEBUG] Queued new task {} in {} station backlog (dependencies met)", task.getName(), task.getStationType());
                     }
                 } else {
-                    logger.info("[DEBUG] Task " + task.getName() + " for " + recipe.getName() + " has unmet dependencies, not queuing yet");
+                    logger.debug("[DEBUG] Task {} for {} has unmet dependencies, not queuing yet", task.getName(), recipe.getName());
                 }
             }
             
@@ -243,14 +263,15 @@ public class Kitchen extends Entity {
 
     @Override
     public void readState() {
-        logger.info("Reading Kitchen state");
-        // Get new recipes from order manager
-        getRecipes();
+        // Nothing to read: taking orders changes the order manager, so it happens in writeState()
     }
 
     @Override
     public void writeState() {
-        logger.info("Writing Kitchen state");
+        logger.debug("Writing Kitchen state");
+        // Get new recipes from order manager
+        getRecipes();
+        
         // Check for tasks that were previously waiting for dependencies that are now met
         updateTaskAvailability();
         
@@ -264,146 +285,128 @@ public class Kitchen extends Entity {
         checkAndAssignTasks();
     }
     
+    @Override
+    public void onOrderReceived(Order order) {
+        wake();
+    }
+
     /**
-     * Checks for any idle stations and tries to assign them tasks from pending orders.
-     * This method is particularly important for ensuring that new orders flow through
-     * the system even when no dependencies or other triggers have changed.
+     * Called by a station that is about to change in a way that can give the kitchen work
      */
-    private void checkAndAssignTasks() {
-        logger.info("\n[DEBUG] Checking for idle stations to assign tasks to...");
+    void stationChanged() {
+        wake();
+    }
+
+    /**
+     * Asleep until woken unless orders are waiting to be read, tasks are waiting to be
+     * queued or handed out, or a station waits for ingredients.
+     */
+    @Override
+    public long nextActiveTick(long currentTick) {
+        return hasWork() ? currentTick + 1 : Long.MAX_VALUE;
+    }
+
+    /**
+     * @return true if the next writeState() would change anything
+     */
+    private boolean hasWork() {
+        if (orderManager != null && orderManager.getPendingOrderCount() > 0) {
+            return true;
+        }
+        // A recipe keeps tasks in pendingTasks only while it is in pendingRecipes
+        if (!newlyReadyTasks.isEmpty() || !pendingRecipes.isEmpty()) {
+            return true;
+        }
+        for (Station station : stationManager.getAllStations()) {
+            if (station.needsIngredients()) {
+                return true;
+            }
+        }
+        for (StationType stationType : StationType.values()) {
+            if (readyTasks.isEmpty(stationType)) {
+                continue;
+            }
+            for (Station station : stationManager.getStationsByType(stationType)) {
+                if (station != null && !station.isBusy() && station.hasChef()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indexes a task whose last dependency was just completed
+     */
+    private void onTaskReady(RecipeTask task) {
+        wake();
+        if (readyTasks.add(task)) {
+            newlyReadyTasks.add(task);
+        }
+    }
+    
+    /**
+     * Hands ready tasks to idle stations that have a chef. Tasks come out of the
+     * ready-task index oldest order first, so only station types with waiting work
+     * are looked at. Package-private so the kitchen benchmarks can call it directly.
+     */
+    void checkAndAssignTasks() {
+        logger.debug("[DEBUG] Checking for idle stations to assign tasks to...");
         
-        // Get all stations from the station manager
         for (StationType stationType : StationType.values()) {
-            List<Station> stations = stationManager.getStationsByType(stationType);
+            if (readyTasks.isEmpty(stationType)) {
+                continue;
+            }
             
-            for (Station station : stations) {
-                // Skip stations that are already busy
-                if (station == null || station.isBusy()) {
+            for (Station station : stationManager.getStationsByType(stationType)) {
+                // Skip stations that are already busy or have nobody to cook
+                if (station == null || station.isBusy() || !station.hasChef()) {
                     continue;
                 }
                 
-                // If this is a PREP station, log with higher visibility
-                if (stationType == StationType.PREP) {
-                    logger.info("[IMPORTANT] PREP station is idle, looking for tasks to assign");
-                } else {
-                    logger.info("[DEBUG] " + stationType + " station is idle, looking for tasks to assign");
+                RecipeTask task = readyTasks.poll(stationType);
+                if (task == null) {
+                    break;
                 }
                 
-                // Check all orders for tasks that could be assigned to this station
-                for (Order order : orderManager.getPendingOrders()) {
-                    for (Recipe recipe : order.getRecipes()) {
-                        // Skip completed recipes
-                        if (recipe.isComplete()) {
-                            continue;
-                        }
-                        
-                        // Look for tasks that match this station type
-                        for (RecipeTask task : recipe.getUncompletedTasks()) {
-                            if (task.getStationType() == stationType && 
-                                !task.isAssigned() && 
-                                !task.isCompleted()) {
-                                
-                                // Update dependencies status to be sure
-                                task.updateDependenciesStatus();
-                                
-                                if (task.areDependenciesMet()) {
-                                    logger.info("[DEBUG] Found task " + task.getName() + 
-                                                     " for idle " + stationType + " station" +
-                                                     " from order: " + recipe.getOrderId());
-                                    
-                                    // Assign the task to the station
-                                    station.assignTask(recipe, task);
-                                    
-                                    // If this is a PREP task, log it with higher visibility
-                                    if (stationType == StationType.PREP) {
-                                        logger.info("[IMPORTANT] Successfully assigned PREP task " + 
-                                                         task.getName() + " to PREP station");
-                                    }
-                                    
-                                    // If we assigned a task, break out of the task loop
-                                    // but continue checking other stations
-                                    break;
-                                }
-                            }
-                        }
-                        
-                        // If station is now busy, break out of recipe loop
-                        if (station.isBusy()) {
-                            break;
-                        }
-                    }
-                    
-                    // If station is now busy, break out of order loop
-                    if (station.isBusy()) {
-                        break;
-                    }
-                }
+                logger.debug("[DEBUG] Found task {} for idle {} station from order: {}",
+                        task.getName(), stationType, task.getRecipe().getOrderId());
+                station.assignTask(task.getRecipe(), task);
             }
         }
     }
     
     /**
-     * Checks if any tasks that were previously not available due to dependencies
-     * are now ready to be assigned
+     * Queues tasks whose dependencies were met since the last tick in the backlog
+     * of their station type
      */
     public void updateTaskAvailability() {
-        for (Recipe recipe : pendingRecipes) {
-            // Skip completed recipes
-            if (recipe.isComplete()) {
+        if (newlyReadyTasks.isEmpty()) {
+            return;
+        }
+        
+        List<RecipeTask> tasks = newlyReadyTasks;
+        newlyReadyTasks = new ArrayList<>();
+        
+        for (RecipeTask task : tasks) {
+            // Skip tasks that an idle station already picked up
+            if (task.isCompleted() || task.isAssigned()) {
                 continue;
             }
             
-            // Check for tasks that have dependencies now met
-            List<RecipeTask> readyTasks = new ArrayList<>();
-            for (RecipeTask task : recipe.getUncompletedTasks()) {
-                // Update the dependencies status for this task
-                task.updateDependenciesStatus();
-                
-                if (task.areDependenciesMet() && !task.isCompleted()) {
-                    readyTasks.add(task);
-                    logger.info("Task is now available: " + task.getName() + " for " + recipe.getName() + 
-                                    " (dependencies met)");
-                    
-                    // Always ensure the order is in the station's backlog for any ready task
-                    StationType stationType = task.getStationType();
-                    Station station = stationManager.getStation(stationType);
-                    if (station != null) {
-                        String orderId = recipe.getOrderId();
-                        if (orderId != null) {
-                            boolean taskAlreadyInBacklog = false;
-                            
-                            // Check if this specific task is already in the backlog
-                            for (RecipeTask backlogTask : station.getBacklog()) {
-                                // Check if it's the same task (same name and same station type)
-                                if (backlogTask.getName().equals(task.getName()) && 
-                                    backlogTask.getStationType() == task.getStationType()) {
-                                    Recipe backlogRecipe = backlogTask.getRecipe();
-                                    Recipe currentRecipe = task.getRecipe();
-                                    
-                                    // If they have the same recipe or order ID, it's the same task
-                                    if ((backlogRecipe != null && currentRecipe != null && 
-                                         backlogRecipe.equals(currentRecipe)) ||
-                                        (backlogRecipe != null && currentRecipe != null && 
-                                         orderId.equals(backlogRecipe.getOrderId()))) {
-                                        taskAlreadyInBacklog = true;
-                                        break;
-                                    }
-                                }
-                            }
-                            
-                            // If this specific task is not in backlog, add it
-                            if (!taskAlreadyInBacklog) {
-                                // FIXED: Add the task to the station backlog directly without checking
-                                // if the order is still in the pending orders queue
-                                logger.info("[DEBUG] Adding order " + orderId + " to " + 
-                                            stationType + " station backlog (task now ready)");
-                                // Only add the specific task that's ready, not all tasks from the order
-                                station.addTask(task);
-                            }
-                        }
-                    }
-                }
+            Station station = stationManager.getStation(task.getStationType());
+            String orderId = task.getRecipe().getOrderId();
+            if (station != null && orderId != null) {
+                logger.debug("[DEBUG] Adding order {} to {} station backlog (task now ready)", orderId, task.getStationType());
+                station.addTask(task);
             }
         }
     }
+    
+    /**
+     * @return The ready tasks that have not been handed to a station yet
+     */
+    public ReadyTaskIndex getReadyTasks() {
+        return readyTasks;
+    }
 }
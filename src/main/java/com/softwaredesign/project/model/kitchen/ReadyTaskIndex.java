@@ -0,0 +1,87 @@
+package com.softwaredesign.project.model.kitchen;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import com.softwaredesign.project.model.order.RecipeTask;
+
+/**
+ * Holds the tasks whose dependencies are all complete, grouped by the station type that
+ * cooks them. Within a type the task with the lowest order sequence comes out first.
+ *
+ * A task is added once, when it becomes ready, and is dropped when it is polled. Tasks that
+ * were picked up some other way (for example from a station backlog) are skipped when they
+ * reach the head of the queue, so nothing has to be searched when a task is assigned.
+ */
+public class ReadyTaskIndex {
+    private final Map<StationType, PriorityQueue<TaskEntry>> queues = new EnumMap<>(StationType.class);
+    private final Set<RecipeTask> indexed = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long insertions;
+
+    public ReadyTaskIndex() {
+        for (StationType type : StationType.values()) {
+            queues.put(type, new PriorityQueue<>());
+        }
+    }
+
+    /**
+     * Adds a ready task to the queue for its station type.
+     * @param task The task whose dependencies are met
+     * @return true if the task was added, false if it is already indexed or no longer needs cooking
+     */
+    public boolean add(RecipeTask task) {
+        if (isStale(task) || !indexed.add(task)) {
+            return false;
+        }
+        queues.get(task.getStationType()).add(new TaskEntry(task, task.getOrderSequence(), insertions++));
+        return true;
+    }
+
+    /**
+     * Removes and returns the oldest ready task for a station type.
+     * @param type The station type looking for work
+     * @return The next unassigned task, or null if there is none
+     */
+    public RecipeTask poll(StationType type) {
+        PriorityQueue<TaskEntry> queue = queues.get(type);
+        while (!queue.isEmpty()) {
+            RecipeTask task = queue.poll().task;
+            indexed.remove(task);
+            if (!isStale(task)) {
+                return task;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param type The station type to check
+     * @return true if no task of this type is waiting, after dropping tasks already picked up
+     */
+    public boolean isEmpty(StationType type) {
+        PriorityQueue<TaskEntry> queue = queues.get(type);
+        while (!queue.isEmpty() && isStale(queue.peek().task)) {
+            indexed.remove(queue.poll().task);
+        }
+        return queue.isEmpty();
+    }
+
+    /**
+     * @return The number of indexed tasks, including any that were picked up but not yet skipped
+     */
+    public int size() {
+        return indexed.size();
+    }
+
+    public boolean contains(RecipeTask task) {
+        return indexed.contains(task);
+    }
+
+    private static boolean isStale(RecipeTask task) {
+        return task.isCompleted() || task.isAssigned();
+    }
+}
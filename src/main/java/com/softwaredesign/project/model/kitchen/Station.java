@@ -2,15 +2,25 @@ package com.softwaredesign.project.model.kitchen;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import com.softwaredesign.project.model.diagnostics.DiagnosticChannel;
+import com.softwaredesign.project.model.diagnostics.DiagnosticLevel;
+import com.softwaredesign.project.model.diagnostics.Diagnostics;
 import com.softwaredesign.project.model.engine.Entity;
+import com.softwaredesign.project.model.engine.GameEngine;
+import com.softwaredesign.project.model.journal.EventJournal;
+import com.softwaredesign.project.model.journal.EventType;
+import com.softwaredesign.project.model.metrics.LatencyMetric;
+import com.softwaredesign.project.model.metrics.LatencyStatistics;
 import com.softwaredesign.project.model.order.Meal;
 import com.softwaredesign.project.model.order.Order;
 import com.softwaredesign.project.model.order.OrderManager;
 import com.softwaredesign.project.model.order.Recipe;
 import com.softwaredesign.project.model.order.RecipeTask;
 import com.softwaredesign.project.model.orderfulfillment.CollectionPoint;
+import com.softwaredesign.project.model.singletons.StatisticsSingleton;
 import com.softwaredesign.project.model.staff.Chef;
 
 import org.slf4j.Logger;
@@ -19,7 +29,7 @@ import org.slf4j.LoggerFactory;
 public class Station extends Entity {
     private static final Logger logger = LoggerFactory.getLogger(Station.class);
     private final StationType type;
-    private List<RecipeTask> backlog;
+    private final TaskBacklog backlog;
     private Chef assignedChef;
     private Chef taskChef; // Chef who is currently working on the task
 
@@ -32,10 +42,11 @@ public class Station extends Entity {
     private boolean needsIngredients;
     
     private Kitchen kitchen;  // Reference to the kitchen
+    private final List<BacklogListener> backlogListeners = new ArrayList<>();
 
     public Station(StationType type, CollectionPoint collectionPoint) {
         this.type = type;
-        this.backlog = new ArrayList<>();
+        this.backlog = new TaskBacklog();
         this.collectionPoint = collectionPoint;
         this.cookingProgress = 0;
         this.needsIngredients = false;
@@ -65,151 +76,91 @@ public class Station extends Entity {
         }
         
         // Then check the backlog
-        for (RecipeTask task : backlog) {
-            if (task.getStationType() == this.type && task.areDependenciesMet() && !task.isCompleted()) {
-                return task.getRecipe();
-            }
-        }
-        
-        return null;
+        RecipeTask readyTask = backlog.peekReady(type);
+        return readyTask != null ? readyTask.getRecipe() : null;
     }
 
+    /**
+     * Queues a task in this station's backlog, behind any tasks from older orders.
+     * A task that is already queued is not added again.
+     * @param task The task to queue
+     */
     public void addTask(RecipeTask task) {
         // Ensure the task has a recipe reference
         if (task.getRecipe() == null) {
-            logger.info("[WARNING] Task added to backlog without recipe reference: " + task.getName());
+            logger.warn("[WARNING] Task added to backlog without recipe reference: {}", task.getName());
             // Don't add tasks without a recipe reference
-            logger.info("[FIX] Rejecting task without recipe reference: " + task.getName());
+            logger.warn("[FIX] Rejecting task without recipe reference: {}", task.getName());
             return;
         }
         
-        System.out.println("[DEBUG-STATION-ADD] Adding task " + task.getName() + 
-                         " from recipe " + task.getRecipe().getName() + 
-                         " with orderId " + task.getRecipe().getOrderId() + 
-                         " to " + type + " station backlog");
-        
-        // Check if this specific task is already in the backlog to prevent duplicates
-        boolean taskAlreadyExists = false;
-        
-        // First, print all backlog tasks with their details
-        System.out.println("[DEBUG-STATION-ADD] Current backlog for " + type + " station:");
-        for (int i = 0; i < backlog.size(); i++) {
-            RecipeTask existingTask = backlog.get(i);
-            Recipe existingRecipe = existingTask.getRecipe();
-            String existingOrderId = existingRecipe != null ? existingRecipe.getOrderId() : "null";
-            System.out.println("  " + i + ": " + existingTask.getName() + 
-                             " (recipe: " + (existingRecipe != null ? existingRecipe.getName() : "null") + 
-                             ", orderId: " + existingOrderId + 
-                             ", hashCode: " + existingTask.hashCode() + ")");
-        }
-        
-        for (RecipeTask existingTask : backlog) {
-            // Manually check if tasks appear to be duplicates
-            boolean sameTaskName = existingTask.getName().equals(task.getName());
-            boolean sameStationType = existingTask.getStationType() == task.getStationType();
-            
-            // Get recipes and orderIds
-            Recipe existingRecipe = existingTask.getRecipe();
-            Recipe newTaskRecipe = task.getRecipe();
-            String existingOrderId = existingRecipe != null ? existingRecipe.getOrderId() : null;
-            String newOrderId = newTaskRecipe != null ? newTaskRecipe.getOrderId() : null;
-            
-            System.out.println("[DEBUG-STATION-ADD] Comparing with existing task: " + existingTask.getName() + 
-                             ", sameTaskName: " + sameTaskName + 
-                             ", sameStationType: " + sameStationType);
-            
-            if (existingRecipe != null && newTaskRecipe != null) {
-                boolean sameRecipeName = existingRecipe.getName().equals(newTaskRecipe.getName());
-                System.out.println("[DEBUG-STATION-ADD]   Both have recipes. sameRecipeName: " + sameRecipeName);
-                
-                if (existingOrderId != null && newOrderId != null) {
-                    boolean sameOrderId = existingOrderId.equals(newOrderId);
-                    System.out.println("[DEBUG-STATION-ADD]   Both have orderIds. sameOrderId: " + sameOrderId + 
-                                     " (" + existingOrderId + " vs " + newOrderId + ")");
-                } else {
-                    System.out.println("[DEBUG-STATION-ADD]   At least one orderId is null. existingOrderId: " + 
-                                     existingOrderId + ", newOrderId: " + newOrderId);
-                }
-            }
-            
-            // Now use the equals method and track the result
-            boolean equals = existingTask.equals(task);
-            System.out.println("[DEBUG-STATION-ADD]   Tasks equal according to equals(): " + equals);
-            
-            if (equals) {
-                taskAlreadyExists = true;
-                logger.info("[DEBUG-STATION-ADD] Prevented duplicate task: " + task.getName() + 
-                               " for recipe: " + (task.getRecipe() != null ? task.getRecipe().getName() : "unknown") +
-                               " with orderId: " + (task.getRecipe() != null ? task.getRecipe().getOrderId() : "unknown"));
-                break;
-            }
+        boolean added = queue(task);
+        if (added) {
+            markQueued(task);
         }
-        
-        // Only add the task if it's not already in the backlog
-        if (!taskAlreadyExists) {
-            // FIXED: Insert the task at the correct position based on order ID (to process older orders first)
-            String orderId = task.getRecipe().getOrderId();
-            boolean inserted = false;
-            
-            // If the task has an order ID, find the correct position to insert it
-            if (orderId != null) {
-                // Extract the numerical portion of the order ID (e.g., "1000" from "Order-1000")
-                int orderNum = extractOrderNumber(orderId);
-                
-                // Find the correct position to insert based on order number
-                for (int i = 0; i < backlog.size(); i++) {
-                    RecipeTask existingTask = backlog.get(i);
-                    String existingOrderId = existingTask.getRecipe() != null ? 
-                                             existingTask.getRecipe().getOrderId() : null;
-                    
-                    if (existingOrderId != null) {
-                        int existingOrderNum = extractOrderNumber(existingOrderId);
-                        
-                        // If the new task's order number is lower, insert it here
-                        if (orderNum < existingOrderNum) {
-                            backlog.add(i, task);
-                            inserted = true;
-                            System.out.println("[DEBUG] Inserted task " + task.getName() + 
-                                           " for order " + orderId + " at position " + i + 
-                                           " (before order " + existingOrderId + ")");
-                            break;
-                        }
-                    }
-                }
-            }
-            
-            // If not inserted yet, add to the end
-            if (!inserted) {
-                backlog.add(task);
-            }
-            
-            System.out.println("[DEBUG-BACKLOG] Current " + type + " station backlog contents:");
-            for (int i = 0; i < backlog.size(); i++) {
-                RecipeTask t = backlog.get(i);
-                System.out.println("  " + i + ": " + t.getName() + " (Order: " + 
-                    (t.getRecipe() != null ? t.getRecipe().getOrderId() : "null") + ")");
-            }
+        if (Diagnostics.isEnabled(DiagnosticChannel.KITCHEN, DiagnosticLevel.DETAIL)) {
+            Diagnostics.record(DiagnosticChannel.KITCHEN, added ? "backlog.add" : "backlog.duplicate",
+                    "station", type, "task", task.getName(), "order", task.getRecipe().getOrderId(),
+                    "backlog", backlog.toList());
         }
     }
     
     /**
-     * Helper method to extract the numerical portion of an order ID
-     * @param orderId The order ID (e.g., "Order-1000")
-     * @return The numerical value (e.g., 1000)
+     * Registers a listener that is told about every task queued in this station's backlog
+     * @param listener The listener to notify
      */
-    private int extractOrderNumber(String orderId) {
-        if (orderId == null || !orderId.contains("-")) {
-            return Integer.MAX_VALUE; // Default to highest value for unrecognized format
+    public void addBacklogListener(BacklogListener listener) {
+        backlogListeners.add(listener);
+    }
+
+    public void removeBacklogListener(BacklogListener listener) {
+        backlogListeners.remove(listener);
+    }
+
+    /**
+     * Adds a task to the backlog, telling the backlog listeners first
+     * @return true if the task was queued, false if it was already in the backlog
+     */
+    private boolean queue(RecipeTask task) {
+        if (backlog.contains(task)) {
+            return false;
         }
-        
-        try {
-            String[] parts = orderId.split("-");
-            return Integer.parseInt(parts[1]);
-        } catch (Exception e) {
-            System.out.println("[WARNING] Could not parse order number from ID: " + orderId);
-            return Integer.MAX_VALUE; // Default to highest value for unparseable IDs
+        wake();
+        for (BacklogListener listener : backlogListeners) {
+            listener.onTaskQueued(this, task);
+        }
+        return backlog.add(task);
+    }
+
+    /**
+     * Called by the chef standing at this station when they are about to change, or about
+     * to get work queued at one of their stations, either of which can end an idle wait here
+     */
+    public void chefChanged() {
+        wake();
+    }
+
+    /**
+     * Tells the kitchen that this station is about to start waiting for ingredients,
+     * become idle or get a chef, any of which can give the kitchen work
+     */
+    private void wakeKitchen() {
+        if (kitchen != null) {
+            kitchen.stationChanged();
         }
     }
+
+    /**
+     * Drops a queued task without cooking it
+     * @return true if the task was in the backlog
+     */
+    boolean removeQueuedTask(RecipeTask task) {
+        if (!backlog.remove(task)) {
+            return false;
+        }
+        task.setQueuedTick(RecipeTask.NOT_QUEUED);
+        return true;
+    }
     
     // Method to add all tasks from an order to this station's backlog
     public void addTasksFromOrder(Order order) {
@@ -227,9 +178,21 @@ public class Station extends Entity {
         return LocalDateTime.now();
     }
 
-    // get tasks from station
+    /**
+     * Gets the tasks waiting at this station, oldest order first.
+     * The list is a read-only snapshot; use addTask() to queue work.
+     * @return The queued tasks in the order they will be pulled
+     */
     public List<RecipeTask> getBacklog() {
-        return backlog;
+        return Collections.unmodifiableList(backlog.toList());
+    }
+    
+    /**
+     * Gets the task at the front of the backlog without copying the backlog
+     * @return The next queued task, or null if the backlog is empty
+     */
+    public RecipeTask peekBacklog() {
+        return backlog.peek();
     }
 
     public int getBacklogSize() {
@@ -245,18 +208,22 @@ public class Station extends Entity {
     }
 
     public void registerChef(Chef chef) {
-        logger.info("\n[DEBUG-STATION] Registering chef " + chef.getName() + " at " + type + " station");
-        logger.info("[DEBUG-STATION] Current assignedChef: " + 
-            (assignedChef != null ? assignedChef.getName() : "NONE"));
-        logger.info("[DEBUG-STATION] Chef's current station: " + 
-            (chef.getCurrentStation() != null ? chef.getCurrentStation().getType() : "NONE"));
+        wake();
+        wakeKitchen();
+        logger.debug("[DEBUG-STATION] Registering chef {} at {} station", chef.getName(), type);
+        if (logger.isDebugEnabled()) {
+            logger.debug("[DEBUG-STATION] Current assignedChef: {}", 
+                assignedChef != null ? assignedChef.getName() : "NONE");
+            logger.debug("[DEBUG-STATION] Chef's current station: {}", 
+                chef.getCurrentStation() != null ? chef.getCurrentStation().getType() : "NONE");
+        }
         
         // If we already have a chef assigned, unregister them first
         if (assignedChef != null && assignedChef != chef) {
-            logger.info("[DEBUG-STATION] Station already has chef " + assignedChef.getName() + ", unregistering them");
+            logger.debug("[DEBUG-STATION] Station already has chef {}, unregistering them", assignedChef.getName());
             // Log if a task is being reassigned
             if (currentTask != null) {
-                logger.info("Chef " + assignedChef.getName() + " has left " + type + " station, task reassigned");
+                logger.info("Chef {} has left {} station, task reassigned", assignedChef.getName(), type);
             }
             // Unregister the current chef but don't remove from their assigned stations
             // assignedChef.removeStationAssignment(this);
@@ -267,38 +234,34 @@ public class Station extends Entity {
         // Check if the chef is already assigned to another station and unregister them from there
         Station currentChefStation = chef.getCurrentStation();
         if (currentChefStation != null && currentChefStation != this) {
-            logger.info("[DEBUG-STATION] Chef " + chef.getName() + " is currently at " + 
-                currentChefStation.getType() + " station, unregistering from there");
-            logger.info("Chef " + chef.getName() + " was at " + currentChefStation.getType() + 
-                              " station but is now moving to " + type + " station");
+            logger.info("Chef {} was at {} station but is now moving to {} station", 
+                chef.getName(), currentChefStation.getType(), type);
             
             // Handle the working status - we need to check if the chef is actively working
             if (chef.isWorking()) {
-                logger.info("[DEBUG-STATION-SYNC] Chef " + chef.getName() + " is still marked as working. " +
-                    "Checking if they're the taskChef at their current station...");
+                logger.debug("[DEBUG-STATION-SYNC] Chef {} is still marked as working. " +
+                    "Checking if they're the taskChef at their current station...", chef.getName());
                 
                 // Check if this chef is the taskChef at their current station
                 if (currentChefStation.getCurrentTask() != null) {
-                    logger.info("[DEBUG-STATION-SYNC] Chef's current station has an active task.");
-                    
                     // Do NOT unregister the chef while they're in the middle of a task
-                    logger.info("[DEBUG-STATION-SYNC] Chef " + chef.getName() + 
-                        " is in the middle of a task. Cannot reassign until task is complete.");
+                    logger.debug("[DEBUG-STATION-SYNC] Chef {} is in the middle of a task. " +
+                        "Cannot reassign until task is complete.", chef.getName());
                     return;
                 } else {
                     // No active task, safe to reset working status
                     chef.setWorking(false);
-                    logger.info("[DEBUG-STATION-SYNC] Reset working status for chef " + chef.getName());
+                    logger.debug("[DEBUG-STATION-SYNC] Reset working status for chef {}", chef.getName());
                 }
             }
             
             // Unregister from the other station
             if (currentChefStation.getAssignedChef() == chef) {
-                logger.info("[DEBUG-STATION] Unregistering chef from " + currentChefStation.getType());
+                logger.debug("[DEBUG-STATION] Unregistering chef from {}", currentChefStation.getType());
                 currentChefStation.unregisterChef();
             } else {
-                logger.info("[DEBUG-STATION] WARNING: Chef thinks they're at " + 
-                    currentChefStation.getType() + " but that station doesn't have them assigned!");
+                logger.debug("[DEBUG-STATION] WARNING: Chef thinks they're at {} but that station doesn't have them assigned!", 
+                    currentChefStation.getType());
                 
                 // Force update the chef's current station reference to avoid inconsistency
                 chef.setCurrentStation(null);
@@ -306,78 +269,60 @@ public class Station extends Entity {
         }
         
         // Set this station as the chef's current station
-        logger.info("[DEBUG-STATION] Setting " + type + " as current station for " + chef.getName());
         chef.setCurrentStation(this);
         assignedChef = chef;
         
-        logger.info("Chef " + chef.getName() + " is now registered at " + type + " station");
+        logger.info("Chef {} is now registered at {} station", chef.getName(), type);
         
         // If there's a task but no chef was assigned to it yet, assign this chef
         if (currentTask != null && taskChef == null) {
-            logger.info("[DEBUG-STATION] Assigning chef to task: " + currentTask.getName());
+            logger.debug("[DEBUG-STATION] Assigning chef to task: {}", currentTask.getName());
             taskChef = chef;
             chef.setWorking(true);
         }
-        
-        // Verify the registration worked
-        logger.info("[DEBUG-STATION] After registration: " + 
-            chef.getName() + " current station is " + 
-            (chef.getCurrentStation() != null ? chef.getCurrentStation().getType() : "NONE") + 
-            ", station's assigned chef is " + 
-            (assignedChef != null ? assignedChef.getName() : "NONE"));
     }
 
     public void unregisterChef() {
-        logger.info("\n[DEBUG-STATION] Unregistering chef from " + type + " station");
-        logger.info("[DEBUG-STATION] Current assignedChef: " + 
-            (assignedChef != null ? assignedChef.getName() : "NONE"));
-        logger.info("[DEBUG-STATION] Current taskChef: " + 
-            (taskChef != null ? taskChef.getName() : "NONE"));
+        wake();
+        if (logger.isDebugEnabled()) {
+            logger.debug("[DEBUG-STATION] Unregistering chef from {} station (assignedChef: {}, taskChef: {})", 
+                type, 
+                assignedChef != null ? assignedChef.getName() : "NONE", 
+                taskChef != null ? taskChef.getName() : "NONE");
+        }
         
         // Special case: if there's an active task and taskChef is set,
         // we should NOT unregister if the assignedChef is the taskChef
         if (currentTask != null && taskChef != null && assignedChef == taskChef) {
-            logger.info("[DEBUG-STATION] WARNING: Cannot unregister chef " + 
-                assignedChef.getName() + " as they are actively cooking a task");
+            logger.debug("[DEBUG-STATION] WARNING: Cannot unregister chef {} as they are actively cooking a task", 
+                assignedChef.getName());
             return;
         }
         
         if (assignedChef != null) {
-            logger.info("[DEBUG-STATION] Found assigned chef: " + assignedChef.getName());
-            
             // If this chef considers this their current station, update their state
             if (assignedChef.getCurrentStation() == this) {
-                logger.info("[DEBUG-STATION] Chef " + assignedChef.getName() + 
-                    " considers this their current station, clearing reference");
-                logger.info("Chef " + assignedChef.getName() + " is no longer registered at " + type + " station");
+                logger.info("Chef {} is no longer registered at {} station", assignedChef.getName(), type);
                 // Clear the chef's station reference
                 assignedChef.setCurrentStation(null);
-            } else {
-                logger.info("[DEBUG-STATION] WARNING: Chef " + assignedChef.getName() + 
-                    " is assigned here but thinks they're at " + 
-                    (assignedChef.getCurrentStation() != null ? 
-                        assignedChef.getCurrentStation().getType() : "NONE"));
-                
+            } else if (logger.isDebugEnabled()) {
                 // Fix the inconsistency - if the chef thinks they're at a different station,
                 // but we have them as assigned, clear our reference
+                logger.debug("[DEBUG-STATION] WARNING: Chef {} is assigned here but thinks they're at {}", 
+                    assignedChef.getName(), 
+                    assignedChef.getCurrentStation() != null ? assignedChef.getCurrentStation().getType() : "NONE");
             }
             
             Chef departingChef = assignedChef;
-            logger.info("[DEBUG-STATION] Setting assignedChef to null");
             assignedChef = null;
             
             // Reset working status if appropriate
             if (departingChef.isWorking() && (taskChef == null || taskChef != departingChef)) {
                 departingChef.setWorking(false);
-                logger.info("[DEBUG-STATION] Reset working status for departing chef " + departingChef.getName());
+                logger.debug("[DEBUG-STATION] Reset working status for departing chef {}", departingChef.getName());
             }
-            
-            logger.info("[DEBUG-STATION] After unregistration: Chef " + departingChef.getName() + 
-                " current station is " + 
-                (departingChef.getCurrentStation() != null ? 
-                    departingChef.getCurrentStation().getType() : "NONE"));
         } else {
-            logger.info("[DEBUG-STATION] No chef assigned to unregister");
+            logger.debug("[DEBUG-STATION] No chef assigned to unregister");
             assignedChef = null;
         }
     }
@@ -399,6 +344,8 @@ public class Station extends Entity {
             // Try to find an incomplete task for this station
             for (RecipeTask task : recipe.getIncompleteTasks()) {
                 if (task.getStationType() == this.type) {
+                    wake();
+                    wakeKitchen();
                     currentRecipe = recipe;
                     currentTask = task;
                     cookingProgress = 0;
@@ -406,22 +353,43 @@ public class Station extends Entity {
                     
                     // Mark the task as assigned
                     task.setAssigned(true);
+                    recordBacklogWait(task);
+                    journalTask(EventType.TASK_ASSIGNED, task);
                     
                     // Preserve the assigned task in the backlog so that the station always shows tasks (even if in progress)
                     
-                    logger.info(type + " station assigned task: " + task.getName() + 
-                                      " for recipe: " + recipe.getName());
+                    logger.debug("{} station assigned task: {} for recipe: {}", type, task.getName(), recipe.getName());
                     return;
                 }
             }
             
             // No tasks for this station type in this recipe
-            logger.info(type + " station has no tasks in recipe: " + recipe.getName());
+            logger.debug("{} station has no tasks in recipe: {}", type, recipe.getName());
         } else {
-            logger.info(type + " station is busy with another task");
+            logger.debug("{} station is busy with another task", type);
         }
     }
     
+    private static void markQueued(RecipeTask task) {
+        if (task.getQueuedTick() == RecipeTask.NOT_QUEUED) {
+            task.setQueuedTick(GameEngine.getInstance().getCurrentTick());
+        }
+    }
+
+    /**
+     * Records how long the task waited in the backlog before this station started it;
+     * a task started without queueing waited 0 ticks. Called wherever a task is started,
+     * whether it was pulled from the backlog or handed to the station directly.
+     */
+    private void recordBacklogWait(RecipeTask task) {
+        long queuedTick = task.getQueuedTick();
+        long waited = queuedTick == RecipeTask.NOT_QUEUED ? 0 : GameEngine.getInstance().getCurrentTick() - queuedTick;
+        task.setQueuedTick(RecipeTask.NOT_QUEUED);
+        LatencyStatistics latencies = StatisticsSingleton.getInstance().getLatencies();
+        latencies.record(LatencyMetric.STATION_BACKLOG, waited);
+        latencies.record(LatencyMetric.STATION_BACKLOG, type.name(), waited);
+    }
+
     /**
      * Assigns a task from a recipe to this station
      * @param recipe The recipe the task belongs to
@@ -429,36 +397,40 @@ public class Station extends Entity {
      */
     public void assignTask(Recipe recipe, RecipeTask task) {
         if (currentTask != null) {
-            logger.info("[DEBUG-STATION] " + type + " station already has task " + 
-                currentTask.getName() + ", not assigning " + task.getName());
+            logger.debug("[DEBUG-STATION] {} station already has task {}, not assigning {}",
+                type, currentTask.getName(), task.getName());
             
             // Add to backlog instead
-            if (!backlog.contains(task)) {
-                backlog.add(task);
-                logger.info("[DEBUG-STATION] Added " + task.getName() + " to " + type + " station backlog");
+            if (queue(task)) {
+                markQueued(task);
+                logger.debug("[DEBUG-STATION] Added {} to {} station backlog", task.getName(), type);
             }
             return;
         }
         
-        logger.info("[DEBUG-STATION] Assigning task " + task.getName() + " to " + type + " station");
+        logger.debug("[DEBUG-STATION] Assigning task {} to {} station", task.getName(), type);
+        wake();
+        wakeKitchen();
         currentRecipe = recipe;
         currentTask = task;
         cookingProgress = 0;
         needsIngredients = true;
+        task.setAssigned(true);
+        backlog.remove(task);
+        recordBacklogWait(task);
+        journalTask(EventType.TASK_ASSIGNED, task);
 
         if (assignedChef != null) {
             assignedChef.setWorking(true);
-            logger.info("[DEBUG-STATION] Chef " + assignedChef.getName() + 
-                " is now working on task " + task.getName());
+            logger.debug("[DEBUG-STATION] Chef {} is now working on task {}", assignedChef.getName(), task.getName());
         } else {
-            logger.info("[DEBUG-STATION] No chef assigned to " + type + 
-                " station, task " + task.getName() + " waiting for chef");
+            logger.debug("[DEBUG-STATION] No chef assigned to {} station, task {} waiting for chef", type, task.getName());
         }
         
         // Ingredients will be provided by the kitchen during its writeState method
         // via provideIngredientsToStations()
         if (kitchen == null) {
-            logger.info("[DEBUG-STATION] Kitchen reference is null, cannot request ingredients");
+            logger.debug("[DEBUG-STATION] Kitchen reference is null, cannot request ingredients");
             // Auto-provide ingredients for testing
             needsIngredients = false;
         }
@@ -481,18 +453,24 @@ public class Station extends Entity {
     }
     
     /**
-     * Get the current cooking progress for the assigned task
+     * Get the current cooking progress for the assigned task.
+     * Under the discrete event engine a cooking station sleeps until its task is done,
+     * so the ticks it has cooked since it last ran are added here.
      * @return the cooking progress value
      */
     public int getCookingProgress() {
+        if (currentTask != null && hasChef() && !needsIngredients) {
+            return cookingProgress + (int) getQuietTicksOwed();
+        }
         return cookingProgress;
     }
 
     public void provideIngredients() {
         if (currentTask != null && needsIngredients) {
+            wake();
             needsIngredients = false;
-            logger.info(type + " station received ingredients for task: " + 
-                               currentTask.getName() + " of " + currentRecipe.getName());
+            logger.debug("{} station received ingredients for task: {} of {}",
+                    type, currentTask.getName(), currentRecipe.getName());
         }
     }
 
@@ -504,6 +482,54 @@ public class Station extends Entity {
         }
     }
 
+    /**
+     * Ticks of work the current task needs from the assigned chef,
+     * with a minimum of one tick to prevent instant completion.
+     */
+    private int getRequiredWork() {
+        return Math.max(1, (int) Math.round(currentTask.getCookingWorkRequired() / assignedChef.getSpeedMultiplier()));
+    }
+
+    /**
+     * A station without a chef, or with a task still waiting for ingredients, does nothing
+     * until it is changed from outside. While cooking, the only effect of each tick is to
+     * advance cookingProgress, so the next event is the tick the task completes. An idle
+     * station only has to look for work while its chef has something to look for.
+     */
+    @Override
+    public long nextActiveTick(long currentTick) {
+        if (!hasChef()) {
+            return Long.MAX_VALUE;
+        }
+        if (currentTask != null) {
+            if (needsIngredients) {
+                return Long.MAX_VALUE;
+            }
+            return currentTick + Math.max(1, getRequiredWork() - cookingProgress);
+        }
+        return isChefSettledHere() ? Long.MAX_VALUE : currentTick + 1;
+    }
+
+    /**
+     * @return true if an idle writeState() would leave this station and its chef as they
+     *         are: the chef stands here and is either cooking elsewhere or has nothing
+     *         queued at any of their stations, this one included
+     */
+    private boolean isChefSettledHere() {
+        return assignedChef.getCurrentStation() == this && assignedChef.isSettled()
+                && (assignedChef.isWorking() || backlog.isEmpty());
+    }
+
+    @Override
+    public void skipQuietTicks(long ticks) {
+        if (currentTask != null && hasChef() && !needsIngredients) {
+            if (cookingProgress == 0 && ticks > 0) {
+                journalTask(EventType.TASK_STARTED, currentTask);
+            }
+            cookingProgress += (int) ticks;
+        }
+    }
+
     @Override
     public void writeState() {
         // In write state, we update cooking progress
@@ -514,61 +540,67 @@ public class Station extends Entity {
             }
             
             cookingProgress++;
+            if (cookingProgress == 1) {
+                journalTask(EventType.TASK_STARTED, currentTask);
+            }
             
             // Calculate required work with a minimum threshold to prevent instant completion
             int taskWorkRequired = currentTask.getCookingWorkRequired();
             double chefSpeedMultiplier = assignedChef.getSpeedMultiplier();
+            int requiredWork = getRequiredWork();
             
-            // Ensure a minimum required work of at least 1 tick
-            int requiredWork = Math.max(1, (int) Math.round(taskWorkRequired / chefSpeedMultiplier));
+            if (logger.isDebugEnabled()) {
+                StringBuilder progressMessage = new StringBuilder();
+                progressMessage.append(type).append(" station cooking ").append(currentTask.getName());
+                progressMessage.append(" for ").append(currentRecipe.getName());
+                progressMessage.append(" - Progress: ").append(cookingProgress).append("/").append(requiredWork);
+                progressMessage.append(" (Task work: ").append(taskWorkRequired);
+                progressMessage.append(", Chef speed: ").append(chefSpeedMultiplier).append(")");
             
-            StringBuilder progressMessage = new StringBuilder();
-            progressMessage.append(type).append(" station cooking ").append(currentTask.getName());
-            progressMessage.append(" for ").append(currentRecipe.getName());
-            progressMessage.append(" - Progress: ").append(cookingProgress).append("/").append(requiredWork);
-            progressMessage.append(" (Task work: ").append(taskWorkRequired);
-            progressMessage.append(", Chef speed: ").append(chefSpeedMultiplier).append(")");
+                // Add chef information if available - use taskChef instead of assignedChef
+                if (taskChef != null) {
+                    progressMessage.append(" (cooked by ").append(taskChef.getName()).append(")");
+                }
             
-            // Add chef information if available - use taskChef instead of assignedChef
-            if (taskChef != null) {
-                progressMessage.append(" (cooked by ").append(taskChef.getName()).append(")");
-            }
+                // Add order ID if available
+                if (currentRecipe.getOrderId() != null) {
+                    progressMessage.append(" (Order ID: ").append(currentRecipe.getOrderId()).append(")");
+                }
             
-            // Add order ID if available
-            if (currentRecipe.getOrderId() != null) {
-                progressMessage.append(" (Order ID: ").append(currentRecipe.getOrderId()).append(")");
+                logger.debug(progressMessage.toString());
             }
             
-            logger.info(progressMessage.toString());
-            
             if (cookingProgress >= requiredWork) {
                 // Task is done
-                StringBuilder completionMessage = new StringBuilder();
-                completionMessage.append(type).append(" station completed task: ").append(currentTask.getName());
-                completionMessage.append(" for ").append(currentRecipe.getName());
-                completionMessage.append(" after ").append(cookingProgress).append(" ticks");
+                if (logger.isInfoEnabled()) {
+                    StringBuilder completionMessage = new StringBuilder();
+                    completionMessage.append(type).append(" station completed task: ").append(currentTask.getName());
+                    completionMessage.append(" for ").append(currentRecipe.getName());
+                    completionMessage.append(" after ").append(cookingProgress).append(" ticks");
                 
-                // Add chef information if available - use taskChef instead of assignedChef
-                if (taskChef != null) {
-                    completionMessage.append(" (completed by ").append(taskChef.getName()).append(")");
-                }
+                    // Add chef information if available - use taskChef instead of assignedChef
+                    if (taskChef != null) {
+                        completionMessage.append(" (completed by ").append(taskChef.getName()).append(")");
+                    }
                 
-                // Add order ID if available
-                if (currentRecipe.getOrderId() != null) {
-                    completionMessage.append(" (Order ID: ").append(currentRecipe.getOrderId()).append(")");
-                }
+                    // Add order ID if available
+                    if (currentRecipe.getOrderId() != null) {
+                        completionMessage.append(" (Order ID: ").append(currentRecipe.getOrderId()).append(")");
+                    }
                 
-                logger.info(completionMessage.toString());
+                    logger.info(completionMessage.toString());
+                }
                 
                 // Mark the task as completed and no longer assigned
                 currentTask.setCompleted(true);
                 currentTask.setAssigned(false);
+                journalTask(EventType.TASK_COMPLETED, currentTask);
                 Recipe completedRecipe = currentRecipe;
                 
                 // Check if the entire recipe is completed
                 if (completedRecipe.allTasksCompleted()) {
                     // All tasks are complete, build the meal
-                    logger.info("All tasks for " + completedRecipe.getName() + " are complete, building meal");
+                    logger.debug("All tasks for {} are complete, building meal", completedRecipe.getName());
                     
                     // Get order ID from recipe
                     String orderId = completedRecipe.getOrderId();
@@ -586,7 +618,7 @@ public class Station extends Entity {
                         collectionPoint.addCompletedMeal(completedMeal);
                         
                     } catch (Exception e) {
-                        logger.info("[ERROR] Failed to add meal to collection point: " + e.getMessage());
+                        logger.error("[ERROR] Failed to add meal to collection point: {}", e.getMessage());
                         
                         // Try to re-register the order if needed
                         if (orderId != null && kitchen != null && kitchen.getOrderManager() != null) {
@@ -595,7 +627,7 @@ public class Station extends Entity {
                                 if (order.getOrderId().equals(orderId)) {
                                     // Re-register the order with the collection point
                                     collectionPoint.registerOrder(orderId, order.getRecipes().size());
-                                    logger.info("[DEBUG] Re-registered order " + orderId + " with collection point");
+                                    logger.debug("[DEBUG] Re-registered order {} with collection point", orderId);
                                     
                                     // Try again with proper error handling
                                     try {
@@ -609,9 +641,9 @@ public class Station extends Entity {
                                         
                                         // Now add the meal to the collection point
                                         collectionPoint.addCompletedMeal(retryMeal);
-                                        logger.info("[DEBUG] Successfully added meal after re-registration");
+                                        logger.debug("[DEBUG] Successfully added meal after re-registration");
                                     } catch (Exception ex) {
-                                        logger.info("[ERROR] Failed to add meal even after re-registration: " + ex.getMessage());
+                                        logger.error("[ERROR] Failed to add meal even after re-registration: {}", ex.getMessage());
                                     }
                                     break;
                                 }
@@ -619,7 +651,7 @@ public class Station extends Entity {
                         }
                     }
                 } else {
-                    logger.info("Recipe " + completedRecipe.getName() + " still has tasks remaining");
+                    logger.debug("Recipe {} still has tasks remaining", completedRecipe.getName());
                     
                         // Find the next station that has tasks for this recipe
                     boolean foundNextTask = false;
@@ -657,8 +689,8 @@ public class Station extends Entity {
                                         for (Order order : orderManager.getPendingOrders()) {
                                             if (order.getOrderId().equals(orderId)) {
                                                 // Add this order to the next station's backlog
-                                                logger.info("[DEBUG] Moving order " + orderId + " from " + type + 
-                                                            " to " + nextStationType + " station backlog");
+                                                logger.debug("[DEBUG] Moving order {} from {} to {} station backlog",
+                                                        orderId, type, nextStationType);
                                                 nextStation.addTasksFromOrder(order);
                                                 break;
                                             }
@@ -668,7 +700,7 @@ public class Station extends Entity {
                             }
                         }
                     } else {
-                        logger.info("[DEBUG] No next station found for recipe " + completedRecipe.getName());
+                        logger.debug("[DEBUG] No next station found for recipe {}", completedRecipe.getName());
                     }
                 }
                 
@@ -682,8 +714,8 @@ public class Station extends Entity {
                 
                 // Check if assignedChef and taskChef are different (which would indicate potential duplication)
                 if (assignedChef != null && taskChef != null && assignedChef != taskChef) {
-                    logger.info("[DEBUG-CHEF-SYNC] Possible duplication detected: " + 
-                        "assignedChef is " + assignedChef.getName() + " but taskChef is " + taskChef.getName());
+                    logger.debug("[DEBUG-CHEF-SYNC] Possible duplication detected: assignedChef is {} but taskChef is {}",
+                        assignedChef.getName(), taskChef.getName());
                     // Synchronize by clearing assignedChef if it's not the same as taskChef
                     // This ensures only the chef who did the work remains assigned
                     if (assignedChef.getCurrentStation() == this) {
@@ -693,6 +725,7 @@ public class Station extends Entity {
                 }
                 
                 // Reset station state
+                wakeKitchen();
                 currentTask = null;
                 currentRecipe = null;
                 taskChef = null;
@@ -704,7 +737,7 @@ public class Station extends Entity {
                 // If we still don't have a task and the chef is still assigned here,
                 // have them look for work elsewhere
                 if (currentChef != null && !currentChef.isWorking()) {
-                    logger.info("[DEBUG] Having chef " + currentChef.getName() + " look for new work");
+                    logger.debug("[DEBUG] Having chef {} look for new work", currentChef.getName());
                     currentChef.chooseNextStation();
                 }
             }
@@ -716,8 +749,8 @@ public class Station extends Entity {
             // If we still don't have a task after trying to assign one, 
             // and we have a chef who isn't working, this might be a good time for them to look elsewhere
             if (currentTask == null && assignedChef != null && !assignedChef.isWorking()) {
-                logger.info("[DEBUG-CHEF-IDLE] Chef " + assignedChef.getName() + 
-                    " is idle at " + type + " station with no tasks. Letting chef check for work elsewhere.");
+                logger.debug("[DEBUG-CHEF-IDLE] Chef {} is idle at {} station with no tasks. Letting chef check for work elsewhere.",
+                    assignedChef.getName(), type);
                 
                 // Store chef reference before we potentially modify anything
                 Chef idleChef = assignedChef;
@@ -734,73 +767,70 @@ public class Station extends Entity {
     }
     
     /**
-     * Tries to pull the next task from the backlog queue if available.
+     * Records a task transition at this station in the event journal, with the task's
+     * position in its recipe so the journal can tell tasks of the same recipe apart.
      */
-    private void tryAssignNewTask() {
-        logger.info("[DEBUG] " + type + " station checking backlog for new tasks");
-        
-        // Print the current backlog to help diagnose the issue
-        logger.info("[DEBUG-BACKLOG] " + type + " station backlog before assignment:");
-        for (int i = 0; i < backlog.size(); i++) {
-            RecipeTask t = backlog.get(i);
-            Recipe r = t.getRecipe();
-            String orderId = (r != null) ? r.getOrderId() : "unknown";
-            logger.info("  " + i + ": " + t.getName() + " (Order: " + orderId + ")");
+    private void journalTask(EventType eventType, RecipeTask task) {
+        if (!EventJournal.isActive()) {
+            return;
         }
-        
-        if (!backlog.isEmpty()) {
-            // Find the first task whose dependencies are met
-            int taskIndex = -1;
-            RecipeTask readyTask = null;
-            
-            for (int i = 0; i < backlog.size(); i++) {
-                RecipeTask task = backlog.get(i);
-                task.updateDependenciesStatus();
-                if (task.areDependenciesMet()) {
+        Recipe recipe = task.getRecipe();
+        int taskIndex = -1;
+        if (recipe != null) {
+            List<RecipeTask> tasks = recipe.getTasks();
+            for (int i = 0; i < tasks.size(); i++) {
+                if (tasks.get(i) == task) {
                     taskIndex = i;
-                    readyTask = task;
                     break;
-                } else {
-                    Recipe r = task.getRecipe();
-                    String orderId = (r != null) ? r.getOrderId() : "unknown";
-                    logger.info("[DEBUG] Skipping task " + task.getName() + " (Order: " + orderId + ") - dependencies not met");
                 }
             }
+        }
+        EventJournal.record(eventType, task.getOrderSequence(), type.ordinal(), taskIndex);
+    }
+    
+    /**
+     * Tries to pull the next task from the backlog queue if available.
+     */
+    private void tryAssignNewTask() {
+        logger.debug("[DEBUG] {} station checking backlog for new tasks", type);
+        
+        // Take the oldest task whose dependencies are met
+        RecipeTask readyTask = backlog.pollReady();
+        if (readyTask != null) {
+            wakeKitchen();
+            readyTask.setAssigned(true);
+            recordBacklogWait(readyTask);
+            journalTask(EventType.TASK_ASSIGNED, readyTask);
+            Recipe recipe = readyTask.getRecipe();
+            logger.debug("[DEBUG] {} station pulling queued task: {} (dependencies met)", type, readyTask.getName());
+            currentRecipe = recipe;
+            currentTask = readyTask;
+            cookingProgress = 0; // Explicitly reset cooking progress to zero
+            needsIngredients = true; // Always need ingredients for a new task
             
-            // If we found a task with met dependencies, assign it
-            if (taskIndex >= 0 && readyTask != null) {
-                // Remove the ready task from the backlog
-                backlog.remove(taskIndex);
-                Recipe recipe = readyTask.getRecipe();
-                logger.info("[DEBUG] " + type + " station pulling queued task: " + readyTask.getName() + " (dependencies met)");
-                currentRecipe = recipe;
-                currentTask = readyTask;
-                cookingProgress = 0; // Explicitly reset cooking progress to zero
-                needsIngredients = true; // Always need ingredients for a new task
-                
-                // Additional logging to verify working values
-                logger.info("[DEBUG-TASK-VALUES] New task initialized. cookingWorkRequired=" + 
-                    readyTask.getCookingWorkRequired() + ", chef speed=" + 
-                    (assignedChef != null ? assignedChef.getSpeedMultiplier() : "n/a") + 
-                    ", estimated required work=" + 
-                    (assignedChef != null ? 
-                        Math.max(1, (int)Math.round(readyTask.getCookingWorkRequired() / assignedChef.getSpeedMultiplier())) : 
-                        "n/a"));
-
-                if (assignedChef != null) {
-                    assignedChef.setWorking(true);
-                    logger.info("[DEBUG-STATION] Chef " + assignedChef.getName() + " is now working on task " + readyTask.getName());
-                } else {
-                    logger.info("[DEBUG-STATION] No chef assigned to " + type + " station, queued task " + readyTask.getName() + " remains waiting for chef assignment");
-                }
-                return;
+            // Additional logging to verify working values
+            if (logger.isDebugEnabled()) {
+                logger.debug("[DEBUG-TASK-VALUES] New task initialized. cookingWorkRequired={}, chef speed={}, estimated required work={}",
+                    readyTask.getCookingWorkRequired(),
+                    assignedChef != null ? assignedChef.getSpeedMultiplier() : "n/a",
+                    assignedChef != null ?
+                        Math.max(1, (int)Math.round(readyTask.getCookingWorkRequired() / assignedChef.getSpeedMultiplier())) :
+                        "n/a");
+            }
+
+            if (assignedChef != null) {
+                assignedChef.setWorking(true);
+                logger.debug("[DEBUG-STATION] Chef {} is now working on task {}", assignedChef.getName(), readyTask.getName());
             } else {
-                logger.info("[DEBUG] " + type + " station has " + backlog.size() + " tasks in backlog, but none have their dependencies met yet");
+                logger.debug("[DEBUG-STATION] No chef assigned to {} station, queued task {} remains waiting for chef assignment", type, readyTask.getName());
             }
+            return;
+        } else if (!backlog.isEmpty()) {
+            logger.debug("[DEBUG] {} station has {} tasks in backlog, but none have their dependencies met yet", type, backlog.size());
         }
         
         // Instead of asking kitchen for new recipes, simply log that we're waiting for new tasks
-        logger.info("[DEBUG] " + type + " station has no ready tasks, waiting for tasks with met dependencies");
+        logger.debug("[DEBUG] {} station has no ready tasks, waiting for tasks with met dependencies", type);
         return;
     }
 
@@ -813,6 +843,11 @@ public class Station extends Entity {
         return type.toString() + " Station";
     }
 
+    @Override
+    public String getProfileName() {
+        return toString();
+    }
+
     /**
      * Sets the CollectionPoint for this station.
      * This ensures all stations use the same CollectionPoint instance.
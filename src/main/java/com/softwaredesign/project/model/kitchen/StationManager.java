@@ -1,7 +1,7 @@
 package com.softwaredesign.project.model.kitchen;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
@@ -17,7 +17,7 @@ public class StationManager{
     private CollectionPoint collectionPoint;
     
     public StationManager(CollectionPoint collectionPoint) {
-        this.stations = new HashMap<>();
+        this.stations = new EnumMap<>(StationType.class); // Iterates in declaration order on every run
         this.collectionPoint = collectionPoint;
         
         // Initialize empty lists for each station type
@@ -0,0 +1,202 @@
+package com.softwaredesign.project.model.kitchen;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import com.softwaredesign.project.model.order.Recipe;
+import com.softwaredesign.project.model.order.RecipeTask;
+import com.softwaredesign.project.model.order.TaskReadyListener;
+
+/**
+ * A station's queue of waiting tasks, ordered by the order sequence stored on each task
+ * so that older orders are cooked first. Tasks of the same order keep the order they were
+ * added in.
+ *
+ * Tasks whose dependencies are met sit in a ready heap and the rest in a blocked heap.
+ * The backlog listens to the recipes of its blocked tasks and moves a task across when
+ * its recipe reports it ready, so pollReady() never has to look at a blocked task.
+ * Each queued task is mapped to its live entry by identity, so adding, removing and
+ * duplicate checks never compare tasks with equals(). Removed and moved tasks leave a
+ * dead entry behind that is discarded when it reaches the top of its heap; once dead
+ * entries outnumber live ones the heaps are rebuilt, so tasks removed from the middle
+ * of a long backlog cannot pile up.
+ */
+class TaskBacklog implements TaskReadyListener {
+    private static final int COMPACTION_SLACK = 16;
+    private final PriorityQueue<TaskEntry> ready = new PriorityQueue<>();
+    private final PriorityQueue<TaskEntry> blocked = new PriorityQueue<>();
+    private final Map<RecipeTask, TaskEntry> liveEntries = new IdentityHashMap<>();
+    private final Map<RecipeTask, TaskEntry> blockedEntries = new IdentityHashMap<>();
+    private final Map<Recipe, Integer> blockedPerRecipe = new IdentityHashMap<>();
+    private long insertions;
+
+    /**
+     * @return true if the task was queued, false if it is already in the backlog
+     */
+    boolean add(RecipeTask task) {
+        if (liveEntries.containsKey(task)) {
+            return false;
+        }
+        TaskEntry entry = new TaskEntry(task, task.getOrderSequence(), insertions++);
+        liveEntries.put(task, entry);
+        if (task.areDependenciesMet()) {
+            ready.add(entry);
+        } else {
+            block(entry);
+        }
+        return true;
+    }
+
+    boolean remove(RecipeTask task) {
+        if (liveEntries.remove(task) == null) {
+            return false;
+        }
+        unblock(task);
+        compactIfSparse();
+        return true;
+    }
+
+    boolean contains(RecipeTask task) {
+        return liveEntries.containsKey(task);
+    }
+
+    int size() {
+        return liveEntries.size();
+    }
+
+    boolean isEmpty() {
+        return liveEntries.isEmpty();
+    }
+
+    /**
+     * @return The task at the front of the backlog without removing it, or null if empty
+     */
+    RecipeTask peek() {
+        discardDeadEntries();
+        TaskEntry first = ready.peek();
+        TaskEntry firstBlocked = blocked.peek();
+        if (first == null || (firstBlocked != null && firstBlocked.compareTo(first) < 0)) {
+            first = firstBlocked;
+        }
+        return first == null ? null : first.task;
+    }
+
+    /**
+     * Finds the first queued task of a station type whose dependencies are met and that is
+     * not completed, without removing anything. Only the ready heap is scanned.
+     * @param type The station type the task must belong to
+     * @return The first such task, or null if there is none
+     */
+    RecipeTask peekReady(StationType type) {
+        TaskEntry first = null;
+        for (TaskEntry entry : ready) {
+            RecipeTask task = entry.task;
+            if (liveEntries.get(task) == entry && !blockedEntries.containsKey(task)
+                    && task.getStationType() == type && task.areDependenciesMet() && !task.isCompleted()
+                    && (first == null || entry.compareTo(first) < 0)) {
+                first = entry;
+            }
+        }
+        return first == null ? null : first.task;
+    }
+
+    /**
+     * Removes and returns the first task whose dependencies are met. Tasks that were
+     * assigned or completed elsewhere are dropped on the way; a task whose dependencies
+     * were undone since it became ready goes back to waiting in its place.
+     * @return The first ready task, or null if none is ready
+     */
+    RecipeTask pollReady() {
+        while (!ready.isEmpty()) {
+            TaskEntry entry = ready.poll();
+            if (liveEntries.get(entry.task) != entry || blockedEntries.containsKey(entry.task)) {
+                continue; // removed or blocked again since it was queued here
+            }
+            if (entry.task.isAssigned() || entry.task.isCompleted()) {
+                liveEntries.remove(entry.task);
+                continue;
+            }
+            if (!entry.task.areDependenciesMet()) {
+                block(entry);
+                continue;
+            }
+            liveEntries.remove(entry.task);
+            return entry.task;
+        }
+        return null;
+    }
+
+    /**
+     * Moves a blocked task to the ready heap once its recipe reports its last dependency done
+     */
+    @Override
+    public void onTaskReady(RecipeTask task) {
+        TaskEntry entry = blockedEntries.get(task);
+        if (entry != null) {
+            unblock(task);
+            ready.add(entry);
+            compactIfSparse();
+        }
+    }
+
+    /**
+     * @return The queued tasks in the order they would be cooked
+     */
+    List<RecipeTask> toList() {
+        List<TaskEntry> entries = new ArrayList<>(liveEntries.values());
+        entries.sort(null);
+        List<RecipeTask> tasks = new ArrayList<>(entries.size());
+        for (TaskEntry entry : entries) {
+            tasks.add(entry.task);
+        }
+        return tasks;
+    }
+
+    private void block(TaskEntry entry) {
+        blockedEntries.put(entry.task, entry);
+        blocked.add(entry);
+        Recipe recipe = entry.task.getRecipe();
+        if (recipe != null && blockedPerRecipe.merge(recipe, 1, Integer::sum) == 1) {
+            recipe.addTaskReadyListener(this);
+        }
+    }
+
+    private void unblock(RecipeTask task) {
+        if (blockedEntries.remove(task) == null) {
+            return;
+        }
+        Recipe recipe = task.getRecipe();
+        if (recipe != null && blockedPerRecipe.merge(recipe, -1, Integer::sum) == 0) {
+            blockedPerRecipe.remove(recipe);
+            recipe.removeTaskReadyListener(this);
+        }
+    }
+
+    private void compactIfSparse() {
+        if (ready.size() + blocked.size() <= 2 * liveEntries.size() + COMPACTION_SLACK) {
+            return;
+        }
+        ready.clear();
+        blocked.clear();
+        for (TaskEntry entry : liveEntries.values()) {
+            if (blockedEntries.get(entry.task) == entry) {
+                blocked.add(entry);
+            } else {
+                ready.add(entry);
+            }
+        }
+    }
+
+    private void discardDeadEntries() {
+        while (!ready.isEmpty() && (liveEntries.get(ready.peek().task) != ready.peek()
+                || blockedEntries.containsKey(ready.peek().task))) {
+            ready.poll();
+        }
+        while (!blocked.isEmpty() && blockedEntries.get(blocked.peek().task) != blocked.peek()) {
+            blocked.poll();
+        }
+    }
+}
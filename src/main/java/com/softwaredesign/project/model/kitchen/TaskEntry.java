@@ -0,0 +1,25 @@
+package com.softwaredesign.project.model.kitchen;
+
+import com.softwaredesign.project.model.order.RecipeTask;
+
+/**
+ * A queued task, ordered by the order sequence it was queued with. Tasks of the same order
+ * are ordered by when they were queued, so they come out in the order they went in.
+ */
+final class TaskEntry implements Comparable<TaskEntry> {
+    final RecipeTask task;
+    private final long orderSequence;
+    private final long insertion;
+
+    TaskEntry(RecipeTask task, long orderSequence, long insertion) {
+        this.task = task;
+        this.orderSequence = orderSequence;
+        this.insertion = insertion;
+    }
+
+    @Override
+    public int compareTo(TaskEntry other) {
+        int byOrder = Long.compare(orderSequence, other.orderSequence);
+        return byOrder != 0 ? byOrder : Long.compare(insertion, other.insertion);
+    }
+}
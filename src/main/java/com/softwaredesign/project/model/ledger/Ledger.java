@@ -0,0 +1,142 @@
+package com.softwaredesign.project.model.ledger;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.softwaredesign.project.model.engine.GameEngine;
+
+/**
+ * The restaurant's money, kept as whole cents so repeated small amounts do not pick up
+ * rounding error.
+ *
+ * The balance and the total for each category are LongAdders: stations finishing meals in
+ * the same tick add to separate cells instead of retrying on one contended value, and no
+ * update is lost. Reading the balance sums the cells, so it is cheap but is only exact
+ * once the postings of the tick have finished.
+ *
+ * Only the latest getCapacity() entries are kept for reporting, in a ring buffer that
+ * overwrites the oldest, so a long run does not grow the log without limit. The totals
+ * still cover every posting.
+ */
+public class Ledger {
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final LongAdder balance = new LongAdder();
+    private final Map<LedgerCategory, LongAdder> totals = new EnumMap<>(LedgerCategory.class);
+    private final AtomicReferenceArray<LedgerEntry> entries;
+    private final AtomicLong entryCount = new AtomicLong();
+
+    public Ledger() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity The number of entries to keep
+     */
+    public Ledger(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.entries = new AtomicReferenceArray<>(capacity);
+        for (LedgerCategory category : LedgerCategory.values()) {
+            totals.put(category, new LongAdder());
+        }
+    }
+
+    /**
+     * Converts an amount of money to cents, rounding to the nearest cent.
+     * @param amount The amount in dollars
+     * @return The amount in cents
+     */
+    public static long toCents(double amount) {
+        return Math.round(amount * 100);
+    }
+
+    /**
+     * @param cents An amount in cents
+     * @return The amount formatted as dollars and cents, such as -12.05
+     */
+    public static String format(long cents) {
+        long whole = Math.abs(cents);
+        return String.format("%s%d.%02d", cents < 0 ? "-" : "", whole / 100, whole % 100);
+    }
+
+    /**
+     * Adds an amount to the balance and records it against a category.
+     * @param category What the money was for
+     * @param cents The amount in cents; negative for money going out
+     * @param reference What the entry relates to, such as an order ID, or null
+     */
+    public void post(LedgerCategory category, long cents, String reference) {
+        balance.add(cents);
+        totals.get(category).add(cents);
+        long index = entryCount.getAndIncrement();
+        entries.set((int) (index % entries.length()),
+                new LedgerEntry(GameEngine.getInstance().getCurrentTick(), category, cents, reference));
+    }
+
+    /**
+     * Moves the balance to the given amount, posting the difference as an adjustment.
+     * Only meant for setting up and the configuration screens, since concurrent postings
+     * can land between reading the balance and posting the difference.
+     * @param cents The new balance in cents
+     */
+    public void setBalance(long cents) {
+        long difference = cents - balance.sum();
+        if (difference != 0) {
+            post(LedgerCategory.ADJUSTMENT, difference, null);
+        }
+    }
+
+    public long getBalanceCents() {
+        return balance.sum();
+    }
+
+    /**
+     * @return The balance in dollars
+     */
+    public double getBalance() {
+        return balance.sum() / 100.0;
+    }
+
+    /**
+     * @param category A ledger category
+     * @return The total posted to the category, in cents
+     */
+    public long getTotalCents(LedgerCategory category) {
+        return totals.get(category).sum();
+    }
+
+    public int getCapacity() {
+        return entries.length();
+    }
+
+    /**
+     * @return A copy of the entries still held, oldest first. An entry being posted at the
+     *         same time may be missing.
+     */
+    public List<LedgerEntry> getEntries() {
+        long count = entryCount.get();
+        int capacity = entries.length();
+        List<LedgerEntry> copy = new ArrayList<>((int) Math.min(count, capacity));
+        for (long index = Math.max(0, count - capacity); index < count; index++) {
+            LedgerEntry entry = entries.get((int) (index % capacity));
+            if (entry != null) {
+                copy.add(entry);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * @return The number of entries posted, including ones since overwritten
+     */
+    public long getEntryCount() {
+        return entryCount.get();
+    }
+}
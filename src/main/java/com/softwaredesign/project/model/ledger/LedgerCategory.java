@@ -0,0 +1,15 @@
+package com.softwaredesign.project.model.ledger;
+
+/**
+ * What a ledger entry was for.
+ */
+public enum LedgerCategory {
+    /** Money taken for meals served. */
+    REVENUE,
+    /** Pay for chefs and waiters. */
+    WAGES,
+    /** Money spent on ingredients. */
+    INGREDIENT_COST,
+    /** Direct changes to the balance, such as the opening balance or spending on the setup screens. */
+    ADJUSTMENT
+}
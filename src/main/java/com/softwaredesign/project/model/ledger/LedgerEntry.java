@@ -0,0 +1,45 @@
+package com.softwaredesign.project.model.ledger;
+
+/**
+ * One posting to the Ledger.
+ */
+public final class LedgerEntry {
+    private final long tick;
+    private final LedgerCategory category;
+    private final long cents;
+    private final String reference;
+
+    LedgerEntry(long tick, LedgerCategory category, long cents, String reference) {
+        this.tick = tick;
+        this.category = category;
+        this.cents = cents;
+        this.reference = reference;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public LedgerCategory getCategory() {
+        return category;
+    }
+
+    /**
+     * @return The amount in cents; money going out is negative
+     */
+    public long getCents() {
+        return cents;
+    }
+
+    /**
+     * @return What the entry relates to, such as an order ID, or null
+     */
+    public String getReference() {
+        return reference;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d,%s,%s,%s", tick, category, Ledger.format(cents), reference != null ? reference : "");
+    }
+}
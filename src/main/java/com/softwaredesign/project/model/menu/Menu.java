@@ -8,6 +8,8 @@ import java.util.Arrays;
 import com.softwaredesign.project.model.inventory.Ingredient;
 import com.softwaredesign.project.model.inventory.InventoryService;
 import com.softwaredesign.project.model.order.Recipe;
+import com.softwaredesign.project.model.singletons.RandomSingleton;
+import com.softwaredesign.project.model.singletons.RandomStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,12 +64,14 @@ public class Menu {
             initializeRecipes();
         }
         
-        Random random = new Random();
+        Random random = RandomSingleton.get(RandomStream.MENU);
         Recipe selectedRecipe = availableRecipes.get(random.nextInt(availableRecipes.size()));
         
-        if (!inventoryService.getIngredientStores().containsAll(selectedRecipe.getIngredients())) {
-            logger.info("[Menu] Selected recipe cannot be made due to insufficient ingredients. Trying again.");
-            return null;
+        for (Ingredient ingredient : selectedRecipe.getIngredients()) {
+            if (inventoryService.getStock(ingredient.getId()) <= 0) {
+                logger.info("[Menu] Selected recipe cannot be made due to insufficient ingredients. Trying again.");
+                return null;
+            }
         }
         // Randomly customize the recipe
         return selectedRecipe;
@@ -87,7 +91,7 @@ public class Menu {
         }
         
         // Pick a random available ingredient
-        String randomIngredient = availableIngredients.get(new Random().nextInt(availableIngredients.size()));
+        String randomIngredient = availableIngredients.get(RandomSingleton.get(RandomStream.MENU).nextInt(availableIngredients.size()));
         return new Ingredient(randomIngredient, inventoryService);
     }
 
@@ -96,7 +100,7 @@ public class Menu {
             return null;
         }
 
-        Random random = new Random();
+        Random random = RandomSingleton.get(RandomStream.MENU);
         List<Ingredient> recipeIngredients = recipe.getIngredients();
         return recipeIngredients.get(random.nextInt(recipeIngredients.size()));
     }
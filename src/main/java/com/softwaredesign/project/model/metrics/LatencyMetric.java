@@ -0,0 +1,25 @@
+package com.softwaredesign.project.model.metrics;
+
+/**
+ * The stages of an order's life whose durations LatencyStatistics records, in ticks.
+ */
+public enum LatencyMetric {
+    /** From OrderManager.addOrder to the order being collected, per recipe in the order. */
+    ORDER("Order latency"),
+    /** From a task joining a station's backlog to the station starting it, per StationType. */
+    STATION_BACKLOG("Station backlog wait"),
+    /** From a group sitting down to their table's order being placed. */
+    SEATED_TO_ORDER("Seated to order"),
+    /** From a group sitting down to their table being free again. */
+    TABLE_TURN("Table turn");
+
+    private final String label;
+
+    LatencyMetric(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,117 @@
+package com.softwaredesign.project.model.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latency histograms for the order lifecycle, one per metric and key (a recipe name, a
+ * station type, or ALL for every recording of the metric). Kept by StatisticsSingleton.
+ */
+public class LatencyStatistics {
+    public static final String ALL = "all";
+    public static final String CSV_HEADER = "metric,key,count,mean,p50,p90,p99,max";
+
+    private final Map<LatencyMetric, Map<String, LatencyHistogram>> histograms = new EnumMap<>(LatencyMetric.class);
+
+    public LatencyStatistics() {
+        for (LatencyMetric metric : LatencyMetric.values()) {
+            histograms.put(metric, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Records a duration in the metric's overall (ALL) histogram.
+     * @param metric What was measured
+     * @param ticks The duration in ticks
+     */
+    public void record(LatencyMetric metric, long ticks) {
+        record(metric, ALL, ticks);
+    }
+
+    /**
+     * Records a duration in the histogram for one recipe or station type. The overall
+     * histogram is not updated; call record(metric, ticks) for that.
+     * @param metric What was measured
+     * @param key The recipe or station type it was measured for
+     * @param ticks The duration in ticks
+     */
+    public void record(LatencyMetric metric, String key, long ticks) {
+        histograms.get(metric).computeIfAbsent(key, k -> new LatencyHistogram()).record(ticks);
+    }
+
+    /**
+     * @return The histogram, or null if nothing has been recorded for the metric and key
+     */
+    public LatencyHistogram getHistogram(LatencyMetric metric, String key) {
+        return histograms.get(metric).get(key);
+    }
+
+    /**
+     * @return Every histogram with recordings, keyed by metric and then key in sorted order
+     */
+    public Map<LatencyMetric, Map<String, LatencyHistogram>> getHistograms() {
+        Map<LatencyMetric, Map<String, LatencyHistogram>> copy = new EnumMap<>(LatencyMetric.class);
+        for (Map.Entry<LatencyMetric, Map<String, LatencyHistogram>> entry : histograms.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                copy.put(entry.getKey(), new TreeMap<>(entry.getValue()));
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Formats the percentiles of every histogram for display, such as
+     * "Order latency (Burger)" -> "p50 12 / p90 30 / p99 41 / max 50".
+     * @return Display names mapped to their percentiles, in metric order
+     */
+    public Map<String, String> getSummary() {
+        Map<String, String> summary = new LinkedHashMap<>();
+        for (Map.Entry<LatencyMetric, Map<String, LatencyHistogram>> metric : getHistograms().entrySet()) {
+            for (Map.Entry<String, LatencyHistogram> entry : metric.getValue().entrySet()) {
+                LatencyHistogram histogram = entry.getValue();
+                summary.put(metric.getKey().getLabel() + " (" + entry.getKey() + ")",
+                        String.format("p50 %d / p90 %d / p99 %d / max %d",
+                                histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+                                histogram.getValueAtPercentile(99), histogram.getMax()));
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Writes one CSV row per histogram, with durations in ticks.
+     * @param out Where to write the CSV
+     */
+    public void writeCsv(Writer out) throws IOException {
+        out.write(CSV_HEADER);
+        out.write('\n');
+        for (Map.Entry<LatencyMetric, Map<String, LatencyHistogram>> metric : getHistograms().entrySet()) {
+            for (Map.Entry<String, LatencyHistogram> entry : metric.getValue().entrySet()) {
+                LatencyHistogram histogram = entry.getValue();
+                out.write(String.format("%s,%s,%d,%.2f,%d,%d,%d,%d\n", metric.getKey(), entry.getKey(),
+                        histogram.getCount(), histogram.getMean(), histogram.getValueAtPercentile(50),
+                        histogram.getValueAtPercentile(90), histogram.getValueAtPercentile(99), histogram.getMax()));
+            }
+        }
+    }
+
+    /**
+     * Writes the CSV export to a file, replacing it if it exists.
+     * @param path The file to write
+     */
+    public void export(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (Writer out = Files.newBufferedWriter(path)) {
+            writeCsv(out);
+        }
+    }
+}
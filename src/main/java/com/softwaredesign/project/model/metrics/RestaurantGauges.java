@@ -0,0 +1,50 @@
+package com.softwaredesign.project.model.metrics;
+
+import java.util.List;
+import java.util.TreeSet;
+
+import com.softwaredesign.project.model.inventory.Inventory;
+import com.softwaredesign.project.model.kitchen.Station;
+import com.softwaredesign.project.model.kitchen.StationManager;
+import com.softwaredesign.project.model.kitchen.StationType;
+import com.softwaredesign.project.model.order.OrderManager;
+import com.softwaredesign.project.model.orderfulfillment.CollectionPoint;
+import com.softwaredesign.project.model.orderfulfillment.SeatingPlan;
+
+/**
+ * Adds the standard restaurant gauges to a TimeSeriesRecorder:
+ * backlog.TYPE.n for each station's backlog (numbered from 1 within its type),
+ * orders.queued, orders.ready, tables.occupied and stock.name for each ingredient.
+ */
+public final class RestaurantGauges {
+    private RestaurantGauges() {
+    }
+
+    /**
+     * Adds the gauges for the restaurant as it stands now. Backlog and stock gauges are
+     * bound to the stations and ingredients present at this call: a station or ingredient
+     * added later is not sampled, and since a recorder takes no new gauges once sampling
+     * has started, call this after the kitchen and inventory are built and before the
+     * first tick. A restaurant rebuilt with a different layout needs a fresh recorder.
+     */
+    public static void register(TimeSeriesRecorder recorder, StationManager stationManager,
+            OrderManager orderManager, CollectionPoint collectionPoint, SeatingPlan seatingPlan,
+            Inventory inventory) {
+        for (StationType type : StationType.values()) {
+            List<Station> stations = stationManager.getStationsByType(type);
+            for (int i = 0; i < stations.size(); i++) {
+                Station station = stations.get(i);
+                recorder.addGauge("backlog." + type + "." + (i + 1), station::getBacklogSize);
+            }
+        }
+        recorder.addGauge("orders.queued", orderManager::getPendingOrderCount);
+        recorder.addGauge("orders.ready", collectionPoint::getReadyOrderCount);
+        recorder.addGauge("tables.occupied", seatingPlan::getOccupiedTableCount);
+        if (inventory != null) {
+            for (String name : new TreeSet<>(inventory.getAllIngredients())) {
+                int id = inventory.getIngredientStore(name).getId();
+                recorder.addGauge("stock." + name, () -> inventory.getStock(id));
+            }
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.softwaredesign.project.model.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Samples named gauges (a station's backlog, the orders waiting, and so on) once per tick
+ * into fixed-size ring buffers of ints, so the end of a run shows how the restaurant got
+ * there and not only the final totals.
+ *
+ * Only the latest getCapacity() samples are kept; older ones are overwritten. Memory is
+ * one long and one int per gauge per slot, however long the run is. Gauges must all be
+ * added before the first sample so every gauge covers the same ticks.
+ */
+public class TimeSeriesRecorder {
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private final int capacity;
+    private final long[] ticks;
+    private final List<Gauge> gauges = new ArrayList<>();
+    private long sampleCount;
+
+    public TimeSeriesRecorder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity The number of samples to keep
+     */
+    public TimeSeriesRecorder(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.ticks = new long[capacity];
+    }
+
+    /**
+     * Adds a gauge read on every sample.
+     * @param name The gauge's name, used as its column in exports
+     * @param source Reads the gauge's current value
+     * @throws IllegalArgumentException if a gauge with the name already exists
+     * @throws IllegalStateException if sampling has already started
+     */
+    public synchronized void addGauge(String name, IntSupplier source) {
+        if (sampleCount > 0) {
+            throw new IllegalStateException("Gauge " + name + " added after sampling started");
+        }
+        if (indexOf(name) >= 0) {
+            throw new IllegalArgumentException("Gauge " + name + " already exists");
+        }
+        gauges.add(new Gauge(name, source, capacity));
+    }
+
+    /**
+     * Reads every gauge and stores the values, overwriting the oldest sample once full.
+     * @param tick The tick the values belong to
+     */
+    public synchronized void sample(long tick) {
+        int slot = (int) (sampleCount % capacity);
+        ticks[slot] = tick;
+        for (Gauge gauge : gauges) {
+            gauge.values[slot] = gauge.source.getAsInt();
+        }
+        sampleCount++;
+    }
+
+    /**
+     * Drops every sample but keeps the gauges, so sampling can start again from scratch.
+     */
+    public synchronized void clear() {
+        sampleCount = 0;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return The number of samples taken, including ones since overwritten
+     */
+    public synchronized long getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * @return The number of samples still held
+     */
+    public synchronized int getRetainedCount() {
+        return (int) Math.min(sampleCount, capacity);
+    }
+
+    public synchronized List<String> getGaugeNames() {
+        List<String> names = new ArrayList<>(gauges.size());
+        for (Gauge gauge : gauges) {
+            names.add(gauge.name);
+        }
+        return names;
+    }
+
+    /**
+     * @return The ticks of the held samples, oldest first
+     */
+    public synchronized long[] getTicks() {
+        long[] copy = new long[getRetainedCount()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = ticks[slotOf(i)];
+        }
+        return copy;
+    }
+
+    /**
+     * @param name The gauge's name
+     * @return The gauge's held values, oldest first, lined up with getTicks()
+     * @throws IllegalArgumentException if there is no gauge with the name
+     */
+    public synchronized int[] getValues(String name) {
+        int index = indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("No gauge named " + name);
+        }
+        int[] values = gauges.get(index).values;
+        int[] copy = new int[getRetainedCount()];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = values[slotOf(i)];
+        }
+        return copy;
+    }
+
+    /**
+     * Writes the held samples as CSV: a tick column, then one column per gauge.
+     * @param out Where to write the CSV
+     */
+    public synchronized void writeCsv(Writer out) throws IOException {
+        StringBuilder row = new StringBuilder("tick");
+        for (Gauge gauge : gauges) {
+            row.append(',').append(gauge.name);
+        }
+        out.write(row.append('\n').toString());
+
+        for (int i = 0; i < getRetainedCount(); i++) {
+            int slot = slotOf(i);
+            row.setLength(0);
+            row.append(ticks[slot]);
+            for (Gauge gauge : gauges) {
+                row.append(',').append(gauge.values[slot]);
+            }
+            out.write(row.append('\n').toString());
+        }
+    }
+
+    /**
+     * Writes the held samples as JSON lines, one object per tick such as
+     * {"tick":12,"orders.queued":3,...}.
+     * @param out Where to write the lines
+     */
+    public synchronized void writeJsonLines(Writer out) throws IOException {
+        JsonGenerator json = new JsonFactory().createGenerator(out);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        json.setRootValueSeparator(null); // Each object ends with its own newline instead
+        for (int i = 0; i < getRetainedCount(); i++) {
+            int slot = slotOf(i);
+            json.writeStartObject();
+            json.writeNumberField("tick", ticks[slot]);
+            for (Gauge gauge : gauges) {
+                json.writeNumberField(gauge.name, gauge.values[slot]);
+            }
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+        json.flush();
+    }
+
+    /**
+     * Writes the held samples to a file, replacing it if it exists. Files ending in .jsonl
+     * get JSON lines; anything else gets CSV.
+     * @param path The file to write
+     */
+    public void export(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (Writer out = Files.newBufferedWriter(path)) {
+            if (path.getFileName().toString().endsWith(".jsonl")) {
+                writeJsonLines(out);
+            } else {
+                writeCsv(out);
+            }
+        }
+    }
+
+    /**
+     * @param age 0 for the oldest held sample
+     */
+    private int slotOf(int age) {
+        long oldest = sampleCount - getRetainedCount();
+        return (int) ((oldest + age) % capacity);
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < gauges.size(); i++) {
+            if (gauges.get(i).name.equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static final class Gauge {
+        private final String name;
+        private final IntSupplier source;
+        private final int[] values;
+
+        private Gauge(String name, IntSupplier source, int capacity) {
+            this.name = name;
+            this.source = source;
+            this.values = new int[capacity];
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.softwaredesign.project.model.order;
 import java.util.List;
 
 import com.softwaredesign.project.model.inventory.Ingredient;
+import com.softwaredesign.project.model.inventory.IngredientRegistry;
 import com.softwaredesign.project.model.inventory.InventoryService;
 
 public class Meal {
@@ -19,10 +20,16 @@ public class Meal {
         useIngredients();
     }
 
+    /**
+     * Takes the meal's ingredients out of stock in one step, so a meal that cannot be made
+     * does not use up part of its ingredients.
+     */
     public void useIngredients() {
+        int[] counts = new int[IngredientRegistry.size()];
         for (Ingredient ingredient : ingredients) {
-            ingredient.useIngredient();
+            counts[ingredient.getId()]++;
         }
+        inventory.useIngredients(counts);
     }
 
     public String getOrderId() {
@@ -40,9 +47,7 @@ public class Meal {
     public double getPrice() {
         double price = 0;
         for (Ingredient ingredient : ingredients) {
-            // Retrieve the price from the IngredientStore
-            double ingredientPrice = inventory.getIngredientStore(ingredient.getName()).getPrice();
-            price += ingredientPrice;
+            price += inventory.getPrice(ingredient.getId());
         }
         return price;
     }
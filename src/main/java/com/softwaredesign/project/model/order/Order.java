@@ -3,7 +3,11 @@ package com.softwaredesign.project.model.order;
 import java.util.List;
 import java.util.Map;
 
+import com.softwaredesign.project.model.diagnostics.DiagnosticChannel;
+import com.softwaredesign.project.model.diagnostics.DiagnosticLevel;
+import com.softwaredesign.project.model.diagnostics.Diagnostics;
 import com.softwaredesign.project.model.inventory.Ingredient;
+import com.softwaredesign.project.model.inventory.IngredientRegistry;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -57,8 +61,9 @@ public class Order {
             
             // If we find a recipe with the same name, use its modifications
             if (existingRecipe.getName().equals(recipe.getName())) {
-                System.out.println("[DEBUG-ORDER] Found modifications for cloned recipe " + 
-                                  recipe.getName() + " using name-based lookup");
+                if (Diagnostics.isEnabled(DiagnosticChannel.ORDER, DiagnosticLevel.DETAIL)) {
+                    Diagnostics.record(DiagnosticChannel.ORDER, "order.modifications.byName", "recipe", recipe.getName(), "order", orderId);
+                }
                 return entry.getValue();
             }
         }
@@ -88,4 +93,18 @@ public class Order {
 
         return ingredients;
     }
+
+    /**
+     * Counts the ingredients the order needs without building a map.
+     * @return The number of each ingredient needed, indexed by IngredientRegistry ID
+     */
+    public int[] getIngredientCounts() {
+        int[] counts = new int[IngredientRegistry.size()];
+        for (Recipe recipe : recipes) {
+            for (Ingredient ingredient : recipe.getIngredients()) {
+                counts[ingredient.getId()]++;
+            }
+        }
+        return counts;
+    }
 }
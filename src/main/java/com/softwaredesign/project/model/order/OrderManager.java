@@ -6,10 +6,14 @@ import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import com.softwaredesign.project.model.diagnostics.DiagnosticChannel;
+import com.softwaredesign.project.model.diagnostics.DiagnosticLevel;
+import com.softwaredesign.project.model.diagnostics.Diagnostics;
 import com.softwaredesign.project.model.inventory.Ingredient;
 import com.softwaredesign.project.model.inventory.InventoryStockTracker;
 import com.softwaredesign.project.model.kitchen.StationManager;
 import com.softwaredesign.project.model.orderfulfillment.CollectionPoint;
+import com.softwaredesign.project.model.singletons.StatCounter;
 import com.softwaredesign.project.model.singletons.StatisticsSingleton;
 
 import org.slf4j.Logger;
@@ -21,6 +25,7 @@ public class OrderManager {
     private StationMapper stationMapper;
     private CollectionPoint collectionPoint;
     private InventoryStockTracker inventoryStockTracker;
+    private final List<OrderReceivedListener> orderReceivedListeners = new ArrayList<>();
     private static final AtomicInteger orderCounter = new AtomicInteger(1000);
 
     public OrderManager(CollectionPoint collectionPoint, StationManager stationManager, InventoryStockTracker inventoryStockTracker) {
@@ -44,13 +49,36 @@ public class OrderManager {
         return "Order-" + orderCounter.getAndIncrement();
     }
 
+    /**
+     * Starts order IDs again from Order-1000, so a new simulation numbers its orders the
+     * same way as the first one.
+     */
+    public static void resetOrderIds() {
+        orderCounter.set(1000);
+    }
+
     public void addOrder(Order order) {
+        for (OrderReceivedListener listener : orderReceivedListeners) {
+            listener.onOrderReceived(order);
+        }
         collectionPoint.registerOrder(order.getOrderId(), order.getRecipes().size());
         orders.add(order);
 
         // Track statistics
-        StatisticsSingleton.getInstance().incrementStat("ordersReceived");
-        StatisticsSingleton.getInstance().incrementStat("totalRecipesOrdered", order.getRecipes().size());
+        StatisticsSingleton.getInstance().increment(StatCounter.ORDERS_RECEIVED);
+        StatisticsSingleton.getInstance().add(StatCounter.TOTAL_RECIPES_ORDERED, order.getRecipes().size());
+    }
+
+    /**
+     * Registers a listener that is told about every order added to the queue
+     * @param listener The listener to notify
+     */
+    public void addOrderReceivedListener(OrderReceivedListener listener) {
+        orderReceivedListeners.add(listener);
+    }
+
+    public void removeOrderReceivedListener(OrderReceivedListener listener) {
+        orderReceivedListeners.remove(listener);
     }
 
     /**
@@ -69,7 +97,7 @@ public class OrderManager {
         String orderId = order.getOrderId();
 
         // Track statistics
-        StatisticsSingleton.getInstance().incrementStat("ordersProcessed");
+        StatisticsSingleton.getInstance().increment(StatCounter.ORDERS_PROCESSED);
         
         // Release the reserved ingredients since we're now going to actually use them
         if (inventoryStockTracker != null) {
@@ -101,9 +129,10 @@ public class OrderManager {
             // Add the cloned recipe to our result list
             clonedRecipes.add(clonedRecipe);
             
-            // Add debug logging to track recipe cloning
-            System.out.println("[DEBUG-CLONE] Created copy of recipe " + clonedRecipe.getName() + 
-                               " for order " + orderId);
+            // Track recipe cloning
+            if (Diagnostics.isEnabled(DiagnosticChannel.ORDER, DiagnosticLevel.DETAIL)) {
+                Diagnostics.record(DiagnosticChannel.ORDER, "recipe.cloned", "recipe", clonedRecipe.getName(), "order", orderId);
+            }
         }
         
         // Return the list of cloned recipes
@@ -115,9 +144,10 @@ public class OrderManager {
         
         // Add null check to prevent NullPointerException
         if (modifications == null) {
-            // Log warning and return early if no modifications are found
-            System.out.println("[DEBUG-AMENDMENTS] No modifications found for recipe " + 
-                              recipe.getName() + " in order " + order.getOrderId());
+            // Return early if no modifications are found
+            if (Diagnostics.isEnabled(DiagnosticChannel.ORDER, DiagnosticLevel.DETAIL)) {
+                Diagnostics.record(DiagnosticChannel.ORDER, "recipe.noModifications", "recipe", recipe.getName(), "order", order.getOrderId());
+            }
             return;
         }
 
@@ -141,6 +171,13 @@ public class OrderManager {
         return new LinkedList<>(orders);
     }
 
+    /**
+     * @return The number of orders waiting to be processed, without copying the queue
+     */
+    public int getPendingOrderCount() {
+        return orders.size();
+    }
+
     public List<Order> getOrders() {
         return new ArrayList<>(orders);
     }
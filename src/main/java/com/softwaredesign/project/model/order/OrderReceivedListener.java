@@ -0,0 +1,8 @@
+package com.softwaredesign.project.model.order;
+
+/**
+ * Notified when an order is about to join the OrderManager's queue for the kitchen.
+ */
+public interface OrderReceivedListener {
+    void onOrderReceived(Order order);
+}
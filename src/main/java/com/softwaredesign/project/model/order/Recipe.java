@@ -2,12 +2,16 @@ package com.softwaredesign.project.model.order;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.Objects;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.softwaredesign.project.model.diagnostics.DiagnosticChannel;
+import com.softwaredesign.project.model.diagnostics.DiagnosticLevel;
+import com.softwaredesign.project.model.diagnostics.Diagnostics;
 import com.softwaredesign.project.model.inventory.Ingredient;
 import com.softwaredesign.project.model.inventory.InventoryService;
 
@@ -17,7 +21,10 @@ public abstract class Recipe {
     protected List<Ingredient> ingredients;
     protected List<RecipeTask> tasks;
     protected String orderId;
+    protected long orderSequence = RecipeTask.NO_ORDER_SEQUENCE;
     protected final InventoryService inventoryService;
+    // Listeners may add or remove themselves while being notified
+    private final List<TaskReadyListener> taskReadyListeners = new CopyOnWriteArrayList<>();
 
     protected Recipe(String name, InventoryService inventoryService) {
         if (inventoryService == null) {
@@ -94,6 +101,24 @@ public abstract class Recipe {
         task.setRecipe(this); // Set the reference to this recipe
     }
     
+    /**
+     * Registers a listener that is told when a task of this recipe has all its dependencies completed
+     * @param listener The listener to notify
+     */
+    public void addTaskReadyListener(TaskReadyListener listener) {
+        taskReadyListeners.add(listener);
+    }
+    
+    public void removeTaskReadyListener(TaskReadyListener listener) {
+        taskReadyListeners.remove(listener);
+    }
+    
+    void notifyTaskReady(RecipeTask task) {
+        for (TaskReadyListener listener : taskReadyListeners) {
+            listener.onTaskReady(task);
+        }
+    }
+    
     // New method to get the list of tasks
     public List<RecipeTask> getTasks() {
         return tasks;
@@ -122,51 +147,83 @@ public abstract class Recipe {
 
     public void setOrderId(String orderId) {
         this.orderId = orderId;
+        this.orderSequence = parseOrderSequence(orderId);
+        for (RecipeTask task : tasks) {
+            task.setOrderSequence(orderSequence);
+        }
     }
 
     public String getOrderId() {
         return orderId;
     }
 
+    /**
+     * Gets the numeric part of this recipe's order ID, parsed once when the ID is set
+     * @return The order sequence, or RecipeTask.NO_ORDER_SEQUENCE if the ID is not numbered
+     */
+    public long getOrderSequence() {
+        return orderSequence;
+    }
+
+    /**
+     * Extracts the number from an order ID of the form "Order-1000" without allocating
+     * @param orderId The order ID
+     * @return The number after the first '-', or RecipeTask.NO_ORDER_SEQUENCE if there is none
+     */
+    public static long parseOrderSequence(String orderId) {
+        if (orderId == null) {
+            return RecipeTask.NO_ORDER_SEQUENCE;
+        }
+        int start = orderId.indexOf('-') + 1;
+        int end = orderId.indexOf('-', start);
+        if (end < 0) {
+            end = orderId.length();
+        }
+        if (start == 0 || start == end || end - start > 18) {
+            return RecipeTask.NO_ORDER_SEQUENCE;
+        }
+
+        long sequence = 0;
+        for (int i = start; i < end; i++) {
+            char c = orderId.charAt(i);
+            if (c < '0' || c > '9') {
+                return RecipeTask.NO_ORDER_SEQUENCE;
+            }
+            sequence = sequence * 10 + (c - '0');
+        }
+        return sequence;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
-            System.out.println("[DEBUG-RECIPE-EQUALS] Same instance comparison for recipe: " + name + 
-                              ", orderId: " + orderId);
             return true;
         }
         if (o == null || getClass() != o.getClass()) {
-            System.out.println("[DEBUG-RECIPE-EQUALS] Different class comparison for recipe: " + name);
             return false;
         }
         Recipe recipe = (Recipe) o;
-        System.out.println("[DEBUG-RECIPE-EQUALS] Comparing recipes - THIS: " + name + " (orderId: " + orderId + "), " +
-                         "OTHER: " + recipe.name + " (orderId: " + recipe.orderId + ")");
         
-        // If both recipes have an orderId, compare both name and orderId
-        if (this.orderId != null && recipe.orderId != null) {
-            boolean isEqual = name.equals(recipe.name) && orderId.equals(recipe.orderId);
-            System.out.println("[DEBUG-RECIPE-EQUALS] Both orderIds non-null. Equal? " + isEqual + 
-                              " (name equal: " + name.equals(recipe.name) + 
-                              ", orderId equal: " + orderId.equals(recipe.orderId) + ")");
-            return isEqual;
-        }
-        // Otherwise, fall back to comparing name
-        boolean isEqual = name.equals(recipe.name);
-        System.out.println("[DEBUG-RECIPE-EQUALS] At least one orderId is null. Equal based on name only? " + isEqual);
+        // If both recipes have an orderId, compare both name and orderId,
+        // otherwise fall back to comparing name
+        boolean isEqual = this.orderId != null && recipe.orderId != null
+                ? name.equals(recipe.name) && orderId.equals(recipe.orderId)
+                : name.equals(recipe.name);
+        
+        if (Diagnostics.isEnabled(DiagnosticChannel.ORDER, DiagnosticLevel.DETAIL)) {
+            Diagnostics.record(DiagnosticChannel.ORDER, "recipe.equals",
+                    "this", name, "thisOrder", orderId, "other", recipe.name, "otherOrder", recipe.orderId,
+                    "result", isEqual);
+        }
         return isEqual;
     }
 
     @Override
     public int hashCode() {
-        if (orderId != null) {
-            int hash = Objects.hash(name, orderId);
-            System.out.println("[DEBUG-RECIPE-HASHCODE] Recipe " + name + " with orderId " + orderId + 
-                              " hashCode: " + hash);
-            return hash;
-        }
-        int hash = Objects.hash(name);
-        System.out.println("[DEBUG-RECIPE-HASHCODE] Recipe " + name + " without orderId hashCode: " + hash);
+        int hash = orderId != null ? Objects.hash(name, orderId) : Objects.hash(name);
+        if (Diagnostics.isEnabled(DiagnosticChannel.ORDER, DiagnosticLevel.DETAIL)) {
+            Diagnostics.record(DiagnosticChannel.ORDER, "recipe.hashCode", "recipe", name, "order", orderId, "hash", hash);
+        }
         return hash;
     }
 
@@ -1,11 +1,15 @@
 package com.softwaredesign.project.model.order;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
+import com.softwaredesign.project.model.diagnostics.DiagnosticChannel;
+import com.softwaredesign.project.model.diagnostics.DiagnosticLevel;
+import com.softwaredesign.project.model.diagnostics.Diagnostics;
 import com.softwaredesign.project.model.inventory.Ingredient;
 import com.softwaredesign.project.model.kitchen.StationType;
 
@@ -14,6 +18,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Represents a specific task within a recipe that needs to be performed at a particular station.
+ * The tasks of a recipe form a dependency graph: each task counts its unfinished dependencies
+ * and knows its dependents, so completing a task updates the tasks waiting on it directly and
+ * tells the recipe's TaskReadyListeners about any that became ready.
  */
 public class RecipeTask {
     private static final Logger logger = LoggerFactory.getLogger(RecipeTask.class);
@@ -22,10 +29,16 @@ public class RecipeTask {
     private List<Ingredient> ingredients;
     private boolean completed;
     private static final int DEFAULT_COOKING_WORK_REQUIRED = 10;
+    public static final long NO_ORDER_SEQUENCE = Long.MAX_VALUE; // Sorts after every numbered order
+    public static final long NOT_QUEUED = -1;
     private int cookingWorkRequired;
     private Set<RecipeTask> dependencies; // Tasks that must be completed before this task can start
+    private List<RecipeTask> dependents; // Tasks that wait for this task to complete
+    private int unmetDependencies; // Number of dependencies that are not completed yet
     private boolean assigned; // Tracks if this task has been assigned to a station
     private Recipe recipe; // Reference to the parent recipe this task belongs to
+    private long orderSequence; // Number of the order this task was cooked for, used to queue older orders first
+    private long queuedTick = NOT_QUEUED; // Tick the task joined a station's backlog, for backlog wait times
     
     public RecipeTask(String name, StationType stationType) {
         this.name = name;
@@ -34,7 +47,10 @@ public class RecipeTask {
         this.completed = false;
         this.assigned = false;
         this.cookingWorkRequired = DEFAULT_COOKING_WORK_REQUIRED;
-        this.dependencies = new HashSet<>();
+        this.dependencies = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.dependents = new ArrayList<>();
+        this.unmetDependencies = 0;
+        this.orderSequence = NO_ORDER_SEQUENCE;
     }
     
     public RecipeTask(String name, StationType stationType, int cookingTime) {
@@ -47,7 +63,12 @@ public class RecipeTask {
      * @param task The task that must be completed before this task can begin
      */
     public void addDependency(RecipeTask task) {
-        dependencies.add(task);
+        if (dependencies.add(task)) {
+            task.dependents.add(this);
+            if (!task.isCompleted()) {
+                unmetDependencies++;
+            }
+        }
     }
     
     /**
@@ -55,17 +76,14 @@ public class RecipeTask {
      * @return true if all dependencies are completed or if there are no dependencies
      */
     public boolean areDependenciesMet() {
-        if (dependencies.isEmpty()) {
-            return true; // No dependencies, so they're met by default
-        }
-        
-        for (RecipeTask dependency : dependencies) {
-            if (!dependency.isCompleted()) {
-                return false; // At least one dependency is not completed
-            }
-        }
-        
-        return true; // All dependencies are completed
+        return unmetDependencies == 0;
+    }
+    
+    /**
+     * @return The number of dependencies that still have to be completed
+     */
+    public int getUnmetDependencyCount() {
+        return unmetDependencies;
     }
     
     /**
@@ -73,47 +91,58 @@ public class RecipeTask {
      * @return A string listing the names of incomplete dependencies, or empty string if none
      */
     public String getUnmetDependenciesString() {
-        if (dependencies.isEmpty()) {
+        if (unmetDependencies == 0) {
             return ""; // No dependencies
         }
         
-        List<String> unmetDependencies = new ArrayList<>();
+        List<String> unmetNames = new ArrayList<>();
         for (RecipeTask dependency : dependencies) {
             if (!dependency.isCompleted()) {
-                unmetDependencies.add(dependency.getName());
+                unmetNames.add(dependency.getName());
             }
         }
         
-        return String.join(", ", unmetDependencies);
+        return String.join(", ", unmetNames);
     }
     
     /**
      * Gets the set of task dependencies
-     * @return The set of tasks this task depends on
+     * @return A read-only view of the tasks this task depends on
      */
     public Set<RecipeTask> getDependencies() {
-        return new HashSet<>(dependencies); // Return a copy to prevent external modification
+        return Collections.unmodifiableSet(dependencies); // Prevent external modification
     }
     
     /**
-     * Checks and updates the status of dependencies
-     * Call this after another task completes to ensure dependency status is updated
+     * Gets the tasks that depend on this one
+     * @return A read-only view of the tasks waiting for this task
+     */
+    public List<RecipeTask> getDependents() {
+        return Collections.unmodifiableList(dependents);
+    }
+    
+    /**
+     * Checks the status of dependencies.
+     * The unmet dependency count is kept up to date as tasks complete, so this only logs.
      */
     public void updateDependenciesStatus() {
-        if (dependencies.isEmpty()) {
-            return; // No dependencies to update
+        if (!dependencies.isEmpty() && unmetDependencies == 0) {
+            logger.info("[DEBUG] All dependencies are now met for task: " + name);
         }
-        
-        boolean allMet = true;
-        for (RecipeTask dependency : dependencies) {
-            if (!dependency.isCompleted()) {
-                allMet = false;
-                break;
+    }
+    
+    /**
+     * Updates the unmet dependency count after one of this task's dependencies
+     * changed its completed state, and reports the task if it became ready
+     */
+    private void dependencyCompletionChanged(boolean dependencyCompleted) {
+        if (dependencyCompleted) {
+            unmetDependencies--;
+            if (unmetDependencies == 0 && !completed && recipe != null) {
+                recipe.notifyTaskReady(this);
             }
-        }
-        
-        if (allMet) {
-            logger.info("[DEBUG] All dependencies are now met for task: " + name);
+        } else {
+            unmetDependencies++;
         }
     }
     
@@ -138,7 +167,13 @@ public class RecipeTask {
     }
     
     public void setCompleted(boolean completed) {
+        if (this.completed == completed) {
+            return;
+        }
         this.completed = completed;
+        for (RecipeTask dependent : dependents) {
+            dependent.dependencyCompletionChanged(completed);
+        }
     }
     
     /**
@@ -175,16 +210,42 @@ public class RecipeTask {
      */
     public void setRecipe(Recipe recipe) {
         this.recipe = recipe;
+        this.orderSequence = recipe != null ? recipe.getOrderSequence() : NO_ORDER_SEQUENCE;
+    }
+    
+    /**
+     * Gets the numeric part of the order ID this task belongs to (1000 for "Order-1000")
+     * @return The order sequence, or NO_ORDER_SEQUENCE if the task has no numbered order
+     */
+    public long getOrderSequence() {
+        return orderSequence;
+    }
+    
+    /**
+     * Sets the order sequence; kept in step with the recipe's order ID by Recipe.setOrderId()
+     * @param orderSequence The numeric part of the order ID
+     */
+    public void setOrderSequence(long orderSequence) {
+        this.orderSequence = orderSequence;
+    }
+
+    /**
+     * @return The tick the task joined a station's backlog, or NOT_QUEUED
+     */
+    public long getQueuedTick() {
+        return queuedTick;
+    }
+
+    public void setQueuedTick(long queuedTick) {
+        this.queuedTick = queuedTick;
     }
     
     @Override
     public boolean equals(Object o) {
         if (this == o) {
-            System.out.println("[DEBUG-TASK-EQUALS] Same instance comparison for task: " + name);
             return true;
         }
         if (o == null || getClass() != o.getClass()) {
-            System.out.println("[DEBUG-TASK-EQUALS] Different class comparison for task: " + name);
             return false;
         }
         RecipeTask that = (RecipeTask) o;
@@ -193,47 +254,30 @@ public class RecipeTask {
         boolean basicEquality = name.equals(that.name) && stationType == that.stationType;
         
         // If recipes are available, also check if they're from the same order
-        if (recipe != null && that.recipe != null) {
-            String thisOrderId = recipe.getOrderId();
-            String thatOrderId = that.recipe.getOrderId();
-            
-            System.out.println("[DEBUG-TASK-EQUALS] Comparing tasks - THIS: " + name + 
-                             " (stationType: " + stationType + 
-                             ", orderId: " + thisOrderId + "), " +
-                             "OTHER: " + that.name + 
-                             " (stationType: " + that.stationType + 
-                             ", orderId: " + thatOrderId + ")");
-            
-            if (thisOrderId != null && thatOrderId != null) {
-                boolean result = basicEquality && thisOrderId.equals(thatOrderId);
-                System.out.println("[DEBUG-TASK-EQUALS] Both orderIds available. Equal? " + result + 
-                                  " (basic equality: " + basicEquality + 
-                                  ", orderIds equal: " + thisOrderId.equals(thatOrderId) + ")");
-                return result;
-            }
-        } else {
-            System.out.println("[DEBUG-TASK-EQUALS] At least one recipe is null. THIS recipe: " + 
-                             (recipe != null ? "available" : "null") + 
-                             ", OTHER recipe: " + (that.recipe != null ? "available" : "null"));
-        }
+        String thisOrderId = recipe != null ? recipe.getOrderId() : null;
+        String thatOrderId = that.recipe != null ? that.recipe.getOrderId() : null;
+        boolean result = thisOrderId != null && thatOrderId != null
+                ? basicEquality && thisOrderId.equals(thatOrderId)
+                : basicEquality;
         
-        System.out.println("[DEBUG-TASK-EQUALS] Falling back to basic equality: " + basicEquality);
-        return basicEquality;
+        if (Diagnostics.isEnabled(DiagnosticChannel.ORDER, DiagnosticLevel.DETAIL)) {
+            Diagnostics.record(DiagnosticChannel.ORDER, "task.equals",
+                    "this", name, "thisOrder", thisOrderId, "other", that.name, "otherOrder", thatOrderId,
+                    "result", result);
+        }
+        return result;
     }
     
     @Override
     public int hashCode() {
         // Include recipe's orderId in hash if available
-        if (recipe != null && recipe.getOrderId() != null) {
-            int hash = Objects.hash(name, stationType, recipe.getOrderId());
-            System.out.println("[DEBUG-TASK-HASHCODE] Task " + name + 
-                              " with orderId " + recipe.getOrderId() + 
-                              " hashCode: " + hash);
-            return hash;
+        int hash = recipe != null && recipe.getOrderId() != null
+                ? Objects.hash(name, stationType, recipe.getOrderId())
+                : Objects.hash(name, stationType);
+        if (Diagnostics.isEnabled(DiagnosticChannel.ORDER, DiagnosticLevel.DETAIL)) {
+            Diagnostics.record(DiagnosticChannel.ORDER, "task.hashCode",
+                    "task", name, "order", recipe != null ? recipe.getOrderId() : null, "hash", hash);
         }
-        int hash = Objects.hash(name, stationType);
-        System.out.println("[DEBUG-TASK-HASHCODE] Task " + name + 
-                          " without orderId hashCode: " + hash);
         return hash;
     }
     
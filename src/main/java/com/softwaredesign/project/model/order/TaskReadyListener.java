@@ -0,0 +1,8 @@
+package com.softwaredesign.project.model.order;
+
+/**
+ * Notified when the last unfinished dependency of a recipe task is completed.
+ */
+public interface TaskReadyListener {
+    void onTaskReady(RecipeTask task);
+}
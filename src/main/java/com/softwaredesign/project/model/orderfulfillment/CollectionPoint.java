@@ -2,25 +2,38 @@ package com.softwaredesign.project.model.orderfulfillment;
 
 import java.util.*;
 
+import com.softwaredesign.project.model.engine.GameEngine;
 import com.softwaredesign.project.model.inventory.Ingredient;
+import com.softwaredesign.project.model.journal.EventJournal;
+import com.softwaredesign.project.model.journal.EventType;
+import com.softwaredesign.project.model.ledger.Ledger;
+import com.softwaredesign.project.model.ledger.LedgerCategory;
+import com.softwaredesign.project.model.metrics.LatencyMetric;
+import com.softwaredesign.project.model.metrics.LatencyStatistics;
 import com.softwaredesign.project.model.order.Meal;
+import com.softwaredesign.project.model.order.Recipe;
 import com.softwaredesign.project.model.singletons.BankBalanceSingleton;
+import com.softwaredesign.project.model.singletons.StatCounter;
 import com.softwaredesign.project.model.singletons.StatisticsSingleton;
 
 public class CollectionPoint {
     private Map<String, List<Meal>> completedMeals;
     private Map<String, Integer> mealsPerOrder;
     private Queue<String> readyOrders; // FIFO for completed orders
+    private Map<String, Long> registeredTicks; // When each order was registered, for order latency
+    private OrderReadyListener orderReadyListener;
 
     public CollectionPoint() {
         this.completedMeals = new HashMap<>();
         this.mealsPerOrder = new HashMap<>();
         this.readyOrders = new LinkedList<>();
+        this.registeredTicks = new HashMap<>();
     }
 
     public void registerOrder(String orderId, int totalMeals) {
         mealsPerOrder.put(orderId, totalMeals);
         completedMeals.put(orderId, new ArrayList<>());
+        registeredTicks.putIfAbsent(orderId, GameEngine.getInstance().getCurrentTick());
     }
 
     public void addCompletedMeal(Meal meal) {
@@ -31,16 +44,27 @@ public class CollectionPoint {
         completedMeals.get(orderId).add(meal);
 
         // Track statistics for completed meals
-        StatisticsSingleton.getInstance().incrementStat("mealsCompleted");
+        StatisticsSingleton.getInstance().increment(StatCounter.MEALS_COMPLETED);
 
         // Check if order is complete
         if (isOrderComplete(orderId)) {
+            if (orderReadyListener != null) {
+                orderReadyListener.onOrderReady(orderId);
+            }
             readyOrders.add(orderId);
             // Track statistics for completed orders
-            StatisticsSingleton.getInstance().incrementStat("ordersCompleted");
+            StatisticsSingleton.getInstance().increment(StatCounter.ORDERS_COMPLETED);
         }
     }
 
+    /**
+     * Sets the listener told when an order has all its meals and can be collected
+     * @param orderReadyListener The listener, or null for none
+     */
+    public void setOrderReadyListener(OrderReadyListener orderReadyListener) {
+        this.orderReadyListener = orderReadyListener;
+    }
+
     public boolean isOrderComplete(String orderId) {
         return completedMeals.containsKey(orderId) &&
                 completedMeals.get(orderId).size() == mealsPerOrder.get(orderId);
@@ -54,11 +78,13 @@ public class CollectionPoint {
         List<Meal> meals = completedMeals.remove(orderId);
 
         // Track statistics for order collection
-        StatisticsSingleton.getInstance().incrementStat("ordersCollected");
+        StatisticsSingleton.getInstance().increment(StatCounter.ORDERS_COLLECTED);
 
         // Update bank balance - this already tracks revenue
         addMealsToBankBalance(meals);
+        recordOrderLatency(orderId, meals);
         mealsPerOrder.remove(orderId);
+        EventJournal.record(EventType.MEAL_COLLECTED, Recipe.parseOrderSequence(orderId), meals.size(), 0);
         return meals;
     }
 
@@ -66,6 +92,13 @@ public class CollectionPoint {
         return !readyOrders.isEmpty();
     }
 
+    /**
+     * @return The number of complete orders waiting to be collected
+     */
+    public int getReadyOrderCount() {
+        return readyOrders.size();
+    }
+
     /**
      * Returns a set of order IDs that have at least one completed meal but are not
      * fully complete
@@ -107,11 +140,39 @@ public class CollectionPoint {
         return mealsPerOrder.getOrDefault(orderId, 0);
     }
 
+    /**
+     * Records how long the order took from being placed to being collected, once for the
+     * whole order and once under each recipe in it.
+     */
+    private void recordOrderLatency(String orderId, List<Meal> meals) {
+        Long registered = registeredTicks.remove(orderId);
+        if (registered == null) {
+            return;
+        }
+        long ticks = GameEngine.getInstance().getCurrentTick() - registered;
+        LatencyStatistics latencies = StatisticsSingleton.getInstance().getLatencies();
+        latencies.record(LatencyMetric.ORDER, ticks);
+        Set<String> recipes = new HashSet<>();
+        for (Meal meal : meals) {
+            if (recipes.add(meal.getName())) {
+                latencies.record(LatencyMetric.ORDER, meal.getName(), ticks);
+            }
+        }
+    }
+
+    /**
+     * Records the takings for meals served, one revenue entry per meal. Each ingredient
+     * is charged to the cent before adding up, so the total does not drift.
+     * @param meals The meals served
+     */
     public void addMealsToBankBalance(List<Meal> meals) {
+        Ledger ledger = BankBalanceSingleton.getInstance().getLedger();
         for (Meal meal : meals) {
+            long cents = 0;
             for (Ingredient ingredient : meal.getIngredients()) {
-                BankBalanceSingleton.getInstance().updateBankBalance(ingredient.getPrice());
+                cents += Ledger.toCents(ingredient.getPrice());
             }
+            ledger.post(LedgerCategory.REVENUE, cents, meal.getOrderId());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.softwaredesign.project.model.orderfulfillment;
+
+/**
+ * How a WaiterDispatcher decides which waiter serves a table.
+ */
+public enum DispatchPolicy {
+    /** A table goes to the least busy waiter when it first needs serving and is given up once its customers leave. */
+    LEAST_LOADED,
+    /** Tables keep the waiter they were assigned when the restaurant was set up. */
+    SECTION
+}
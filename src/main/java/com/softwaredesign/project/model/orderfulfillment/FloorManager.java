@@ -2,19 +2,29 @@ package com.softwaredesign.project.model.orderfulfillment;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.softwaredesign.project.model.customer.DineInCustomer;
+import com.softwaredesign.project.model.diagnostics.DiagnosticChannel;
+import com.softwaredesign.project.model.diagnostics.DiagnosticLevel;
+import com.softwaredesign.project.model.diagnostics.Diagnostics;
 import com.softwaredesign.project.model.engine.Entity;
+import com.softwaredesign.project.model.journal.EventJournal;
+import com.softwaredesign.project.model.journal.EventType;
 import com.softwaredesign.project.model.order.Meal;
 import com.softwaredesign.project.model.order.OrderManager;
 import com.softwaredesign.project.model.staff.Waiter;
+import com.softwaredesign.project.model.singletons.RandomSingleton;
+import com.softwaredesign.project.model.singletons.RandomStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,39 +32,68 @@ import org.slf4j.LoggerFactory;
 /**
  * Manages the restaurant floor operations in a tick-based system.
  * Responsible for tables, customers, and waiters.
+ *
+ * Tables report when customers start browsing, when everyone is ready to order and when
+ * meals are delivered, so each tick only visits the tables where something is happening
+ * instead of walking the whole floor. The same reports, orders becoming ready at the
+ * collection point and the spawning switch wake the floor, so with nothing to do it sleeps
+ * under the discrete event engine.
  */
-public class FloorManager extends Entity {
+public class FloorManager extends Entity implements TableActivityListener, OrderReadyListener {
     private static final Logger logger = LoggerFactory.getLogger(FloorManager.class);
     private SeatingPlan seatingPlan;
+    private SeatingEngine seatingEngine;
     private List<Waiter> waiters;
+    private WaiterDispatcher waiterDispatcher;
     private OrderManager orderManager;
     private CollectionPoint collectionPoint;
     
-    // Tracking variables for operations
-    private List<Table> tablesToProcess;
-    
     // Map to track which order belongs to which table
     private Map<String, Table> orderToTableMap;
     
     // List of meals waiting to be delivered to tables
     private Map<Table, List<Meal>> mealsToDeliver;
     
+    // Tables needing attention, in the order they asked for it. A table can leave a set
+    // before it is visited (an order placed elsewhere, customers leaving), so entries are
+    // checked again when visited
+    private final Set<Table> browsingTables = new LinkedHashSet<>();
+    private final Set<Table> readyToOrderTables = new LinkedHashSet<>();
+    private final Set<Table> tablesWithPendingMeals = new LinkedHashSet<>();
+    
     // Random number generator for customer spawning
-    private Random random = new Random();
+    private Random random = RandomSingleton.get(RandomStream.FLOOR);
     
     // Configuration values
     private int maxGroupSize = 10; // Default value, will be overridden from config
+    private int waiterServiceCapacity = WaiterDispatcher.DEFAULT_SERVICE_CAPACITY;
+    private DispatchPolicy dispatchPolicy = DispatchPolicy.LEAST_LOADED;
+    private boolean spawningCustomers = true;
     
     public FloorManager(SeatingPlan seatingPlan, List<Waiter> waiters, OrderManager orderManager) {
         this.seatingPlan = seatingPlan;
+        this.seatingEngine = new SeatingEngine(seatingPlan);
         this.waiters = new ArrayList<>(waiters);
         this.orderManager = orderManager;
-        this.tablesToProcess = new ArrayList<>();
         this.orderToTableMap = new HashMap<>();
-        this.mealsToDeliver = new HashMap<>();
+        this.mealsToDeliver = new LinkedHashMap<>(); // Tables are served in the order their meals arrived
+        
+        // Pick up customers already seated, then hear about every change
+        seatingPlan.setTableActivityListener(this);
+        for (Table table : seatingPlan.getAllTables()) {
+            if (table.getBrowsingCount() > 0) {
+                browsingTables.add(table);
+            } else if (table.getCustomerCount() > 0 && !table.isOrderPlaced()) {
+                readyToOrderTables.add(table);
+            }
+            if (table.hasPendingMeals()) {
+                tablesWithPendingMeals.add(table);
+            }
+        }
         
         // Load configuration values
         loadConfigValues();
+        this.waiterDispatcher = new WaiterDispatcher(this.waiters, dispatchPolicy, waiterServiceCapacity);
     }
     
     /**
@@ -69,24 +108,27 @@ public class FloorManager extends Entity {
             
             // Get maxGroupSize from config
             this.maxGroupSize = config.path("diningRoomRules").path("maxGroupSize").asInt(10);
-            System.out.println("[FloorManager] Loaded maxGroupSize from config: " + maxGroupSize);
+            logger.info("[FloorManager] Loaded maxGroupSize from config: {}", maxGroupSize);
+            
+            JsonNode waiterRules = config.path("staffRules").path("waiters");
+            this.waiterServiceCapacity = waiterRules.path("serviceCapacityPerTick").asInt(WaiterDispatcher.DEFAULT_SERVICE_CAPACITY);
+            this.dispatchPolicy = DispatchPolicy.valueOf(waiterRules.path("dispatchPolicy").asText(DispatchPolicy.LEAST_LOADED.name()));
         } catch (Exception e) {
-            System.out.println("[FloorManager] Error loading config values: " + e.getMessage());
+            logger.warn("[FloorManager] Error loading config values: {}", e.getMessage());
             // Keep default values if config loading fails
         }
     }
     
     /**
      * Spawns a random number of customers and attempts to seat them.
-     * This method creates a group of 0 to maxGroupSize customers and tries to find a table for them.
+     * This method creates a group of 0 to maxGroupSize customers and admits them through the
+     * seating engine, which puts them on the wait-list if no table is free.
      */
     public void spawnCustomers() {
         // Generate a random group size between 0 and maxGroupSize
         int groupSize = random.nextInt(maxGroupSize + 1);
         
         if (groupSize > 0) {
-            System.out.println("[FloorManager] Attempting to spawn a group of " + groupSize + " customers");
-            
             // Create the customer group
             List<DineInCustomer> customerGroup = new ArrayList<>();
             for (int i = 0; i < groupSize; i++) {
@@ -94,24 +136,41 @@ public class FloorManager extends Entity {
             }
             
             // Try to seat the group
-            Table table = seatCustomers(customerGroup);
+            SeatingOutcome outcome = admitGroup(customerGroup);
             
-            if (table != null) {
-                System.out.println("[FloorManager] Seated a group of " + groupSize + 
-                                  " customers at table " + table.getTableNumber());
-            } else {
-                System.out.println("[FloorManager] Could not find a table for a group of " + 
-                                  groupSize + " customers");
+            if (Diagnostics.isEnabled(DiagnosticChannel.ORDER_FULFILLMENT, DiagnosticLevel.BASIC)) {
+                Diagnostics.record(DiagnosticChannel.ORDER_FULFILLMENT, "floor.spawn", "groupSize", groupSize, "outcome", outcome);
             }
         }
     }
     
+    /**
+     * Turns the random group spawned every tick on or off, for when customers arrive
+     * from somewhere else such as a load generator.
+     * @param spawningCustomers false to stop spawning customers
+     */
+    public void setSpawningCustomers(boolean spawningCustomers) {
+        wake();
+        this.spawningCustomers = spawningCustomers;
+    }
+
+    public boolean isSpawningCustomers() {
+        return spawningCustomers;
+    }
+
     /**
      * Sets the CollectionPoint for the FloorManager to collect completed orders.
      * @param collectionPoint The CollectionPoint to use
      */
     public void setCollectionPoint(CollectionPoint collectionPoint) {
+        wake();
+        if (this.collectionPoint != null) {
+            this.collectionPoint.setOrderReadyListener(null);
+        }
         this.collectionPoint = collectionPoint;
+        if (collectionPoint != null) {
+            collectionPoint.setOrderReadyListener(this);
+        }
     }
     
     /**
@@ -132,6 +191,16 @@ public class FloorManager extends Entity {
         return seatingPlan.findTableForGroup(customers);
     }
     
+    /**
+     * Seats an arriving group through the seating engine: at the best-fitting table, across
+     * adjacent tables, or on the wait-list until a table is freed.
+     * @param customers The group that arrived
+     * @return What happened to the group
+     */
+    public SeatingOutcome admitGroup(List<DineInCustomer> customers) {
+        return seatingEngine.admit(customers);
+    }
+    
     /**
      * Seats a single customer at an available table.
      * @param customer The customer to seat
@@ -143,18 +212,54 @@ public class FloorManager extends Entity {
         return seatCustomers(singleCustomer);
     }
     
+    @Override
+    public void onCustomerBrowsing(Table table) {
+        wake();
+        browsingTables.add(table);
+    }
+    
+    @Override
+    public void onReadyToOrder(Table table) {
+        wake();
+        readyToOrderTables.add(table);
+    }
+    
+    @Override
+    public void onMealPending(Table table) {
+        wake();
+        tablesWithPendingMeals.add(table);
+    }
+    
+    @Override
+    public void onOrderReady(String orderId) {
+        wake();
+    }
+    
     /**
-     * Gets a list of tables that have customers ready to order.
+     * Every tick while customers are spawned, browsing (each finishes at random), waiting to
+     * order or waiting for meals; otherwise asleep until a table or the collection point
+     * reports something.
+     */
+    @Override
+    public long nextActiveTick(long currentTick) {
+        boolean busy = spawningCustomers
+                || !browsingTables.isEmpty()
+                || !readyToOrderTables.isEmpty()
+                || !mealsToDeliver.isEmpty()
+                || !tablesWithPendingMeals.isEmpty()
+                || (collectionPoint != null && collectionPoint.hasReadyOrders());
+        return busy ? currentTick + 1 : Long.MAX_VALUE;
+    }
+    
+    /**
+     * Gets a list of tables that have customers ready to order, in the order they became ready.
+     * Tables that have stopped being ready since they were queued are dropped from the queue.
      * @return List of tables with customers ready to order
      */
     public List<Table> getTablesReadyToOrder() {
-        List<Table> readyTables = new ArrayList<>();
-        for (Table table : seatingPlan.getAllTables()) {
-            if (!table.getCustomers().isEmpty() && !table.isOrderPlaced() && table.isEveryoneReadyToOrder()) {
-                readyTables.add(table);
-            }
-        }
-        return readyTables;
+        readyToOrderTables.removeIf(table ->
+                table.getCustomerCount() == 0 || table.isOrderPlaced() || !table.isEveryoneReadyToOrder());
+        return new ArrayList<>(readyToOrderTables);
     }
     
     /**
@@ -163,29 +268,22 @@ public class FloorManager extends Entity {
     public void processReadyTables() {
         List<Table> readyTables = getTablesReadyToOrder();
         for (Table table : readyTables) {
-            // Find an available waiter
-            Waiter waiter = getAvailableWaiter();
-            if (waiter != null) {
-                // Assign waiter if table doesn't have one
-                if (!waiter.getAssignedTables().contains(table)) {
-                    waiter.assignTable(table);
-                }
-                
-                // Take the order and remember which table it belongs to
-                String orderId = waiter.takeTableOrderAndReturnId(table);
-                if (orderId != null) {
-                    orderToTableMap.put(orderId, table);
-                    logger.info("Waiter took order {} from table {}", orderId, table.getTableNumber());
-                } else {
-                    logger.info("Could not take order from table {} due to inventory issues", table.getTableNumber());
-                }
-
-            } else {
+            // Ask the dispatcher for this table's waiter; a busy waiter leaves the table queued for the next tick
+            Waiter waiter = waiterDispatcher.dispatch(table);
+            if (waiter == null) {
                 logger.info("No available waiter to take order from table {}", table.getTableNumber());
-                // Mark table for processing in next tick
-                if (!tablesToProcess.contains(table)) {
-                    tablesToProcess.add(table);
-                }
+                continue;
+            }
+            
+            // Take the order and remember which table it belongs to
+            String orderId = waiter.takeTableOrderAndReturnId(table);
+            if (orderId != null) {
+                orderToTableMap.put(orderId, table);
+                readyToOrderTables.remove(table);
+                waiterDispatcher.orderTaken(table);
+                logger.info("Waiter took order {} from table {}", orderId, table.getTableNumber());
+            } else {
+                logger.info("Could not take order from table {} due to inventory issues", table.getTableNumber());
             }
         }
     }
@@ -213,6 +311,7 @@ public class FloorManager extends Entity {
                         mealsToDeliver.put(targetTable, new ArrayList<>());
                     }
                     mealsToDeliver.get(targetTable).addAll(completedMeals);
+                    waiterDispatcher.orderCollected(targetTable, completedMeals.size());
                 } else {
                     logger.info("[FloorManager] Warning: Collected order {} but couldn't find which table it belongs to", orderId);
                 }
@@ -237,67 +336,40 @@ public class FloorManager extends Entity {
                 continue;
             }
             
-            Waiter waiter = getWaiterForTable(table);
+            Waiter waiter = waiterDispatcher.dispatch(table);
             if (waiter != null) {
-                List<Meal> mealsToRemove = new ArrayList<>();
-                
                 for (Meal meal : meals) {
                     waiter.deliverMealToTable(meal, table);
-                    mealsToRemove.add(meal);
-                }
-                
-                meals.removeAll(mealsToRemove);
-                if (meals.isEmpty()) {
-                    mealsToDeliver.remove(table);
                 }
+                waiterDispatcher.mealsDelivered(table, meals.size());
+                mealsToDeliver.remove(table);
             } else {
                 logger.info("[FloorManager] No waiter available to deliver meals to table {}", table.getTableNumber());
             }
         }
     }
     
-    /**
-     * Gets a waiter that is assigned to the given table, or any available waiter if none is assigned.
-     * @param table The table to find a waiter for
-     * @return A waiter that can serve the table, or null if none available
-     */
-    private Waiter getWaiterForTable(Table table) {
-        // First, try to find a waiter already assigned to this table
-        for (Waiter waiter : waiters) {
-            if (waiter.getAssignedTables().contains(table)) {
-                return waiter;
-            }
-        }
-        
-        // If no waiter is assigned, use any available waiter
-        return getAvailableWaiter();
-    }
-    
-    /**
-     * Finds an available waiter from the staff.
-     * @return An available waiter, or null if none available
-     */
-    private Waiter getAvailableWaiter() {
-        // Simple implementation - return the first waiter
-        // In a more complex system, this could check workload, proximity to table, etc.
-        return waiters.isEmpty() ? null : waiters.get(0);
-    }
-    
     /**
      * Update customer browsing status. In a real application, this would consider factors
      * like how long they've been browsing, customer profile, etc.
      */
     private void updateCustomerBrowsingStatus() {
-        for (Table table : seatingPlan.getAllTables()) {
-            for (DineInCustomer customer : table.getCustomers()) {
+        if (browsingTables.isEmpty()) {
+            return;
+        }
+        for (Table table : new ArrayList<>(browsingTables)) {
+            for (DineInCustomer customer : table.customerView()) {
                 if (!customer.isDoneBrowsing()) {
                     // Simple logic - 50% chance to finish browsing each tick
-                    if (Math.random() > 0.5) {
+                    if (random.nextDouble() > 0.5) {
                         customer.finishBrowsing();
                         logger.info("Customer at table {} finished browsing", table.getTableNumber());
                     }
                 }
             }
+            if (table.getBrowsingCount() == 0) {
+                browsingTables.remove(table);
+            }
         }
     }
     
@@ -305,11 +377,15 @@ public class FloorManager extends Entity {
      * Prompts customers to eat their meals if they have been delivered.
      */
     private void promptCustomersToEat() {
-        for (Table table : seatingPlan.getAllTables()) {
+        if (tablesWithPendingMeals.isEmpty()) {
+            return;
+        }
+        for (Table table : new ArrayList<>(tablesWithPendingMeals)) {
+            tablesWithPendingMeals.remove(table);
             if (table.hasPendingMeals()) {
                 List<DineInCustomer> customersToRemove = new ArrayList<>();
                 
-                for (DineInCustomer customer : table.getCustomers()) {
+                for (DineInCustomer customer : table.customerView()) {
                     Meal meal = table.getNextPendingMeal();
                     if (meal != null) {
                         customer.eatMeal(meal);
@@ -324,12 +400,22 @@ public class FloorManager extends Entity {
                 for (DineInCustomer customer : customersToRemove) {
                     table.removeCustomer(customer);
                     logger.info("Customer has finished eating and left table {}", table.getTableNumber());
+                    EventJournal.record(EventType.CUSTOMER_LEFT, EventJournal.NO_ORDER,
+                            table.getTableNumber(), table.getCustomerCount());
                 }
                 
                 // Check if the table is now empty and reset its state if it is
-                if (table.getCustomers().isEmpty()) {
+                if (table.getCustomerCount() == 0) {
+                    waiterDispatcher.tableFreed(table);
                     table.resetTableState();
-                    System.out.println("All customers have left table " + table.getTableNumber() + ", table state reset");
+                    if (Diagnostics.isEnabled(DiagnosticChannel.ORDER_FULFILLMENT, DiagnosticLevel.BASIC)) {
+                        Diagnostics.record(DiagnosticChannel.ORDER_FULFILLMENT, "table.emptied", "table", table.getTableNumber());
+                    }
+                }
+                
+                // Meals still pending wait for the customers who have not eaten yet
+                if (table.getCustomerCount() > 0 && table.hasPendingMeals()) {
+                    tablesWithPendingMeals.add(table);
                 }
             }
         }
@@ -342,8 +428,13 @@ public class FloorManager extends Entity {
     
     @Override
     public void writeState() {
+        // Every waiter starts the tick with their full number of table visits
+        waiterDispatcher.startTick();
+        
         // Spawn new customers each tick
-        spawnCustomers();
+        if (spawningCustomers) {
+            spawnCustomers();
+        }
         
         // Update customer browsing status
         updateCustomerBrowsingStatus();
@@ -359,34 +450,6 @@ public class FloorManager extends Entity {
         
         // Prompt customers to eat their meals and process departures
         promptCustomersToEat();
-        
-        // Process any tables marked for processing but not handled in previous ticks
-        if (!tablesToProcess.isEmpty()) {
-            List<Table> processed = new ArrayList<>();
-            for (Table table : tablesToProcess) {
-                Waiter waiter = getAvailableWaiter();
-                if (waiter != null) {
-                    if (!waiter.getAssignedTables().contains(table)) {
-                        waiter.assignTable(table);
-                    }
-                    
-                    try {
-                        String orderId = waiter.takeTableOrderAndReturnId(table);
-                        if (orderId != null) {
-                            orderToTableMap.put(orderId, table);
-                        }
-                        logger.info("Waiter took order from previously queued table {}", table.getTableNumber());
-                        processed.add(table);
-                    } catch (IllegalStateException e) {
-                        // If not ready to order anymore, remove from processing queue
-                        if (!table.isEveryoneReadyToOrder()) {
-                            processed.add(table);
-                        }
-                    }
-                }
-            }
-            tablesToProcess.removeAll(processed);
-        }
     }
     
     // Getters and setters
@@ -395,17 +458,27 @@ public class FloorManager extends Entity {
         return seatingPlan;
     }
     
+    public SeatingEngine getSeatingEngine() {
+        return seatingEngine;
+    }
+    
     public List<Waiter> getWaiters() {
         return new ArrayList<>(waiters);
     }
     
+    public WaiterDispatcher getWaiterDispatcher() {
+        return waiterDispatcher;
+    }
+    
     public void addWaiter(Waiter waiter) {
         if (!waiters.contains(waiter)) {
             waiters.add(waiter);
+            waiterDispatcher.addWaiter(waiter);
         }
     }
     
     public void removeWaiter(Waiter waiter) {
         waiters.remove(waiter);
+        waiterDispatcher.removeWaiter(waiter);
     }
 } 
\ No newline at end of file
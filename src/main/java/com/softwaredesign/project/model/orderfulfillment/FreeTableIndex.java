@@ -0,0 +1,111 @@
+package com.softwaredesign.project.model.orderfulfillment;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The empty tables of a SeatingPlan, kept in one free list per table capacity.
+ * Tables take themselves out when their first customer sits down and put themselves back
+ * when their last customer leaves, so finding a table for a group only looks at the
+ * capacities that fit instead of scanning the whole floor.
+ *
+ * Each table remembers its position in its free list, so a table is taken out by moving
+ * the last table of the list into its place.
+ */
+public class FreeTableIndex {
+    private final List<List<Table>> freeByCapacity = new ArrayList<>();
+    private final BitSet capacitiesWithFreeTables = new BitSet();
+    private int freeTableCount;
+    private int freeSeatCount;
+
+    /**
+     * @param maxTableCapacity The largest table expected; larger tables are still accepted
+     */
+    public FreeTableIndex(int maxTableCapacity) {
+        ensureCapacity(maxTableCapacity);
+    }
+
+    private void ensureCapacity(int capacity) {
+        while (freeByCapacity.size() <= capacity) {
+            freeByCapacity.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Lists a table as free. Does nothing if it is already listed.
+     * @param table The empty table
+     */
+    void add(Table table) {
+        if (table.freeSlot >= 0) {
+            return;
+        }
+        int capacity = table.getTableCapacity();
+        ensureCapacity(capacity);
+        List<Table> free = freeByCapacity.get(capacity);
+        table.freeSlot = free.size();
+        free.add(table);
+        capacitiesWithFreeTables.set(capacity);
+        freeTableCount++;
+        freeSeatCount += capacity;
+    }
+
+    /**
+     * Takes a table off the free lists. Does nothing if it is not listed.
+     * @param table The table that is no longer free
+     */
+    void remove(Table table) {
+        if (table.freeSlot < 0) {
+            return;
+        }
+        int capacity = table.getTableCapacity();
+        List<Table> free = freeByCapacity.get(capacity);
+        Table last = free.remove(free.size() - 1);
+        if (last != table) {
+            free.set(table.freeSlot, last);
+            last.freeSlot = table.freeSlot;
+        }
+        table.freeSlot = -1;
+        if (free.isEmpty()) {
+            capacitiesWithFreeTables.clear(capacity);
+        }
+        freeTableCount--;
+        freeSeatCount -= capacity;
+    }
+
+    /**
+     * Finds the free table that fits a group with the fewest empty seats left over.
+     * The table stays listed until a customer sits down at it.
+     * @param groupSize The number of customers to seat
+     * @return The smallest free table with at least groupSize seats, or null if there is none
+     */
+    public Table bestFit(int groupSize) {
+        int capacity = capacitiesWithFreeTables.nextSetBit(Math.max(groupSize, 0));
+        if (capacity < 0) {
+            return null;
+        }
+        List<Table> free = freeByCapacity.get(capacity);
+        return free.get(free.size() - 1);
+    }
+
+    /**
+     * @return The number of free tables of exactly the given capacity
+     */
+    public int getFreeTableCount(int capacity) {
+        return capacity >= 0 && capacity < freeByCapacity.size() ? freeByCapacity.get(capacity).size() : 0;
+    }
+
+    /**
+     * @return The number of free tables of any capacity
+     */
+    public int getFreeTableCount() {
+        return freeTableCount;
+    }
+
+    /**
+     * @return The number of seats at free tables
+     */
+    public int getFreeSeatCount() {
+        return freeSeatCount;
+    }
+}
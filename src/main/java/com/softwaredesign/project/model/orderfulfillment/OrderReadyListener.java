@@ -0,0 +1,9 @@
+package com.softwaredesign.project.model.orderfulfillment;
+
+/**
+ * Notified when the last meal of an order reaches the collection point, just before the
+ * order is queued for collection.
+ */
+public interface OrderReadyListener {
+    void onOrderReady(String orderId);
+}
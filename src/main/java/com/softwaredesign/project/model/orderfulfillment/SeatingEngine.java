@@ -0,0 +1,274 @@
+package com.softwaredesign.project.model.orderfulfillment;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.softwaredesign.project.model.customer.DineInCustomer;
+import com.softwaredesign.project.model.engine.GameEngine;
+
+/**
+ * Decides where arriving groups sit. A group gets the smallest free table that holds it,
+ * or failing that a run of adjacent free tables. A group that cannot be seated joins a
+ * wait-list, which is drained whenever a table is reset after its customers leave. Groups
+ * that wait longer than their patience leave, as do groups arriving to a full wait-list.
+ *
+ * Waiting groups never fit the free tables once the wait-list has been drained, so an
+ * arriving group that does fit is seated straight away without jumping the queue.
+ */
+public class SeatingEngine implements TableFreedListener {
+    private static final Logger logger = LoggerFactory.getLogger(SeatingEngine.class);
+    public static final int DEFAULT_MAX_COMBINED_TABLES = 3;
+    public static final int DEFAULT_MAX_WAITING_GROUPS = 100;
+    public static final long DEFAULT_PATIENCE_TICKS = 1800;
+
+    private final SeatingPlan seatingPlan;
+    private final Deque<WaitingGroup> waitList = new ArrayDeque<>();
+    private WaitListPolicy policy = WaitListPolicy.FIFO;
+    private int maxCombinedTables = DEFAULT_MAX_COMBINED_TABLES;
+    private int maxWaitingGroups = DEFAULT_MAX_WAITING_GROUPS;
+    private long patienceTicks = DEFAULT_PATIENCE_TICKS;
+
+    private long groupsSeatedOnArrival;
+    private long groupsSeatedFromWaitList;
+    private long groupsCombined;
+    private long groupsTurnedAway;
+    private long groupsAbandoned;
+    private long totalWaitTicks;
+    private long longestWaitTicks;
+    private int longestWaitList;
+
+    private static final class WaitingGroup {
+        private final List<DineInCustomer> customers;
+        private final long arrivalTick;
+
+        WaitingGroup(List<DineInCustomer> customers, long arrivalTick) {
+            this.customers = customers;
+            this.arrivalTick = arrivalTick;
+        }
+    }
+
+    /**
+     * Creates an engine for the given seating plan and registers it to hear about freed tables.
+     * @param seatingPlan The tables to seat groups at
+     */
+    public SeatingEngine(SeatingPlan seatingPlan) {
+        this.seatingPlan = seatingPlan;
+        seatingPlan.setTableFreedListener(this);
+    }
+
+    /**
+     * Seats an arriving group, or puts it on the wait-list if no table is free for it.
+     * @param customers The group that arrived
+     * @return What happened to the group
+     */
+    public SeatingOutcome admit(List<DineInCustomer> customers) {
+        if (customers == null || customers.isEmpty()) {
+            throw new IllegalArgumentException("A group needs at least one customer");
+        }
+        long now = currentTick();
+        dropImpatientGroups(now);
+
+        SeatingOutcome outcome = trySeat(customers);
+        if (outcome != null) {
+            groupsSeatedOnArrival++;
+            return outcome;
+        }
+        if (customers.size() > seatingPlan.getMaxTableCapacity() * maxCombinedTables
+                || waitList.size() >= maxWaitingGroups) {
+            groupsTurnedAway++;
+            return SeatingOutcome.TURNED_AWAY;
+        }
+        waitList.addLast(new WaitingGroup(customers, now));
+        longestWaitList = Math.max(longestWaitList, waitList.size());
+        logger.info("[SeatingEngine] Group of {} added to the wait-list ({} waiting)", customers.size(), waitList.size());
+        return SeatingOutcome.WAIT_LISTED;
+    }
+
+    @Override
+    public void onTableFreed(Table table) {
+        drainWaitList();
+    }
+
+    /**
+     * Seats waiting groups in policy order until none of them fits the free tables.
+     */
+    public void drainWaitList() {
+        long now = currentTick();
+        dropImpatientGroups(now);
+
+        // A group that failed to fit means no larger group fits either until a table is freed
+        int smallestUnseatable = Integer.MAX_VALUE;
+        while (!waitList.isEmpty() && seatingPlan.getFreeTableCount() > 0) {
+            WaitingGroup next = nextCandidate(smallestUnseatable);
+            if (next == null) {
+                return;
+            }
+            if (trySeat(next.customers) == null) {
+                smallestUnseatable = next.customers.size();
+                continue;
+            }
+            waitList.remove(next);
+            long waited = now - next.arrivalTick;
+            groupsSeatedFromWaitList++;
+            totalWaitTicks += waited;
+            longestWaitTicks = Math.max(longestWaitTicks, waited);
+        }
+    }
+
+    private WaitingGroup nextCandidate(int smallestUnseatable) {
+        WaitingGroup candidate = null;
+        for (WaitingGroup group : waitList) {
+            int size = group.customers.size();
+            if (size >= smallestUnseatable) {
+                continue;
+            }
+            if (policy == WaitListPolicy.FIFO) {
+                return group;
+            }
+            if (candidate == null || size > candidate.customers.size()) {
+                candidate = group;
+            }
+        }
+        return candidate;
+    }
+
+    private SeatingOutcome trySeat(List<DineInCustomer> customers) {
+        if (seatingPlan.findTableForGroup(customers) != null) {
+            return SeatingOutcome.SEATED;
+        }
+        if (maxCombinedTables > 1 && !seatingPlan.findAdjacentTablesForGroup(customers, maxCombinedTables).isEmpty()) {
+            groupsCombined++;
+            return SeatingOutcome.SEATED_COMBINED;
+        }
+        return null;
+    }
+
+    private void dropImpatientGroups(long now) {
+        // The wait-list is in arrival order, so the longest waiting groups are at the front
+        while (!waitList.isEmpty() && now - waitList.peekFirst().arrivalTick > patienceTicks) {
+            waitList.pollFirst();
+            groupsAbandoned++;
+        }
+    }
+
+    private static long currentTick() {
+        return GameEngine.getInstance().getCurrentTick();
+    }
+
+    public WaitListPolicy getPolicy() {
+        return policy;
+    }
+
+    public void setPolicy(WaitListPolicy policy) {
+        this.policy = policy;
+    }
+
+    public int getMaxCombinedTables() {
+        return maxCombinedTables;
+    }
+
+    /**
+     * @param maxCombinedTables The most adjacent tables one group may be spread across; 1 never combines tables
+     */
+    public void setMaxCombinedTables(int maxCombinedTables) {
+        if (maxCombinedTables < 1) {
+            throw new IllegalArgumentException("A group needs at least one table");
+        }
+        this.maxCombinedTables = maxCombinedTables;
+    }
+
+    public int getMaxWaitingGroups() {
+        return maxWaitingGroups;
+    }
+
+    public void setMaxWaitingGroups(int maxWaitingGroups) {
+        if (maxWaitingGroups < 0) {
+            throw new IllegalArgumentException("Wait-list size cannot be negative");
+        }
+        this.maxWaitingGroups = maxWaitingGroups;
+    }
+
+    public long getPatienceTicks() {
+        return patienceTicks;
+    }
+
+    /**
+     * @param patienceTicks How long a group waits for a table before leaving
+     */
+    public void setPatienceTicks(long patienceTicks) {
+        if (patienceTicks < 0) {
+            throw new IllegalArgumentException("Patience cannot be negative");
+        }
+        this.patienceTicks = patienceTicks;
+    }
+
+    public int getWaitingGroupCount() {
+        return waitList.size();
+    }
+
+    /**
+     * @return The most groups that were ever waiting at once
+     */
+    public int getLongestWaitList() {
+        return longestWaitList;
+    }
+
+    /**
+     * @return Groups seated when they arrived, at one table or several
+     */
+    public long getGroupsSeatedOnArrival() {
+        return groupsSeatedOnArrival;
+    }
+
+    public long getGroupsSeatedFromWaitList() {
+        return groupsSeatedFromWaitList;
+    }
+
+    /**
+     * @return Groups seated across adjacent tables, on arrival or from the wait-list
+     */
+    public long getGroupsCombined() {
+        return groupsCombined;
+    }
+
+    /**
+     * @return Groups that left on arrival because they could never fit or the wait-list was full
+     */
+    public long getGroupsTurnedAway() {
+        return groupsTurnedAway;
+    }
+
+    /**
+     * @return Groups that left the wait-list after waiting longer than their patience
+     */
+    public long getGroupsAbandoned() {
+        return groupsAbandoned;
+    }
+
+    /**
+     * @return The average ticks a seated group waited, counting groups seated on arrival as 0
+     */
+    public double getAverageWaitTicks() {
+        long seated = groupsSeatedOnArrival + groupsSeatedFromWaitList;
+        return seated == 0 ? 0 : (double) totalWaitTicks / seated;
+    }
+
+    /**
+     * @return The longest any seated group waited, in ticks
+     */
+    public long getLongestWaitTicks() {
+        return longestWaitTicks;
+    }
+
+    /**
+     * @return The share of all seats with a customer in them, between 0 and 1
+     */
+    public double getSeatUtilization() {
+        int seats = seatingPlan.getTotalSeats();
+        return seats == 0 ? 0 : (double) seatingPlan.getSeatedCustomerCount() / seats;
+    }
+}
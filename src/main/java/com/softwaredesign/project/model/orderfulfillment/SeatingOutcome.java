@@ -0,0 +1,15 @@
+package com.softwaredesign.project.model.orderfulfillment;
+
+/**
+ * What happened to a group that arrived at the restaurant.
+ */
+public enum SeatingOutcome {
+    /** Seated straight away at a single table */
+    SEATED,
+    /** Seated straight away across adjacent tables */
+    SEATED_COMBINED,
+    /** Added to the wait-list until a table is freed */
+    WAIT_LISTED,
+    /** Left because the group can never be seated or the wait-list is full */
+    TURNED_AWAY
+}
@@ -7,12 +7,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.softwaredesign.project.model.customer.DineInCustomer;
+import com.softwaredesign.project.model.journal.EventJournal;
+import com.softwaredesign.project.model.journal.EventType;
 import com.softwaredesign.project.model.menu.Menu;
+import com.softwaredesign.project.model.singletons.StatCounter;
 import com.softwaredesign.project.model.singletons.StatisticsSingleton;
+import com.softwaredesign.project.model.singletons.RandomSingleton;
+import com.softwaredesign.project.model.singletons.RandomStream;
 
 public class SeatingPlan {
     private List<Table> tables;
     private int maxTableCapacity;
+    private final FreeTableIndex freeTables;
+    private final TableTotals totals = new TableTotals();
     private static final Logger logger = LoggerFactory.getLogger(SeatingPlan.class);
 
     public SeatingPlan(int totalTables, int totalSeats, int maxTableCapacity, Menu menu) {
@@ -26,7 +33,7 @@ public class SeatingPlan {
         }
 
         tables = new ArrayList<>();
-        Random random = new Random();
+        Random random = RandomSingleton.get(RandomStream.SEATING_PLAN);
 
         int remainingSeats = totalSeats - totalTables; // Reserve one seat per table
 
@@ -59,6 +66,12 @@ public class SeatingPlan {
                 break;
             }
         }
+
+        freeTables = new FreeTableIndex(maxTableCapacity);
+        for (Table table : tables) {
+            table.setFreeTableIndex(freeTables);
+            table.setTableTotals(totals);
+        }
     }
 
     public Table findTableForGroup(List<DineInCustomer> customerGroup) {
@@ -74,24 +87,153 @@ public class SeatingPlan {
             return null;
         }
 
-        // Find first table that can accommodate the group
-        for (Table table : tables) {
-            if (table.getTableCapacity() >= groupSize && table.getCustomers().isEmpty()) {
-                customerGroup.forEach(table::addCustomer);
-                logger.info("Group of " + groupSize + " seated at table " + table.getTableNumber());
+        // Take the smallest empty table that fits, leaving larger tables for larger groups
+        Table table = freeTables.bestFit(groupSize);
+        if (table != null) {
+            customerGroup.forEach(table::addCustomer);
+            logger.info("Group of {} seated at table {}", groupSize, table.getTableNumber());
 
-                // Track statistics - increment customer count and groups served
-                StatisticsSingleton.getInstance().incrementStat("customersSeated", groupSize);
-                StatisticsSingleton.getInstance().incrementStat("groupsServed");
+            // Track statistics - increment customer count and groups served
+            StatisticsSingleton.getInstance().add(StatCounter.CUSTOMERS_SEATED, groupSize);
+            StatisticsSingleton.getInstance().increment(StatCounter.GROUPS_SERVED);
+            EventJournal.record(EventType.CUSTOMER_SEATED, EventJournal.NO_ORDER, table.getTableNumber(), groupSize);
 
-                return table;
-            }
+            return table;
         }
 
-        logger.info("Sorry, no available tables for a group of " + groupSize);
+        logger.info("Sorry, no available tables for a group of {}", groupSize);
         return null;
     }
 
+    /**
+     * Seats a group across adjacent free tables, for groups no single free table can hold.
+     * Of the runs of consecutive free tables that hold the group, the one with the fewest
+     * tables and then the fewest empty seats is used, and each table is filled in turn.
+     * @param customerGroup The customers to seat
+     * @param maxTables The most tables one group may be spread across
+     * @return The tables the group was seated at, or an empty list if no run of tables fits
+     */
+    public List<Table> findAdjacentTablesForGroup(List<DineInCustomer> customerGroup, int maxTables) {
+        int groupSize = customerGroup == null ? 0 : customerGroup.size();
+        if (groupSize == 0 || groupSize > freeTables.getFreeSeatCount()) {
+            return new ArrayList<>();
+        }
+
+        int bestStart = -1;
+        int bestCount = Integer.MAX_VALUE;
+        int bestLeftover = Integer.MAX_VALUE;
+        for (int start = 0; start < tables.size(); start++) {
+            int seats = 0;
+            for (int end = start; end < tables.size() && end - start < Math.min(maxTables, bestCount); end++) {
+                Table table = tables.get(end);
+                if (table.getCustomerCount() > 0) {
+                    break;
+                }
+                seats += table.getTableCapacity();
+                if (seats >= groupSize) {
+                    // Runs longer than the best so far are never extended this far
+                    int count = end - start + 1;
+                    if (count < bestCount || seats - groupSize < bestLeftover) {
+                        bestStart = start;
+                        bestCount = count;
+                        bestLeftover = seats - groupSize;
+                    }
+                    break;
+                }
+            }
+        }
+        if (bestStart < 0) {
+            return new ArrayList<>();
+        }
+
+        List<Table> seatedAt = new ArrayList<>(tables.subList(bestStart, bestStart + bestCount));
+        int next = 0;
+        for (Table table : seatedAt) {
+            int atTable = Math.min(table.getTableCapacity(), groupSize - next);
+            for (int i = 0; i < atTable; i++) {
+                table.addCustomer(customerGroup.get(next++));
+            }
+            EventJournal.record(EventType.CUSTOMER_SEATED, EventJournal.NO_ORDER, table.getTableNumber(), atTable);
+        }
+        logger.info("Group of {} seated across {} tables from table {}", groupSize, bestCount, seatedAt.get(0).getTableNumber());
+
+        StatisticsSingleton.getInstance().add(StatCounter.CUSTOMERS_SEATED, groupSize);
+        StatisticsSingleton.getInstance().increment(StatCounter.GROUPS_SERVED);
+        return seatedAt;
+    }
+
+    /**
+     * Sets who is told whenever a table of this plan is freed.
+     * @param listener The listener, or null for none
+     */
+    public void setTableFreedListener(TableFreedListener listener) {
+        for (Table table : tables) {
+            table.setTableFreedListener(listener);
+        }
+    }
+
+    /**
+     * Sets who is told about customers browsing, tables ready to order and delivered meals.
+     * @param listener The listener, or null for none
+     */
+    public void setTableActivityListener(TableActivityListener listener) {
+        for (Table table : tables) {
+            table.setTableActivityListener(listener);
+        }
+    }
+
+    /**
+     * @return The number of tables with nobody sitting at them
+     */
+    public int getFreeTableCount() {
+        return freeTables.getFreeTableCount();
+    }
+
+    /**
+     * @return The number of tables with at least one customer
+     */
+    public int getOccupiedTableCount() {
+        return tables.size() - getFreeTableCount();
+    }
+
+    /**
+     * The tables keep this up to date themselves, so reading it does not walk the floor.
+     * @return A digest of every table's customers, order and pending meals, equal for
+     *         equal floors
+     */
+    public int getTableStateDigest() {
+        return totals.getDigest();
+    }
+
+    /**
+     * @return The number of seats at tables with nobody sitting at them
+     */
+    public int getFreeSeatCount() {
+        return freeTables.getFreeSeatCount();
+    }
+
+    /**
+     * @return The number of seats at all tables
+     */
+    public int getTotalSeats() {
+        int seats = 0;
+        for (Table table : tables) {
+            seats += table.getTableCapacity();
+        }
+        return seats;
+    }
+
+    /**
+     * @return The number of customers sitting at any table, kept as a running total
+     */
+    public int getSeatedCustomerCount() {
+        return totals.getSeatedCustomers();
+    }
+
+    public int getMaxTableCapacity() {
+        return maxTableCapacity;
+    }
+
     public List<Table> getAllTables() {
         return new ArrayList<>(tables);
     }
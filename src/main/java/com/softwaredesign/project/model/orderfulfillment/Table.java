@@ -1,17 +1,25 @@
 package com.softwaredesign.project.model.orderfulfillment;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Queue;
 import java.util.LinkedList;
 
+import com.softwaredesign.project.model.customer.BrowsingListener;
 import com.softwaredesign.project.model.customer.DineInCustomer;
+import com.softwaredesign.project.model.diagnostics.DiagnosticChannel;
+import com.softwaredesign.project.model.diagnostics.DiagnosticLevel;
+import com.softwaredesign.project.model.diagnostics.Diagnostics;
+import com.softwaredesign.project.model.engine.GameEngine;
 import com.softwaredesign.project.model.menu.Menu;
+import com.softwaredesign.project.model.metrics.LatencyMetric;
 import com.softwaredesign.project.model.order.Meal;
 import com.softwaredesign.project.model.order.Recipe;
+import com.softwaredesign.project.model.singletons.StatCounter;
 import com.softwaredesign.project.model.singletons.StatisticsSingleton;
 
-public class Table {
+public class Table implements BrowsingListener {
     private int tableNumber;
     private int tableCapacity;
     private List<DineInCustomer> customers;
@@ -22,6 +30,25 @@ public class Table {
     // Queue of meals waiting to be eaten by customers
     private Queue<Meal> pendingMeals;
 
+    // The free-table index of the seating plan this table belongs to, if any, and this
+    // table's position in it (-1 while the table is occupied or not indexed)
+    private FreeTableIndex freeTableIndex;
+    int freeSlot = -1;
+
+    private TableFreedListener freedListener;
+
+    // Customers still browsing, kept up to date by the customers themselves so readiness
+    // does not have to be worked out by checking everyone
+    private int browsingCount;
+    private TableActivityListener activityListener;
+    // Tick the current group sat down, for seated-to-order and table turn times
+    private long seatedTick = -1;
+    // Running totals of the seating plan this table belongs to, if any, and what this
+    // table last reported to them
+    private TableTotals totals;
+    private int reportedCustomers;
+    private int reportedDigest;
+
     public Table(int tableNumber, Menu menu, int tableCapacity) {
         this.tableNumber = tableNumber;
         this.customers = new ArrayList<>();
@@ -34,6 +61,22 @@ public class Table {
 
     public void addCustomer(DineInCustomer customer) {
         customers.add(customer);
+        reportState();
+        customer.setBrowsingListener(this);
+        if (customers.size() == 1) {
+            seatedTick = GameEngine.getInstance().getCurrentTick();
+            if (freeTableIndex != null) {
+                freeTableIndex.remove(this);
+            }
+        }
+        if (!customer.isDoneBrowsing()) {
+            browsingCount++;
+            if (activityListener != null) {
+                activityListener.onCustomerBrowsing(this);
+            }
+        } else {
+            notifyIfReadyToOrder();
+        }
     }
 
     /**
@@ -42,15 +85,106 @@ public class Table {
      * @return True if the customer was removed, false if they weren't at this table
      */
     public boolean removeCustomer(DineInCustomer customer) {
-        return customers.remove(customer);
+        boolean removed = customers.remove(customer);
+        if (!removed) {
+            return false;
+        }
+        reportState();
+        customer.setBrowsingListener(null);
+        if (customers.isEmpty() && freeTableIndex != null) {
+            freeTableIndex.add(this);
+        }
+        if (!customer.isDoneBrowsing()) {
+            browsingCount--;
+            notifyIfReadyToOrder();
+        }
+        return true;
+    }
+
+    @Override
+    public void onFinishedBrowsing(DineInCustomer customer) {
+        browsingCount--;
+        notifyIfReadyToOrder();
+    }
+
+    private void notifyIfReadyToOrder() {
+        if (activityListener != null && browsingCount == 0 && !customers.isEmpty() && !orderPlaced) {
+            activityListener.onReadyToOrder(this);
+        }
     }
 
     public List<DineInCustomer> getCustomers() {
         return new ArrayList<>(customers);
     }
 
+    /**
+     * @return The customers at the table as a read-only view, for the floor to walk without copying
+     */
+    List<DineInCustomer> customerView() {
+        return Collections.unmodifiableList(customers);
+    }
+
+    /**
+     * @return The number of customers still browsing the menu
+     */
+    public int getBrowsingCount() {
+        return browsingCount;
+    }
+
+    /**
+     * @return The number of customers at the table, without copying the customer list
+     */
+    public int getCustomerCount() {
+        return customers.size();
+    }
+
+    /**
+     * Registers the table with its seating plan's free-table index, which it then keeps
+     * up to date as customers arrive and leave.
+     * @param freeTableIndex The index to keep up to date
+     */
+    void setFreeTableIndex(FreeTableIndex freeTableIndex) {
+        this.freeTableIndex = freeTableIndex;
+        if (customers.isEmpty()) {
+            freeTableIndex.add(this);
+        }
+    }
+
+    /**
+     * Registers the table with its seating plan's running totals, which it then keeps up
+     * to date as its customers, order and pending meals change.
+     * @param totals The totals to keep up to date
+     */
+    void setTableTotals(TableTotals totals) {
+        this.totals = totals;
+        reportedCustomers = 0;
+        reportedDigest = 0;
+        reportState();
+    }
+
+    private void reportState() {
+        if (totals != null) {
+            int digest = stateDigest();
+            totals.replace(reportedCustomers, reportedDigest, customers.size(), digest);
+            reportedCustomers = customers.size();
+            reportedDigest = digest;
+        }
+    }
+
+    /**
+     * @return A hash of the table's customers, order and pending meals, mixed so that
+     *         summing it over a floor still tells the tables apart
+     */
+    int stateDigest() {
+        int hash = 31 * tableNumber + customers.size();
+        hash = 31 * hash + (orderPlaced ? 1 : 0);
+        hash = 31 * hash + pendingMeals.size();
+        hash *= 0x9E3779B1;
+        return hash ^ (hash >>> 16);
+    }
+
     public boolean isEveryoneReadyToOrder() {
-        return customers.stream().allMatch(DineInCustomer::isDoneBrowsing);
+        return browsingCount == 0;
     }
 
     public List<Recipe> takeTableOrder() {
@@ -64,10 +198,11 @@ public class Table {
         }
         isOrdering = false;
         orderPlaced = true;
+        reportState();
 
         // Track statistics
-        StatisticsSingleton.getInstance().incrementStat("tablesOrdered");
-        StatisticsSingleton.getInstance().incrementStat("recipesOrderedByTables", tableOrders.size());
+        StatisticsSingleton.getInstance().increment(StatCounter.TABLES_ORDERED);
+        StatisticsSingleton.getInstance().add(StatCounter.RECIPES_ORDERED_BY_TABLES, tableOrders.size());
 
         return tableOrders;
     }
@@ -76,7 +211,16 @@ public class Table {
      * Mark this table's order as placed
      */
     public void markOrderPlaced() {
+        if (!orderPlaced && seatedTick >= 0) {
+            recordLatency(LatencyMetric.SEATED_TO_ORDER);
+        }
         this.orderPlaced = true;
+        reportState();
+    }
+
+    private void recordLatency(LatencyMetric metric) {
+        StatisticsSingleton.getInstance().getLatencies()
+                .record(metric, GameEngine.getInstance().getCurrentTick() - seatedTick);
     }
     
     /**
@@ -86,7 +230,13 @@ public class Table {
     public void addPendingMeal(Meal meal) {
         if (meal != null) {
             pendingMeals.add(meal);
-            System.out.println("Meal " + meal.getName() + " delivered to table " + tableNumber);
+            reportState();
+            if (activityListener != null) {
+                activityListener.onMealPending(this);
+            }
+            if (Diagnostics.isEnabled(DiagnosticChannel.ORDER_FULFILLMENT, DiagnosticLevel.BASIC)) {
+                Diagnostics.record(DiagnosticChannel.ORDER_FULFILLMENT, "table.mealDelivered", "table", tableNumber, "meal", meal.getName());
+            }
         }
     }
     
@@ -103,7 +253,11 @@ public class Table {
      * @return The next meal to be eaten, or null if none
      */
     public Meal getNextPendingMeal() {
-        return pendingMeals.poll();
+        Meal meal = pendingMeals.poll();
+        if (meal != null) {
+            reportState();
+        }
+        return meal;
     }
     
     /**
@@ -124,7 +278,31 @@ public class Table {
     }
 
     public void setTableCapacity(int tableCapacity) {
+        // A free table has to move to the free list of its new capacity
+        boolean listed = freeTableIndex != null && freeSlot >= 0;
+        if (listed) {
+            freeTableIndex.remove(this);
+        }
         this.tableCapacity = tableCapacity;
+        if (listed) {
+            freeTableIndex.add(this);
+        }
+    }
+
+    /**
+     * Sets who is told when customers start browsing, become ready to order or get a meal.
+     * @param activityListener The listener, or null for none
+     */
+    public void setTableActivityListener(TableActivityListener activityListener) {
+        this.activityListener = activityListener;
+    }
+
+    /**
+     * Sets who is told when this table is reset after its last customer leaves.
+     * @param freedListener The listener, or null for none
+     */
+    public void setTableFreedListener(TableFreedListener freedListener) {
+        this.freedListener = freedListener;
     }
 
     public boolean isOrdering() {
@@ -137,10 +315,23 @@ public class Table {
     
     /**
      * Resets the table state after all customers have left.
-     * This ensures the table is ready for new customers.
+     * This ensures the table is ready for new customers, and tells the freed-table
+     * listener so a waiting group can be seated straight away. Meals still waiting
+     * here belonged to the group that left, so they are dropped first.
      */
     public void resetTableState() {
         this.orderPlaced = false;
-        System.out.println("Table " + tableNumber + " has been reset and is ready for new customers");
+        pendingMeals.clear();
+        reportState();
+        if (Diagnostics.isEnabled(DiagnosticChannel.ORDER_FULFILLMENT, DiagnosticLevel.BASIC)) {
+            Diagnostics.record(DiagnosticChannel.ORDER_FULFILLMENT, "table.reset", "table", tableNumber);
+        }
+        if (customers.isEmpty() && seatedTick >= 0) {
+            recordLatency(LatencyMetric.TABLE_TURN);
+            seatedTick = -1;
+        }
+        if (freedListener != null && customers.isEmpty()) {
+            freedListener.onTableFreed(this);
+        }
     }
 }
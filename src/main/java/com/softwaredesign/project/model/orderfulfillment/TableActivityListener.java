@@ -0,0 +1,16 @@
+package com.softwaredesign.project.model.orderfulfillment;
+
+/**
+ * Notified when a table needs attention from the floor, so the floor only has to look at
+ * tables where something is happening.
+ */
+public interface TableActivityListener {
+    /** A customer who is still browsing the menu sat down at the table. */
+    void onCustomerBrowsing(Table table);
+
+    /** Everyone at the table has finished browsing and no order has been placed yet. */
+    void onReadyToOrder(Table table);
+
+    /** A meal was delivered to the table. */
+    void onMealPending(Table table);
+}
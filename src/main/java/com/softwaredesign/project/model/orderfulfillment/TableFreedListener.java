@@ -0,0 +1,8 @@
+package com.softwaredesign.project.model.orderfulfillment;
+
+/**
+ * Notified when a table's last customer has left and the table has been reset for the next group.
+ */
+public interface TableFreedListener {
+    void onTableFreed(Table table);
+}
@@ -0,0 +1,30 @@
+package com.softwaredesign.project.model.orderfulfillment;
+
+/**
+ * Running totals over the tables of a SeatingPlan: the customers sitting at them and a
+ * digest of every table's state. Each table reports its own changes, replacing what it
+ * reported before, so reading the totals never walks the floor.
+ *
+ * The digest is the sum of the tables' own digests, so it does not depend on the order
+ * the tables changed in.
+ */
+final class TableTotals {
+    private int seatedCustomers;
+    private int digest;
+
+    /**
+     * Replaces what a table last reported with its current customers and digest.
+     */
+    void replace(int oldCustomers, int oldDigest, int newCustomers, int newDigest) {
+        seatedCustomers += newCustomers - oldCustomers;
+        digest += newDigest - oldDigest;
+    }
+
+    int getSeatedCustomers() {
+        return seatedCustomers;
+    }
+
+    int getDigest() {
+        return digest;
+    }
+}
@@ -0,0 +1,11 @@
+package com.softwaredesign.project.model.orderfulfillment;
+
+/**
+ * The order in which a SeatingEngine seats waiting groups when a table is freed.
+ */
+public enum WaitListPolicy {
+    /** Groups are seated in the order they arrived. A group that does not fit lets later groups go ahead. */
+    FIFO,
+    /** The largest waiting group that fits is seated first, so freed seats are filled as fully as possible. */
+    LARGEST_FIRST
+}
@@ -0,0 +1,260 @@
+package com.softwaredesign.project.model.orderfulfillment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.softwaredesign.project.model.staff.Waiter;
+
+/**
+ * Decides which waiter serves each table and keeps track of how busy every waiter is.
+ *
+ * A waiter's load is the tables they are serving, the orders they have taken that the
+ * kitchen has not finished and the meals they are carrying. Each waiter can make a limited
+ * number of visits to tables per tick (taking an order or delivering a table's meals); a
+ * table whose waiter has no visits left waits for the next tick. Looking up a table's
+ * waiter is a map lookup, and choosing the least loaded waiter looks at each waiter once.
+ * A table given to a waiter is taken off any other waiter's list, so the assignments made
+ * when the restaurant was set up only matter under the SECTION policy.
+ */
+public class WaiterDispatcher {
+    public static final int DEFAULT_SERVICE_CAPACITY = 4;
+
+    private final List<WaiterLoad> loads = new ArrayList<>();
+    private final Map<Waiter, WaiterLoad> loadByWaiter = new IdentityHashMap<>();
+    private final Map<Table, WaiterLoad> loadByTable = new HashMap<>();
+    private final Set<Table> tablesBeingServed = new HashSet<>();
+    private DispatchPolicy policy;
+    private int serviceCapacity;
+    private long visitsDeferred;
+
+    private static final class WaiterLoad {
+        private final Waiter waiter;
+        private int tablesServed;
+        private int pendingOrders;
+        private int mealsInHand;
+        private int visitsThisTick;
+        private long totalVisits;
+
+        WaiterLoad(Waiter waiter) {
+            this.waiter = waiter;
+        }
+
+        int load() {
+            return tablesServed + pendingOrders + mealsInHand;
+        }
+    }
+
+    /**
+     * @param waiters The waiters on the floor; with the SECTION policy their current table
+     *                assignments become their sections
+     * @param policy How tables are given to waiters
+     * @param serviceCapacity The visits each waiter can make per tick
+     */
+    public WaiterDispatcher(List<Waiter> waiters, DispatchPolicy policy, int serviceCapacity) {
+        this.policy = policy;
+        setServiceCapacity(serviceCapacity);
+        for (Waiter waiter : waiters) {
+            addWaiter(waiter);
+        }
+    }
+
+    public void addWaiter(Waiter waiter) {
+        if (loadByWaiter.containsKey(waiter)) {
+            return;
+        }
+        WaiterLoad load = new WaiterLoad(waiter);
+        loads.add(load);
+        loadByWaiter.put(waiter, load);
+        if (policy == DispatchPolicy.SECTION) {
+            adoptSection(load);
+        }
+    }
+
+    private void adoptSection(WaiterLoad load) {
+        for (Table table : load.waiter.getAssignedTables()) {
+            loadByTable.putIfAbsent(table, load);
+        }
+    }
+
+    /**
+     * Takes a waiter off the floor. Their tables go to other waiters the next time they need serving.
+     */
+    public void removeWaiter(Waiter waiter) {
+        WaiterLoad load = loadByWaiter.remove(waiter);
+        if (load != null) {
+            loads.remove(load);
+            loadByTable.values().removeIf(tableLoad -> tableLoad == load);
+        }
+    }
+
+    /**
+     * Gives every waiter their full number of visits again. Called at the start of each tick.
+     */
+    public void startTick() {
+        for (WaiterLoad load : loads) {
+            load.visitsThisTick = 0;
+        }
+    }
+
+    /**
+     * Finds the waiter to visit a table and uses up one of their visits for this tick.
+     * A table without a waiter is given the least loaded waiter with visits left.
+     * @param table The table that needs serving
+     * @return The waiter, or null if the table's waiter has no visits left this tick
+     */
+    public Waiter dispatch(Table table) {
+        WaiterLoad load = loadByTable.get(table);
+        if (load == null) {
+            load = leastLoaded();
+            if (load == null) {
+                visitsDeferred++;
+                return null;
+            }
+            loadByTable.put(table, load);
+            releaseFromOtherWaiters(table, load);
+        }
+        if (load.visitsThisTick >= serviceCapacity) {
+            visitsDeferred++;
+            return null;
+        }
+        if (!load.waiter.isAssignedTo(table)) {
+            load.waiter.assignTable(table);
+        }
+        load.visitsThisTick++;
+        load.totalVisits++;
+        return load.waiter;
+    }
+
+    private void releaseFromOtherWaiters(Table table, WaiterLoad owner) {
+        for (WaiterLoad load : loads) {
+            if (load != owner) {
+                load.waiter.unassignTable(table);
+            }
+        }
+    }
+
+    private WaiterLoad leastLoaded() {
+        WaiterLoad best = null;
+        for (WaiterLoad load : loads) {
+            if (load.visitsThisTick < serviceCapacity && (best == null || load.load() < best.load())) {
+                best = load;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Records that the table's waiter took its order.
+     */
+    public void orderTaken(Table table) {
+        WaiterLoad load = loadByTable.get(table);
+        if (load != null) {
+            load.pendingOrders++;
+            if (tablesBeingServed.add(table)) {
+                load.tablesServed++;
+            }
+        }
+    }
+
+    /**
+     * Records that the kitchen finished the table's order and its waiter is carrying the meals.
+     */
+    public void orderCollected(Table table, int meals) {
+        WaiterLoad load = loadByTable.get(table);
+        if (load != null) {
+            load.pendingOrders = Math.max(0, load.pendingOrders - 1);
+            load.mealsInHand += meals;
+        }
+    }
+
+    /**
+     * Records that meals were put on the table.
+     */
+    public void mealsDelivered(Table table, int meals) {
+        WaiterLoad load = loadByTable.get(table);
+        if (load != null) {
+            load.mealsInHand = Math.max(0, load.mealsInHand - meals);
+        }
+    }
+
+    /**
+     * Records that the table's customers have left. Under LEAST_LOADED the waiter gives up the table.
+     */
+    public void tableFreed(Table table) {
+        WaiterLoad load = loadByTable.get(table);
+        if (load == null) {
+            return;
+        }
+        if (tablesBeingServed.remove(table)) {
+            load.tablesServed--;
+        }
+        if (policy == DispatchPolicy.LEAST_LOADED) {
+            loadByTable.remove(table);
+            load.waiter.unassignTable(table);
+        }
+    }
+
+    /**
+     * @return The waiter serving the table, or null if it has none
+     */
+    public Waiter getWaiterForTable(Table table) {
+        WaiterLoad load = loadByTable.get(table);
+        return load != null ? load.waiter : null;
+    }
+
+    /**
+     * @return The waiter's tables being served, orders in the kitchen and meals carried, added up
+     */
+    public int getLoad(Waiter waiter) {
+        WaiterLoad load = loadByWaiter.get(waiter);
+        return load != null ? load.load() : 0;
+    }
+
+    /**
+     * @return The visits the waiter has made to tables since the restaurant opened
+     */
+    public long getTotalVisits(Waiter waiter) {
+        WaiterLoad load = loadByWaiter.get(waiter);
+        return load != null ? load.totalVisits : 0;
+    }
+
+    /**
+     * @return How many times a table had to wait a tick because its waiter was busy
+     */
+    public long getVisitsDeferred() {
+        return visitsDeferred;
+    }
+
+    public DispatchPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Changes the policy for tables that do not have a waiter yet. Switching to SECTION
+     * turns each waiter's current table assignments into their section.
+     */
+    public void setPolicy(DispatchPolicy policy) {
+        this.policy = policy;
+        if (policy == DispatchPolicy.SECTION) {
+            for (WaiterLoad load : loads) {
+                adoptSection(load);
+            }
+        }
+    }
+
+    public int getServiceCapacity() {
+        return serviceCapacity;
+    }
+
+    public void setServiceCapacity(int serviceCapacity) {
+        if (serviceCapacity <= 0) {
+            throw new IllegalArgumentException("A waiter must be able to visit at least one table per tick");
+        }
+        this.serviceCapacity = serviceCapacity;
+    }
+}
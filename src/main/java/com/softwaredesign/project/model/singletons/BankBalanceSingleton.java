@@ -1,8 +1,15 @@
 package com.softwaredesign.project.model.singletons;
 
+import com.softwaredesign.project.model.ledger.Ledger;
+import com.softwaredesign.project.model.ledger.LedgerCategory;
+
+/**
+ * The restaurant's bank balance. The money is kept in a Ledger as whole cents; the
+ * double-based methods here convert to and from dollars for the views and older callers.
+ */
 public class BankBalanceSingleton {
     private static BankBalanceSingleton instance;
-    private double bankBalance;
+    private final Ledger ledger = new Ledger();
 
     private BankBalanceSingleton() {
     }
@@ -15,19 +22,38 @@ public class BankBalanceSingleton {
     }
 
     public double getBankBalance() {
-        return bankBalance;
+        return ledger.getBalance();
     }
 
     public void setBankBalance(double newBankBalance) {
-        this.bankBalance = newBankBalance;
+        ledger.setBalance(Ledger.toCents(newBankBalance));
     }
 
+    /**
+     * Adds an amount to the balance as an adjustment. Use post() to record what the money
+     * was for.
+     * @param delta The amount in dollars
+     */
     public void updateBankBalance(double delta) {
-        this.bankBalance += delta;
+        ledger.post(LedgerCategory.ADJUSTMENT, Ledger.toCents(delta), null);
+    }
+
+    /**
+     * Adds an amount to the balance and records it against a category.
+     * @param category What the money was for
+     * @param delta The amount in dollars; negative for money going out
+     * @param reference What the entry relates to, such as a chef's name, or null
+     */
+    public void post(LedgerCategory category, double delta, String reference) {
+        ledger.post(category, Ledger.toCents(delta), reference);
+    }
+
+    public Ledger getLedger() {
+        return ledger;
     }
 
     // For testing and resetting purposes
     public static void reset() {
         instance = null;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package com.softwaredesign.project.model.singletons;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The single source of randomness for the simulation. One master seed is split into a
+ * separate Random per RandomStream, so a run can be reproduced exactly by reusing its seed.
+ *
+ * The seed comes from the restaurant.seed system property if it is set, otherwise from the
+ * clock; it is logged either way so any run can be repeated.
+ */
+public class RandomSingleton {
+    private static final Logger logger = LoggerFactory.getLogger(RandomSingleton.class);
+    public static final String SEED_PROPERTY = "restaurant.seed";
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static RandomSingleton instance;
+    private final long seed;
+    private final Map<RandomStream, Random> streams;
+
+    private RandomSingleton(long seed) {
+        this.seed = seed;
+        this.streams = new EnumMap<>(RandomStream.class);
+        for (RandomStream stream : RandomStream.values()) {
+            streams.put(stream, new Random(streamSeed(seed, stream)));
+        }
+        logger.info("Random seed {}", seed);
+    }
+
+    public static synchronized RandomSingleton getInstance() {
+        if (instance == null) {
+            instance = new RandomSingleton(defaultSeed());
+        }
+        return instance;
+    }
+
+    /**
+     * Starts every stream again from a new default seed.
+     */
+    public static synchronized void reset() {
+        instance = null;
+    }
+
+    /**
+     * Starts every stream again from the given seed.
+     * @param seed The master seed
+     */
+    public static synchronized void reset(long seed) {
+        instance = new RandomSingleton(seed);
+    }
+
+    /**
+     * Shorthand for getInstance().getStream(stream).
+     */
+    public static Random get(RandomStream stream) {
+        return getInstance().getStream(stream);
+    }
+
+    public Random getStream(RandomStream stream) {
+        return streams.get(stream);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return The seed from the restaurant.seed property, or one taken from the clock
+     */
+    public static long defaultSeed() {
+        Long configured = Long.getLong(SEED_PROPERTY);
+        return configured != null ? configured : mix(System.nanoTime() ^ System.currentTimeMillis());
+    }
+
+    /**
+     * Derives a stream's seed from the master seed, so streams with neighbouring
+     * ordinals are not correlated.
+     */
+    static long streamSeed(long seed, RandomStream stream) {
+        return mix(seed + GOLDEN_GAMMA * (stream.ordinal() + 1));
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,21 @@
+package com.softwaredesign.project.model.singletons;
+
+/**
+ * The independent random number streams handed out by RandomSingleton. Each subsystem draws
+ * from its own stream, so adding a draw in one subsystem does not shift the numbers another
+ * subsystem sees for the same seed.
+ */
+public enum RandomStream {
+    /** Seat distribution when the seating plan is built */
+    SEATING_PLAN,
+    /** Recipe and extra-ingredient picks made by the menu */
+    MENU,
+    /** Customer modification requests and satisfaction */
+    CUSTOMER,
+    /** Floor manager spawning and browsing decisions */
+    FLOOR,
+    /** Group sizes of arriving customers in the demo and headless runs */
+    ARRIVALS,
+    /** Chef attributes chosen on the configuration screen */
+    STAFF
+}
@@ -0,0 +1,48 @@
+package com.softwaredesign.project.model.singletons;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The counters StatisticsSingleton keeps on the hot path. Each one has a fixed slot, so
+ * counting needs no key lookup; the key is the name the counter has in the string API
+ * and the end-of-game statistics.
+ */
+public enum StatCounter {
+    CUSTOMERS_SEATED("customersSeated"),
+    GROUPS_SERVED("groupsServed"),
+    TABLES_ORDERED("tablesOrdered"),
+    RECIPES_ORDERED_BY_TABLES("recipesOrderedByTables"),
+    ORDERS_RECEIVED("ordersReceived"),
+    TOTAL_RECIPES_ORDERED("totalRecipesOrdered"),
+    ORDERS_PROCESSED("ordersProcessed"),
+    MEALS_COMPLETED("mealsCompleted"),
+    ORDERS_COMPLETED("ordersCompleted"),
+    ORDERS_COLLECTED("ordersCollected");
+
+    private static final Map<String, StatCounter> byKey = new HashMap<>();
+
+    static {
+        for (StatCounter counter : values()) {
+            byKey.put(counter.key, counter);
+        }
+    }
+
+    private final String key;
+
+    StatCounter(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @param key A statistic name
+     * @return The counter with that name, or null if the statistic is not a counter
+     */
+    public static StatCounter forKey(String key) {
+        return byKey.get(key);
+    }
+}
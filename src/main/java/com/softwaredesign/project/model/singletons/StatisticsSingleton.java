@@ -5,29 +5,99 @@ import java.util.Map;
 import java.util.TreeMap;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
 
+import com.softwaredesign.project.model.metrics.LatencyStatistics;
+import com.softwaredesign.project.model.metrics.TimeSeriesRecorder;
+
+/**
+ * Game statistics for the end-of-game screen.
+ *
+ * The counts bumped on every order (see StatCounter) are LongAdders in a fixed array, so
+ * counting from any thread allocates nothing once the adder has settled and never loses
+ * an update. Other statistics are kept by name; the string methods work for both and
+ * route a counter's name to its slot. Durations through the order lifecycle are kept as
+ * histograms in getLatencies(), and gauges sampled every tick in getTimeSeries().
+ */
 public class StatisticsSingleton {
-    private static StatisticsSingleton instance;
+    // Volatile so getInstance() only locks while the instance is first created
+    private static volatile StatisticsSingleton instance;
+    private final LongAdder[] counters;
+    // Whether each counter has been set or counted, so untouched counters stay out of the summary
+    private final AtomicIntegerArray countersUsed;
     private Map<String, Integer> intStats;
     private Map<String, Double> doubleStats;
     private Map<String, String> stringStats;
+    private LatencyStatistics latencies;
+    private TimeSeriesRecorder timeSeries;
 
     private StatisticsSingleton() {
-        intStats = new HashMap<>();
-        doubleStats = new HashMap<>();
-        stringStats = new HashMap<>();
+        counters = new LongAdder[StatCounter.values().length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+        countersUsed = new AtomicIntegerArray(counters.length);
+        intStats = new ConcurrentHashMap<>();
+        doubleStats = new ConcurrentHashMap<>();
+        stringStats = new ConcurrentHashMap<>();
+        latencies = new LatencyStatistics();
+        timeSeries = new TimeSeriesRecorder();
+    }
+
+    public static StatisticsSingleton getInstance() {
+        StatisticsSingleton current = instance;
+        if (current == null) {
+            synchronized (StatisticsSingleton.class) {
+                if (instance == null) {
+                    instance = new StatisticsSingleton();
+                }
+                current = instance;
+            }
+        }
+        return current;
     }
 
-    public static synchronized StatisticsSingleton getInstance() {
-        if (instance == null) {
-            instance = new StatisticsSingleton();
+    /**
+     * Adds one to a counter.
+     */
+    public void increment(StatCounter counter) {
+        add(counter, 1);
+    }
+
+    /**
+     * Adds an amount to a counter.
+     */
+    public void add(StatCounter counter, long amount) {
+        counters[counter.ordinal()].add(amount);
+        if (countersUsed.get(counter.ordinal()) == 0) {
+            countersUsed.set(counter.ordinal(), 1);
         }
-        return instance;
+    }
+
+    /**
+     * @return The counter's current total
+     */
+    public long get(StatCounter counter) {
+        return counters[counter.ordinal()].sum();
+    }
+
+    private void set(StatCounter counter, long value) {
+        counters[counter.ordinal()].reset();
+        add(counter, value);
+    }
+
+    private static boolean isWhole(Number amount) {
+        return amount.doubleValue() == amount.longValue();
     }
 
     // Generic statistics methods
     public void setStat(String key, Object value) {
-        if (value instanceof Integer) {
+        StatCounter counter = StatCounter.forKey(key);
+        if (counter != null && (value instanceof Integer || value instanceof Long)) {
+            set(counter, ((Number) value).longValue());
+        } else if (value instanceof Integer) {
             intStats.put(key, (Integer) value);
         } else if (value instanceof Double) {
             doubleStats.put(key, (Double) value);
@@ -47,6 +117,15 @@ public class StatisticsSingleton {
     }
 
     public void incrementStat(String key, Number amount) {
+        StatCounter counter = StatCounter.forKey(key);
+        if (counter != null && isWhole(amount)) {
+            add(counter, amount.longValue());
+        } else {
+            incrementNamedStat(key, amount);
+        }
+    }
+
+    private synchronized void incrementNamedStat(String key, Number amount) {
         if (doubleStats.containsKey(key)) {
             doubleStats.put(key, doubleStats.get(key) + amount.doubleValue());
         } else if (intStats.containsKey(key)) {
@@ -65,6 +144,17 @@ public class StatisticsSingleton {
     // Generic get method with type parameter
     @SuppressWarnings("unchecked")
     public <T> T getStat(String key, Class<T> type) {
+        StatCounter counter = StatCounter.forKey(key);
+        if (counter != null && countersUsed.get(counter.ordinal()) != 0) {
+            long value = get(counter);
+            if (type == Integer.class) {
+                return (T) Integer.valueOf((int) value);
+            } else if (type == Double.class) {
+                return (T) Double.valueOf(value);
+            } else if (type == String.class) {
+                return (T) Long.toString(value);
+            }
+        }
         if (type == Integer.class && intStats.containsKey(key)) {
             return (T) Integer.valueOf(intStats.get(key));
         } else if ((type == Double.class || type == Number.class) && doubleStats.containsKey(key)) {
@@ -112,9 +202,36 @@ public class StatisticsSingleton {
     }
 
     public boolean containsStat(String key) {
+        StatCounter counter = StatCounter.forKey(key);
+        if (counter != null && countersUsed.get(counter.ordinal()) != 0) {
+            return true;
+        }
         return intStats.containsKey(key) || doubleStats.containsKey(key) || stringStats.containsKey(key);
     }
 
+    /**
+     * @return The latency histograms for orders, station backlogs and tables
+     */
+    public LatencyStatistics getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * @return The per-tick gauges; the game loop adds the gauges and samples them
+     */
+    public TimeSeriesRecorder getTimeSeries() {
+        return timeSeries;
+    }
+
+    /**
+     * Replaces the time series recorder, for example to keep more samples. Gauges have to be
+     * added to the new recorder.
+     * @param timeSeries The recorder to use
+     */
+    public void setTimeSeries(TimeSeriesRecorder timeSeries) {
+        this.timeSeries = timeSeries;
+    }
+
     // Get total revenue from BankBalanceSingleton
     public double getTotalRevenue() {
         return BankBalanceSingleton.getInstance().getBankBalance();
@@ -129,6 +246,12 @@ public class StatisticsSingleton {
     public Map<String, String> getAllStatsFormatted() {
         Map<String, String> allStats = new HashMap<>();
 
+        for (StatCounter counter : StatCounter.values()) {
+            if (countersUsed.get(counter.ordinal()) != 0) {
+                allStats.put(counter.getKey(), Long.toString(get(counter)));
+            }
+        }
+
         for (Map.Entry<String, Integer> entry : intStats.entrySet()) {
             allStats.put(entry.getKey(), entry.getValue().toString());
         }
@@ -184,6 +307,13 @@ public class StatisticsSingleton {
 
     // Reset all statistics
     public void resetAllStats() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i].reset();
+            countersUsed.set(i, 0);
+        }
+        latencies = new LatencyStatistics();
+        // Keep the recorder so the gauges registered on it keep being sampled
+        timeSeries.clear();
         intStats.clear();
         doubleStats.clear();
         stringStats.clear();
@@ -3,16 +3,23 @@ package com.softwaredesign.project.model.staff;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.softwaredesign.project.model.kitchen.BacklogListener;
 import com.softwaredesign.project.model.kitchen.Station;
 import com.softwaredesign.project.model.kitchen.StationManager;
 import com.softwaredesign.project.model.kitchen.StationType;
+import com.softwaredesign.project.model.order.RecipeTask;
 import com.softwaredesign.project.model.staff.chefstrategies.ChefStrategy;
 import com.softwaredesign.project.model.staff.staffspeeds.ISpeedComponent;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class Chef extends StaffMember {
+/**
+ * A cook who moves between the stations they are assigned to. A chef listens to the
+ * backlogs of those stations, and tells their manager and the station they stand at
+ * whenever they might have work to look for, so neither has to check every tick.
+ */
+public class Chef extends StaffMember implements BacklogListener {
     private static final Logger logger = LoggerFactory.getLogger(Chef.class);
     private List<Station> assignedStations; // Stations where the chef is assigned
     private ChefStrategy workStrategy; 
@@ -22,6 +29,7 @@ public class Chef extends StaffMember {
     private boolean isWorking; // Flag to indicate if the chef is currently working on a task
     private static int chefCounter = 0;
     private ISpeedComponent speedDecorator;
+    private ChefManager manager; // Woken when this chef might have work to look for
     
     public Chef(double pay, ISpeedComponent speedDecorator, ChefStrategy strategy, StationManager stationManager) {
         super(pay);
@@ -59,10 +67,7 @@ public class Chef extends StaffMember {
         }
         
         // Check if any assigned station actually has tasks
-        int totalBacklog = 0;
-        for (Station station : assignedStations) {
-            totalBacklog += station.getBacklogSize();
-        }
+        int totalBacklog = getTotalBacklog();
         
         if (totalBacklog > 0) {
             // There are pending tasks, proceed to choose a new station
@@ -71,7 +76,7 @@ public class Chef extends StaffMember {
             if (newStation != null) {
                 logger.info("[DEBUG] " + name + " chose station: " + newStation.getType());
                 if (newStation.getCurrentTask() != null) {
-                    isWorking = true;
+                    setWorking(true);
                     logger.info("[DEBUG] " + name + " is now working on task: " + newStation.getCurrentTask().getName());
                 }
             } else {
@@ -92,13 +97,13 @@ public class Chef extends StaffMember {
     }
 
     public void assignToStation(StationType stationType) {
-        logger.info("[DEBUG-CHEF-ASSIGN] " + name + " being assigned to " + stationType);
+        logger.debug("[DEBUG-CHEF-ASSIGN] {} being assigned to {}", name, stationType);
         
         // Check if we already have this station type in our assigned stations
         boolean alreadyAssigned = false;
         for (Station existingStation : assignedStations) {
             if (existingStation.getType() == stationType) {
-                logger.info("[DEBUG-CHEF-ASSIGN] " + name + " already has a " + stationType + " station assigned");
+                logger.debug("[DEBUG-CHEF-ASSIGN] {} already has a {} station assigned", name, stationType);
                 alreadyAssigned = true;
                 break;
             }
@@ -112,20 +117,20 @@ public class Chef extends StaffMember {
                 // Add all stations of this type to the chef's assigned stations
                 for (Station station : stationsOfType) {
                     if (!assignedStations.contains(station)) {
-                        assignedStations.add(station);
-                        logger.info("[DEBUG-CHEF-ASSIGN] Added " + stationType + " station to " + 
-                            name + "'s assigned stations list. Total stations: " + assignedStations.size());
+                        addAssignedStation(station);
+                        logger.debug("[DEBUG-CHEF-ASSIGN] Added {} station to {}'s assigned stations list. Total stations: {}", 
+                            stationType, name, assignedStations.size());
                     }
                 }
             } else {
-                logger.info("[DEBUG-CHEF-ASSIGN] Could not find any stations of type " + stationType);
+                logger.info("Could not find any stations of type {} for {}", stationType, name);
             }
         }
         
         // Print out all assigned stations for debugging
-        logger.info("[DEBUG-CHEF-ASSIGN] " + name + " now has " + assignedStations.size() + " assigned stations:");
-        for (Station station : assignedStations) {
-            logger.info("  - " + station.getType());
+        if (logger.isDebugEnabled()) {
+            logger.debug("[DEBUG-CHEF-ASSIGN] {} now has {} assigned stations: {}", 
+                name, assignedStations.size(), assignedStations.stream().map(Station::getType).toList());
         }
     }
 
@@ -146,6 +151,7 @@ public class Chef extends StaffMember {
         logger.info("[DEBUG-CHEF-REMOVE] Removing " + station.getType() + " station from " + name);
         
         boolean removed = assignedStations.remove(station);
+        station.removeBacklogListener(this);
         
         if (removed) {
             logger.info("[DEBUG-CHEF-REMOVE] Successfully removed " + station.getType() + 
@@ -158,7 +164,7 @@ public class Chef extends StaffMember {
         // If this was the chef's current station, clear that reference
         if (currentStation == station) {
             logger.info("[DEBUG-CHEF-REMOVE] Clearing current station reference for " + name);
-            currentStation = null;
+            setCurrentStation(null);
         }
         
         // Print remaining assigned stations
@@ -249,7 +255,7 @@ public class Chef extends StaffMember {
             
             // Only if we really can't find any station, set current station to null
             logger.info("[DEBUG-CHEF-CHOOSE] " + name + " couldn't find any station to stay visible at");
-            currentStation = null;
+            setCurrentStation(null);
             return null;
         }
     }
@@ -267,6 +273,9 @@ public class Chef extends StaffMember {
      * @param station The station where the chef is now working
      */
     public void setCurrentStation(Station station) {
+        if (station != currentStation) {
+            wakeWatchers();
+        }
         this.currentStation = station;
     }
     
@@ -275,6 +284,9 @@ public class Chef extends StaffMember {
     }
     
     public void setWorking(boolean working) {
+        if (working != isWorking) {
+            wakeWatchers();
+        }
         this.isWorking = working;
     }
     
@@ -288,11 +300,62 @@ public class Chef extends StaffMember {
     }
     public void addStationAssignment(Station station) {
         if (!assignedStations.contains(station)) {
-            assignedStations.add(station);
+            addAssignedStation(station);
+        }
+    }
+    
+    private void addAssignedStation(Station station) {
+        wakeWatchers();
+        assignedStations.add(station);
+        station.addBacklogListener(this);
+    }
+    
+    /**
+     * Sets the manager that is woken whenever this chef might have work to look for
+     * @param manager The managing ChefManager, or null
+     */
+    void setManager(ChefManager manager) {
+        this.manager = manager;
+    }
+    
+    @Override
+    public void onTaskQueued(Station station, RecipeTask task) {
+        wakeWatchers();
+    }
+    
+    /**
+     * Wakes the manager and the station this chef stands at, before this chef changes or
+     * gets work queued at one of their stations
+     */
+    private void wakeWatchers() {
+        if (manager != null) {
+            manager.chefChanged();
+        }
+        if (currentStation != null) {
+            currentStation.chefChanged();
         }
     }
     
+    private int getTotalBacklog() {
+        int totalBacklog = 0;
+        for (Station station : assignedStations) {
+            totalBacklog += station.getBacklogSize();
+        }
+        return totalBacklog;
+    }
+    
+    /**
+     * @return true if checkForWork() would leave this chef as they are: they are busy
+     *         cooking, or they have a station and none of their stations has a backlog
+     */
+    public boolean isSettled() {
+        return isWorking || (currentStation != null && getTotalBacklog() == 0);
+    }
+    
     public void clearStationAssignments() {
+        for (Station station : assignedStations) {
+            station.removeBacklogListener(this);
+        }
         assignedStations.clear();
     }
 
@@ -318,7 +381,7 @@ public class Chef extends StaffMember {
                 
                 // Fix: Clear chef's current station reference
                 logger.info("[DEBUG-CHEF-SYNC] Fixing: Setting currentStation to null for " + name);
-                currentStation = null;
+                setCurrentStation(null);
             }
         }
         
@@ -329,7 +392,7 @@ public class Chef extends StaffMember {
             
             // Fix: Reset working status
             logger.info("[DEBUG-CHEF-SYNC] Fixing: Setting isWorking to false for " + name);
-            isWorking = false;
+            setWorking(false);
         }
         
         // Case 3: Chef is not working but is at a station with an active task
@@ -343,7 +406,7 @@ public class Chef extends StaffMember {
             
             // Fix: Set working status to match the station's state
             logger.info("[DEBUG-CHEF-SYNC] Fixing: Setting isWorking to true for " + name);
-            isWorking = true;
+            setWorking(true);
         }
     }
 
@@ -11,6 +11,11 @@ import com.softwaredesign.project.model.engine.Entity;
 /**
  * Manages a collection of chefs and coordinates their work assignments.
  * This class implements Entity so it can be registered with the GameEngine.
+ *
+ * While every chef is cooking or waiting at a station with nothing queued, the only thing
+ * left to do is the periodic consistency check. Chefs changing state and tasks queued at
+ * their stations wake the manager, so the discrete event engine lets it sleep until the
+ * next check.
  */
 public class ChefManager extends Entity {
     private static final Logger logger = LoggerFactory.getLogger(ChefManager.class);
@@ -25,7 +30,9 @@ public class ChefManager extends Entity {
      * @param chef The chef to add
      */
     public void addChef(Chef chef) {
+        wake();
         chefs.add(chef);
+        chef.setManager(this);
     }
     
     /**
@@ -33,7 +40,9 @@ public class ChefManager extends Entity {
      * @param chef The chef to remove
      */
     public void removeChef(Chef chef) {
-        chefs.remove(chef);
+        if (chefs.remove(chef)) {
+            chef.setManager(null);
+        }
     }
     
     /**
@@ -44,6 +53,33 @@ public class ChefManager extends Entity {
         return new ArrayList<>(chefs);
     }
     
+    /**
+     * Called by a chef about to change, or about to get a task queued at one of their
+     * stations, in a way that can give them work to look for
+     */
+    void chefChanged() {
+        wake();
+    }
+
+    /**
+     * Every tick while some chef has work to look for; otherwise asleep until woken or
+     * until the next consistency check is due.
+     */
+    @Override
+    public long nextActiveTick(long currentTick) {
+        for (Chef chef : chefs) {
+            if (!chef.isSettled()) {
+                return currentTick + 1;
+            }
+        }
+        return currentTick + CONSISTENCY_CHECK_INTERVAL - tickCount % CONSISTENCY_CHECK_INTERVAL;
+    }
+
+    @Override
+    public void skipQuietTicks(long ticks) {
+        tickCount = (int) ((tickCount + ticks) % CONSISTENCY_CHECK_INTERVAL);
+    }
+
     @Override
     public void readState() {
         // Nothing to read in the first phase
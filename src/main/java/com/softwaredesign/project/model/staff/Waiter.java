@@ -1,11 +1,18 @@
 package com.softwaredesign.project.model.staff;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import com.softwaredesign.project.model.customer.DineInCustomer;
+import com.softwaredesign.project.model.diagnostics.DiagnosticChannel;
+import com.softwaredesign.project.model.diagnostics.DiagnosticLevel;
+import com.softwaredesign.project.model.diagnostics.Diagnostics;
 import com.softwaredesign.project.model.inventory.Ingredient;
 import com.softwaredesign.project.model.inventory.InventoryStockTracker;
+import com.softwaredesign.project.model.journal.EventJournal;
+import com.softwaredesign.project.model.journal.EventType;
 import com.softwaredesign.project.model.menu.Menu;
 import com.softwaredesign.project.model.order.Meal;
 import com.softwaredesign.project.model.order.Order;
@@ -18,7 +25,7 @@ import org.slf4j.LoggerFactory;
 
 public class Waiter extends StaffMember {
     private static final Logger logger = LoggerFactory.getLogger(Waiter.class);
-    private List<Table> assignedTables;
+    private Set<Table> assignedTables;
     private OrderManager orderManager;
     private Menu menu;
     private InventoryStockTracker inventoryStockTracker;
@@ -26,7 +33,7 @@ public class Waiter extends StaffMember {
     public Waiter(double pay, OrderManager orderManager, Menu menu,
             InventoryStockTracker inventoryStockTracker) {
         super(pay);
-        this.assignedTables = new ArrayList<>();
+        this.assignedTables = new LinkedHashSet<>(); // Keeps assignment order with constant-time lookups
         this.orderManager = orderManager;
         this.menu = menu;
         this.inventoryStockTracker = inventoryStockTracker;
@@ -41,6 +48,22 @@ public class Waiter extends StaffMember {
         assignedTables.add(table);
     }
 
+    /**
+     * Stops serving a table, for when its customers have left and it may go to another waiter.
+     * @param table The table to give up
+     */
+    public void unassignTable(Table table) {
+        assignedTables.remove(table);
+    }
+
+    /**
+     * @param table The table to check
+     * @return Whether this waiter serves the table
+     */
+    public boolean isAssignedTo(Table table) {
+        return assignedTables.contains(table);
+    }
+
     /**
      * Takes an order from a table and adds it to the OrderManager.
      * @param table The table to take an order from
@@ -76,7 +99,7 @@ public class Waiter extends StaffMember {
         }
         
         // Check if we can reserve all required ingredients
-        if (!inventoryStockTracker.reserveIngredientsForOrder(orderId, tableOrder.getIngredients())) {
+        if (!inventoryStockTracker.reserveIngredientsForOrder(orderId, tableOrder.getIngredientCounts())) {
             logger.info("Not enough ingredients to fulfill the order");
             return false;
         }
@@ -86,6 +109,8 @@ public class Waiter extends StaffMember {
         
         // Mark the table's order as placed
         table.markOrderPlaced();
+        EventJournal.record(EventType.ORDER_PLACED, Recipe.parseOrderSequence(orderId),
+                table.getTableNumber(), tableOrder.getRecipes().size());
         return true;
     }
     
@@ -122,7 +147,7 @@ public class Waiter extends StaffMember {
         }
         
         // Check if we can reserve all required ingredients
-        if (!inventoryStockTracker.reserveIngredientsForOrder(orderId, tableOrder.getIngredients())) {
+        if (!inventoryStockTracker.reserveIngredientsForOrder(orderId, tableOrder.getIngredientCounts())) {
             logger.info("Not enough ingredients to fulfill the order");
             // Release any reservations we might have made (though there shouldn't be any)
             inventoryStockTracker.releaseReservedIngredients(orderId);
@@ -133,6 +158,8 @@ public class Waiter extends StaffMember {
         
         // Mark the table's order as placed
         table.markOrderPlaced();
+        EventJournal.record(EventType.ORDER_PLACED, Recipe.parseOrderSequence(orderId),
+                table.getTableNumber(), tableOrder.getRecipes().size());
         
         return orderId;
     }
@@ -147,7 +174,9 @@ public class Waiter extends StaffMember {
             throw new IllegalArgumentException("This table is not assigned to this waiter");
         }
         
-        System.out.println("Waiter delivering meal to table " + table.getTableNumber());
+        if (Diagnostics.isEnabled(DiagnosticChannel.STAFF, DiagnosticLevel.BASIC)) {
+            Diagnostics.record(DiagnosticChannel.STAFF, "waiter.deliver", "table", table.getTableNumber(), "meal", meal.getName());
+        }
         
         // Add the meal to the table's pending meals queue
         table.addPendingMeal(meal);
@@ -114,7 +114,7 @@ public class DynamicChefStrategy implements ChefStrategy {
     
     @Override
     public RecipeTask getNextTask(Station station) {
-        if (station == null || station.getBacklog().isEmpty()) {
+        if (station == null || !station.hasBacklogItems()) {
             return null;
         }
         
@@ -132,7 +132,7 @@ public class DynamicChefStrategy implements ChefStrategy {
         }
         
         // Simply get the first task in the backlog if no ready tasks found
-        return station.getBacklog().get(0);
+        return station.peekBacklog();
     }
     
     @Override
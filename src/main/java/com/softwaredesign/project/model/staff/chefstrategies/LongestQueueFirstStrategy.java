@@ -23,11 +23,11 @@ public class LongestQueueFirstStrategy implements ChefStrategy {
 
     @Override
     public RecipeTask getNextTask(Station station) {
-        if (station == null || station.getBacklog().isEmpty()) {
+        if (station == null || !station.hasBacklogItems()) {
             return null;
         }
         // Just get the first task from the queue
-        return station.getBacklog().get(0);
+        return station.peekBacklog();
     }
     
     @Override
@@ -23,7 +23,7 @@ public class OldestOrderFirstStrategy implements ChefStrategy {
 
     @Override
     public RecipeTask getNextTask(Station station) {
-        if (station == null || station.getBacklog().isEmpty()) {
+        if (station == null || !station.hasBacklogItems()) {
             return null;
         }
         
@@ -70,12 +70,12 @@ public class PriorityBasedChefStrategy implements ChefStrategy {
     
     @Override
     public RecipeTask getNextTask(Station station) {
-        if (station == null || station.getBacklog().isEmpty()) {
+        if (station == null || !station.hasBacklogItems()) {
             return null;
         }
         
         // Return the first task in the backlog
-        return station.getBacklog().get(0);
+        return station.peekBacklog();
     }
     
     @Override
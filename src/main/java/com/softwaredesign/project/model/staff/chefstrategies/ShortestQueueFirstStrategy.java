@@ -21,11 +21,11 @@ public class ShortestQueueFirstStrategy implements ChefStrategy {
 
     @Override
     public RecipeTask getNextTask(Station station) {
-        if (station == null || station.getBacklog().isEmpty()) {
+        if (station == null || !station.hasBacklogItems()) {
             return null;
         }
         // In shortest queue first, we just take the first task from the queue
-        return station.getBacklog().get(0);
+        return station.peekBacklog();
     }
     
     @Override
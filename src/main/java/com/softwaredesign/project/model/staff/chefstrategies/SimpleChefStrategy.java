@@ -35,12 +35,12 @@ public class SimpleChefStrategy implements ChefStrategy {
     
     @Override
     public RecipeTask getNextTask(Station station) {
-        if (station == null || station.getBacklog().isEmpty()) {
+        if (station == null || !station.hasBacklogItems()) {
             return null;
         }
         
         // Simply get the first task in the backlog
-        return station.getBacklog().get(0);
+        return station.peekBacklog();
     }
     
     @Override
@@ -0,0 +1,273 @@
+package com.softwaredesign.project.simulation;
+
+import java.io.OutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.slf4j.LoggerFactory;
+
+import com.softwaredesign.project.model.engine.TickProfiler;
+import com.softwaredesign.project.model.journal.EventJournal;
+import com.softwaredesign.project.model.kitchen.StationType;
+import com.softwaredesign.project.model.ledger.Ledger;
+import com.softwaredesign.project.model.ledger.LedgerCategory;
+import com.softwaredesign.project.model.metrics.LatencyStatistics;
+import com.softwaredesign.project.model.metrics.TimeSeriesRecorder;
+import com.softwaredesign.project.model.orderfulfillment.DispatchPolicy;
+import com.softwaredesign.project.model.orderfulfillment.SeatingEngine;
+import com.softwaredesign.project.model.orderfulfillment.WaiterDispatcher;
+import com.softwaredesign.project.model.staff.Waiter;
+import com.softwaredesign.project.model.singletons.BankBalanceSingleton;
+import com.softwaredesign.project.model.singletons.StatisticsSingleton;
+import com.softwaredesign.project.simulation.load.ArrivalCurve;
+import com.softwaredesign.project.simulation.load.LoadGenerator;
+import com.softwaredesign.project.simulation.load.SaturationSearch;
+
+import ch.qos.logback.classic.Level;
+
+/**
+ * Command line entry point for running the simulation without the TUI.
+ *
+ * Usage: HeadlessRunner [--config path] [--ticks n] [--stations n] [--prep n] [--grill n]
+ *                       [--plate n] [--chefs n] [--waiters n] [--tables n] [--seats n]
+ *                       [--parallel n] [--events] [--seed n] [--journal path]
+ *                       [--replay journal] [--load spec] [--ticks-per-hour n]
+ *                       [--stock n] [--saturation groupsPerHour] [--waiter-capacity n]
+ *                       [--dispatch least-loaded|section] [--latency-csv path]
+ *                       [--series path] [--series-capacity n] [--profile n] [--verbose]
+ *
+ * Logging is limited to warnings and console output is discarded during the run
+ * unless --verbose is given, since both would otherwise dominate the tick time.
+ * With --journal, every state transition is written to a binary event journal that
+ * JournalReader can turn into CSV. --replay re-runs a journaled run with the same seed and
+ * length and stops at the first tick whose events or state differ; give it the layout
+ * options and --events setting of the original run.
+ *
+ * --load replaces the demo customers with an arrival curve (see LoadGenerator.parseCurve),
+ * with one tick standing for 1/ticks-per-hour of a simulated hour. --saturation searches
+ * for the highest Poisson arrival rate the layout keeps up with, starting from the given
+ * rate. --stock sets the starting stock of every ingredient so long runs do not run dry.
+ * --waiter-capacity sets how many tables each waiter can visit per tick, and --dispatch
+ * chooses between giving tables to the least busy waiter and fixed sections.
+ * --latency-csv writes the order lifecycle latency percentiles to a CSV file. --series
+ * writes the gauges sampled every tick (backlogs, queued and ready orders, occupied tables,
+ * stock) as CSV, or as JSON lines if the path ends in .jsonl; only the last
+ * --series-capacity ticks are kept. --profile times every entity's read and write phase and
+ * counts its allocations, then prints the n entities that took the longest; it covers the
+ * tick engine only, so it reports nothing with --events.
+ */
+public class HeadlessRunner {
+    private static final int SATURATION_BISECTIONS = 4;
+
+    public static void main(String[] args) throws IOException {
+        String configPath = SimulationSettings.DEFAULT_CONFIG_PATH;
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals("--config")) {
+                configPath = args[i + 1];
+            }
+        }
+
+        SimulationSettings settings = SimulationSettings.fromConfig(configPath);
+        boolean verbose = false;
+        int parallelism = 0;
+        boolean eventDriven = false;
+        String journalPath = null;
+        String replayPath = null;
+        String loadSpec = null;
+        int ticksPerHour = LoadGenerator.DEFAULT_TICKS_PER_HOUR;
+        double saturationStart = 0;
+        String latencyCsvPath = null;
+        String seriesPath = null;
+        int profileTop = 0;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--config" -> i++;
+                case "--ticks" -> settings.setGameLengthTicks(intArg(args, ++i));
+                case "--stations" -> settings.setStationCountPerType(intArg(args, ++i));
+                case "--prep" -> settings.setStationCount(StationType.PREP, intArg(args, ++i));
+                case "--grill" -> settings.setStationCount(StationType.GRILL, intArg(args, ++i));
+                case "--plate" -> settings.setStationCount(StationType.PLATE, intArg(args, ++i));
+                case "--chefs" -> settings.setChefCount(intArg(args, ++i));
+                case "--waiters" -> settings.setWaiterCount(intArg(args, ++i));
+                case "--tables" -> settings.setTableCount(intArg(args, ++i));
+                case "--seats" -> settings.setTotalSeats(intArg(args, ++i));
+                case "--parallel" -> parallelism = intArg(args, ++i);
+                case "--events" -> eventDriven = true;
+                case "--seed" -> settings.setSeed(Long.parseLong(args[++i]));
+                case "--journal" -> journalPath = args[++i];
+                case "--replay" -> replayPath = args[++i];
+                case "--load" -> loadSpec = args[++i];
+                case "--ticks-per-hour" -> ticksPerHour = intArg(args, ++i);
+                case "--stock" -> settings.setIngredientStock(intArg(args, ++i));
+                case "--saturation" -> saturationStart = Double.parseDouble(args[++i]);
+                case "--waiter-capacity" -> settings.setWaiterServiceCapacity(intArg(args, ++i));
+                case "--dispatch" -> settings.setDispatchPolicy(
+                        DispatchPolicy.valueOf(args[++i].toUpperCase().replace('-', '_')));
+                case "--latency-csv" -> latencyCsvPath = args[++i];
+                case "--series" -> seriesPath = args[++i];
+                case "--series-capacity" -> settings.setTimeSeriesCapacity(intArg(args, ++i));
+                case "--profile" -> profileTop = intArg(args, ++i);
+                case "--verbose" -> verbose = true;
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        PrintStream console = System.out;
+        if (!verbose) {
+            setRootLogLevel(Level.WARN);
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+
+        if (replayPath != null) {
+            replay(Paths.get(replayPath), settings, journalPath, eventDriven, console);
+            return;
+        }
+        if (saturationStart > 0) {
+            findSaturation(settings, ticksPerHour, saturationStart, console);
+            return;
+        }
+        ArrivalCurve curve = loadSpec != null
+                ? LoadGenerator.parseCurve(loadSpec, ticksPerHour, settings.getMaxTableCapacity())
+                : null;
+
+        HeadlessSimulation simulation;
+        EventJournal journal = journalPath != null ? EventJournal.start(Paths.get(journalPath)) : null;
+        try {
+            simulation = new HeadlessSimulation(settings);
+            if (parallelism > 0) {
+                ForkJoinPool pool = new ForkJoinPool(parallelism);
+                simulation.getGameEngine().enableParallelReadPhase(pool);
+            }
+            simulation.setEventDriven(eventDriven);
+            if (profileTop > 0) {
+                simulation.getGameEngine().setProfiler(new TickProfiler());
+            }
+            if (curve != null) {
+                simulation.applyLoad(curve);
+            }
+            simulation.run();
+        } finally {
+            System.setOut(console);
+            EventJournal.stop();
+        }
+
+        console.printf("Simulated %d ticks in %.2f ms (%.0f ticks/sec)%n",
+                simulation.getTickCount(),
+                simulation.getElapsedNanos() / 1_000_000.0,
+                simulation.getTicksPerSecond());
+        if (simulation.isEventDriven()) {
+            console.printf("Event engine performed %d entity steps%n", simulation.getEventEngine().getEntitySteps());
+        }
+        LoadGenerator load = simulation.getLoadGenerator();
+        if (load != null) {
+            console.printf("Load: %d groups (%d customers) arrived, %d seated, %d wait-listed, %d turned away; %d orders pending%n",
+                    load.getGroupsArrived(), load.getCustomersArrived(), load.getGroupsSeated(),
+                    load.getGroupsWaitListed(), load.getGroupsTurnedAway(),
+                    simulation.getOrderManager().getPendingOrders().size());
+        }
+        SeatingEngine seating = simulation.getFloorManager().getSeatingEngine();
+        console.printf("Seating: %.0f%% of seats used, %d groups seated from the wait-list, %d across tables, "
+                + "%d abandoned, %d still waiting; average wait %.1f ticks, longest %d ticks%n",
+                100 * seating.getSeatUtilization(), seating.getGroupsSeatedFromWaitList(), seating.getGroupsCombined(),
+                seating.getGroupsAbandoned(), seating.getWaitingGroupCount(), seating.getAverageWaitTicks(),
+                seating.getLongestWaitTicks());
+        WaiterDispatcher dispatcher = simulation.getFloorManager().getWaiterDispatcher();
+        StringBuilder visits = new StringBuilder();
+        for (Waiter waiter : simulation.getFloorManager().getWaiters()) {
+            visits.append(visits.length() == 0 ? "" : ", ").append(dispatcher.getTotalVisits(waiter));
+        }
+        console.printf("Waiters: %s dispatch, table visits per waiter [%s], %d visits deferred%n",
+                dispatcher.getPolicy(), visits, dispatcher.getVisitsDeferred());
+        Ledger ledger = BankBalanceSingleton.getInstance().getLedger();
+        console.printf("Ledger: balance %s, revenue %s, wages %s, ingredients %s from %d entries%n",
+                Ledger.format(ledger.getBalanceCents()), Ledger.format(ledger.getTotalCents(LedgerCategory.REVENUE)),
+                Ledger.format(ledger.getTotalCents(LedgerCategory.WAGES)),
+                Ledger.format(ledger.getTotalCents(LedgerCategory.INGREDIENT_COST)), ledger.getEntryCount());
+        LatencyStatistics latencies = StatisticsSingleton.getInstance().getLatencies();
+        for (Map.Entry<String, String> entry : latencies.getSummary().entrySet()) {
+            console.printf("Latency: %s %s ticks%n", entry.getKey(), entry.getValue());
+        }
+        if (latencyCsvPath != null) {
+            latencies.export(Paths.get(latencyCsvPath));
+            console.println("Wrote latency percentiles to " + latencyCsvPath);
+        }
+        if (seriesPath != null) {
+            TimeSeriesRecorder timeSeries = StatisticsSingleton.getInstance().getTimeSeries();
+            timeSeries.export(Paths.get(seriesPath));
+            console.printf("Wrote %d ticks of %d gauges to %s (%d sampled)%n", timeSeries.getRetainedCount(),
+                    timeSeries.getGaugeNames().size(), seriesPath, timeSeries.getSampleCount());
+        }
+        TickProfiler profiler = simulation.getGameEngine().getProfiler();
+        if (profiler != null) {
+            for (String line : profiler.formatReport(profileTop)) {
+                console.println(line);
+            }
+        }
+        if (journal != null) {
+            console.printf("Journaled %d events to %s%n", journal.getRecordCount(), journal.getPath());
+        }
+        console.println(StatisticsSingleton.getInstance().getStatsSummary());
+    }
+
+    private static void replay(Path recorded, SimulationSettings settings, String journalPath,
+            boolean eventDriven, PrintStream console) throws IOException {
+        Path replayJournal = journalPath != null ? Paths.get(journalPath) : Files.createTempFile("replay", ".journal");
+        ReplayVerifier verifier;
+        try {
+            verifier = ReplayVerifier.replay(recorded, settings, replayJournal, eventDriven);
+        } finally {
+            System.setOut(console);
+            if (journalPath == null) {
+                Files.deleteIfExists(replayJournal);
+            }
+        }
+
+        console.printf("Replayed %d ticks with seed %d in %.2f ms (%.0f ticks/sec)%n",
+                verifier.getTicksReplayed(), settings.getSeed(),
+                verifier.getElapsedNanos() / 1_000_000.0,
+                verifier.getElapsedNanos() == 0 ? 0 : verifier.getTicksReplayed() / (verifier.getElapsedNanos() / 1_000_000_000.0));
+        if (verifier.isMatched()) {
+            console.println("Replay matches the recorded run");
+        } else {
+            console.println("Replay diverged at tick " + verifier.getDivergentTick() + ": " + verifier.getMismatch());
+            System.exit(1);
+        }
+    }
+
+    private static void findSaturation(SimulationSettings settings, int ticksPerHour, double startGroupsPerHour,
+            PrintStream console) {
+        SaturationSearch search = new SaturationSearch(settings, ticksPerHour, SaturationSearch.DEFAULT_KEEP_UP_RATIO);
+        double saturation;
+        try {
+            saturation = search.search(startGroupsPerHour, SATURATION_BISECTIONS);
+        } finally {
+            System.setOut(console);
+        }
+
+        for (SaturationSearch.Probe probe : search.getProbes()) {
+            console.println(probe);
+        }
+        console.printf("Kept up with %.0f groups per simulated hour (%d ticks per hour, %d ticks per probe)%n",
+                saturation, ticksPerHour, settings.getGameLengthTicks());
+    }
+
+    private static int intArg(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index - 1]);
+        }
+        return Integer.parseInt(args[index]);
+    }
+
+    private static void setRootLogLevel(Level level) {
+        org.slf4j.Logger root = LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        if (root instanceof ch.qos.logback.classic.Logger) {
+            ((ch.qos.logback.classic.Logger) root).setLevel(level);
+        }
+    }
+}
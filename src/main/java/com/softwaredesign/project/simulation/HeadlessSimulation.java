@@ -0,0 +1,382 @@
+package com.softwaredesign.project.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.softwaredesign.project.demo.DemoHelper;
+import com.softwaredesign.project.model.engine.DiscreteEventEngine;
+import com.softwaredesign.project.model.engine.GameEngine;
+import com.softwaredesign.project.model.inventory.Inventory;
+import com.softwaredesign.project.model.inventory.InventoryStockTracker;
+import com.softwaredesign.project.model.journal.EventJournal;
+import com.softwaredesign.project.model.journal.EventType;
+import com.softwaredesign.project.model.kitchen.Kitchen;
+import com.softwaredesign.project.model.kitchen.Station;
+import com.softwaredesign.project.model.kitchen.StationManager;
+import com.softwaredesign.project.model.kitchen.StationType;
+import com.softwaredesign.project.model.ledger.LedgerCategory;
+import com.softwaredesign.project.model.menu.BurgerRecipe;
+import com.softwaredesign.project.model.menu.KebabRecipe;
+import com.softwaredesign.project.model.menu.Menu;
+import com.softwaredesign.project.model.metrics.RestaurantGauges;
+import com.softwaredesign.project.model.metrics.TimeSeriesRecorder;
+import com.softwaredesign.project.model.order.OrderManager;
+import com.softwaredesign.project.model.orderfulfillment.CollectionPoint;
+import com.softwaredesign.project.model.orderfulfillment.FloorManager;
+import com.softwaredesign.project.model.orderfulfillment.SeatingPlan;
+import com.softwaredesign.project.model.orderfulfillment.Table;
+import com.softwaredesign.project.model.singletons.BankBalanceSingleton;
+import com.softwaredesign.project.model.singletons.RandomSingleton;
+import com.softwaredesign.project.model.singletons.StatisticsSingleton;
+import com.softwaredesign.project.model.staff.Chef;
+import com.softwaredesign.project.model.staff.ChefManager;
+import com.softwaredesign.project.model.staff.Waiter;
+import com.softwaredesign.project.model.staff.chefstrategies.SimpleChefStrategy;
+import com.softwaredesign.project.model.staff.staffspeeds.BaseSpeed;
+import com.softwaredesign.project.simulation.load.ArrivalCurve;
+import com.softwaredesign.project.simulation.load.LoadGenerator;
+
+/**
+ * Builds the restaurant entity graph without any views and steps the GameEngine
+ * as fast as possible. Each tick does the same work as the GameEntryPoint timer
+ * (demo update, customer seating, engine step) but skips the view refresh.
+ * With a load applied, customers come from a LoadGenerator instead of the demo.
+ *
+ * All randomness is drawn from RandomSingleton, seeded from the settings, so two
+ * simulations with the same settings and seed go through the same states. When an event
+ * journal is open the seed is journaled first and a digest of the state after every
+ * tick, which is what ReplayVerifier compares. The restaurant gauges are sampled into the
+ * statistics time series after every tick.
+ */
+public class HeadlessSimulation {
+    private static final Logger logger = LoggerFactory.getLogger(HeadlessSimulation.class);
+
+    private final SimulationSettings settings;
+    private final GameEngine gameEngine;
+    private Inventory inventory;
+    private CollectionPoint collectionPoint;
+    private StationManager stationManager;
+    private OrderManager orderManager;
+    private Kitchen kitchen;
+    private Menu menu;
+    private SeatingPlan seatingPlan;
+    private ChefManager chefManager;
+    private FloorManager floorManager;
+    private DemoHelper demoHelper;
+    private final List<Waiter> waiters = new ArrayList<>();
+    private DiscreteEventEngine eventEngine;
+    private LoadGenerator loadGenerator;
+
+    private int tickCount = 0;
+    private long elapsedNanos = 0;
+
+    /**
+     * Creates a simulation and builds its entity graph. The GameEngine and the
+     * statistics, bank and random singletons and the order numbers are reset, so only one
+     * simulation can run at a time.
+     * @param settings The restaurant layout to build
+     */
+    public HeadlessSimulation(SimulationSettings settings) {
+        this.settings = settings;
+
+        GameEngine.reset();
+        StatisticsSingleton.reset();
+        StatisticsSingleton.getInstance().setTimeSeries(new TimeSeriesRecorder(settings.getTimeSeriesCapacity()));
+        BankBalanceSingleton.reset();
+        RandomSingleton.reset(settings.getSeed());
+        OrderManager.resetOrderIds();
+        this.gameEngine = GameEngine.getInstance();
+        EventJournal.record(EventType.RUN_STARTED, EventJournal.NO_ORDER,
+                (int) (settings.getSeed() >>> 32), (int) settings.getSeed());
+
+        buildEntities();
+    }
+
+    private void buildEntities() {
+        inventory = new Inventory();
+        loadInventory(settings.getConfig().path("inventory").path("stations"));
+        // As on the setup screens, the configured balance is what is left after buying the
+        // opening stock, and hiring staff is paid out of it
+        BankBalanceSingleton.getInstance().setBankBalance(settings.getInitialBankBalance());
+
+        collectionPoint = new CollectionPoint();
+        stationManager = new StationManager(collectionPoint);
+        orderManager = new OrderManager(collectionPoint, stationManager);
+        kitchen = new Kitchen(orderManager, collectionPoint, stationManager);
+        menu = createMenu();
+
+        // StationManager registers each station with the GameEngine as it is added
+        for (StationType type : StationType.values()) {
+            for (int i = 0; i < settings.getStationCount(type); i++) {
+                Station station = new Station(type, collectionPoint);
+                station.setKitchen(kitchen);
+                stationManager.addStation(station);
+            }
+        }
+
+        chefManager = new ChefManager();
+        for (int i = 0; i < settings.getChefCount(); i++) {
+            Chef chef = new Chef("Chef " + (i + 1), settings.getChefPay(), new BaseSpeed(),
+                    new SimpleChefStrategy(), stationManager);
+            for (StationType type : StationType.values()) {
+                if (!stationManager.getStationsByType(type).isEmpty()) {
+                    chef.assignToStation(type);
+                }
+            }
+            chefManager.addChef(chef);
+            BankBalanceSingleton.getInstance().post(LedgerCategory.WAGES, -settings.getChefPay(), chef.getName());
+        }
+
+        InventoryStockTracker stockTracker = new InventoryStockTracker(inventory);
+
+        seatingPlan = new SeatingPlan(settings.getTableCount(), settings.getTotalSeats(),
+                settings.getMaxTableCapacity(), menu);
+        createWaiters(stockTracker);
+
+        floorManager = new FloorManager(seatingPlan, waiters, orderManager);
+        floorManager.setCollectionPoint(collectionPoint);
+        floorManager.getWaiterDispatcher().setPolicy(settings.getDispatchPolicy());
+        floorManager.getWaiterDispatcher().setServiceCapacity(settings.getWaiterServiceCapacity());
+
+        gameEngine.registerEntity(kitchen);
+        gameEngine.registerEntity(chefManager);
+        gameEngine.registerEntity(floorManager);
+
+        demoHelper = new DemoHelper(floorManager, kitchen, orderManager, seatingPlan, chefManager, inventory);
+        demoHelper.setupChefStrategies();
+
+        RestaurantGauges.register(StatisticsSingleton.getInstance().getTimeSeries(), stationManager, orderManager,
+                collectionPoint, seatingPlan, inventory);
+
+        logger.info("[HeadlessSimulation] Built {} stations, {} chefs, {} waiters and {} tables",
+                stationManager.getAllStations().size(), settings.getChefCount(), waiters.size(),
+                seatingPlan.getAllTables().size());
+    }
+
+    private void loadInventory(JsonNode stations) {
+        for (StationType stationType : StationType.values()) {
+            JsonNode stationNode = stations.path(stationType.toString());
+            if (stationNode.isMissingNode()) {
+                continue;
+            }
+            stationNode.fields().forEachRemaining(entry -> {
+                int stock = settings.getIngredientStock() > 0 ? settings.getIngredientStock()
+                        : entry.getValue().path("stock").asInt();
+                double price = entry.getValue().path("price").asDouble();
+                inventory.addIngredient(entry.getKey(), stock, price, stationType);
+                BankBalanceSingleton.getInstance().post(LedgerCategory.INGREDIENT_COST, -stock * price, entry.getKey());
+            });
+        }
+    }
+
+    private Menu createMenu() {
+        Menu newMenu = new Menu(inventory);
+        for (String recipeName : settings.getRecipes()) {
+            switch (recipeName.toLowerCase()) {
+                case "burger" -> newMenu.addRecipe(new BurgerRecipe(inventory));
+                case "kebab" -> newMenu.addRecipe(new KebabRecipe(inventory));
+                default -> logger.warn("[HeadlessSimulation] Unknown recipe: {} - skipping", recipeName);
+            }
+        }
+        return newMenu;
+    }
+
+    /**
+     * Spreads the tables evenly across the waiters, as the configuration screen does.
+     */
+    private void createWaiters(InventoryStockTracker stockTracker) {
+        List<Table> allTables = seatingPlan.getAllTables();
+        int waiterCount = settings.getWaiterCount();
+        int tablesPerWaiter = allTables.size() / waiterCount;
+        int extraTables = allTables.size() % waiterCount;
+        int tableIndex = 0;
+
+        for (int w = 0; w < waiterCount; w++) {
+            Waiter waiter = new Waiter(settings.getWaiterPay(), orderManager, menu, stockTracker);
+            int tablesToAssign = tablesPerWaiter + (w < extraTables ? 1 : 0);
+            for (int i = 0; i < tablesToAssign && tableIndex < allTables.size(); i++) {
+                waiter.assignTable(allTables.get(tableIndex++));
+            }
+            waiters.add(waiter);
+            BankBalanceSingleton.getInstance().post(LedgerCategory.WAGES, -settings.getWaiterPay(), "Waiter " + (w + 1));
+        }
+    }
+
+    /**
+     * Switches between stepping every entity each tick and the discrete event engine,
+     * which only steps entities that have something to do.
+     * @param eventDriven true to use the discrete event engine
+     */
+    public void setEventDriven(boolean eventDriven) {
+        if (eventDriven && eventEngine == null) {
+            eventEngine = new DiscreteEventEngine(gameEngine);
+        } else if (!eventDriven && eventEngine != null) {
+            eventEngine.detach();
+            eventEngine = null;
+        }
+    }
+
+    public boolean isEventDriven() {
+        return eventEngine != null;
+    }
+
+    /**
+     * Replaces the demo customers with groups arriving along the given curve. The groups are
+     * seated through the SeatingPlan and order through the waiters, and the FloorManager
+     * stops spawning its own customers.
+     * @param curve The arrivals to generate
+     * @return The generator, which counts the groups that arrived and were seated
+     */
+    public LoadGenerator applyLoad(ArrivalCurve curve) {
+        loadGenerator = new LoadGenerator(curve, floorManager);
+        floorManager.setSpawningCustomers(false);
+        return loadGenerator;
+    }
+
+    /**
+     * @return The load generator, or null when the demo supplies the customers
+     */
+    public LoadGenerator getLoadGenerator() {
+        return loadGenerator;
+    }
+
+    /**
+     * Advances the simulation by one tick. Arrivals are drawn and the gauges sampled on
+     * every tick either way; with the discrete event engine only the entities due on this
+     * tick are stepped, so a tick where every entity sleeps costs little more than that.
+     */
+    public void tick() {
+        tickCount++;
+        if (loadGenerator != null) {
+            loadGenerator.generate(tickCount);
+        } else {
+            demoHelper.update(tickCount);
+            demoHelper.seatCustomers();
+        }
+        if (eventEngine != null) {
+            eventEngine.runUntil(tickCount);
+        } else {
+            gameEngine.step();
+        }
+        StatisticsSingleton.getInstance().getTimeSeries().sample(tickCount);
+        if (EventJournal.isActive()) {
+            EventJournal.record(EventType.TICK_STATE, EventJournal.NO_ORDER, stateDigest(), getCustomersSeated());
+        }
+    }
+
+    /**
+     * Hashes the state a replay has to reproduce: what every station is cooking and how far
+     * it got, its backlog, each table's customers, order and pending meals, and the bank
+     * balance. The tables are covered by the seating plan's running digest rather than
+     * walked; the stations are few and a sleeping station's progress is only known when
+     * asked, so they are still read one by one.
+     * @return A digest that is equal for equal states on any run of the same build
+     */
+    public int stateDigest() {
+        int hash = 17;
+        for (Station station : stationManager.getAllStations()) {
+            hash = 31 * hash + station.getType().ordinal();
+            hash = 31 * hash + (station.getCurrentTask() != null ? station.getCurrentTask().getName().hashCode() : 0);
+            hash = 31 * hash + (station.getCurrentRecipe() != null ? (int) station.getCurrentRecipe().getOrderSequence() : 0);
+            hash = 31 * hash + station.getCookingProgress();
+            hash = 31 * hash + station.getBacklogSize();
+            hash = 31 * hash + (station.hasChef() ? 1 : 0);
+        }
+        hash = 31 * hash + seatingPlan.getTableStateDigest();
+        hash = 31 * hash + orderManager.getPendingOrderCount();
+        return 31 * hash + Double.hashCode(BankBalanceSingleton.getInstance().getBankBalance());
+    }
+
+    /**
+     * @return The number of customers currently sitting at a table
+     */
+    public int getCustomersSeated() {
+        return seatingPlan.getSeatedCustomerCount();
+    }
+
+    /**
+     * Runs the configured number of ticks as fast as possible.
+     */
+    public void run() {
+        gameEngine.start();
+        long start = System.nanoTime();
+        while (tickCount < settings.getGameLengthTicks()) {
+            tick();
+        }
+        elapsedNanos += System.nanoTime() - start;
+        gameEngine.stop();
+    }
+
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * @return Wall-clock time spent inside run(), in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return Simulated ticks per second of wall-clock time
+     */
+    public double getTicksPerSecond() {
+        return elapsedNanos == 0 ? 0 : tickCount / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    /**
+     * @return The discrete event engine, or null when stepping every tick
+     */
+    public DiscreteEventEngine getEventEngine() {
+        return eventEngine;
+    }
+
+    public GameEngine getGameEngine() {
+        return gameEngine;
+    }
+
+    public Kitchen getKitchen() {
+        return kitchen;
+    }
+
+    public StationManager getStationManager() {
+        return stationManager;
+    }
+
+    public OrderManager getOrderManager() {
+        return orderManager;
+    }
+
+    public CollectionPoint getCollectionPoint() {
+        return collectionPoint;
+    }
+
+    public Inventory getInventory() {
+        return inventory;
+    }
+
+    public Menu getMenu() {
+        return menu;
+    }
+
+    public SeatingPlan getSeatingPlan() {
+        return seatingPlan;
+    }
+
+    public ChefManager getChefManager() {
+        return chefManager;
+    }
+
+    public FloorManager getFloorManager() {
+        return floorManager;
+    }
+
+    public List<Waiter> getWaiters() {
+        return new ArrayList<>(waiters);
+    }
+}
@@ -0,0 +1,153 @@
+package com.softwaredesign.project.simulation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.softwaredesign.project.model.journal.EventJournal;
+import com.softwaredesign.project.model.journal.EventType;
+import com.softwaredesign.project.model.journal.JournalReader;
+import com.softwaredesign.project.model.journal.JournalRecord;
+
+/**
+ * Re-executes a run recorded with HeadlessRunner --journal and checks after every tick that
+ * the new run journals exactly the same events and state digests, ignoring wall-clock times.
+ *
+ * The seed and the number of ticks come from the recorded journal; the restaurant layout
+ * has to be given the same options as the recorded run. A replay that matches is the same
+ * workload as the original, so its timing can be compared between builds.
+ */
+public class ReplayVerifier {
+    private final List<JournalRecord> expected;
+    private final EventJournal actual;
+    private long checked;
+    private String mismatch;
+    private long divergentTick = -1;
+    private long ticksReplayed;
+    private long elapsedNanos;
+
+    public ReplayVerifier(List<JournalRecord> expected, EventJournal actual) {
+        this.expected = expected;
+        this.actual = actual;
+    }
+
+    /**
+     * Replays a recorded journal.
+     * @param recorded The journal of the original run
+     * @param settings The layout of the original run; its seed and length are overwritten
+     * @param journalPath Where to write the journal of the replay
+     * @param eventDriven true to replay with the discrete event engine
+     * @return The verifier, holding the first mismatch if the runs diverged
+     */
+    public static ReplayVerifier replay(Path recorded, SimulationSettings settings, Path journalPath,
+            boolean eventDriven) throws IOException {
+        List<JournalRecord> expected = JournalReader.read(recorded);
+        settings.setSeed(seedOf(expected));
+        settings.setGameLengthTicks(countTicks(expected));
+
+        EventJournal journal = EventJournal.start(journalPath);
+        try {
+            HeadlessSimulation simulation = new HeadlessSimulation(settings);
+            simulation.setEventDriven(eventDriven);
+            ReplayVerifier verifier = new ReplayVerifier(expected, journal);
+            verifier.run(simulation);
+            return verifier;
+        } finally {
+            EventJournal.stop();
+        }
+    }
+
+    /**
+     * @return The seed journaled by the RUN_STARTED record
+     * @throws IllegalArgumentException if the journal does not start with a seeded run
+     */
+    public static long seedOf(List<JournalRecord> records) {
+        for (JournalRecord record : records) {
+            if (record.getType() == EventType.RUN_STARTED) {
+                return ((long) record.getA() << 32) | (record.getB() & 0xFFFFFFFFL);
+            }
+        }
+        throw new IllegalArgumentException("Journal has no RUN_STARTED record, so the run cannot be replayed");
+    }
+
+    private static int countTicks(List<JournalRecord> records) {
+        int ticks = 0;
+        for (JournalRecord record : records) {
+            if (record.getType() == EventType.TICK_STATE) {
+                ticks++;
+            }
+        }
+        return ticks;
+    }
+
+    private void run(HeadlessSimulation simulation) {
+        simulation.getGameEngine().start();
+        verifyNewRecords(); // the RUN_STARTED record
+        int ticks = countTicks(expected);
+        while (mismatch == null && ticksReplayed < ticks) {
+            long start = System.nanoTime();
+            simulation.tick();
+            elapsedNanos += System.nanoTime() - start;
+            ticksReplayed++;
+            verifyNewRecords();
+        }
+        simulation.getGameEngine().stop();
+        if (mismatch == null && checked < expected.size()) {
+            fail(expected.get((int) checked).getTick(), "replay ended before " + expected.get((int) checked));
+        }
+    }
+
+    /**
+     * Compares the records journaled since the last call with the recording.
+     * @return true while the replay matches
+     */
+    public boolean verifyNewRecords() {
+        long count = actual.getRecordCount();
+        while (mismatch == null && checked < count) {
+            JournalRecord got = actual.getRecord(checked);
+            if (checked >= expected.size()) {
+                fail(got.getTick(), "unexpected " + got);
+            } else if (!expected.get((int) checked).sameEventAs(got)) {
+                JournalRecord want = expected.get((int) checked);
+                fail(want.getTick(), "expected " + want + " but got " + got);
+            } else {
+                checked++;
+            }
+        }
+        return mismatch == null;
+    }
+
+    private void fail(long tick, String message) {
+        divergentTick = tick;
+        mismatch = "Record " + checked + ": " + message;
+    }
+
+    public boolean isMatched() {
+        return mismatch == null;
+    }
+
+    /**
+     * @return A description of the first differing record, or null if the runs matched
+     */
+    public String getMismatch() {
+        return mismatch;
+    }
+
+    /**
+     * @return The tick of the first differing record, or -1 if the runs matched
+     */
+    public long getDivergentTick() {
+        return divergentTick;
+    }
+
+    public long getTicksReplayed() {
+        return ticksReplayed;
+    }
+
+    /**
+     * @return Wall-clock time spent ticking the replay, excluding the checks
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,251 @@
+package com.softwaredesign.project.simulation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softwaredesign.project.model.kitchen.StationType;
+import com.softwaredesign.project.model.metrics.TimeSeriesRecorder;
+import com.softwaredesign.project.model.orderfulfillment.DispatchPolicy;
+import com.softwaredesign.project.model.orderfulfillment.WaiterDispatcher;
+import com.softwaredesign.project.model.singletons.RandomSingleton;
+
+/**
+ * The restaurant layout used by a headless simulation.
+ * Values the configuration screens would normally ask for (station counts, chefs,
+ * waiters, tables) start from defaults and can be overridden before the simulation is built.
+ */
+public class SimulationSettings {
+    public static final String DEFAULT_CONFIG_PATH = "src/main/config.json";
+
+    private final JsonNode config;
+    private int gameLengthTicks;
+    private double initialBankBalance;
+    private final Map<StationType, Integer> stationCounts = new EnumMap<>(StationType.class);
+    private int chefCount = 2;
+    private int waiterCount = 3;
+    private int tableCount = 10;
+    private int totalSeats = 40;
+    private int maxTableCapacity;
+    private double chefPay;
+    private double waiterPay;
+    private List<String> recipes = new ArrayList<>(List.of("burger", "kebab"));
+    private long seed;
+    private int ingredientStock;
+    private int waiterServiceCapacity;
+    private DispatchPolicy dispatchPolicy;
+    private int timeSeriesCapacity = TimeSeriesRecorder.DEFAULT_CAPACITY;
+
+    private SimulationSettings(JsonNode config) {
+        this.config = config;
+        this.gameLengthTicks = config.path("gameLengthTicks").asInt(100);
+        this.initialBankBalance = config.path("initialBankBalance").asDouble(1000.0);
+        this.maxTableCapacity = config.path("diningRoomRules").path("maxGroupSize").asInt(10);
+        this.chefPay = config.path("staffRules").path("chefs").path("standardPay").asDouble(15.0);
+        this.waiterPay = config.path("staffRules").path("waiters").path("standardPay").asDouble(10.0);
+        this.waiterServiceCapacity = config.path("staffRules").path("waiters").path("serviceCapacityPerTick")
+                .asInt(WaiterDispatcher.DEFAULT_SERVICE_CAPACITY);
+        this.dispatchPolicy = DispatchPolicy.valueOf(config.path("staffRules").path("waiters").path("dispatchPolicy")
+                .asText(DispatchPolicy.LEAST_LOADED.name()));
+        this.seed = config.has("seed") ? config.path("seed").asLong() : RandomSingleton.defaultSeed();
+
+        int minInstances = config.path("kitchenRules").path("minInstancesOfStation").asInt(1);
+        for (StationType type : StationType.values()) {
+            stationCounts.put(type, minInstances);
+        }
+    }
+
+    /**
+     * Loads settings from the default config.json.
+     * @return The settings read from the configuration file
+     */
+    public static SimulationSettings fromConfig() {
+        return fromConfig(DEFAULT_CONFIG_PATH);
+    }
+
+    /**
+     * Loads settings from a configuration file.
+     * @param configPath Path to the config.json to read
+     * @return The settings read from the configuration file
+     */
+    public static SimulationSettings fromConfig(String configPath) {
+        try {
+            String jsonContent = Files.readString(Paths.get(configPath));
+            ObjectMapper mapper = new ObjectMapper();
+            return new SimulationSettings(mapper.readTree(jsonContent));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load configuration from " + configPath, e);
+        }
+    }
+
+    /**
+     * @return The parsed configuration file, for sections such as the inventory
+     */
+    public JsonNode getConfig() {
+        return config;
+    }
+
+    public int getGameLengthTicks() {
+        return gameLengthTicks;
+    }
+
+    public void setGameLengthTicks(int gameLengthTicks) {
+        this.gameLengthTicks = gameLengthTicks;
+    }
+
+    public double getInitialBankBalance() {
+        return initialBankBalance;
+    }
+
+    public int getStationCount(StationType type) {
+        return stationCounts.get(type);
+    }
+
+    public void setStationCount(StationType type, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Station count cannot be negative");
+        }
+        stationCounts.put(type, count);
+    }
+
+    /**
+     * Sets the same number of stations for every station type.
+     * @param count The number of stations of each type
+     */
+    public void setStationCountPerType(int count) {
+        for (StationType type : StationType.values()) {
+            setStationCount(type, count);
+        }
+    }
+
+    public int getChefCount() {
+        return chefCount;
+    }
+
+    public void setChefCount(int chefCount) {
+        this.chefCount = chefCount;
+    }
+
+    public int getWaiterCount() {
+        return waiterCount;
+    }
+
+    public void setWaiterCount(int waiterCount) {
+        if (waiterCount <= 0) {
+            throw new IllegalArgumentException("At least one waiter is required");
+        }
+        this.waiterCount = waiterCount;
+    }
+
+    public int getTableCount() {
+        return tableCount;
+    }
+
+    public void setTableCount(int tableCount) {
+        this.tableCount = tableCount;
+    }
+
+    public int getTotalSeats() {
+        return totalSeats;
+    }
+
+    public void setTotalSeats(int totalSeats) {
+        this.totalSeats = totalSeats;
+    }
+
+    public int getMaxTableCapacity() {
+        return maxTableCapacity;
+    }
+
+    public void setMaxTableCapacity(int maxTableCapacity) {
+        this.maxTableCapacity = maxTableCapacity;
+    }
+
+    public double getChefPay() {
+        return chefPay;
+    }
+
+    public double getWaiterPay() {
+        return waiterPay;
+    }
+
+    public List<String> getRecipes() {
+        return new ArrayList<>(recipes);
+    }
+
+    public void setRecipes(List<String> recipes) {
+        this.recipes = new ArrayList<>(recipes);
+    }
+
+    /**
+     * @return The seed every random stream of the simulation is derived from
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @return The stock every ingredient starts with, or 0 to use the stock in the configuration
+     */
+    public int getIngredientStock() {
+        return ingredientStock;
+    }
+
+    /**
+     * Overrides the configured starting stock of every ingredient, so long load runs are
+     * limited by the kitchen rather than by running out of ingredients.
+     * @param ingredientStock The starting stock, or 0 to use the configuration
+     */
+    public void setIngredientStock(int ingredientStock) {
+        if (ingredientStock < 0) {
+            throw new IllegalArgumentException("Ingredient stock cannot be negative");
+        }
+        this.ingredientStock = ingredientStock;
+    }
+
+    /**
+     * @return The table visits each waiter can make per tick
+     */
+    public int getWaiterServiceCapacity() {
+        return waiterServiceCapacity;
+    }
+
+    public void setWaiterServiceCapacity(int waiterServiceCapacity) {
+        if (waiterServiceCapacity <= 0) {
+            throw new IllegalArgumentException("Waiter service capacity must be positive");
+        }
+        this.waiterServiceCapacity = waiterServiceCapacity;
+    }
+
+    public DispatchPolicy getDispatchPolicy() {
+        return dispatchPolicy;
+    }
+
+    public void setDispatchPolicy(DispatchPolicy dispatchPolicy) {
+        this.dispatchPolicy = dispatchPolicy;
+    }
+
+    /**
+     * @return The number of ticks of gauge samples kept in the statistics time series
+     */
+    public int getTimeSeriesCapacity() {
+        return timeSeriesCapacity;
+    }
+
+    public void setTimeSeriesCapacity(int timeSeriesCapacity) {
+        if (timeSeriesCapacity <= 0) {
+            throw new IllegalArgumentException("Time series capacity must be positive");
+        }
+        this.timeSeriesCapacity = timeSeriesCapacity;
+    }
+}
@@ -0,0 +1,18 @@
+package com.softwaredesign.project.simulation.load;
+
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+/**
+ * How many groups of customers reach the restaurant on each tick, and how large they are.
+ * A curve may keep state between ticks, so each run needs its own instance.
+ */
+public interface ArrivalCurve {
+    /**
+     * Reports the groups arriving on one tick. Ticks are passed in increasing order.
+     * @param tick The current tick, counted from 1
+     * @param random The stream to draw arrivals from
+     * @param groupSizes Receives the size of every group arriving on this tick
+     */
+    void arrivals(long tick, Random random, IntConsumer groupSizes);
+}
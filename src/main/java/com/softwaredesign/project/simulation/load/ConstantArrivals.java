@@ -0,0 +1,36 @@
+package com.softwaredesign.project.simulation.load;
+
+import java.util.Random;
+
+/**
+ * Groups arrive at evenly spaced ticks at a fixed rate. The fraction of a group left over
+ * on each tick is carried to the next, so the total over a run matches the rate exactly.
+ */
+public class ConstantArrivals extends RateArrivals {
+    // Absorbs the rounding error of adding up fractions, which would otherwise lose a group
+    private static final double ROUNDING_SLACK = 1e-9;
+
+    private final double groupsPerHour;
+    private double carry;
+
+    public ConstantArrivals(double groupsPerHour, int ticksPerHour, int maxGroupSize) {
+        super(ticksPerHour, maxGroupSize);
+        if (groupsPerHour < 0) {
+            throw new IllegalArgumentException("Arrival rate cannot be negative");
+        }
+        this.groupsPerHour = groupsPerHour;
+    }
+
+    @Override
+    public double groupsPerHour(long tick) {
+        return groupsPerHour;
+    }
+
+    @Override
+    protected int groupCount(double expected, Random random) {
+        carry += expected;
+        int groups = (int) (carry + ROUNDING_SLACK);
+        carry -= groups;
+        return groups;
+    }
+}
@@ -0,0 +1,146 @@
+package com.softwaredesign.project.simulation.load;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.softwaredesign.project.model.customer.DineInCustomer;
+import com.softwaredesign.project.model.orderfulfillment.FloorManager;
+import com.softwaredesign.project.model.singletons.RandomSingleton;
+import com.softwaredesign.project.model.singletons.RandomStream;
+
+/**
+ * Feeds customers into the restaurant along an arrival curve. Each arriving group is
+ * admitted through the FloorManager's SeatingEngine like any other customers, then browses
+ * the menu and orders through the waiters. A group that finds no free table waits for one
+ * or, if the wait-list is full, leaves again.
+ *
+ * Arrivals are drawn from the ARRIVALS random stream, so a seeded run generates the
+ * same load every time.
+ */
+public class LoadGenerator {
+    public static final int DEFAULT_TICKS_PER_HOUR = 3600;
+
+    private final ArrivalCurve curve;
+    private final FloorManager floorManager;
+
+    private long groupsArrived;
+    private long customersArrived;
+    private long groupsSeated;
+    private long groupsWaitListed;
+    private long groupsTurnedAway;
+
+    public LoadGenerator(ArrivalCurve curve, FloorManager floorManager) {
+        this.curve = curve;
+        this.floorManager = floorManager;
+    }
+
+    /**
+     * Parses an arrival curve from a short description, as given on the command line:
+     * <ul>
+     * <li>constant:groupsPerHour - evenly spaced arrivals</li>
+     * <li>poisson:groupsPerHour - random arrivals at a fixed average rate</li>
+     * <li>rush:baseGroupsPerHour:peakGroupsPerHour:peakMinute:widthMinutes - a lunch rush
+     *     peaking the given number of simulated minutes after opening</li>
+     * <li>trace:path - arrivals read from a trace file, see TraceArrivals</li>
+     * </ul>
+     * @param spec The description of the curve
+     * @param ticksPerHour How many ticks make up one simulated hour
+     * @param maxGroupSize The largest group a rate-based curve generates
+     * @return The arrival curve
+     * @throws IOException If a trace file cannot be read
+     */
+    public static ArrivalCurve parseCurve(String spec, int ticksPerHour, int maxGroupSize) throws IOException {
+        String[] parts = spec.split(":", 2);
+        String[] values = parts.length > 1 ? parts[1].split(":") : new String[0];
+        try {
+            return switch (parts[0]) {
+                case "constant" -> new ConstantArrivals(numbers(spec, values, 1)[0], ticksPerHour, maxGroupSize);
+                case "poisson" -> new PoissonArrivals(numbers(spec, values, 1)[0], ticksPerHour, maxGroupSize);
+                case "rush" -> {
+                    double[] rush = numbers(spec, values, 4);
+                    double ticksPerMinute = ticksPerHour / 60.0;
+                    yield new LunchRushArrivals(rush[0], rush[1], Math.round(rush[2] * ticksPerMinute),
+                            rush[3] * ticksPerMinute, ticksPerHour, maxGroupSize);
+                }
+                case "trace" -> {
+                    if (parts.length < 2 || parts[1].isEmpty()) {
+                        throw new IllegalArgumentException("Missing trace file in load: " + spec);
+                    }
+                    yield TraceArrivals.load(Paths.get(parts[1]), ticksPerHour);
+                }
+                default -> throw new IllegalArgumentException("Unknown load: " + spec);
+            };
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number in load: " + spec);
+        }
+    }
+
+    private static double[] numbers(String spec, String[] values, int count) {
+        if (values.length != count) {
+            throw new IllegalArgumentException("Expected " + count + " value(s) in load: " + spec);
+        }
+        double[] numbers = new double[count];
+        for (int i = 0; i < count; i++) {
+            numbers[i] = Double.parseDouble(values[i]);
+        }
+        return numbers;
+    }
+
+    /**
+     * Lets the groups arriving on the given tick try to find a table.
+     * @param tick The current tick
+     */
+    public void generate(long tick) {
+        curve.arrivals(tick, RandomSingleton.get(RandomStream.ARRIVALS), this::arrive);
+    }
+
+    private void arrive(int groupSize) {
+        groupsArrived++;
+        customersArrived += groupSize;
+
+        List<DineInCustomer> group = new ArrayList<>(groupSize);
+        for (int i = 0; i < groupSize; i++) {
+            group.add(new DineInCustomer());
+        }
+        switch (floorManager.admitGroup(group)) {
+            case SEATED, SEATED_COMBINED -> groupsSeated++;
+            case WAIT_LISTED -> groupsWaitListed++;
+            case TURNED_AWAY -> groupsTurnedAway++;
+        }
+    }
+
+    public ArrivalCurve getCurve() {
+        return curve;
+    }
+
+    public long getGroupsArrived() {
+        return groupsArrived;
+    }
+
+    public long getCustomersArrived() {
+        return customersArrived;
+    }
+
+    /**
+     * @return The groups seated as soon as they arrived
+     */
+    public long getGroupsSeated() {
+        return groupsSeated;
+    }
+
+    /**
+     * @return The groups that had to wait for a table when they arrived
+     */
+    public long getGroupsWaitListed() {
+        return groupsWaitListed;
+    }
+
+    /**
+     * @return The groups that left on arrival because they could not be seated or wait
+     */
+    public long getGroupsTurnedAway() {
+        return groupsTurnedAway;
+    }
+}
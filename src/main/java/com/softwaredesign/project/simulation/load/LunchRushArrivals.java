@@ -0,0 +1,47 @@
+package com.softwaredesign.project.simulation.load;
+
+import java.util.Random;
+
+/**
+ * Poisson arrivals whose rate rises from a base level to a peak and falls back again,
+ * following a bell curve centred on the peak tick.
+ */
+public class LunchRushArrivals extends RateArrivals {
+    private final double baseGroupsPerHour;
+    private final double peakGroupsPerHour;
+    private final long peakTick;
+    private final double widthTicks;
+
+    /**
+     * @param baseGroupsPerHour The rate well before and after the rush
+     * @param peakGroupsPerHour The rate at the height of the rush
+     * @param peakTick The tick the rush is at its height
+     * @param widthTicks How quickly the rush builds and fades: the rate is about 60% of the
+     *                   way from base to peak this many ticks either side of the peak
+     */
+    public LunchRushArrivals(double baseGroupsPerHour, double peakGroupsPerHour, long peakTick,
+            double widthTicks, int ticksPerHour, int maxGroupSize) {
+        super(ticksPerHour, maxGroupSize);
+        if (baseGroupsPerHour < 0 || peakGroupsPerHour < 0) {
+            throw new IllegalArgumentException("Arrival rates cannot be negative");
+        }
+        if (widthTicks <= 0) {
+            throw new IllegalArgumentException("Rush width must be positive");
+        }
+        this.baseGroupsPerHour = baseGroupsPerHour;
+        this.peakGroupsPerHour = peakGroupsPerHour;
+        this.peakTick = peakTick;
+        this.widthTicks = widthTicks;
+    }
+
+    @Override
+    public double groupsPerHour(long tick) {
+        double distance = (tick - peakTick) / widthTicks;
+        return baseGroupsPerHour + (peakGroupsPerHour - baseGroupsPerHour) * Math.exp(-0.5 * distance * distance);
+    }
+
+    @Override
+    protected int groupCount(double expected, Random random) {
+        return poisson(expected, random);
+    }
+}
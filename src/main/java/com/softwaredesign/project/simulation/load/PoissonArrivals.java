@@ -0,0 +1,29 @@
+package com.softwaredesign.project.simulation.load;
+
+import java.util.Random;
+
+/**
+ * Groups arrive independently of each other at a fixed average rate, so the number arriving
+ * on each tick follows a Poisson distribution.
+ */
+public class PoissonArrivals extends RateArrivals {
+    private final double groupsPerHour;
+
+    public PoissonArrivals(double groupsPerHour, int ticksPerHour, int maxGroupSize) {
+        super(ticksPerHour, maxGroupSize);
+        if (groupsPerHour < 0) {
+            throw new IllegalArgumentException("Arrival rate cannot be negative");
+        }
+        this.groupsPerHour = groupsPerHour;
+    }
+
+    @Override
+    public double groupsPerHour(long tick) {
+        return groupsPerHour;
+    }
+
+    @Override
+    protected int groupCount(double expected, Random random) {
+        return poisson(expected, random);
+    }
+}
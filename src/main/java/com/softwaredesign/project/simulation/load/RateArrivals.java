@@ -0,0 +1,78 @@
+package com.softwaredesign.project.simulation.load;
+
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+/**
+ * An arrival curve given as a rate in groups per simulated hour. Subclasses decide the rate
+ * at each tick and how the expected number of groups becomes a whole number. Group sizes
+ * are drawn uniformly between 1 and the largest table.
+ */
+public abstract class RateArrivals implements ArrivalCurve {
+    // Knuth's method multiplies uniforms until they drop below e^-mean, which underflows for
+    // large means, so larger means are drawn as a sum of smaller Poisson draws
+    private static final double POISSON_CHUNK = 30.0;
+
+    private final int ticksPerHour;
+    private final int maxGroupSize;
+
+    protected RateArrivals(int ticksPerHour, int maxGroupSize) {
+        if (ticksPerHour <= 0) {
+            throw new IllegalArgumentException("Ticks per hour must be positive");
+        }
+        if (maxGroupSize <= 0) {
+            throw new IllegalArgumentException("Maximum group size must be positive");
+        }
+        this.ticksPerHour = ticksPerHour;
+        this.maxGroupSize = maxGroupSize;
+    }
+
+    /**
+     * @param tick The tick, counted from 1
+     * @return The expected number of groups per simulated hour at that tick
+     */
+    public abstract double groupsPerHour(long tick);
+
+    /**
+     * Turns the expected number of groups on one tick into the number that arrive.
+     * @param expected The expected number of groups on this tick
+     * @param random The arrivals stream
+     * @return The number of groups arriving
+     */
+    protected abstract int groupCount(double expected, Random random);
+
+    @Override
+    public void arrivals(long tick, Random random, IntConsumer groupSizes) {
+        int groups = groupCount(groupsPerHour(tick) / ticksPerHour, random);
+        for (int i = 0; i < groups; i++) {
+            groupSizes.accept(random.nextInt(maxGroupSize) + 1);
+        }
+    }
+
+    public int getTicksPerHour() {
+        return ticksPerHour;
+    }
+
+    public int getMaxGroupSize() {
+        return maxGroupSize;
+    }
+
+    /**
+     * Draws from a Poisson distribution with the given mean.
+     */
+    static int poisson(double mean, Random random) {
+        int count = 0;
+        double remaining = mean;
+        while (remaining > 0) {
+            double chunk = Math.min(remaining, POISSON_CHUNK);
+            double limit = Math.exp(-chunk);
+            double product = random.nextDouble();
+            while (product > limit) {
+                count++;
+                product *= random.nextDouble();
+            }
+            remaining -= chunk;
+        }
+        return count;
+    }
+}
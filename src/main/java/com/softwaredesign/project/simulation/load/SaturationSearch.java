@@ -0,0 +1,185 @@
+package com.softwaredesign.project.simulation.load;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.softwaredesign.project.model.orderfulfillment.SeatingEngine;
+import com.softwaredesign.project.model.singletons.StatCounter;
+import com.softwaredesign.project.model.singletons.StatisticsSingleton;
+import com.softwaredesign.project.simulation.HeadlessSimulation;
+import com.softwaredesign.project.simulation.SimulationSettings;
+
+/**
+ * Finds the highest arrival rate a restaurant layout keeps up with. Each probe is a
+ * headless run of the configured length with Poisson arrivals at one rate. A rate is kept
+ * up with while the orders collected from the kitchen reach the given share of the groups
+ * that arrived; below that, groups are being turned away or orders are piling up, which
+ * the probe's counters tell apart. The rate is doubled until a probe falls behind and the
+ * boundary is then narrowed by bisection.
+ *
+ * Give the layout plenty of tables to measure the kitchen alone, otherwise the dining
+ * room may fill up first.
+ */
+public class SaturationSearch {
+    public static final double DEFAULT_KEEP_UP_RATIO = 0.9;
+    private static final int MAX_DOUBLINGS = 20;
+
+    private final SimulationSettings settings;
+    private final int ticksPerHour;
+    private final double keepUpRatio;
+    private final List<Probe> probes = new ArrayList<>();
+
+    /**
+     * @param settings The layout to probe; its seed and game length are used for every probe
+     * @param ticksPerHour How many ticks make up one simulated hour
+     * @param keepUpRatio The share of arriving groups whose orders must come back
+     */
+    public SaturationSearch(SimulationSettings settings, int ticksPerHour, double keepUpRatio) {
+        if (keepUpRatio <= 0 || keepUpRatio > 1) {
+            throw new IllegalArgumentException("Keep-up ratio must be in (0, 1]");
+        }
+        this.settings = settings;
+        this.ticksPerHour = ticksPerHour;
+        this.keepUpRatio = keepUpRatio;
+    }
+
+    /**
+     * Runs the layout once at the given rate.
+     * @param groupsPerHour The average arrival rate
+     * @return What the run achieved
+     */
+    public Probe probe(double groupsPerHour) {
+        HeadlessSimulation simulation = new HeadlessSimulation(settings);
+        LoadGenerator generator = simulation.applyLoad(
+                new PoissonArrivals(groupsPerHour, ticksPerHour, settings.getMaxTableCapacity()));
+        simulation.run();
+
+        StatisticsSingleton statistics = StatisticsSingleton.getInstance();
+        SeatingEngine seating = simulation.getFloorManager().getSeatingEngine();
+        Probe probe = new Probe(groupsPerHour, generator.getGroupsArrived(),
+                seating.getGroupsSeatedOnArrival() + seating.getGroupsSeatedFromWaitList(),
+                generator.getGroupsTurnedAway() + seating.getGroupsAbandoned(), (int) statistics.get(StatCounter.ORDERS_RECEIVED),
+                (int) statistics.get(StatCounter.ORDERS_COLLECTED), simulation.getOrderManager().getPendingOrders().size());
+        probes.add(probe);
+        return probe;
+    }
+
+    /**
+     * Searches for the saturation point.
+     * @param startGroupsPerHour The first rate to try
+     * @param bisections How many times to halve the interval once it is bracketed
+     * @return The highest rate found that is kept up with, or 0 if even the first rate is not.
+     *         The rate stops doubling after a fixed number of probes, so a layout that keeps
+     *         up with every rate tried returns the last rate
+     */
+    public double search(double startGroupsPerHour, int bisections) {
+        if (startGroupsPerHour <= 0) {
+            throw new IllegalArgumentException("Start rate must be positive");
+        }
+        double keptUp = 0;
+        double fellBehind = startGroupsPerHour;
+        int doublings = 0;
+        while (probe(fellBehind).isKeptUp(keepUpRatio)) {
+            keptUp = fellBehind;
+            if (++doublings == MAX_DOUBLINGS) {
+                return keptUp;
+            }
+            fellBehind *= 2;
+        }
+        for (int i = 0; i < bisections; i++) {
+            double middle = (keptUp + fellBehind) / 2;
+            if (probe(middle).isKeptUp(keepUpRatio)) {
+                keptUp = middle;
+            } else {
+                fellBehind = middle;
+            }
+        }
+        return keptUp;
+    }
+
+    /**
+     * @return Every probe run so far, in the order they ran
+     */
+    public List<Probe> getProbes() {
+        return new ArrayList<>(probes);
+    }
+
+    /**
+     * The outcome of one run at a fixed arrival rate.
+     */
+    public static final class Probe {
+        private final double groupsPerHour;
+        private final long groupsArrived;
+        private final long groupsSeated;
+        private final long groupsTurnedAway;
+        private final int ordersPlaced;
+        private final int ordersCollected;
+        private final int ordersPending;
+
+        Probe(double groupsPerHour, long groupsArrived, long groupsSeated, long groupsTurnedAway,
+                int ordersPlaced, int ordersCollected, int ordersPending) {
+            this.groupsPerHour = groupsPerHour;
+            this.groupsArrived = groupsArrived;
+            this.groupsSeated = groupsSeated;
+            this.groupsTurnedAway = groupsTurnedAway;
+            this.ordersPlaced = ordersPlaced;
+            this.ordersCollected = ordersCollected;
+            this.ordersPending = ordersPending;
+        }
+
+        /**
+         * @return The share of arriving groups whose order came back from the kitchen
+         */
+        public double getServedRatio() {
+            return groupsArrived == 0 ? 1.0 : (double) ordersCollected / groupsArrived;
+        }
+
+        public boolean isKeptUp(double keepUpRatio) {
+            return getServedRatio() >= keepUpRatio;
+        }
+
+        public double getGroupsPerHour() {
+            return groupsPerHour;
+        }
+
+        public long getGroupsArrived() {
+            return groupsArrived;
+        }
+
+        /**
+         * @return Groups seated on arrival or from the wait-list
+         */
+        public long getGroupsSeated() {
+            return groupsSeated;
+        }
+
+        /**
+         * @return Groups turned away on arrival or tired of waiting
+         */
+        public long getGroupsTurnedAway() {
+            return groupsTurnedAway;
+        }
+
+        public int getOrdersPlaced() {
+            return ordersPlaced;
+        }
+
+        public int getOrdersCollected() {
+            return ordersCollected;
+        }
+
+        /**
+         * @return The orders still waiting in the kitchen when the run ended
+         */
+        public int getOrdersPending() {
+            return ordersPending;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.0f groups/h: %d arrived, %d seated, %d turned away, %d orders placed, "
+                    + "%d collected, %d pending (%.0f%% served)", groupsPerHour, groupsArrived, groupsSeated,
+                    groupsTurnedAway, ordersPlaced, ordersCollected, ordersPending, 100 * getServedRatio());
+        }
+    }
+}
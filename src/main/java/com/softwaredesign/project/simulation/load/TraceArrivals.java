@@ -0,0 +1,99 @@
+package com.softwaredesign.project.simulation.load;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+/**
+ * Replays recorded arrivals. Each line of a trace is "seconds,groupSize", where seconds is
+ * the simulated time since opening at which the group arrived. Blank lines, lines starting
+ * with # and a header line are skipped, and lines need not be in time order.
+ */
+public class TraceArrivals implements ArrivalCurve {
+    private final long[] ticks;
+    private final int[] groupSizes;
+    private int next;
+
+    private TraceArrivals(long[] ticks, int[] groupSizes) {
+        this.ticks = ticks;
+        this.groupSizes = groupSizes;
+    }
+
+    /**
+     * Reads a trace file.
+     * @param path The trace to read
+     * @param ticksPerHour How many ticks make up one simulated hour
+     * @return The arrivals in the trace
+     * @throws IOException If the file cannot be read
+     */
+    public static TraceArrivals load(Path path, int ticksPerHour) throws IOException {
+        return parse(Files.readAllLines(path), ticksPerHour);
+    }
+
+    /**
+     * Parses the lines of a trace.
+     * @param lines The lines of the trace
+     * @param ticksPerHour How many ticks make up one simulated hour
+     * @return The arrivals in the trace
+     * @throws IllegalArgumentException If a line is not a time and a positive group size
+     */
+    public static TraceArrivals parse(List<String> lines, int ticksPerHour) {
+        if (ticksPerHour <= 0) {
+            throw new IllegalArgumentException("Ticks per hour must be positive");
+        }
+        List<long[]> arrivals = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#") || (arrivals.isEmpty() && !Character.isDigit(line.charAt(0)))) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            try {
+                double seconds = Double.parseDouble(fields[0].trim());
+                int groupSize = Integer.parseInt(fields[1].trim());
+                if (seconds < 0 || groupSize <= 0) {
+                    throw new NumberFormatException();
+                }
+                // A group arriving during the first tick is seen on tick 1
+                long tick = Math.max(1, (long) Math.ceil(seconds * ticksPerHour / 3600.0));
+                arrivals.add(new long[] {tick, groupSize});
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Line " + (i + 1) + " of the trace is not \"seconds,groupSize\": " + line);
+            }
+        }
+        arrivals.sort((a, b) -> Long.compare(a[0], b[0]));
+
+        long[] ticks = new long[arrivals.size()];
+        int[] groupSizes = new int[arrivals.size()];
+        for (int i = 0; i < ticks.length; i++) {
+            ticks[i] = arrivals.get(i)[0];
+            groupSizes[i] = (int) arrivals.get(i)[1];
+        }
+        return new TraceArrivals(ticks, groupSizes);
+    }
+
+    @Override
+    public void arrivals(long tick, Random random, IntConsumer groupSizeSink) {
+        while (next < ticks.length && ticks[next] <= tick) {
+            groupSizeSink.accept(groupSizes[next++]);
+        }
+    }
+
+    /**
+     * @return The number of groups in the trace
+     */
+    public int getGroupCount() {
+        return ticks.length;
+    }
+
+    /**
+     * @return The tick the last group in the trace arrives on, or 0 for an empty trace
+     */
+    public long getLastTick() {
+        return ticks.length == 0 ? 0 : ticks[ticks.length - 1];
+    }
+}
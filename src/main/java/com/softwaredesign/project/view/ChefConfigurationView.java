@@ -433,6 +433,7 @@ public class ChefConfigurationView extends ConfigurationView {
 
             // Adjust bank balance with the saved cost
             setBankBalance(bankBalance + chefCost);
+            mediator.notifyWagesChanged(chefCost, chefName);
         
             // Refresh the table
             refreshChefTable();
@@ -460,6 +461,7 @@ public class ChefConfigurationView extends ConfigurationView {
             
             if (deductCost) {
                 setBankBalance(bankBalance - cost);
+                mediator.notifyWagesChanged(-cost, name);
             }
         } catch (Exception e) {
             logger.error("[ChefConfigurationView] Error adding chef to table: " + e.getMessage());
@@ -321,6 +321,7 @@ public class DiningConfigurationView extends ConfigurationView {
             
             if (deductCost) {
                 setBankBalance(bankBalance - cost);
+                mediator.notifyWagesChanged(-cost, name);
             }
         } catch (Exception e) {
             logger.error("[DiningConfigurationView] Error adding waiter to table: " + e.getMessage());
@@ -414,6 +415,7 @@ public class DiningConfigurationView extends ConfigurationView {
             
             // Refund the cost to the bank balance
             setBankBalance(bankBalance + waiterCost);
+            mediator.notifyWagesChanged(waiterCost, waiterName);
             
             // Refresh the table
             refreshWaiterTable();
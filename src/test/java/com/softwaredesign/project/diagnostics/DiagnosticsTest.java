@@ -0,0 +1,56 @@
+package com.softwaredesign.project.diagnostics;
+
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Test;
+
+import com.softwaredesign.project.model.diagnostics.DiagnosticChannel;
+import com.softwaredesign.project.model.diagnostics.DiagnosticLevel;
+import com.softwaredesign.project.model.diagnostics.Diagnostics;
+
+public class DiagnosticsTest {
+
+    @After
+    public void tearDown() {
+        Diagnostics.configure(null);
+    }
+
+    @Test
+    public void testChannelsOffByDefault() {
+        Diagnostics.configure(null);
+        for (DiagnosticChannel channel : DiagnosticChannel.values()) {
+            assertFalse(Diagnostics.isEnabled(channel, DiagnosticLevel.BASIC));
+            assertTrue(Diagnostics.isEnabled(channel, DiagnosticLevel.OFF));
+        }
+    }
+
+    @Test
+    public void testConfigureSetsLevelsPerChannel() {
+        Diagnostics.configure("kitchen=detail, order=basic");
+
+        assertTrue(Diagnostics.isEnabled(DiagnosticChannel.KITCHEN, DiagnosticLevel.DETAIL));
+        assertTrue(Diagnostics.isEnabled(DiagnosticChannel.ORDER, DiagnosticLevel.BASIC));
+        assertFalse(Diagnostics.isEnabled(DiagnosticChannel.ORDER, DiagnosticLevel.DETAIL));
+        assertEquals(DiagnosticLevel.OFF, Diagnostics.getLevel(DiagnosticChannel.STAFF));
+    }
+
+    @Test
+    public void testAllSetsEveryChannel() {
+        Diagnostics.configure("all=basic");
+
+        for (DiagnosticChannel channel : DiagnosticChannel.values()) {
+            assertEquals(DiagnosticLevel.BASIC, Diagnostics.getLevel(channel));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownChannelRejected() {
+        Diagnostics.configure("pantry=basic");
+    }
+
+    @Test
+    public void testRecordFormat() {
+        assertEquals("backlog.add station=GRILL size=3",
+                Diagnostics.format("backlog.add", "station", "GRILL", "size", 3));
+    }
+}
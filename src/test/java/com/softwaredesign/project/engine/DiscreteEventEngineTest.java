@@ -0,0 +1,169 @@
+package com.softwaredesign.project.engine;
+
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.softwaredesign.project.model.engine.DiscreteEventEngine;
+import com.softwaredesign.project.model.engine.GameEngine;
+import com.softwaredesign.project.model.inventory.Inventory;
+import com.softwaredesign.project.model.kitchen.Kitchen;
+import com.softwaredesign.project.model.kitchen.Station;
+import com.softwaredesign.project.model.kitchen.StationManager;
+import com.softwaredesign.project.model.kitchen.StationType;
+import com.softwaredesign.project.model.menu.BurgerRecipe;
+import com.softwaredesign.project.model.menu.KebabRecipe;
+import com.softwaredesign.project.model.order.Order;
+import com.softwaredesign.project.model.order.OrderManager;
+import com.softwaredesign.project.model.orderfulfillment.CollectionPoint;
+import com.softwaredesign.project.model.singletons.BankBalanceSingleton;
+import com.softwaredesign.project.model.singletons.StatisticsSingleton;
+import com.softwaredesign.project.model.staff.Chef;
+import com.softwaredesign.project.model.staff.ChefManager;
+import com.softwaredesign.project.model.staff.chefstrategies.SimpleChefStrategy;
+import com.softwaredesign.project.model.staff.staffspeeds.BaseSpeed;
+
+/**
+ * Checks that the discrete event engine reproduces the tick engine on a deterministic kitchen.
+ */
+public class DiscreteEventEngineTest {
+    private static final int TICKS = 150;
+    private static final int STATIONS_PER_TYPE = 3;
+    private static final int IDLE_TICKS = 1000;
+
+    private long entitySteps;
+    private long idleSteps;
+
+    @After
+    public void tearDown() {
+        GameEngine.reset();
+    }
+
+    @Test
+    public void testEventEngineMatchesTickEngine() {
+        List<String> tickTrace = runKitchen(false);
+        List<String> eventTrace = runKitchen(true);
+
+        assertEquals(TICKS, tickTrace.size());
+        assertEquals(tickTrace, eventTrace);
+        assertTrue("Orders should have been completed", tickTrace.get(TICKS - 1).contains("meals=5"));
+    }
+
+    @Test
+    public void testEventEngineSkipsIdleEntities() {
+        runKitchen(true);
+
+        int entities = STATIONS_PER_TYPE * StationType.values().length + 2;
+        assertTrue("Expected far fewer entity steps than " + TICKS * entities + " but was " + entitySteps,
+                entitySteps < TICKS * entities / 2);
+    }
+
+    @Test
+    public void testIdleKitchenSleepsUntilConsistencyChecks() {
+        runKitchen(true);
+
+        // Only the chef manager's consistency check, every 10 ticks, is left to do
+        assertTrue("Expected about " + IDLE_TICKS / 10 + " steps while idle but was " + idleSteps,
+                idleSteps <= IDLE_TICKS / 10 + 1);
+    }
+
+    @Test
+    public void testEmptyQueueJumpsToEndTick() {
+        GameEngine.reset();
+        GameEngine engine = GameEngine.getInstance();
+        StationManager stationManager = new StationManager(new CollectionPoint());
+        stationManager.addStation(new Station(StationType.GRILL, new CollectionPoint()));
+        engine.start();
+
+        DiscreteEventEngine events = new DiscreteEventEngine(engine);
+        events.runUntil(1_000_000);
+
+        assertEquals(1_000_000, engine.getCurrentTick());
+        assertEquals("An idle station is stepped once and then sleeps", 1, events.getEntitySteps());
+        assertEquals(Long.MAX_VALUE, events.peekNextEventTick());
+    }
+
+    /**
+     * Runs a small kitchen with orders arriving at fixed ticks and records, per tick,
+     * which task each station holds, how far it has cooked it, and how many meals have
+     * been completed.
+     */
+    private List<String> runKitchen(boolean eventDriven) {
+        GameEngine.reset();
+        StatisticsSingleton.reset();
+        BankBalanceSingleton.reset();
+        GameEngine engine = GameEngine.getInstance();
+
+        Inventory inventory = new Inventory();
+        for (String prep : new String[] {"Bun", "Lettuce", "Tomato", "Cheese", "Onion", "Pita Bread", "Garlic Sauce"}) {
+            inventory.addIngredient(prep, 100, 1.0, StationType.PREP);
+        }
+        inventory.addIngredient("Beef Patty", 100, 2.0, StationType.GRILL);
+        inventory.addIngredient("Kebab Meat", 100, 2.0, StationType.GRILL);
+
+        CollectionPoint collectionPoint = new CollectionPoint();
+        StationManager stationManager = new StationManager(collectionPoint);
+        OrderManager orderManager = new OrderManager(collectionPoint, stationManager);
+        Kitchen kitchen = new Kitchen(orderManager, collectionPoint, stationManager);
+        for (StationType type : StationType.values()) {
+            for (int i = 0; i < STATIONS_PER_TYPE; i++) {
+                Station station = new Station(type, collectionPoint);
+                station.setKitchen(kitchen);
+                stationManager.addStation(station);
+            }
+        }
+
+        ChefManager chefManager = new ChefManager();
+        for (int i = 0; i < 2; i++) {
+            Chef chef = new Chef("Chef " + i, 15.0, new BaseSpeed(), new SimpleChefStrategy(), stationManager);
+            for (StationType type : StationType.values()) {
+                chef.assignToStation(type);
+            }
+            chefManager.addChef(chef);
+        }
+        engine.registerEntity(kitchen);
+        engine.registerEntity(chefManager);
+        engine.start();
+
+        DiscreteEventEngine events = eventDriven ? new DiscreteEventEngine(engine) : null;
+        List<String> trace = new ArrayList<>();
+        for (int tick = 1; tick <= TICKS; tick++) {
+            if (tick == 1 || tick == 3 || tick == 20 || tick == 60) {
+                Order order = new Order(orderManager.generateOrderId());
+                order.addRecipes(new BurgerRecipe(inventory));
+                orderManager.addOrder(order);
+            } else if (tick == 5) {
+                Order order = new Order(orderManager.generateOrderId());
+                order.addRecipes(new KebabRecipe(inventory));
+                orderManager.addOrder(order);
+            }
+
+            if (events != null) {
+                events.runUntil(tick);
+            } else {
+                engine.step();
+            }
+
+            StringBuilder line = new StringBuilder("tick=" + tick);
+            for (Station station : stationManager.getAllStations()) {
+                line.append(' ').append(station.getType()).append(':')
+                    .append(station.getCurrentTask() != null ? station.getCurrentTask().getName() : "-")
+                    .append(station.hasChef() ? "*" : "")
+                    .append('/').append(station.getCookingProgress());
+            }
+            line.append(" meals=").append(StatisticsSingleton.getInstance().getInt("mealsCompleted"));
+            trace.add(line.toString());
+        }
+
+        entitySteps = events != null ? events.getEntitySteps() : 0;
+        if (events != null) {
+            events.runUntil(TICKS + IDLE_TICKS);
+            idleSteps = events.getEntitySteps() - entitySteps;
+            events.detach();
+        }
+        return trace;
+    }
+}
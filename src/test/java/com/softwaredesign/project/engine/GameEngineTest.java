@@ -0,0 +1,190 @@
+package com.softwaredesign.project.engine;
+
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.softwaredesign.project.model.engine.Entity;
+import com.softwaredesign.project.model.engine.GameEngine;
+import com.softwaredesign.project.model.engine.ReadPhaseChecker;
+import com.softwaredesign.project.model.engine.TickProfiler;
+
+/**
+ * Tests for the GameEngine tick phases.
+ */
+public class GameEngineTest {
+    private GameEngine engine;
+    private ForkJoinPool pool;
+
+    /**
+     * Entity that copies a shared value during the read phase and
+     * publishes it during the write phase.
+     */
+    private static class CountingEntity extends Entity {
+        private final AtomicInteger shared;
+        private final AtomicInteger readsBeforeWrite;
+        private int observed;
+        private int writes;
+
+        CountingEntity(AtomicInteger shared, AtomicInteger readsBeforeWrite) {
+            this.shared = shared;
+            this.readsBeforeWrite = readsBeforeWrite;
+        }
+
+        @Override
+        public void readState() {
+            readsBeforeWrite.incrementAndGet();
+        }
+
+        @Override
+        public void writeState() {
+            observed = readsBeforeWrite.get();
+            writes++;
+            shared.incrementAndGet();
+        }
+    }
+
+    /**
+     * Entity that breaks the read phase contract.
+     */
+    private static class MisbehavingEntity extends Entity {
+        private final List<String> log = new ArrayList<>();
+        private int counter;
+
+        @Override
+        public void readState() {
+            counter++;
+            log.add("read");
+        }
+
+        @Override
+        public void writeState() {
+        }
+    }
+
+    @Before
+    public void setUp() {
+        GameEngine.reset();
+        engine = GameEngine.getInstance();
+        engine.start();
+        pool = new ForkJoinPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+        GameEngine.reset();
+    }
+
+    @Test
+    public void testParallelReadPhaseFinishesBeforeWritePhase() {
+        AtomicInteger shared = new AtomicInteger();
+        AtomicInteger reads = new AtomicInteger();
+        List<CountingEntity> counted = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            CountingEntity entity = new CountingEntity(shared, reads);
+            counted.add(entity);
+            engine.registerEntity(entity);
+        }
+
+        engine.enableParallelReadPhase(pool);
+        assertTrue(engine.isParallelReadPhase());
+        engine.step();
+
+        assertEquals(200, shared.get());
+        for (CountingEntity entity : counted) {
+            assertEquals("Every read should finish before any write", 200, entity.observed);
+            assertEquals(1, entity.writes);
+        }
+    }
+
+    @Test
+    public void testDisabledParallelReadPhaseRunsSerially() {
+        AtomicInteger shared = new AtomicInteger();
+        AtomicInteger reads = new AtomicInteger();
+        engine.registerEntity(new CountingEntity(shared, reads));
+
+        engine.enableParallelReadPhase(pool);
+        engine.disableParallelReadPhase();
+        assertFalse(engine.isParallelReadPhase());
+        engine.step();
+
+        assertEquals(1, reads.get());
+        assertEquals(1, shared.get());
+    }
+
+    @Test
+    public void testCheckerFlagsWritesDuringReadState() {
+        ReadPhaseChecker checker = new ReadPhaseChecker(false);
+        engine.setReadPhaseChecker(checker);
+        engine.enableParallelReadPhase(pool);
+        engine.registerEntity(new CountingEntity(new AtomicInteger(), new AtomicInteger()));
+        engine.registerEntity(new MisbehavingEntity());
+
+        engine.step();
+
+        List<String> violations = checker.getViolations();
+        assertEquals(2, violations.size());
+        assertTrue(violations.contains("MisbehavingEntity.counter changed during readState()"));
+        assertTrue(violations.contains("MisbehavingEntity.log changed during readState()"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testStrictCheckerThrows() {
+        engine.setReadPhaseChecker(new ReadPhaseChecker(true));
+        engine.registerEntity(new MisbehavingEntity());
+
+        engine.step();
+    }
+
+    @Test
+    public void testProfilerTimesEveryEntityAndPhase() {
+        TickProfiler profiler = new TickProfiler();
+        engine.setProfiler(profiler);
+        engine.enableParallelReadPhase(pool);
+        AtomicInteger shared = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            engine.registerEntity(new CountingEntity(shared, new AtomicInteger()));
+        }
+        engine.registerEntity(new MisbehavingEntity());
+
+        for (int tick = 0; tick < 5; tick++) {
+            engine.step();
+        }
+
+        assertEquals(5, profiler.getTicksProfiled());
+        assertTrue(profiler.getPhaseNanos(TickProfiler.Phase.READ) > 0);
+        List<TickProfiler.EntityProfile> top = profiler.getTopEntities(10);
+        assertEquals(4, top.size());
+        for (TickProfiler.EntityProfile profile : top) {
+            assertEquals(5, profile.getSteps());
+        }
+        assertTrue(profiler.getSummary(10).keySet().containsAll(
+                List.of("CountingEntity #1", "CountingEntity #2", "CountingEntity #3", "MisbehavingEntity")));
+        if (profiler.isCountingAllocations()) {
+            assertTrue("MisbehavingEntity appends to its log every read",
+                    top.stream().filter(p -> p.getName().equals("MisbehavingEntity"))
+                            .findFirst().get().getAllocatedBytes() > 0);
+        }
+    }
+
+    @Test
+    public void testProfilerOffRecordsNothing() {
+        TickProfiler profiler = new TickProfiler();
+        engine.setProfiler(profiler);
+        engine.registerEntity(new CountingEntity(new AtomicInteger(), new AtomicInteger()));
+        engine.step();
+        engine.setProfiler(null);
+        engine.step();
+
+        assertNull(engine.getProfiler());
+        assertEquals(1, profiler.getTicksProfiled());
+        assertEquals(1, profiler.getTopEntities(1).get(0).getSteps());
+    }
+}
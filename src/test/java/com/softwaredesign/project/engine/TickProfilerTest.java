@@ -0,0 +1,142 @@
+package com.softwaredesign.project.engine;
+
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.softwaredesign.project.model.engine.DiscreteEventEngine;
+import com.softwaredesign.project.model.engine.Entity;
+import com.softwaredesign.project.model.engine.GameEngine;
+import com.softwaredesign.project.model.engine.TickProfiler;
+
+/**
+ * Tests for the per-entity totals and rankings of the TickProfiler under both engines.
+ */
+public class TickProfilerTest {
+    private static final long MILLISECOND = 1_000_000L;
+
+    private GameEngine engine;
+    private TickProfiler profiler;
+
+    /**
+     * Entity that busy-waits for a fixed time in its write phase and asks to be stepped
+     * every period ticks.
+     */
+    private static class SpinningEntity extends Entity {
+        private final String name;
+        private final long writeNanos;
+        private final long period;
+
+        SpinningEntity(String name, long writeNanos, long period) {
+            this.name = name;
+            this.writeNanos = writeNanos;
+            this.period = period;
+        }
+
+        @Override
+        public void readState() {
+        }
+
+        @Override
+        public void writeState() {
+            long end = System.nanoTime() + writeNanos;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+        }
+
+        @Override
+        public long nextActiveTick(long currentTick) {
+            return currentTick + period;
+        }
+
+        @Override
+        public String getProfileName() {
+            return name;
+        }
+    }
+
+    @Before
+    public void setUp() {
+        GameEngine.reset();
+        engine = GameEngine.getInstance();
+        profiler = new TickProfiler(false);
+        engine.setProfiler(profiler);
+    }
+
+    @After
+    public void tearDown() {
+        GameEngine.reset();
+    }
+
+    @Test
+    public void testTotalsAndTopEntitiesUnderTickEngine() {
+        engine.registerEntity(new SpinningEntity("Fast", 0, 1));
+        engine.registerEntity(new SpinningEntity("Slow", 2 * MILLISECOND, 1));
+        engine.registerEntity(new SpinningEntity("Medium", MILLISECOND, 1));
+        engine.start();
+        for (int tick = 0; tick < 5; tick++) {
+            engine.step();
+        }
+
+        assertEquals(5, profiler.getTicksProfiled());
+        List<TickProfiler.EntityProfile> top = profiler.getTopEntities(3);
+        assertEquals(List.of("Slow", "Medium", "Fast"), names(top));
+        assertTrue(top.get(0).getNanos(TickProfiler.Phase.WRITE) >= 10 * MILLISECOND);
+        assertTrue(top.get(1).getNanos(TickProfiler.Phase.WRITE) >= 5 * MILLISECOND);
+        long entityNanos = 0;
+        for (TickProfiler.EntityProfile profile : top) {
+            assertEquals(5, profile.getSteps());
+            assertEquals(0, profile.getAllocatedBytes());
+            entityNanos += profile.getTotalNanos();
+        }
+        assertTrue(entityNanos <= profiler.getPhaseNanos(TickProfiler.Phase.READ)
+                + profiler.getPhaseNanos(TickProfiler.Phase.WRITE));
+
+        assertEquals(List.of("Slow", "Medium"), names(profiler.getTopEntities(2)));
+        assertEquals(List.of("Slow", "Medium"), new ArrayList<>(profiler.getSummary(2).keySet()));
+    }
+
+    @Test
+    public void testEventEngineStepsAreProfiled() {
+        engine.registerEntity(new SpinningEntity("Busy", 0, 1));
+        engine.registerEntity(new SpinningEntity("Sleepy", MILLISECOND, 10));
+        engine.start();
+        DiscreteEventEngine eventEngine = new DiscreteEventEngine(engine);
+        eventEngine.runUntil(50);
+
+        // Every tick the clock passed is counted, whether or not anything was stepped
+        assertEquals(50, profiler.getTicksProfiled());
+        List<TickProfiler.EntityProfile> top = profiler.getTopEntities(2);
+        assertEquals(List.of("Sleepy", "Busy"), names(top));
+        assertEquals(5, top.get(0).getSteps());
+        assertEquals(50, top.get(1).getSteps());
+        assertEquals(eventEngine.getEntitySteps(), top.get(0).getSteps() + top.get(1).getSteps());
+        assertTrue(top.get(0).getNanos(TickProfiler.Phase.WRITE) >= 5 * MILLISECOND);
+        assertTrue(profiler.getPhaseNanos(TickProfiler.Phase.WRITE) >= top.get(0).getTotalNanos());
+    }
+
+    @Test
+    public void testResetClearsTotals() {
+        engine.registerEntity(new SpinningEntity("Fast", 0, 1));
+        engine.start();
+        engine.step();
+        profiler.reset();
+
+        assertEquals(0, profiler.getTicksProfiled());
+        assertTrue(profiler.getTopEntities(1).isEmpty());
+        assertEquals(0, profiler.getPhaseNanos(TickProfiler.Phase.WRITE));
+    }
+
+    private static List<String> names(List<TickProfiler.EntityProfile> profiles) {
+        List<String> names = new ArrayList<>();
+        for (TickProfiler.EntityProfile profile : profiles) {
+            names.add(profile.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,118 @@
+package com.softwaredesign.project.inventory;
+
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.softwaredesign.project.model.inventory.IngredientRegistry;
+import com.softwaredesign.project.model.inventory.Inventory;
+import com.softwaredesign.project.model.inventory.InventoryStockTracker;
+
+/**
+ * Tests for the running reservation totals kept by InventoryStockTracker and reading
+ * stock from an inventory.
+ */
+public class InventoryStockTrackerTest {
+    private static final int THREADS = 8;
+    private static final int ORDERS_PER_THREAD = 500;
+
+    private InventoryStockTracker tracker;
+
+    @Before
+    public void setUp() {
+        tracker = new InventoryStockTracker();
+        tracker.update("Bun", 10);
+        tracker.update("Beef Patty", 10);
+    }
+
+    @Test
+    public void testReservingAgainReplacesEarlierReservation() {
+        assertTrue(tracker.reserveIngredientsForOrder("Order-1", Map.of("Bun", 4, "Beef Patty", 2)));
+        assertTrue(tracker.reserveIngredientsForOrder("Order-1", Map.of("Bun", 8)));
+        assertEquals(8, tracker.getTotalReservedQuantity("Bun"));
+        assertEquals(0, tracker.getTotalReservedQuantity("Beef Patty"));
+        assertEquals(2, tracker.getAvailableStock("Bun"));
+
+        tracker.releaseReservedIngredients("Order-1");
+        tracker.releaseReservedIngredients("Order-1");
+        assertEquals(10, tracker.getAvailableStock("Bun"));
+    }
+
+    @Test
+    public void testUnknownIngredientIsNeitherReservedNorRegistered() {
+        int registered = IngredientRegistry.size();
+
+        assertFalse(tracker.canFulfillOrder(Map.of("Bun", 1, "Dragon Fruit", 1)));
+        assertFalse(tracker.reserveIngredientsForOrder("Order-1", Map.of("Dragon Fruit", 1)));
+        try {
+            IngredientRegistry.toCounts(Map.of("Dragon Fruit", 1));
+            fail("Expected IllegalArgumentException for an unknown ingredient");
+        } catch (IllegalArgumentException expected) {
+            // the name must not have been given an ID on the way
+        }
+
+        assertEquals(registered, IngredientRegistry.size());
+        assertEquals(-1, IngredientRegistry.find("Dragon Fruit"));
+        assertEquals(0, tracker.getTotalReservedQuantity("Bun"));
+    }
+
+    @Test
+    public void testTotalsStayConsistentUnderParallelReservations() throws Exception {
+        int stock = THREADS * ORDERS_PER_THREAD / 4;
+        tracker.update("Bun", stock);
+        tracker.update("Beef Patty", 2 * stock);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            final int thread = t;
+            results.add(pool.submit(() -> {
+                int held = 0;
+                for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+                    String orderId = "Order-" + thread + "-" + i;
+                    if (tracker.reserveIngredientsForOrder(orderId, Map.of("Bun", 1, "Beef Patty", 2))) {
+                        // Give every other successful reservation back, as a cancelled order would
+                        if (i % 2 == 0) {
+                            tracker.releaseReservedIngredients(orderId);
+                        } else {
+                            held++;
+                        }
+                    }
+                }
+                return held;
+            }));
+        }
+        int held = 0;
+        for (Future<Integer> result : results) {
+            held += result.get();
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertTrue("More buns were reserved than are in stock", held <= stock);
+        assertEquals(held, tracker.getTotalReservedQuantity("Bun"));
+        assertEquals(2 * held, tracker.getTotalReservedQuantity("Beef Patty"));
+        assertEquals(stock - held, tracker.getAvailableStock("Bun"));
+    }
+
+    @Test
+    public void testTrackerReadsStockFromInventory() {
+        Inventory inventory = new Inventory();
+        inventory.addIngredient("Bun", 3, 1.0);
+        InventoryStockTracker inventoryTracker = new InventoryStockTracker(inventory);
+
+        inventory.useIngredient("Bun", 1);
+        assertEquals(2, inventoryTracker.getCurrentStock("Bun"));
+        assertFalse(inventoryTracker.reserveIngredientsForOrder("Order-1", Map.of("Bun", 3)));
+        assertTrue(inventoryTracker.reserveIngredientsForOrder("Order-1", Map.of("Bun", 2)));
+        assertEquals(0, inventoryTracker.getAvailableStock("Bun"));
+    }
+}
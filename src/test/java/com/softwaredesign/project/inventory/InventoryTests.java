@@ -4,6 +4,7 @@ import static org.junit.Assert.*;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.softwaredesign.project.model.inventory.IngredientRegistry;
 import com.softwaredesign.project.model.inventory.IngredientStore;
 import com.softwaredesign.project.model.inventory.Inventory;
 import com.softwaredesign.project.model.inventory.InventoryAlert;
@@ -12,8 +13,12 @@ import org.junit.After;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class InventoryTests {
     private Inventory inventory;
@@ -185,4 +190,74 @@ public class InventoryTests {
         updates.put("NonExistent", 5);
         inventory.updateInventory(updates);
     }
+
+    @Test
+    public void testUseIngredientsIsAllOrNothing() {
+        inventory.addIngredient("Bun", 5, 1.0);
+        inventory.addIngredient("Beef Patty", 1, 3.0);
+        Map<String, Integer> burger = new LinkedHashMap<>();
+        burger.put("Bun", 2);
+        burger.put("Beef Patty", 2);
+
+        try {
+            inventory.useIngredients(burger);
+            fail("Expected IllegalArgumentException for missing patties");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("Beef Patty"));
+        }
+        assertEquals("Buns taken before the shortage should be put back", 5, inventory.getStock("Bun"));
+        assertEquals(1, inventory.getStock("Beef Patty"));
+    }
+
+    @Test
+    public void testParallelUseNeverOverdrawsStock() throws InterruptedException {
+        inventory.detach(alert);
+        inventory.addIngredient("Bun", 1000, 1.0);
+        inventory.addIngredient("Beef Patty", 500, 3.0);
+        Map<String, Integer> burger = Map.of("Bun", 2, "Beef Patty", 1);
+        AtomicInteger mealsMade = new AtomicInteger();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 100; i++) {
+                    try {
+                        inventory.useIngredients(burger);
+                        mealsMade.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        // Out of stock
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(500, mealsMade.get());
+        assertEquals(0, inventory.getStock("Bun"));
+        assertEquals(0, inventory.getStock("Beef Patty"));
+    }
+
+    @Test
+    public void testIngredientIdsSharedAcrossInventories() {
+        inventory.addIngredient("Bun", 4, 1.0);
+        Inventory other = new Inventory();
+        other.addIngredient("Bun", 9, 2.0);
+        int bun = IngredientRegistry.idOf("Bun");
+
+        assertEquals(bun, inventory.getIngredientStore("Bun").getId());
+        assertEquals("Bun", IngredientRegistry.nameOf(bun));
+        assertEquals(4, inventory.getStock(bun));
+        assertEquals(9, other.getStock(bun));
+        assertEquals(2.0, other.getPrice(bun), 0.001);
+
+        int[] counts = new int[IngredientRegistry.size()];
+        counts[bun] = 3;
+        inventory.useIngredients(counts);
+        assertEquals(1, inventory.getStock("Bun"));
+        assertEquals(9, other.getStock("Bun"));
+    }
 }
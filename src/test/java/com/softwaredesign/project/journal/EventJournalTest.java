@@ -0,0 +1,111 @@
+package com.softwaredesign.project.journal;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.softwaredesign.project.model.journal.EventJournal;
+import com.softwaredesign.project.model.journal.EventType;
+import com.softwaredesign.project.model.journal.JournalReader;
+import com.softwaredesign.project.model.journal.JournalRecord;
+
+public class EventJournalTest {
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = Files.createTempFile("journal", ".bin");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        EventJournal.stop();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testRecordsReadBackInOrder() throws IOException {
+        EventJournal.start(file);
+        EventJournal.record(EventType.ORDER_PLACED, 1000, 3, 2);
+        EventJournal.record(EventType.TASK_COMPLETED, 1000, 1, 0);
+        EventJournal.record(EventType.CUSTOMER_SEATED, EventJournal.NO_ORDER, 4, 2);
+        EventJournal.stop();
+
+        List<JournalRecord> records = JournalReader.read(file);
+        assertEquals(3, records.size());
+        assertEquals(EventType.ORDER_PLACED, records.get(0).getType());
+        assertEquals(1000, records.get(0).getOrderSequence());
+        assertEquals(3, records.get(0).getA());
+        assertEquals(2, records.get(0).getB());
+        assertEquals(EventType.TASK_COMPLETED, records.get(1).getType());
+        assertEquals(EventJournal.NO_ORDER, records.get(2).getOrderSequence());
+        assertEquals(EventJournal.HEADER_SIZE + 3 * EventJournal.RECORD_SIZE, Files.size(file));
+    }
+
+    @Test
+    public void testRecordingWithoutJournalIsIgnored() throws IOException {
+        EventJournal.record(EventType.MEAL_COLLECTED, 1000, 1, 0);
+
+        EventJournal.start(file);
+        EventJournal.record(EventType.MEAL_COLLECTED, 1001, 2, 0);
+        EventJournal.stop();
+        EventJournal.record(EventType.MEAL_COLLECTED, 1002, 3, 0);
+
+        List<JournalRecord> records = JournalReader.read(file);
+        assertEquals(1, records.size());
+        assertEquals(1001, records.get(0).getOrderSequence());
+    }
+
+    @Test
+    public void testCsvOutput() throws IOException {
+        EventJournal.start(file);
+        EventJournal.record(EventType.CUSTOMER_LEFT, EventJournal.NO_ORDER, 5, 1);
+        EventJournal.stop();
+
+        StringWriter csv = new StringWriter();
+        JournalReader.writeCsv(JournalReader.read(file), new PrintWriter(csv, true));
+        String[] lines = csv.toString().split("\\R");
+        assertEquals(JournalReader.CSV_HEADER, lines[0]);
+        assertTrue(lines[1].endsWith(",CUSTOMER_LEFT,,5,1"));
+    }
+
+    @Test
+    public void testClosedJournalIgnoresLateWriters() throws Exception {
+        EventJournal journal = EventJournal.start(file);
+        CountDownLatch started = new CountDownLatch(4);
+        List<Thread> writers = new ArrayList<>();
+        for (int w = 0; w < 4; w++) {
+            Thread writer = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; i < 50_000; i++) {
+                    EventJournal.record(EventType.TASK_COMPLETED, i, 1, 0);
+                }
+            });
+            writers.add(writer);
+            writer.start();
+        }
+        started.await();
+        EventJournal.stop();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        List<JournalRecord> records = JournalReader.read(file);
+        assertEquals(journal.getRecordCount(), records.size());
+        assertEquals(EventJournal.HEADER_SIZE + records.size() * (long) EventJournal.RECORD_SIZE, Files.size(file));
+        if (!records.isEmpty()) {
+            assertNull(journal.getRecord(0));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.softwaredesign.project.kitchen;
+
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.softwaredesign.project.model.kitchen.ReadyTaskIndex;
+import com.softwaredesign.project.model.kitchen.StationType;
+import com.softwaredesign.project.model.order.RecipeTask;
+
+public class ReadyTaskIndexTest {
+    private ReadyTaskIndex index;
+
+    @Before
+    public void setUp() {
+        index = new ReadyTaskIndex();
+    }
+
+    @Test
+    public void testOldestOrderPolledFirst() {
+        RecipeTask newer = new RecipeTask("Grill newer", StationType.GRILL);
+        RecipeTask older = new RecipeTask("Grill older", StationType.GRILL);
+        RecipeTask prep = new RecipeTask("Prep", StationType.PREP);
+
+        newer.setOrderSequence(1002);
+        older.setOrderSequence(1001);
+        index.add(newer);
+        index.add(older);
+        index.add(prep);
+
+        assertSame(older, index.poll(StationType.GRILL));
+        assertSame(newer, index.poll(StationType.GRILL));
+        assertNull(index.poll(StationType.GRILL));
+        assertSame(prep, index.poll(StationType.PREP));
+    }
+
+    @Test
+    public void testDuplicatesAndFinishedTasksRejected() {
+        RecipeTask task = new RecipeTask("Prep", StationType.PREP);
+        RecipeTask done = new RecipeTask("Done", StationType.PREP);
+        done.setCompleted(true);
+
+        assertTrue(index.add(task));
+        assertFalse(index.add(task));
+        assertFalse(index.add(done));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void testTasksPickedUpElsewhereAreSkipped() {
+        RecipeTask taken = new RecipeTask("Taken", StationType.PLATE);
+        RecipeTask waiting = new RecipeTask("Waiting", StationType.PLATE);
+        index.add(taken);
+        index.add(waiting);
+
+        taken.setAssigned(true);
+
+        assertFalse(index.isEmpty(StationType.PLATE));
+        assertSame(waiting, index.poll(StationType.PLATE));
+        assertTrue(index.isEmpty(StationType.PLATE));
+        assertEquals(0, index.size());
+    }
+}
@@ -0,0 +1,151 @@
+package com.softwaredesign.project.kitchen;
+
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.softwaredesign.project.model.engine.GameEngine;
+import com.softwaredesign.project.model.inventory.Inventory;
+import com.softwaredesign.project.model.kitchen.Station;
+import com.softwaredesign.project.model.kitchen.StationManager;
+import com.softwaredesign.project.model.kitchen.StationType;
+import com.softwaredesign.project.model.menu.BurgerRecipe;
+import com.softwaredesign.project.model.order.Recipe;
+import com.softwaredesign.project.model.order.RecipeTask;
+import com.softwaredesign.project.model.orderfulfillment.CollectionPoint;
+import com.softwaredesign.project.model.staff.Chef;
+import com.softwaredesign.project.model.staff.chefstrategies.SimpleChefStrategy;
+import com.softwaredesign.project.model.staff.staffspeeds.BaseSpeed;
+
+public class StationBacklogTest {
+    private Inventory inventory;
+    private Station prepStation;
+
+    @Before
+    public void setUp() {
+        inventory = new Inventory();
+        inventory.addIngredient("Beef Patty", 10, 1.0, StationType.GRILL);
+        inventory.addIngredient("Bun", 10, 1.0, StationType.PREP);
+        prepStation = new Station(StationType.PREP, new CollectionPoint());
+    }
+
+    @After
+    public void tearDown() {
+        GameEngine.reset();
+    }
+
+    private RecipeTask prepTaskForOrder(String orderId) {
+        Recipe burger = new BurgerRecipe(inventory);
+        burger.setOrderId(orderId);
+        return burger.getTasks().get(0);
+    }
+
+    @Test
+    public void testOrderSequenceParsedFromOrderId() {
+        assertEquals(1042, prepTaskForOrder("Order-1042").getOrderSequence());
+        assertEquals(RecipeTask.NO_ORDER_SEQUENCE, prepTaskForOrder("test-order-1").getOrderSequence());
+        assertEquals(RecipeTask.NO_ORDER_SEQUENCE, prepTaskForOrder(null).getOrderSequence());
+    }
+
+    @Test
+    public void testOlderOrdersQueuedFirst() {
+        RecipeTask unnumbered = prepTaskForOrder("walk-in");
+        RecipeTask newest = prepTaskForOrder("Order-1010");
+        RecipeTask oldest = prepTaskForOrder("Order-1002");
+        RecipeTask middle = prepTaskForOrder("Order-1005");
+
+        prepStation.addTask(unnumbered);
+        prepStation.addTask(newest);
+        prepStation.addTask(oldest);
+        prepStation.addTask(middle);
+
+        assertEquals(4, prepStation.getBacklogSize());
+        assertSame(oldest, prepStation.peekBacklog());
+        assertSame(oldest, prepStation.getBacklog().get(0));
+        assertSame(middle, prepStation.getBacklog().get(1));
+        assertSame(newest, prepStation.getBacklog().get(2));
+        assertSame(unnumbered, prepStation.getBacklog().get(3));
+    }
+
+    @Test
+    public void testSameTaskOnlyQueuedOnce() {
+        RecipeTask task = prepTaskForOrder("Order-1001");
+
+        prepStation.addTask(task);
+        prepStation.addTask(task);
+
+        assertEquals(1, prepStation.getBacklogSize());
+    }
+
+    @Test
+    public void testAssignedTaskLeavesBacklog() {
+        RecipeTask first = prepTaskForOrder("Order-1001");
+        RecipeTask second = prepTaskForOrder("Order-1002");
+        prepStation.addTask(first);
+        prepStation.addTask(second);
+
+        prepStation.assignTask(first.getRecipe(), first);
+
+        assertSame(first, prepStation.getCurrentTask());
+        assertEquals(1, prepStation.getBacklogSize());
+        assertSame(second, prepStation.peekBacklog());
+    }
+
+    @Test
+    public void testBlockedTaskDoesNotHoldUpReadyOnes() {
+        Station grill = staffedGrill();
+        RecipeTask older = prepTaskForOrder("Order-1001").getRecipe().getTasks().get(1);
+        Recipe newer = prepTaskForOrder("Order-1002").getRecipe();
+        newer.getTasks().get(0).setCompleted(true);
+        grill.addTask(older);
+        grill.addTask(newer.getTasks().get(1));
+
+        grill.writeState();
+
+        assertSame(newer.getTasks().get(1), grill.getCurrentTask());
+        assertSame(older, grill.peekBacklog());
+    }
+
+    @Test
+    public void testQueuedTaskStartsOnceItsDependencyCompletes() {
+        Station grill = staffedGrill();
+        Recipe burger = prepTaskForOrder("Order-1001").getRecipe();
+        grill.addTask(burger.getTasks().get(1));
+
+        grill.writeState();
+        assertNull(grill.getCurrentTask());
+
+        burger.getTasks().get(0).setCompleted(true);
+        grill.writeState();
+
+        assertSame(burger.getTasks().get(1), grill.getCurrentTask());
+        assertEquals(0, grill.getBacklogSize());
+    }
+
+    @Test
+    public void testFindRecipeWithReadyTasksSkipsBlockedTasks() {
+        Station grill = new Station(StationType.GRILL, new CollectionPoint());
+        Recipe older = prepTaskForOrder("Order-1001").getRecipe();
+        Recipe newer = prepTaskForOrder("Order-1002").getRecipe();
+        grill.addTask(older.getTasks().get(1));
+        grill.addTask(newer.getTasks().get(1));
+        assertNull(grill.findRecipeWithReadyTasks());
+
+        newer.getTasks().get(0).setCompleted(true);
+        assertSame(newer, grill.findRecipeWithReadyTasks());
+
+        older.getTasks().get(0).setCompleted(true);
+        assertSame(older, grill.findRecipeWithReadyTasks());
+        assertEquals(2, grill.getBacklogSize());
+    }
+
+    private Station staffedGrill() {
+        CollectionPoint collectionPoint = new CollectionPoint();
+        StationManager stationManager = new StationManager(collectionPoint);
+        Station grill = new Station(StationType.GRILL, collectionPoint);
+        stationManager.addStation(grill);
+        grill.registerChef(new Chef("Grill Chef", 10.0, new BaseSpeed(), new SimpleChefStrategy(), stationManager));
+        return grill;
+    }
+}
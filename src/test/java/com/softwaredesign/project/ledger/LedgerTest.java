@@ -0,0 +1,88 @@
+package com.softwaredesign.project.ledger;
+
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.softwaredesign.project.model.engine.GameEngine;
+import com.softwaredesign.project.model.ledger.Ledger;
+import com.softwaredesign.project.model.ledger.LedgerCategory;
+import com.softwaredesign.project.model.singletons.BankBalanceSingleton;
+
+/**
+ * Tests for the cents ledger behind BankBalanceSingleton.
+ */
+public class LedgerTest {
+    @After
+    public void tearDown() {
+        BankBalanceSingleton.reset();
+        GameEngine.reset();
+    }
+
+    @Test
+    public void testSmallAmountsDoNotDrift() {
+        BankBalanceSingleton bank = BankBalanceSingleton.getInstance();
+        for (int i = 0; i < 1000; i++) {
+            bank.updateBankBalance(0.1);
+        }
+        assertEquals(10000, bank.getLedger().getBalanceCents());
+        assertEquals(100.0, bank.getBankBalance(), 0.0);
+    }
+
+    @Test
+    public void testSetBalancePostsTheDifference() {
+        Ledger ledger = BankBalanceSingleton.getInstance().getLedger();
+        BankBalanceSingleton.getInstance().setBankBalance(1000.0);
+        ledger.post(LedgerCategory.REVENUE, 1250, "Order-1");
+        ledger.post(LedgerCategory.WAGES, -500, null);
+        BankBalanceSingleton.getInstance().setBankBalance(2000.0);
+
+        assertEquals(200000, ledger.getBalanceCents());
+        assertEquals(1250, ledger.getTotalCents(LedgerCategory.REVENUE));
+        assertEquals(-500, ledger.getTotalCents(LedgerCategory.WAGES));
+        assertEquals(4, ledger.getEntryCount());
+        assertEquals("Order-1", ledger.getEntries().get(1).getReference());
+        assertEquals("-12.05", Ledger.format(-1205));
+    }
+
+    @Test
+    public void testOnlyLatestEntriesAreKept() {
+        Ledger ledger = new Ledger(4);
+        for (int i = 1; i <= 10; i++) {
+            ledger.post(LedgerCategory.REVENUE, 100, "Order-" + i);
+        }
+        ledger.post(LedgerCategory.WAGES, -1500, "Chef 1");
+
+        assertEquals(11, ledger.getEntryCount());
+        assertEquals(4, ledger.getEntries().size());
+        assertEquals("Order-8", ledger.getEntries().get(0).getReference());
+        assertEquals("Chef 1", ledger.getEntries().get(3).getReference());
+        assertEquals(1000, ledger.getTotalCents(LedgerCategory.REVENUE));
+        assertEquals(-500, ledger.getBalanceCents());
+    }
+
+    @Test
+    public void testParallelPostingsAreNotLost() throws InterruptedException {
+        Ledger ledger = new Ledger();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    ledger.post(LedgerCategory.REVENUE, 175, null);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(8 * 1000 * 175, ledger.getBalanceCents());
+        assertEquals(8 * 1000 * 175, ledger.getTotalCents(LedgerCategory.REVENUE));
+        assertEquals(8000, ledger.getEntryCount());
+    }
+}
@@ -0,0 +1,150 @@
+package com.softwaredesign.project.metrics;
+
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.softwaredesign.project.model.engine.GameEngine;
+import com.softwaredesign.project.model.inventory.Inventory;
+import com.softwaredesign.project.model.kitchen.Kitchen;
+import com.softwaredesign.project.model.kitchen.Station;
+import com.softwaredesign.project.model.kitchen.StationManager;
+import com.softwaredesign.project.model.kitchen.StationType;
+import com.softwaredesign.project.model.menu.BurgerRecipe;
+import com.softwaredesign.project.model.metrics.LatencyHistogram;
+import com.softwaredesign.project.model.metrics.LatencyMetric;
+import com.softwaredesign.project.model.metrics.LatencyStatistics;
+import com.softwaredesign.project.model.order.Order;
+import com.softwaredesign.project.model.order.OrderManager;
+import com.softwaredesign.project.model.order.Recipe;
+import com.softwaredesign.project.model.order.RecipeTask;
+import com.softwaredesign.project.model.orderfulfillment.CollectionPoint;
+import com.softwaredesign.project.model.singletons.BankBalanceSingleton;
+import com.softwaredesign.project.model.singletons.StatCounter;
+import com.softwaredesign.project.model.singletons.StatisticsSingleton;
+import com.softwaredesign.project.model.staff.Chef;
+import com.softwaredesign.project.model.staff.ChefManager;
+import com.softwaredesign.project.model.staff.chefstrategies.SimpleChefStrategy;
+import com.softwaredesign.project.model.staff.staffspeeds.BaseSpeed;
+
+/**
+ * Tests for the order lifecycle latency histograms.
+ */
+public class LatencyHistogramTest {
+    private static final int ORDERS = 4;
+
+    @After
+    public void tearDown() {
+        GameEngine.reset();
+        StatisticsSingleton.reset();
+        BankBalanceSingleton.reset();
+    }
+
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 10; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(5, histogram.getValueAtPercentile(50));
+        assertEquals(9, histogram.getValueAtPercentile(90));
+        assertEquals(10, histogram.getValueAtPercentile(100));
+        assertEquals(10, histogram.getMax());
+        assertEquals(5.5, histogram.getMean(), 0.0001);
+    }
+
+    @Test
+    public void testLargeValuesStayWithinBucketAccuracy() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        long p50 = histogram.getValueAtPercentile(50);
+        long p99 = histogram.getValueAtPercentile(99);
+        assertTrue("p50 was " + p50, p50 >= 50_000 && p50 <= 50_000 * 1.07);
+        assertTrue("p99 was " + p99, p99 >= 99_000 && p99 <= 100_000);
+        assertEquals(100_000, histogram.getCount());
+    }
+
+    @Test
+    public void testOverallAndPerKeyHistogramsAreSeparate() throws IOException {
+        LatencyStatistics latencies = new LatencyStatistics();
+        latencies.record(LatencyMetric.ORDER, 20);
+        latencies.record(LatencyMetric.ORDER, "Burger", 20);
+        latencies.record(LatencyMetric.ORDER, "Kebab", 20);
+
+        assertEquals(1, latencies.getHistogram(LatencyMetric.ORDER, LatencyStatistics.ALL).getCount());
+        assertEquals(1, latencies.getHistogram(LatencyMetric.ORDER, "Burger").getCount());
+        assertNull(latencies.getHistogram(LatencyMetric.TABLE_TURN, LatencyStatistics.ALL));
+        assertEquals("p50 20 / p90 20 / p99 20 / max 20", latencies.getSummary().get("Order latency (Burger)"));
+
+        StringWriter csv = new StringWriter();
+        latencies.writeCsv(csv);
+        String[] lines = csv.toString().split("\n");
+        assertEquals(LatencyStatistics.CSV_HEADER, lines[0]);
+        assertEquals(4, lines.length);
+    }
+
+    @Test
+    public void testBacklogWaitRecordedForEveryStartedTask() {
+        GameEngine.reset();
+        StatisticsSingleton.reset();
+        BankBalanceSingleton.reset();
+        GameEngine engine = GameEngine.getInstance();
+
+        Inventory inventory = new Inventory();
+        for (String prep : new String[] {"Bun", "Lettuce", "Tomato", "Cheese"}) {
+            inventory.addIngredient(prep, 100, 1.0, StationType.PREP);
+        }
+        inventory.addIngredient("Beef Patty", 100, 2.0, StationType.GRILL);
+
+        // One station per type, so later orders queue behind earlier ones
+        CollectionPoint collectionPoint = new CollectionPoint();
+        StationManager stationManager = new StationManager(collectionPoint);
+        OrderManager orderManager = new OrderManager(collectionPoint, stationManager);
+        Kitchen kitchen = new Kitchen(orderManager, collectionPoint, stationManager);
+        for (StationType type : StationType.values()) {
+            Station station = new Station(type, collectionPoint);
+            station.setKitchen(kitchen);
+            stationManager.addStation(station);
+        }
+        ChefManager chefManager = new ChefManager();
+        for (int i = 0; i < StationType.values().length; i++) {
+            Chef chef = new Chef("Chef " + i, 15.0, new BaseSpeed(), new SimpleChefStrategy(), stationManager);
+            chef.assignToStation(StationType.values()[i]);
+            chefManager.addChef(chef);
+        }
+        engine.registerEntity(kitchen);
+        engine.registerEntity(chefManager);
+        engine.start();
+
+        List<RecipeTask> tasks = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = new Order(orderManager.generateOrderId());
+            order.addRecipes(new BurgerRecipe(inventory));
+            orderManager.addOrder(order);
+            for (Recipe recipe : order.getRecipes()) {
+                tasks.addAll(recipe.getTasks());
+            }
+        }
+        for (int tick = 0; tick < 300; tick++) {
+            engine.step();
+        }
+
+        StatisticsSingleton stats = StatisticsSingleton.getInstance();
+        assertEquals(ORDERS, stats.get(StatCounter.MEALS_COMPLETED));
+        LatencyHistogram backlog = stats.getLatencies().getHistogram(LatencyMetric.STATION_BACKLOG, LatencyStatistics.ALL);
+        assertEquals("Every started task should record its backlog wait", tasks.size(), backlog.getCount());
+        assertTrue("Later orders should have waited behind earlier ones", backlog.getMax() > 0);
+        for (RecipeTask task : tasks) {
+            assertEquals(RecipeTask.NOT_QUEUED, task.getQueuedTick());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.softwaredesign.project.metrics;
+
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.softwaredesign.project.model.metrics.TimeSeriesRecorder;
+
+/**
+ * Tests for sampling gauges into ring buffers.
+ */
+public class TimeSeriesRecorderTest {
+    @Test
+    public void testOnlyLatestSamplesAreKept() {
+        TimeSeriesRecorder recorder = new TimeSeriesRecorder(4);
+        AtomicInteger backlog = new AtomicInteger();
+        recorder.addGauge("backlog", backlog::get);
+
+        for (int tick = 1; tick <= 10; tick++) {
+            backlog.set(tick * 10);
+            recorder.sample(tick);
+        }
+
+        assertEquals(10, recorder.getSampleCount());
+        assertEquals(4, recorder.getRetainedCount());
+        assertArrayEquals(new long[] {7, 8, 9, 10}, recorder.getTicks());
+        assertArrayEquals(new int[] {70, 80, 90, 100}, recorder.getValues("backlog"));
+    }
+
+    @Test
+    public void testExports() throws IOException {
+        TimeSeriesRecorder recorder = new TimeSeriesRecorder(8);
+        recorder.addGauge("orders.queued", () -> 3);
+        recorder.addGauge("stock.Beef", () -> 40);
+        recorder.sample(1);
+        recorder.sample(2);
+
+        StringWriter csv = new StringWriter();
+        recorder.writeCsv(csv);
+        assertEquals("tick,orders.queued,stock.Beef\n1,3,40\n2,3,40\n", csv.toString());
+
+        StringWriter json = new StringWriter();
+        recorder.writeJsonLines(json);
+        assertEquals("{\"tick\":1,\"orders.queued\":3,\"stock.Beef\":40}\n"
+                + "{\"tick\":2,\"orders.queued\":3,\"stock.Beef\":40}\n", json.toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testGaugesCannotBeAddedAfterSampling() {
+        TimeSeriesRecorder recorder = new TimeSeriesRecorder(4);
+        recorder.addGauge("first", () -> 1);
+        recorder.sample(1);
+        recorder.addGauge("second", () -> 2);
+    }
+}
@@ -0,0 +1,70 @@
+package com.softwaredesign.project.order;
+
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.softwaredesign.project.model.inventory.Inventory;
+import com.softwaredesign.project.model.kitchen.StationType;
+import com.softwaredesign.project.model.menu.BurgerRecipe;
+import com.softwaredesign.project.model.order.Recipe;
+import com.softwaredesign.project.model.order.RecipeTask;
+
+public class RecipeTaskTest {
+    private Recipe burger;
+    private RecipeTask prep;
+    private RecipeTask grill;
+    private RecipeTask plate;
+    private List<RecipeTask> readyTasks;
+
+    @Before
+    public void setUp() {
+        Inventory inventory = new Inventory();
+        inventory.addIngredient("Beef Patty", 10, 1.0, StationType.GRILL);
+        inventory.addIngredient("Bun", 10, 1.0, StationType.PREP);
+        burger = new BurgerRecipe(inventory);
+        prep = burger.getTasks().get(0);
+        grill = burger.getTasks().get(1);
+        plate = burger.getTasks().get(2);
+
+        readyTasks = new ArrayList<>();
+        burger.addTaskReadyListener(readyTasks::add);
+    }
+
+    @Test
+    public void testDependencyCountsFollowCompletion() {
+        assertTrue(prep.areDependenciesMet());
+        assertEquals(1, grill.getUnmetDependencyCount());
+        assertEquals(2, plate.getUnmetDependencyCount());
+
+        prep.setCompleted(true);
+        assertTrue(grill.areDependenciesMet());
+        assertFalse(plate.areDependenciesMet());
+        assertEquals("Cook beef patty", plate.getUnmetDependenciesString());
+
+        grill.setCompleted(true);
+        assertTrue(plate.areDependenciesMet());
+    }
+
+    @Test
+    public void testListenersToldOnceWhenTaskBecomesReady() {
+        prep.setCompleted(true);
+        prep.setCompleted(true);
+        assertEquals(List.of(grill), readyTasks);
+
+        grill.setCompleted(true);
+        assertEquals(List.of(grill, plate), readyTasks);
+    }
+
+    @Test
+    public void testUncompletingDependencyBlocksDependents() {
+        prep.setCompleted(true);
+        prep.setCompleted(false);
+
+        assertFalse(grill.areDependenciesMet());
+        assertEquals(2, plate.getUnmetDependencyCount());
+    }
+}
@@ -60,7 +60,7 @@ public class OrderFulfillmentTest {
         waiter = new Waiter(15.0, orderManager, menu, inventoryStockTracker);
     }
 
-    @Test(expected = NullPointerException.class)
+    @Test
     public void testOrderFulfillmentFlow() {
         // Create a table with customers
         Table table = new Table(1, menu, 4);
@@ -78,8 +78,10 @@ public class OrderFulfillmentTest {
         customer1.setSelectedRecipe(new BurgerRecipe(inventory));
         customer2.setSelectedRecipe(new BurgerRecipe(inventory));
 
-        // Expecting a NullPointerException due to a null Recipe being processed
-        waiter.takeTableOrder(table);
+        // The menu recipe is in stock, so the order goes through to the order manager
+        assertTrue(waiter.takeTableOrder(table));
+        assertTrue(table.isOrderPlaced());
+        assertEquals(1, orderManager.getPendingOrders().size());
     }
     @Test
     public void testOrderManagerToCompletionFlow() {
@@ -10,7 +10,9 @@ import com.softwaredesign.project.model.inventory.InventoryService;
 import com.softwaredesign.project.model.kitchen.StationType;
 import com.softwaredesign.project.model.menu.Menu;
 import com.softwaredesign.project.model.orderfulfillment.SeatingPlan;
+import com.softwaredesign.project.model.order.Meal;
 import com.softwaredesign.project.model.orderfulfillment.Table;
+import com.softwaredesign.project.model.orderfulfillment.TableActivityListener;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -60,4 +62,111 @@ public class OrderFulfilmentTests {
         Table assignedTable = seatingPlan.findTableForGroup(largeGroup);
         assertNull(assignedTable);
     }
+
+    @Test
+    public void testGroupGetsSmallestFreeTableThatFits() {
+        SeatingPlan plan = new SeatingPlan(3, 3, 4, menu);
+        List<Table> tables = plan.getAllTables();
+        tables.get(0).setTableCapacity(4);
+        tables.get(1).setTableCapacity(2);
+        tables.get(2).setTableCapacity(3);
+
+        assertSame(tables.get(1), plan.findTableForGroup(groupOf(2)));
+        assertSame(tables.get(2), plan.findTableForGroup(groupOf(2)));
+        assertSame(tables.get(0), plan.findTableForGroup(groupOf(1)));
+        assertNull(plan.findTableForGroup(groupOf(1)));
+        assertEquals(0, plan.getFreeTableCount());
+    }
+
+    @Test
+    public void testTableIsFreeAgainOnceEveryoneLeaves() {
+        SeatingPlan plan = new SeatingPlan(1, 4, 4, menu);
+        List<DineInCustomer> group = groupOf(2);
+        Table table = plan.findTableForGroup(group);
+        assertNotNull(table);
+        assertEquals(0, plan.getFreeTableCount());
+
+        table.removeCustomer(group.get(0));
+        assertNull(plan.findTableForGroup(groupOf(1)));
+        table.removeCustomer(group.get(1));
+        assertEquals(1, plan.getFreeTableCount());
+        assertSame(table, plan.findTableForGroup(groupOf(4)));
+    }
+
+    @Test
+    public void testTableReportsReadinessWhenLastCustomerFinishesBrowsing() {
+        Table table = new Table(1, menu, 4);
+        List<String> events = new ArrayList<>();
+        table.setTableActivityListener(new TableActivityListener() {
+            @Override
+            public void onCustomerBrowsing(Table t) {
+                events.add("browsing");
+            }
+
+            @Override
+            public void onReadyToOrder(Table t) {
+                events.add("ready");
+            }
+
+            @Override
+            public void onMealPending(Table t) {
+                events.add("meal");
+            }
+        });
+        List<DineInCustomer> group = groupOf(2);
+        group.forEach(table::addCustomer);
+
+        group.get(0).finishBrowsing();
+        assertFalse(table.isEveryoneReadyToOrder());
+        assertEquals(List.of("browsing", "browsing"), events);
+
+        group.get(1).finishBrowsing();
+        group.get(1).finishBrowsing(); // finishing twice is not counted twice
+        assertTrue(table.isEveryoneReadyToOrder());
+        assertEquals(0, table.getBrowsingCount());
+        assertEquals(List.of("browsing", "browsing", "ready"), events);
+
+        table.addPendingMeal(new Meal("Burger", new ArrayList<>(), new Inventory(), "Order-1"));
+        assertEquals("meal", events.get(events.size() - 1));
+    }
+
+    @Test
+    public void testResetTableDropsMealsOfTheGroupThatLeft() {
+        Table table = seatingPlan.getAllTables().get(0);
+        table.addPendingMeal(new Meal("Burger", new ArrayList<>(), new Inventory(), "Order-1"));
+        assertTrue(table.hasPendingMeals());
+
+        table.resetTableState();
+        assertFalse(table.hasPendingMeals());
+    }
+
+    @Test
+    public void testRunningTableTotalsFollowEveryChange() {
+        assertEquals(0, seatingPlan.getSeatedCustomerCount());
+        int emptyDigest = seatingPlan.getTableStateDigest();
+
+        List<DineInCustomer> group = groupOf(2);
+        Table table = seatingPlan.findTableForGroup(group);
+        assertEquals(2, seatingPlan.getSeatedCustomerCount());
+        int seatedDigest = seatingPlan.getTableStateDigest();
+        assertTrue(seatedDigest != emptyDigest);
+
+        table.markOrderPlaced();
+        table.addPendingMeal(new Meal("Burger", new ArrayList<>(), new Inventory(), "Order-1"));
+        assertTrue(seatingPlan.getTableStateDigest() != seatedDigest);
+
+        table.getNextPendingMeal();
+        group.forEach(table::removeCustomer);
+        table.resetTableState();
+        assertEquals(0, seatingPlan.getSeatedCustomerCount());
+        assertEquals(emptyDigest, seatingPlan.getTableStateDigest());
+    }
+
+    private static List<DineInCustomer> groupOf(int size) {
+        List<DineInCustomer> group = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            group.add(new DineInCustomer());
+        }
+        return group;
+    }
 }
@@ -0,0 +1,139 @@
+package com.softwaredesign.project.orderfulfillment;
+
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.softwaredesign.project.model.customer.DineInCustomer;
+import com.softwaredesign.project.model.engine.GameEngine;
+import com.softwaredesign.project.model.inventory.Inventory;
+import com.softwaredesign.project.model.menu.Menu;
+import com.softwaredesign.project.model.orderfulfillment.SeatingEngine;
+import com.softwaredesign.project.model.orderfulfillment.SeatingOutcome;
+import com.softwaredesign.project.model.orderfulfillment.SeatingPlan;
+import com.softwaredesign.project.model.orderfulfillment.Table;
+import com.softwaredesign.project.model.orderfulfillment.WaitListPolicy;
+
+/**
+ * Tests for best-fit seating, combining tables and the wait-list.
+ */
+public class SeatingEngineTest {
+    private SeatingPlan seatingPlan;
+    private List<Table> tables;
+    private SeatingEngine engine;
+
+    @Before
+    public void setUp() {
+        GameEngine.reset();
+        // Three tables of 2, 4 and 2 seats, numbered 1 to 3
+        seatingPlan = new SeatingPlan(3, 3, 4, new Menu(new Inventory()));
+        tables = seatingPlan.getAllTables();
+        tables.get(0).setTableCapacity(2);
+        tables.get(1).setTableCapacity(4);
+        tables.get(2).setTableCapacity(2);
+        engine = new SeatingEngine(seatingPlan);
+    }
+
+    @After
+    public void tearDown() {
+        GameEngine.reset();
+    }
+
+    private static List<DineInCustomer> groupOf(int size) {
+        List<DineInCustomer> group = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            group.add(new DineInCustomer());
+        }
+        return group;
+    }
+
+    private static void advanceTo(long tick) {
+        GameEngine engine = GameEngine.getInstance();
+        engine.start();
+        while (engine.getCurrentTick() < tick) {
+            engine.step();
+        }
+    }
+
+    private static void leave(Table table) {
+        for (DineInCustomer customer : table.getCustomers()) {
+            table.removeCustomer(customer);
+        }
+        table.resetTableState();
+    }
+
+    @Test
+    public void testWaitingGroupIsSeatedWhenTableIsFreed() {
+        assertEquals(SeatingOutcome.SEATED, engine.admit(groupOf(4)));
+        assertEquals(SeatingOutcome.SEATED, engine.admit(groupOf(2)));
+        assertEquals(SeatingOutcome.SEATED, engine.admit(groupOf(2)));
+        assertEquals(SeatingOutcome.WAIT_LISTED, engine.admit(groupOf(3)));
+        assertEquals(1, engine.getWaitingGroupCount());
+
+        advanceTo(5);
+        leave(tables.get(0)); // two seats are not enough
+        assertEquals(1, engine.getWaitingGroupCount());
+        leave(tables.get(1));
+
+        assertEquals(0, engine.getWaitingGroupCount());
+        assertEquals(3, tables.get(1).getCustomerCount());
+        assertEquals(1, engine.getGroupsSeatedFromWaitList());
+        assertEquals(5, engine.getLongestWaitTicks());
+        assertEquals(5 / 4.0, engine.getAverageWaitTicks(), 0.001);
+        assertEquals(5 / 8.0, engine.getSeatUtilization(), 0.001);
+    }
+
+    @Test
+    public void testLargeGroupIsSpreadAcrossAdjacentTables() {
+        assertEquals(SeatingOutcome.SEATED_COMBINED, engine.admit(groupOf(5)));
+
+        assertEquals(2, tables.get(0).getCustomerCount());
+        assertEquals(3, tables.get(1).getCustomerCount());
+        assertEquals(0, tables.get(2).getCustomerCount());
+        assertEquals(1, engine.getGroupsCombined());
+
+        engine.setMaxCombinedTables(1);
+        assertEquals(SeatingOutcome.TURNED_AWAY, engine.admit(groupOf(5)));
+    }
+
+    @Test
+    public void testLargestFirstPolicyFillsFreedSeats() {
+        engine.setPolicy(WaitListPolicy.LARGEST_FIRST);
+        engine.admit(groupOf(4));
+        engine.admit(groupOf(2));
+        engine.admit(groupOf(2));
+        List<DineInCustomer> small = groupOf(1);
+        List<DineInCustomer> large = groupOf(4);
+        engine.admit(small);
+        engine.admit(large);
+
+        leave(tables.get(1));
+
+        assertTrue(tables.get(1).getCustomers().containsAll(large));
+        assertEquals(1, engine.getWaitingGroupCount());
+    }
+
+    @Test
+    public void testFullWaitListAndImpatientGroupsLeave() {
+        engine.setMaxWaitingGroups(1);
+        engine.setPatienceTicks(10);
+        engine.admit(groupOf(4));
+        engine.admit(groupOf(2));
+        engine.admit(groupOf(2));
+
+        assertEquals(SeatingOutcome.WAIT_LISTED, engine.admit(groupOf(3)));
+        assertEquals(SeatingOutcome.TURNED_AWAY, engine.admit(groupOf(3)));
+
+        advanceTo(11);
+        leave(tables.get(1));
+
+        assertEquals(0, engine.getWaitingGroupCount());
+        assertEquals(1, engine.getGroupsAbandoned());
+        assertEquals(1, engine.getGroupsTurnedAway());
+        assertEquals(0, tables.get(1).getCustomerCount());
+    }
+}
@@ -0,0 +1,98 @@
+package com.softwaredesign.project.orderfulfillment;
+
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.softwaredesign.project.model.inventory.Inventory;
+import com.softwaredesign.project.model.inventory.InventoryStockTracker;
+import com.softwaredesign.project.model.kitchen.StationManager;
+import com.softwaredesign.project.model.menu.Menu;
+import com.softwaredesign.project.model.order.OrderManager;
+import com.softwaredesign.project.model.orderfulfillment.CollectionPoint;
+import com.softwaredesign.project.model.orderfulfillment.DispatchPolicy;
+import com.softwaredesign.project.model.orderfulfillment.Table;
+import com.softwaredesign.project.model.orderfulfillment.WaiterDispatcher;
+import com.softwaredesign.project.model.staff.Waiter;
+
+/**
+ * Tests for choosing waiters by load and limiting their table visits per tick.
+ */
+public class WaiterDispatcherTest {
+    private Menu menu;
+    private Waiter first;
+    private Waiter second;
+    private List<Waiter> waiters;
+
+    @Before
+    public void setUp() {
+        menu = new Menu(new Inventory());
+        CollectionPoint collectionPoint = new CollectionPoint();
+        OrderManager orderManager = new OrderManager(collectionPoint, new StationManager(collectionPoint));
+        InventoryStockTracker stockTracker = new InventoryStockTracker();
+        first = new Waiter(10.0, orderManager, menu, stockTracker);
+        second = new Waiter(10.0, orderManager, menu, stockTracker);
+        waiters = new ArrayList<>(List.of(first, second));
+    }
+
+    @Test
+    public void testTablesSpreadAcrossWaitersByLoad() {
+        WaiterDispatcher dispatcher = new WaiterDispatcher(waiters, DispatchPolicy.LEAST_LOADED, 4);
+        Table table1 = new Table(1, menu, 4);
+        Table table2 = new Table(2, menu, 4);
+        // Both tables were set up in the first waiter's section, which LEAST_LOADED ignores
+        first.assignTable(table1);
+        first.assignTable(table2);
+
+        assertSame(first, dispatcher.dispatch(table1));
+        dispatcher.orderTaken(table1);
+        assertSame("The busier first waiter should be passed over", second, dispatcher.dispatch(table2));
+        assertFalse(first.isAssignedTo(table2));
+        assertTrue(second.isAssignedTo(table2));
+
+        // The table keeps its waiter until its customers leave
+        assertSame(first, dispatcher.dispatch(table1));
+        dispatcher.tableFreed(table1);
+        assertNull(dispatcher.getWaiterForTable(table1));
+        assertFalse(first.isAssignedTo(table1));
+    }
+
+    @Test
+    public void testVisitsLimitedPerTick() {
+        WaiterDispatcher dispatcher = new WaiterDispatcher(List.of(first), DispatchPolicy.LEAST_LOADED, 2);
+        Table table1 = new Table(1, menu, 4);
+        Table table2 = new Table(2, menu, 4);
+        Table table3 = new Table(3, menu, 4);
+
+        dispatcher.startTick();
+        assertSame(first, dispatcher.dispatch(table1));
+        assertSame(first, dispatcher.dispatch(table2));
+        assertNull("The waiter has no visits left this tick", dispatcher.dispatch(table3));
+        assertEquals(1, dispatcher.getVisitsDeferred());
+
+        dispatcher.startTick();
+        assertSame(first, dispatcher.dispatch(table3));
+        assertEquals(3, dispatcher.getTotalVisits(first));
+    }
+
+    @Test
+    public void testSectionPolicyKeepsAssignments() {
+        Table table1 = new Table(1, menu, 4);
+        Table table2 = new Table(2, menu, 4);
+        first.assignTable(table1);
+        first.assignTable(table2);
+        WaiterDispatcher dispatcher = new WaiterDispatcher(waiters, DispatchPolicy.SECTION, 4);
+
+        dispatcher.orderTaken(table1);
+        dispatcher.orderTaken(table2);
+        assertSame(first, dispatcher.dispatch(table1));
+        assertSame("Sections are kept even when the other waiter is idle", first, dispatcher.dispatch(table2));
+
+        dispatcher.tableFreed(table1);
+        assertSame(first, dispatcher.getWaiterForTable(table1));
+        assertEquals(0, dispatcher.getLoad(second));
+    }
+}
@@ -0,0 +1,98 @@
+package com.softwaredesign.project.simulation;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.softwaredesign.project.model.engine.GameEngine;
+import com.softwaredesign.project.model.kitchen.StationType;
+import com.softwaredesign.project.model.singletons.RandomSingleton;
+import com.softwaredesign.project.model.singletons.StatCounter;
+import com.softwaredesign.project.model.singletons.StatisticsSingleton;
+
+/**
+ * Tests for building and running the simulation without the TUI.
+ */
+public class HeadlessSimulationTest {
+    private SimulationSettings settings;
+
+    @Before
+    public void setUp() {
+        settings = SimulationSettings.fromConfig();
+        settings.setGameLengthTicks(20);
+    }
+
+    @After
+    public void tearDown() {
+        GameEngine.reset();
+        RandomSingleton.reset();
+    }
+
+    @Test
+    public void testSettingsReadFromConfig() {
+        SimulationSettings defaults = SimulationSettings.fromConfig();
+        assertEquals(100, defaults.getGameLengthTicks());
+        assertEquals(1000.0, defaults.getInitialBankBalance(), 0.001);
+        assertEquals(1, defaults.getStationCount(StationType.GRILL));
+    }
+
+    @Test
+    public void testBuildsRequestedLayout() {
+        settings.setStationCount(StationType.GRILL, 3);
+        settings.setChefCount(4);
+        settings.setWaiterCount(2);
+
+        HeadlessSimulation simulation = new HeadlessSimulation(settings);
+
+        assertEquals(3, simulation.getStationManager().getStationsByType(StationType.GRILL).size());
+        assertEquals(5, simulation.getStationManager().getAllStations().size());
+        assertEquals(4, simulation.getChefManager().getAllChefs().size());
+        assertEquals(2, simulation.getWaiters().size());
+        assertEquals(10, simulation.getSeatingPlan().getAllTables().size());
+    }
+
+    @Test
+    public void testRunsConfiguredNumberOfTicks() {
+        HeadlessSimulation simulation = new HeadlessSimulation(settings);
+
+        simulation.run();
+
+        assertEquals(20, simulation.getTickCount());
+        assertTrue(simulation.getElapsedNanos() > 0);
+        assertTrue(simulation.getTicksPerSecond() > 0);
+        assertFalse(simulation.getGameEngine().isRunning());
+    }
+
+    @Test
+    public void testParallelReadPhaseMatchesSerialRun() {
+        int[] serial = digestPerTick(null);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertArrayEquals(serial, digestPerTick(pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private int[] digestPerTick(ForkJoinPool pool) {
+        settings.setSeed(42);
+        HeadlessSimulation simulation = new HeadlessSimulation(settings);
+        if (pool != null) {
+            simulation.getGameEngine().enableParallelReadPhase(pool);
+        }
+        int[] digests = new int[200];
+        simulation.getGameEngine().start();
+        for (int tick = 0; tick < digests.length; tick++) {
+            simulation.tick();
+            digests[tick] = simulation.stateDigest();
+        }
+        simulation.getGameEngine().stop();
+        assertTrue("the kitchen should have taken orders",
+                StatisticsSingleton.getInstance().get(StatCounter.ORDERS_PROCESSED) > 0);
+        return digests;
+    }
+}
@@ -0,0 +1,102 @@
+package com.softwaredesign.project.simulation;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.softwaredesign.project.model.engine.GameEngine;
+import com.softwaredesign.project.model.journal.EventJournal;
+import com.softwaredesign.project.model.journal.JournalReader;
+import com.softwaredesign.project.model.singletons.RandomSingleton;
+import com.softwaredesign.project.model.singletons.RandomStream;
+
+/**
+ * Tests that a seeded run journaled once can be replayed to the same states.
+ */
+public class ReplayVerifierTest {
+    private Path recorded;
+    private Path replayed;
+
+    @Before
+    public void setUp() throws IOException {
+        recorded = Files.createTempFile("recorded", ".journal");
+        replayed = Files.createTempFile("replayed", ".journal");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        EventJournal.stop();
+        GameEngine.reset();
+        RandomSingleton.reset();
+        Files.deleteIfExists(recorded);
+        Files.deleteIfExists(replayed);
+    }
+
+    @Test
+    public void testSameSeedGivesSameStreams() {
+        RandomSingleton.reset(99);
+        int menu = RandomSingleton.get(RandomStream.MENU).nextInt();
+        int floor = RandomSingleton.get(RandomStream.FLOOR).nextInt();
+
+        RandomSingleton.reset(99);
+        RandomSingleton.get(RandomStream.CUSTOMER).nextInt(); // draws on one stream do not shift another
+        assertEquals(menu, RandomSingleton.get(RandomStream.MENU).nextInt());
+        assertEquals(floor, RandomSingleton.get(RandomStream.FLOOR).nextInt());
+    }
+
+    @Test
+    public void testReplayOfRecordedRunMatches() throws IOException {
+        record(1234);
+
+        ReplayVerifier verifier = ReplayVerifier.replay(recorded, settings(), replayed, false);
+
+        assertTrue(verifier.getMismatch(), verifier.isMatched());
+        assertEquals(60, verifier.getTicksReplayed());
+        assertEquals(1234, ReplayVerifier.seedOf(JournalReader.read(recorded)));
+    }
+
+    @Test
+    public void testReplayWithEventEngineMatches() throws IOException {
+        record(1234);
+
+        ReplayVerifier verifier = ReplayVerifier.replay(recorded, settings(), replayed, true);
+
+        assertTrue(verifier.getMismatch(), verifier.isMatched());
+        assertEquals(60, verifier.getTicksReplayed());
+    }
+
+    @Test
+    public void testReplayWithDifferentLayoutDiverges() throws IOException {
+        record(1234);
+
+        SimulationSettings other = settings();
+        other.setChefCount(1);
+        ReplayVerifier verifier = ReplayVerifier.replay(recorded, other, replayed, false);
+
+        assertFalse(verifier.isMatched());
+        assertTrue(verifier.getDivergentTick() >= 0);
+        assertTrue(verifier.getTicksReplayed() < 60);
+    }
+
+    private void record(long seed) {
+        SimulationSettings settings = settings();
+        settings.setSeed(seed);
+        EventJournal.start(recorded);
+        new HeadlessSimulation(settings).run();
+        EventJournal.stop();
+        GameEngine.reset();
+    }
+
+    private static SimulationSettings settings() {
+        SimulationSettings settings = SimulationSettings.fromConfig();
+        settings.setGameLengthTicks(60);
+        settings.setChefCount(3);
+        return settings;
+    }
+}
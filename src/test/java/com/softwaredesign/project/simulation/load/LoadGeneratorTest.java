@@ -0,0 +1,114 @@
+package com.softwaredesign.project.simulation.load;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.softwaredesign.project.model.engine.GameEngine;
+import com.softwaredesign.project.model.singletons.RandomSingleton;
+import com.softwaredesign.project.model.singletons.StatisticsSingleton;
+import com.softwaredesign.project.simulation.HeadlessSimulation;
+import com.softwaredesign.project.simulation.SimulationSettings;
+
+/**
+ * Tests for the arrival curves and for feeding generated customers into the restaurant.
+ */
+public class LoadGeneratorTest {
+
+    @After
+    public void tearDown() {
+        GameEngine.reset();
+        RandomSingleton.reset();
+    }
+
+    private static List<Integer> arrivalsOver(ArrivalCurve curve, long ticks) {
+        List<Integer> groupSizes = new ArrayList<>();
+        Random random = new Random(1);
+        for (long tick = 1; tick <= ticks; tick++) {
+            curve.arrivals(tick, random, groupSizes::add);
+        }
+        return groupSizes;
+    }
+
+    @Test
+    public void testConstantRateDeliversExactTotal() {
+        List<Integer> groupSizes = arrivalsOver(new ConstantArrivals(20000, 3600, 6), 3600);
+
+        assertEquals(20000, groupSizes.size());
+        for (int groupSize : groupSizes) {
+            assertTrue(groupSize >= 1 && groupSize <= 6);
+        }
+    }
+
+    @Test
+    public void testPoissonAndRushRatesAverageOut() {
+        int poisson = arrivalsOver(new PoissonArrivals(36000, 3600, 4), 3600).size();
+        assertEquals(36000, poisson, 36000 * 0.03);
+
+        LunchRushArrivals rush = new LunchRushArrivals(1000, 10000, 1800, 300, 3600, 4);
+        assertEquals(10000, rush.groupsPerHour(1800), 0.001);
+        assertEquals(1000, rush.groupsPerHour(1), 1);
+    }
+
+    @Test
+    public void testTraceIsParsedAndSortedByTime() {
+        TraceArrivals trace = TraceArrivals.parse(List.of("seconds,groupSize", "# lunch", "10,4", "0.2,2", "", "3,1"), 3600);
+
+        assertEquals(3, trace.getGroupCount());
+        assertEquals(10, trace.getLastTick());
+        assertEquals(List.of(2), arrivalsOver(trace, 1));
+        List<Integer> rest = new ArrayList<>();
+        for (long tick = 2; tick <= 10; tick++) {
+            trace.arrivals(tick, null, rest::add);
+        }
+        assertEquals(List.of(1, 4), rest);
+    }
+
+    @Test
+    public void testSpecsAreParsed() throws IOException {
+        assertTrue(LoadGenerator.parseCurve("constant:100", 3600, 4) instanceof ConstantArrivals);
+        assertTrue(LoadGenerator.parseCurve("poisson:100", 3600, 4) instanceof PoissonArrivals);
+        RateArrivals rush = (RateArrivals) LoadGenerator.parseCurve("rush:100:2000:60:15", 3600, 4);
+        assertEquals(2000, rush.groupsPerHour(3600), 0.001);
+
+        for (String spec : List.of("steady:100", "poisson", "rush:1:2:3", "constant:fast", "trace:")) {
+            try {
+                LoadGenerator.parseCurve(spec, 3600, 4);
+                fail("Expected " + spec + " to be rejected");
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+        try {
+            TraceArrivals.parse(List.of("1,0"), 3600);
+            fail("Expected an empty group to be rejected");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("Line 1"));
+        }
+    }
+
+    @Test
+    public void testGeneratedGroupsAreSeatedAndOrderThroughWaiters() {
+        SimulationSettings settings = SimulationSettings.fromConfig();
+        settings.setGameLengthTicks(200);
+        settings.setSeed(5);
+        settings.setIngredientStock(10000);
+        HeadlessSimulation simulation = new HeadlessSimulation(settings);
+
+        LoadGenerator generator = simulation.applyLoad(new ConstantArrivals(360, 3600, 4));
+        simulation.run();
+
+        assertFalse(simulation.getFloorManager().isSpawningCustomers());
+        assertEquals(20, generator.getGroupsArrived());
+        assertEquals(generator.getGroupsArrived(),
+                generator.getGroupsSeated() + generator.getGroupsWaitListed() + generator.getGroupsTurnedAway());
+        assertTrue(generator.getGroupsSeated() > 0);
+        assertTrue(StatisticsSingleton.getInstance().getInt("ordersReceived") > 0);
+    }
+}
@@ -16,6 +16,7 @@ import com.softwaredesign.project.model.inventory.InventoryStockTracker;
 import com.softwaredesign.project.model.kitchen.StationManager;
 import com.softwaredesign.project.model.kitchen.StationType;
 import com.softwaredesign.project.model.menu.Menu;
+import com.softwaredesign.project.model.metrics.TimeSeriesRecorder;
 import com.softwaredesign.project.model.order.Meal;
 import com.softwaredesign.project.model.order.Order;
 import com.softwaredesign.project.model.order.OrderManager;
@@ -24,6 +25,7 @@ import com.softwaredesign.project.model.orderfulfillment.CollectionPoint;
 import com.softwaredesign.project.model.orderfulfillment.SeatingPlan;
 import com.softwaredesign.project.model.orderfulfillment.Table;
 import com.softwaredesign.project.model.singletons.BankBalanceSingleton;
+import com.softwaredesign.project.model.singletons.StatCounter;
 import com.softwaredesign.project.model.singletons.StatisticsSingleton;
 import com.softwaredesign.project.model.staff.Waiter;
 
@@ -113,6 +115,49 @@ public class StatisticsTrackingTest {
         assertFalse(stats.containsStat("nonExistentStat"));
     }
 
+    @Test
+    public void testCounterHandlesShareTheStringApi() throws InterruptedException {
+        assertFalse(stats.containsStat("mealsCompleted"));
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    stats.increment(StatCounter.MEALS_COMPLETED);
+                    stats.incrementStat("mealsCompleted");
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(16000, stats.get(StatCounter.MEALS_COMPLETED));
+        assertEquals(16000, stats.getInt("mealsCompleted"));
+        assertEquals("16000", stats.getAllStatsFormatted().get("mealsCompleted"));
+
+        stats.setStat("mealsCompleted", 3);
+        assertEquals(3, stats.get(StatCounter.MEALS_COMPLETED));
+        stats.resetAllStats();
+        assertFalse(stats.containsStat("mealsCompleted"));
+    }
+
+    @Test
+    public void testResetKeepsTimeSeriesGauges() {
+        TimeSeriesRecorder timeSeries = stats.getTimeSeries();
+        timeSeries.addGauge("orders.queued", orderManager::getPendingOrderCount);
+        timeSeries.sample(1);
+
+        stats.resetAllStats();
+
+        assertSame(timeSeries, stats.getTimeSeries());
+        assertEquals(0, timeSeries.getSampleCount());
+        timeSeries.sample(2);
+        assertArrayEquals(new int[] {0}, timeSeries.getValues("orders.queued"));
+    }
+
     @Test
     public void testCustomerSeatingStatistics() {
         // Create customer group